@@ -0,0 +1,20 @@
+package com.restaurant.menuservice.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Entry point of the reactive, read-only Menu API.
+ *
+ * Serves the read endpoints of categories and menu items on WebFlux and R2DBC, against the schema
+ * of the servlet service, whose DTOs and migrations it shares. Writes and the endpoints answered
+ * from the servlet service's in-memory indexes stay on the servlet service.
+ */
+@SpringBootApplication
+public class MenuServiceReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(MenuServiceReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.restaurant.menuservice.reactive.controller;
+
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.reactive.service.MenuReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive REST controller for reading categories, with the read endpoints of the servlet service.
+ */
+
+@RestController
+@RequestMapping("/api/draft/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final MenuReadService menuReadService;
+
+    /**
+     * Get all categories, as a JSON array or streamed as newline-delimited JSON.
+     *
+     * @return all categories
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<CategoryDto>> getAllCategories() {
+        return ResponseEntity.ok(menuReadService.getAllCategories());
+    }
+
+    /**
+     * Get a category by its ID.
+     *
+     * @param id the category ID
+     * @return the category, or 404 if not found
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CategoryDto>> getCategoryById(@PathVariable Long id) {
+        return menuReadService.getCategoryById(id).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,103 @@
+package com.restaurant.menuservice.reactive.controller;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.reactive.service.MenuReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Reactive REST controller for reading menu items, with the read endpoints of the servlet service
+ * that are answered from the database.
+ *
+ * Lists are sent as a JSON array, or as newline-delimited JSON when the client accepts
+ * {@value MediaType#APPLICATION_NDJSON_VALUE}, which lets it process menu items as they arrive;
+ * either way they are read from the database only as fast as the client takes them.
+ */
+
+@RestController
+@RequestMapping("/api/draft/menu-items")
+@RequiredArgsConstructor
+public class MenuItemController {
+
+    private final MenuReadService menuReadService;
+
+    /**
+     * Get all menu items.
+     *
+     * @return all menu items
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<MenuItemDto>> getAllMenuItems() {
+        return ResponseEntity.ok(menuReadService.getAllMenuItems());
+    }
+
+    /**
+     * Get a menu item by its ID.
+     *
+     * @param id the menu item ID
+     * @return the menu item, or 404 if not found
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<MenuItemDto>> getMenuItemById(@PathVariable Long id) {
+        return menuReadService.getMenuItemById(id).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Get all menu items in a specific category.
+     *
+     * @param categoryId the category ID
+     * @return the menu items in the category, or 404 if the category does not exist
+     */
+    @GetMapping(value = "/by-category/{categoryId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<MenuItemDto>> getMenuItemByCategory(@PathVariable Long categoryId) {
+        return ResponseEntity.ok(menuReadService.getMenuItemsByCategory(categoryId));
+    }
+
+    /**
+     * Get all menu items with a specific dietary restriction.
+     *
+     * @param restriction the dietary restriction to filter by
+     * @return the menu items that meet the specified dietary restriction
+     */
+    @GetMapping(value = "/by-dietary-restriction", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<MenuItemDto>> getMenuItemsByDietaryRestriction(
+            @RequestParam DietaryRestriction restriction
+    ) {
+        return ResponseEntity.ok(menuReadService.getMenuItemsByDietaryRestriction(restriction));
+    }
+
+    /**
+     * Get all menu items within a specified price range.
+     *
+     * @param minPrice the minimum price (inclusive)
+     * @param maxPrice the maximum price (inclusive)
+     * @return the menu items within the specified price range
+     */
+    @GetMapping(value = "/by-price-range", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<MenuItemDto>> getMenuItemsByPriceRange(
+            @RequestParam BigDecimal minPrice,
+            @RequestParam BigDecimal maxPrice
+    ) {
+        return ResponseEntity.ok(menuReadService.getMenuItemsByPriceRange(minPrice, maxPrice));
+    }
+
+    /**
+     * Get all menu items that contain a specific ingredient.
+     *
+     * @param ingredient the ingredient to search for
+     * @return the menu items that contain the specified ingredient
+     */
+    @GetMapping(value = "/by-ingredient", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<MenuItemDto>> getMenuItemsByIngredient(
+            @RequestParam String ingredient
+    ) {
+        return ResponseEntity.ok(menuReadService.getMenuItemsByIngredient(ingredient));
+    }
+}
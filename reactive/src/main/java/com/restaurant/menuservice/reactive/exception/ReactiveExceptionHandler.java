@@ -0,0 +1,75 @@
+package com.restaurant.menuservice.reactive.exception;
+
+import com.restaurant.menuservice.exception.BadRequestException;
+import com.restaurant.menuservice.exception.ErrorResponse;
+import com.restaurant.menuservice.exception.ResourceNotFoundException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Exception handler of the reactive API, answering with the same error responses as the
+ * servlet service.
+ *
+ * Errors raised before the first element of a streamed response still get an error response;
+ * once elements are sent the status is committed and the stream is cut short instead.
+ */
+
+@RestControllerAdvice
+public class ReactiveExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Duration CONNECTION_RETRY_AFTER = Duration.ofSeconds(1);
+
+    /**
+     * Handle ResourceNotFoundException.
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerWebExchange exchange
+    ) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(errorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), exchange));
+    }
+
+    /**
+     * Handle BadRequestException.
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(
+            BadRequestException ex, ServerWebExchange exchange
+    ) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(errorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), exchange));
+    }
+
+    /**
+     * Handle failures to get a database connection in time, e.g. from an exhausted pool:
+     * the request may succeed once the load drops, so they are answered like an overload.
+     */
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailableException(
+            DataAccessResourceFailureException ex, ServerWebExchange exchange
+    ) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(CONNECTION_RETRY_AFTER.toSeconds()))
+                .body(errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "The database is busy, try again later", exchange));
+    }
+
+    private static ErrorResponse errorResponse(HttpStatus status, String message, ServerWebExchange exchange) {
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(exchange.getRequest().getPath().value())
+                .build();
+    }
+}
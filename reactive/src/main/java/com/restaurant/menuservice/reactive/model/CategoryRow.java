@@ -0,0 +1,33 @@
+package com.restaurant.menuservice.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * A row of the categories table, read over R2DBC.
+ *
+ * Schedules are kept in their own table and fetched in batches, as R2DBC maps no relationships.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("categories")
+public class CategoryRow {
+
+    @Id
+    private Long id;
+
+    @Column("restaurant_id")
+    private Long restaurantId;
+
+    private String name;
+
+    private String description;
+}
@@ -0,0 +1,49 @@
+package com.restaurant.menuservice.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * A row of the menu_items table with the name of its category, read over R2DBC.
+ *
+ * Dietary restrictions, ingredients and schedules are kept in their own tables and fetched in
+ * batches, as R2DBC maps no relationships.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("menu_items")
+public class MenuItemRow {
+
+    @Id
+    private Long id;
+
+    @Column("restaurant_id")
+    private Long restaurantId;
+
+    @Column("category_id")
+    private Long categoryId;
+
+    // joined from the categories table
+    @ReadOnlyProperty
+    @Column("category_name")
+    private String categoryName;
+
+    private String name;
+
+    private String description;
+
+    private BigDecimal price;
+
+    private boolean available;
+}
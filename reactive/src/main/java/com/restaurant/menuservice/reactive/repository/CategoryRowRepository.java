@@ -0,0 +1,44 @@
+package com.restaurant.menuservice.reactive.repository;
+
+import com.restaurant.menuservice.reactive.model.CategoryRow;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository of category rows.
+ *
+ * Every query is scoped by restaurant (tenant) id, which leads the
+ * indexes of the categories table.
+ */
+
+@Repository
+public interface CategoryRowRepository extends ReactiveCrudRepository<CategoryRow, Long> {
+
+    /**
+     * Find all categories of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return the restaurant's categories, by id
+     */
+    Flux<CategoryRow> findByRestaurantIdOrderById(Long restaurantId);
+
+    /**
+     * Find a category of a restaurant by its ID.
+     *
+     * @param id the category ID
+     * @param restaurantId the restaurant id
+     * @return the category if found in that restaurant, or empty otherwise
+     */
+    Mono<CategoryRow> findByIdAndRestaurantId(Long id, Long restaurantId);
+
+    /**
+     * Check if a category exists in a restaurant.
+     *
+     * @param id the category ID
+     * @param restaurantId the restaurant id
+     * @return true if the category exists in that restaurant, false otherwise
+     */
+    Mono<Boolean> existsByIdAndRestaurantId(Long id, Long restaurantId);
+}
@@ -0,0 +1,122 @@
+package com.restaurant.menuservice.reactive.repository;
+
+import com.restaurant.menuservice.dto.ScheduleWindowDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batch lookups of the collections of menu items and categories, which R2DBC does not map.
+ *
+ * Each lookup fetches the collection of a whole batch of rows with one IN query, keyed by owner id;
+ * rows without entries have none in the map.
+ */
+
+@Repository
+@RequiredArgsConstructor
+public class MenuDetailsRepository {
+
+    private static final String SCHEDULE_COLUMNS = "days_of_week, start_time, end_time, start_date, end_date, time_zone";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Find the dietary restrictions of menu items.
+     *
+     * @param menuItemIds the menu item IDs
+     * @return the dietary restrictions by menu item ID
+     */
+    public Mono<Map<Long, Set<DietaryRestriction>>> findDietaryRestrictions(Collection<Long> menuItemIds) {
+        return databaseClient.sql("SELECT menu_item_id, restriction FROM menu_item_dietary_restrictions " +
+                        "WHERE menu_item_id IN (:ids) AND restriction IS NOT NULL")
+                .bind("ids", menuItemIds)
+                .map(row -> Map.entry(row.get("menu_item_id", Long.class), DietaryRestriction.valueOf(row.get("restriction", String.class))))
+                .all()
+                .collect(HashMap::new, (restrictions, entry) -> restrictions
+                        .computeIfAbsent(entry.getKey(), id -> new HashSet<>()).add(entry.getValue()));
+    }
+
+    /**
+     * Find the ingredient names of menu items.
+     *
+     * @param menuItemIds the menu item IDs
+     * @return the ingredient names by menu item ID
+     */
+    public Mono<Map<Long, Set<String>>> findIngredientNames(Collection<Long> menuItemIds) {
+        return databaseClient.sql("SELECT mi.menu_item_id, i.name FROM menu_item_ingredients mi " +
+                        "JOIN ingredients i ON i.id = mi.ingredient_id WHERE mi.menu_item_id IN (:ids)")
+                .bind("ids", menuItemIds)
+                .map(row -> Map.entry(row.get("menu_item_id", Long.class), row.get("name", String.class)))
+                .all()
+                .collect(HashMap::new, (ingredients, entry) -> ingredients
+                        .computeIfAbsent(entry.getKey(), id -> new HashSet<>()).add(entry.getValue()));
+    }
+
+    /**
+     * Find the schedules of menu items.
+     *
+     * @param menuItemIds the menu item IDs
+     * @return the schedule windows by menu item ID
+     */
+    public Mono<Map<Long, List<ScheduleWindowDto>>> findMenuItemSchedules(Collection<Long> menuItemIds) {
+        return findSchedules("SELECT menu_item_id AS owner_id, " + SCHEDULE_COLUMNS + " FROM menu_item_schedules " +
+                "WHERE menu_item_id IN (:ids)", menuItemIds);
+    }
+
+    /**
+     * Find the schedules of categories.
+     *
+     * @param categoryIds the category IDs
+     * @return the schedule windows by category ID
+     */
+    public Mono<Map<Long, List<ScheduleWindowDto>>> findCategorySchedules(Collection<Long> categoryIds) {
+        return findSchedules("SELECT category_id AS owner_id, " + SCHEDULE_COLUMNS + " FROM category_schedules " +
+                "WHERE category_id IN (:ids)", categoryIds);
+    }
+
+    private Mono<Map<Long, List<ScheduleWindowDto>>> findSchedules(String sql, Collection<Long> ownerIds) {
+        return databaseClient.sql(sql)
+                .bind("ids", ownerIds)
+                .map(row -> Map.entry(row.get("owner_id", Long.class), mapToDto(row)))
+                .all()
+                .collect(HashMap::new, (schedules, entry) -> schedules
+                        .computeIfAbsent(entry.getKey(), id -> new ArrayList<>()).add(entry.getValue()));
+    }
+
+    private static ScheduleWindowDto mapToDto(Readable row) {
+        return ScheduleWindowDto.builder()
+                .days(days(row.get("days_of_week", Integer.class)))
+                .start(row.get("start_time", LocalTime.class))
+                .end(row.get("end_time", LocalTime.class))
+                .from(row.get("start_date", LocalDate.class))
+                .until(row.get("end_date", LocalDate.class))
+                .timeZone(row.get("time_zone", String.class))
+                .build();
+    }
+
+    // bit 0 is Monday, as stored by the servlet service
+    private static Set<DayOfWeek> days(int mask) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+}
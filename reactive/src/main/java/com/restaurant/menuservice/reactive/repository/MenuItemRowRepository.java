@@ -0,0 +1,111 @@
+package com.restaurant.menuservice.reactive.repository;
+
+import com.restaurant.menuservice.reactive.model.MenuItemRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Reactive repository of menu item rows, each joined with the name of its category.
+ *
+ * Every query is scoped by restaurant (tenant) id, which leads the indexes of the menu_items
+ * table. Queries for several menu items return one page of them by id, starting after a given id
+ * (keyset pagination), so a long result is read page by page without holding a connection open
+ * while the rows are sent.
+ */
+
+@Repository
+public interface MenuItemRowRepository extends ReactiveCrudRepository<MenuItemRow, Long> {
+
+    String SELECT = "SELECT m.id, m.restaurant_id, m.category_id, c.name AS category_name, m.name, m.description, m.price, m.available " +
+            "FROM menu_items m LEFT JOIN categories c ON c.id = m.category_id ";
+    String PAGE = " AND m.id > :afterId ORDER BY m.id LIMIT :limit";
+
+    /**
+     * Find a page of the menu items of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @param afterId the last menu item ID of the previous page, or 0 for the first page
+     * @param limit the maximum number of menu items
+     * @return the restaurant's menu items
+     */
+    @Query(SELECT + "WHERE m.restaurant_id = :restaurantId" + PAGE)
+    Flux<MenuItemRow> findByRestaurantId(@Param("restaurantId") Long restaurantId,
+                                         @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Find a menu item of a restaurant by its ID.
+     *
+     * @param id the menu item ID
+     * @param restaurantId the restaurant id
+     * @return the menu item if found in that restaurant, or empty otherwise
+     */
+    @Query(SELECT + "WHERE m.id = :id AND m.restaurant_id = :restaurantId")
+    Mono<MenuItemRow> findByIdAndRestaurantId(@Param("id") Long id, @Param("restaurantId") Long restaurantId);
+
+    /**
+     * Find a page of the menu items of a category.
+     *
+     * @param restaurantId the restaurant id
+     * @param categoryId the category ID
+     * @param afterId the last menu item ID of the previous page, or 0 for the first page
+     * @param limit the maximum number of menu items
+     * @return the menu items in the category
+     */
+    @Query(SELECT + "WHERE m.restaurant_id = :restaurantId AND m.category_id = :categoryId" + PAGE)
+    Flux<MenuItemRow> findByRestaurantIdAndCategoryId(@Param("restaurantId") Long restaurantId,
+                                                      @Param("categoryId") Long categoryId,
+                                                      @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Find a page of the menu items with a specific dietary restriction.
+     *
+     * @param restaurantId the restaurant id
+     * @param restriction the name of the dietary restriction to filter by
+     * @param afterId the last menu item ID of the previous page, or 0 for the first page
+     * @param limit the maximum number of menu items
+     * @return the menu items that meet the dietary restriction
+     */
+    @Query(SELECT + "JOIN menu_item_dietary_restrictions r ON r.menu_item_id = m.id " +
+            "WHERE m.restaurant_id = :restaurantId AND r.restriction = :restriction" + PAGE)
+    Flux<MenuItemRow> findByDietaryRestriction(@Param("restaurantId") Long restaurantId,
+                                               @Param("restriction") String restriction,
+                                               @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Find a page of the menu items within a specified price range.
+     *
+     * @param restaurantId the restaurant id
+     * @param minPrice the minimum price (inclusive)
+     * @param maxPrice the maximum price (inclusive)
+     * @param afterId the last menu item ID of the previous page, or 0 for the first page
+     * @param limit the maximum number of menu items
+     * @return the menu items within the price range
+     */
+    @Query(SELECT + "WHERE m.restaurant_id = :restaurantId AND m.price BETWEEN :minPrice AND :maxPrice" + PAGE)
+    Flux<MenuItemRow> findByRestaurantIdAndPriceBetween(@Param("restaurantId") Long restaurantId,
+                                                        @Param("minPrice") BigDecimal minPrice,
+                                                        @Param("maxPrice") BigDecimal maxPrice,
+                                                        @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Find a page of the menu items listing an ingredient whose normalized name contains a text.
+     *
+     * @param restaurantId the restaurant id
+     * @param text the normalized text to look for
+     * @param afterId the last menu item ID of the previous page, or 0 for the first page
+     * @param limit the maximum number of menu items
+     * @return the menu items listing at least one matching ingredient
+     */
+    @Query(SELECT + "WHERE m.restaurant_id = :restaurantId AND m.id IN (" +
+            "SELECT mi.menu_item_id FROM menu_item_ingredients mi JOIN ingredients i ON i.id = mi.ingredient_id " +
+            "WHERE i.restaurant_id = :restaurantId AND LOCATE(:text, i.normalized_name) > 0)" + PAGE)
+    Flux<MenuItemRow> findByRestaurantIdAndIngredientContaining(@Param("restaurantId") Long restaurantId,
+                                                                @Param("text") String text,
+                                                                @Param("afterId") long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,82 @@
+package com.restaurant.menuservice.reactive.service;
+
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Service interface for reading categories and menu items without blocking.
+ *
+ * Every read is scoped to the restaurant of the current request. Menu items are streamed by id and
+ * only read from the database as fast as the subscriber consumes them.
+ */
+public interface MenuReadService {
+
+    /**
+     * Get all categories.
+     *
+     * @return all category DTOs, by id
+     */
+    Flux<CategoryDto> getAllCategories();
+
+    /**
+     * Get a category by its ID.
+     *
+     * @param id the category ID
+     * @return the category DTO, or an error with a ResourceNotFoundException
+     */
+    Mono<CategoryDto> getCategoryById(Long id);
+
+    /**
+     * Get all menu items.
+     *
+     * @return all menu item DTOs
+     */
+    Flux<MenuItemDto> getAllMenuItems();
+
+    /**
+     * Get a menu item by its ID.
+     *
+     * @param id the menu item ID
+     * @return the menu item DTO, or an error with a ResourceNotFoundException
+     */
+    Mono<MenuItemDto> getMenuItemById(Long id);
+
+    /**
+     * Get all menu items in a specific category.
+     *
+     * @param categoryId the category ID
+     * @return the menu item DTOs in the category, or an error with a ResourceNotFoundException
+     * if the category does not exist
+     */
+    Flux<MenuItemDto> getMenuItemsByCategory(Long categoryId);
+
+    /**
+     * Get all menu items with a specific dietary restriction.
+     *
+     * @param restriction the dietary restriction to filter by
+     * @return the menu item DTOs that meet the dietary restriction
+     */
+    Flux<MenuItemDto> getMenuItemsByDietaryRestriction(DietaryRestriction restriction);
+
+    /**
+     * Get all menu items within a specified price range.
+     *
+     * @param minPrice the minimum price (inclusive)
+     * @param maxPrice the maximum price (inclusive)
+     * @return the menu item DTOs within the price range
+     */
+    Flux<MenuItemDto> getMenuItemsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
+
+    /**
+     * Get all menu items that contain a specific ingredient.
+     *
+     * @param ingredient the ingredient to search for, matched anywhere in the name and ignoring case
+     * @return the menu item DTOs that contain the ingredient
+     */
+    Flux<MenuItemDto> getMenuItemsByIngredient(String ingredient);
+}
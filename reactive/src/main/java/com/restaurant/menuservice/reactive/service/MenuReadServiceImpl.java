@@ -0,0 +1,184 @@
+package com.restaurant.menuservice.reactive.service;
+
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.ScheduleWindowDto;
+import com.restaurant.menuservice.exception.ResourceNotFoundException;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.reactive.model.CategoryRow;
+import com.restaurant.menuservice.reactive.model.MenuItemRow;
+import com.restaurant.menuservice.reactive.repository.CategoryRowRepository;
+import com.restaurant.menuservice.reactive.repository.MenuDetailsRepository;
+import com.restaurant.menuservice.reactive.repository.MenuItemRowRepository;
+import com.restaurant.menuservice.reactive.tenant.ReactiveTenantContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation of the MenuReadService interface on R2DBC.
+ *
+ * Menu items are read in pages of {@code menu.reactive.batch-size}, each completed with its
+ * dietary restrictions, ingredients and schedules in one query apiece. The next page is only read
+ * once the subscriber has taken the previous one, so a slow client holds at most two pages in
+ * memory and no connection. No query waits for a connection while holding another, so concurrent
+ * reads cannot deadlock the pool. Reads run without a transaction, so a long stream may see edits
+ * made while it runs.
+ */
+@Service
+public class MenuReadServiceImpl implements MenuReadService {
+
+    private final CategoryRowRepository categoryRowRepository;
+    private final MenuItemRowRepository menuItemRowRepository;
+    private final MenuDetailsRepository menuDetailsRepository;
+    private final int batchSize;
+
+    /**
+     * A query for a page of menu items, after an id.
+     */
+    private interface PageQuery {
+        Flux<MenuItemRow> find(long afterId, int limit);
+    }
+
+    public MenuReadServiceImpl(CategoryRowRepository categoryRowRepository,
+                               MenuItemRowRepository menuItemRowRepository,
+                               MenuDetailsRepository menuDetailsRepository,
+                               @Value("${menu.reactive.batch-size:256}") int batchSize) {
+        this.categoryRowRepository = categoryRowRepository;
+        this.menuItemRowRepository = menuItemRowRepository;
+        this.menuDetailsRepository = menuDetailsRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Flux<CategoryDto> getAllCategories() {
+        // a restaurant has few categories, so they are read in one go
+        return ReactiveTenantContext.restaurantId()
+                .flatMapMany(restaurantId -> categoryRowRepository.findByRestaurantIdOrderById(restaurantId).collectList())
+                .concatMap(this::withSchedules);
+    }
+
+    @Override
+    public Mono<CategoryDto> getCategoryById(Long id) {
+        return ReactiveTenantContext.restaurantId()
+                .flatMap(restaurantId -> categoryRowRepository.findByIdAndRestaurantId(id, restaurantId))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Category", "id", id)))
+                .flatMapMany(category -> withSchedules(List.of(category)))
+                .single();
+    }
+
+    @Override
+    public Flux<MenuItemDto> getAllMenuItems() {
+        return ReactiveTenantContext.restaurantId()
+                .flatMapMany(restaurantId -> stream((afterId, limit) -> menuItemRowRepository.findByRestaurantId(restaurantId, afterId, limit)));
+    }
+
+    @Override
+    public Mono<MenuItemDto> getMenuItemById(Long id) {
+        return ReactiveTenantContext.restaurantId()
+                .flatMap(restaurantId -> menuItemRowRepository.findByIdAndRestaurantId(id, restaurantId))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("MenuItem", "id", id)))
+                .flatMapMany(menuItem -> withDetails(List.of(menuItem)))
+                .single();
+    }
+
+    @Override
+    public Flux<MenuItemDto> getMenuItemsByCategory(Long categoryId) {
+        return ReactiveTenantContext.restaurantId()
+                .flatMapMany(restaurantId -> stream((afterId, limit) -> menuItemRowRepository.findByRestaurantIdAndCategoryId(restaurantId, categoryId, afterId, limit))
+                        // an empty category and a missing one look the same, so only then check that it exists
+                        .switchIfEmpty(categoryRowRepository.existsByIdAndRestaurantId(categoryId, restaurantId)
+                                .flatMapMany(exists -> exists ? Flux.empty() : Flux.error(new ResourceNotFoundException("Category", "id", categoryId)))));
+    }
+
+    @Override
+    public Flux<MenuItemDto> getMenuItemsByDietaryRestriction(DietaryRestriction restriction) {
+        return ReactiveTenantContext.restaurantId()
+                .flatMapMany(restaurantId -> stream((afterId, limit) -> menuItemRowRepository.findByDietaryRestriction(restaurantId, restriction.name(), afterId, limit)));
+    }
+
+    @Override
+    public Flux<MenuItemDto> getMenuItemsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return ReactiveTenantContext.restaurantId()
+                .flatMapMany(restaurantId -> stream((afterId, limit) -> menuItemRowRepository.findByRestaurantIdAndPriceBetween(restaurantId, minPrice, maxPrice, afterId, limit)));
+    }
+
+    @Override
+    public Flux<MenuItemDto> getMenuItemsByIngredient(String ingredient) {
+        // ingredient names are normalized the way the servlet service's dictionary stores them
+        String text = ingredient.trim().toLowerCase(Locale.ROOT);
+        return ReactiveTenantContext.restaurantId()
+                .flatMapMany(restaurantId -> stream((afterId, limit) -> menuItemRowRepository.findByRestaurantIdAndIngredientContaining(restaurantId, text, afterId, limit)));
+    }
+
+    /*
+     * Read pages until one comes back short; expand asks for the next page only when the
+     * subscriber wants more, and concatMap completes one page at a time, in order.
+     */
+    private Flux<MenuItemDto> stream(PageQuery query) {
+        return query.find(0, batchSize).collectList()
+                .expand(page -> page.size() < batchSize
+                        ? Mono.empty()
+                        : query.find(page.get(page.size() - 1).getId(), batchSize).collectList())
+                .concatMap(this::withDetails, 1);
+    }
+
+    private Flux<MenuItemDto> withDetails(List<MenuItemRow> page) {
+        if (page.isEmpty()) {
+            return Flux.empty();
+        }
+        List<Long> ids = page.stream().map(MenuItemRow::getId).toList();
+        return Mono.zip(menuDetailsRepository.findDietaryRestrictions(ids),
+                        menuDetailsRepository.findIngredientNames(ids),
+                        menuDetailsRepository.findMenuItemSchedules(ids))
+                .flatMapIterable(details -> page.stream()
+                        .map(menuItem -> mapToDto(menuItem, details.getT1(), details.getT2(), details.getT3()))
+                        .toList());
+    }
+
+    private Flux<CategoryDto> withSchedules(List<CategoryRow> categories) {
+        if (categories.isEmpty()) {
+            return Flux.empty();
+        }
+        return menuDetailsRepository.findCategorySchedules(categories.stream().map(CategoryRow::getId).toList())
+                .flatMapIterable(schedules -> categories.stream()
+                        .map(category -> mapToDto(category, schedules))
+                        .toList());
+    }
+
+    private static MenuItemDto mapToDto(MenuItemRow menuItem,
+                                        Map<Long, Set<DietaryRestriction>> dietaryRestrictions,
+                                        Map<Long, Set<String>> ingredients,
+                                        Map<Long, List<ScheduleWindowDto>> schedules) {
+        return MenuItemDto.builder()
+                .id(menuItem.getId())
+                .name(menuItem.getName())
+                .description(menuItem.getDescription())
+                .price(menuItem.getPrice())
+                .available(menuItem.isAvailable())
+                .categoryId(menuItem.getCategoryId())
+                .categoryName(menuItem.getCategoryName())
+                .dietaryRestrictions(dietaryRestrictions.getOrDefault(menuItem.getId(), new HashSet<>()))
+                .ingredients(ingredients.getOrDefault(menuItem.getId(), new HashSet<>()))
+                .schedule(schedules.getOrDefault(menuItem.getId(), new ArrayList<>()))
+                .build();
+    }
+
+    private static CategoryDto mapToDto(CategoryRow category, Map<Long, List<ScheduleWindowDto>> schedules) {
+        return CategoryDto.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .schedule(schedules.getOrDefault(category.getId(), new ArrayList<>()))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.restaurant.menuservice.reactive.tenant;
+
+import com.restaurant.menuservice.exception.BadRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Holds the restaurant (tenant) a request is working for, in the Reactor context of its pipeline.
+ *
+ * The reactive counterpart of the servlet service's thread-bound tenant context: a request hops
+ * between threads, so {@link TenantWebFilter} writes the restaurant into the subscriber context
+ * instead, and reads pick it up with {@link #restaurantId()}.
+ */
+public final class ReactiveTenantContext {
+
+    private static final String KEY = ReactiveTenantContext.class.getName();
+
+    private ReactiveTenantContext() {
+    }
+
+    /**
+     * Get the restaurant id of the current request.
+     *
+     * @return the restaurant id, or an error with a {@link BadRequestException} if the request
+     * selects none or an invalid one
+     */
+    public static Mono<Long> restaurantId() {
+        return Mono.deferContextual(context -> {
+            Object restaurantId = context.getOrDefault(KEY, null);
+            if (restaurantId instanceof Long id) {
+                return Mono.just(id);
+            }
+            if (restaurantId instanceof BadRequestException ex) {
+                return Mono.error(ex);
+            }
+            return Mono.error(new BadRequestException("No restaurant selected, send the " + TenantWebFilter.HEADER + " header"));
+        });
+    }
+
+    static Context with(Context context, Long restaurantId) {
+        return context.put(KEY, restaurantId);
+    }
+
+    // an invalid header is only reported by reads, so it gets the usual error response
+    static Context withError(Context context, BadRequestException ex) {
+        return context.put(KEY, ex);
+    }
+}
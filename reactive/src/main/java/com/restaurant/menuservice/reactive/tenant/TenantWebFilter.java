@@ -0,0 +1,50 @@
+package com.restaurant.menuservice.reactive.tenant;
+
+import com.restaurant.menuservice.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolves the restaurant of each API request from the {@value #HEADER} header.
+ *
+ * When the header is absent the configured default restaurant is used, so single-location
+ * deployments and existing clients keep working; without a default the header is mandatory.
+ */
+@Component
+public class TenantWebFilter implements WebFilter {
+
+    public static final String HEADER = "X-Restaurant-Id";
+
+    private final Long defaultRestaurantId;
+
+    public TenantWebFilter(@Value("${menu.tenancy.default-restaurant-id:#{null}}") Long defaultRestaurantId) {
+        this.defaultRestaurantId = defaultRestaurantId;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(HEADER);
+        if (header == null) {
+            return defaultRestaurantId == null
+                    ? chain.filter(exchange)
+                    : chain.filter(exchange).contextWrite(context -> ReactiveTenantContext.with(context, defaultRestaurantId));
+        }
+
+        long restaurantId;
+        try {
+            restaurantId = Long.parseLong(header.trim());
+        } catch (NumberFormatException ex) {
+            BadRequestException error = new BadRequestException(HEADER + " must be a number");
+            return chain.filter(exchange).contextWrite(context -> ReactiveTenantContext.withError(context, error));
+        }
+        if (restaurantId <= 0) {
+            BadRequestException error = new BadRequestException(HEADER + " must be positive");
+            return chain.filter(exchange).contextWrite(context -> ReactiveTenantContext.withError(context, error));
+        }
+        return chain.filter(exchange).contextWrite(context -> ReactiveTenantContext.with(context, restaurantId));
+    }
+}
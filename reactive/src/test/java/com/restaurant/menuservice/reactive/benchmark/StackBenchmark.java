@@ -0,0 +1,190 @@
+package com.restaurant.menuservice.reactive.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.reactive.MenuServiceReactiveApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to serve a burst of concurrent category listings from the servlet service versus the
+ * reactive module, over the same menu.
+ *
+ * Each invocation sends {@code clients} concurrent {@code GET /api/draft/menu-items/by-category/{id}}
+ * requests and waits for all of them; the result is the number of requests that did not succeed.
+ * The servlet service runs in its own process from its executable jar, which {@code mvn package}
+ * in the parent directory builds; pass another path with {@code -Dmenuservice.jar}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+public class StackBenchmark {
+
+    private static final int MENU_ITEMS = 200;
+    private static final int CATEGORIES = 10;
+
+    @Param({"servlet", "reactive"})
+    public String stack;
+
+    @Param({"50", "1000"})
+    public int clients;
+
+    private Process servlet;
+    private ConfigurableApplicationContext reactive;
+    private HttpClient client;
+    private List<URI> categories;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String base = stack.equals("servlet") ? startServlet() : startReactive();
+
+        JsonNode listed = new ObjectMapper().readTree(client.send(HttpRequest.newBuilder(URI.create(base + "/api/draft/categories")).build(),
+                HttpResponse.BodyHandlers.ofString()).body());
+        categories = new ArrayList<>();
+        listed.forEach(category -> categories.add(URI.create(base + "/api/draft/menu-items/by-category/" + category.get("id").asLong())));
+        if (categories.size() != CATEGORIES) {
+            throw new IllegalStateException("Expected " + CATEGORIES + " categories, found " + categories.size());
+        }
+    }
+
+    private String startServlet() throws Exception {
+        File jar = new File(System.getProperty("menuservice.jar", "../target/menuservice-0.0.1-SNAPSHOT-exec.jar"));
+        if (!jar.isFile()) {
+            throw new IllegalStateException("Servlet service jar not found at " + jar.getAbsolutePath() + ", run mvn package in the parent directory");
+        }
+        int port = freePort();
+        servlet = new ProcessBuilder(ProcessHandle.current().info().command().orElse("java"), "-Xmx1g", "-jar", jar.getPath(),
+                "--server.port=" + port,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                // measure the stack, not load shedding or coalescing
+                "--menu.concurrency.enabled=false",
+                "--menu.coalescing.timeout=PT30S")
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        String base = "http://localhost:" + port;
+        awaitHealthy(base);
+
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < MENU_ITEMS; i++) {
+            rows.append("{\"name\": \"Dish ").append(i).append("\", \"price\": 9.50, \"category\": \"Category ").append(i % CATEGORIES)
+                    .append("\", \"ingredients\": [\"Tomato\", \"Basil\"]}\n");
+        }
+        client.send(HttpRequest.newBuilder(URI.create(base + "/api/draft/menu-items/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(rows.toString()))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        return base;
+    }
+
+    private String startReactive() {
+        reactive = SpringApplication.run(MenuServiceReactiveApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+
+        // the same menu the servlet service imports, inserted directly as the module only reads
+        DatabaseClient database = reactive.getBean(DatabaseClient.class);
+        long tomato = insert(database, "INSERT INTO ingredients (restaurant_id, name, normalized_name) VALUES (1, 'Tomato', 'tomato')");
+        long basil = insert(database, "INSERT INTO ingredients (restaurant_id, name, normalized_name) VALUES (1, 'Basil', 'basil')");
+        long[] categoryIds = new long[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            categoryIds[i] = insert(database, "INSERT INTO categories (restaurant_id, name, normalized_name) VALUES (1, 'Category " + i + "', 'category " + i + "')");
+        }
+        for (int i = 0; i < MENU_ITEMS; i++) {
+            long menuItem = insert(database, "INSERT INTO menu_items (restaurant_id, category_id, name, price, available) VALUES (1, "
+                    + categoryIds[i % CATEGORIES] + ", 'Dish " + i + "', 9.50, TRUE)");
+            database.sql("INSERT INTO menu_item_ingredients (menu_item_id, ingredient_id) VALUES (" + menuItem + ", " + tomato + "), ("
+                    + menuItem + ", " + basil + ")").then().block();
+        }
+        return "http://localhost:" + reactive.getEnvironment().getProperty("local.server.port");
+    }
+
+    @Benchmark
+    public int burst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            URI category = categories.get(next++ % categories.size());
+            responses.add(client.sendAsync(HttpRequest.newBuilder(category).build(), HttpResponse.BodyHandlers.discarding()));
+        }
+        int failed = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() != 200) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws InterruptedException {
+        if (reactive != null) {
+            reactive.close();
+        }
+        if (servlet != null) {
+            servlet.destroy();
+            servlet.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitHealthy(String base) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofMinutes(2));
+        while (Instant.now().isBefore(deadline)) {
+            if (!servlet.isAlive()) {
+                throw new IllegalStateException("Servlet service exited with " + servlet.exitValue());
+            }
+            try {
+                if (client.send(HttpRequest.newBuilder(URI.create(base + "/actuator/health")).build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // not listening yet
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("Servlet service did not start within 2 minutes");
+    }
+
+    private static long insert(DatabaseClient database, String sql) {
+        return database.sql(sql).filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(StackBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,185 @@
+package com.restaurant.menuservice.reactive.controller;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.reactive.tenant.TenantWebFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+// pages of two menu items, so that every list spans several pages
+@SpringBootTest(properties = "menu.reactive.batch-size=2")
+@AutoConfigureWebTestClient
+class MenuReadTest {
+
+    private static final long RESTAURANT = 2;
+    private static final long OTHER_RESTAURANT = 3;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private long pizze;
+    private long dolci;
+    private long margherita;
+
+    @BeforeEach
+    void seed() {
+        // writes stay on the servlet service, so the menu is inserted directly
+        Flux.concat(
+                        sql("DELETE FROM category_schedules"),
+                        sql("DELETE FROM menu_item_schedules"),
+                        sql("DELETE FROM menu_item_ingredients"),
+                        sql("DELETE FROM menu_item_dietary_restrictions"),
+                        sql("DELETE FROM menu_items"),
+                        sql("DELETE FROM ingredients"),
+                        sql("DELETE FROM categories"))
+                .blockLast();
+
+        pizze = insert("INSERT INTO categories (restaurant_id, name, normalized_name) VALUES (" + RESTAURANT + ", 'Pizze', 'pizze')");
+        dolci = insert("INSERT INTO categories (restaurant_id, name, normalized_name) VALUES (" + RESTAURANT + ", 'Dolci', 'dolci')");
+        long tomato = insert("INSERT INTO ingredients (restaurant_id, name, normalized_name) VALUES (" + RESTAURANT + ", 'Tomato', 'tomato')");
+        long mozzarella = insert("INSERT INTO ingredients (restaurant_id, name, normalized_name) VALUES (" + RESTAURANT + ", 'Buffalo Mozzarella', 'buffalo mozzarella')");
+
+        margherita = menuItem(RESTAURANT, pizze, "Margherita", "8.50");
+        long marinara = menuItem(RESTAURANT, pizze, "Marinara", "7.00");
+        menuItem(RESTAURANT, pizze, "Diavola", "10.00");
+        menuItem(OTHER_RESTAURANT, null, "Carbonara", "12.00");
+
+        sql("INSERT INTO menu_item_ingredients (menu_item_id, ingredient_id) VALUES (" + margherita + ", " + tomato + "), ("
+                + margherita + ", " + mozzarella + "), (" + marinara + ", " + tomato + ")").block();
+        sql("INSERT INTO menu_item_dietary_restrictions (menu_item_id, restriction) VALUES (" + margherita + ", 'VEGETARIAN'), ("
+                + marinara + ", 'VEGETARIAN'), (" + marinara + ", 'VEGAN')").block();
+        // lunch on weekdays: bits 0 to 4 are Monday to Friday
+        sql("INSERT INTO category_schedules (category_id, days_of_week, start_time, end_time, time_zone) VALUES ("
+                + pizze + ", 31, '12:00:00', '15:00:00', 'Europe/Rome')").block();
+    }
+
+    @Test
+    void listsMenuItemsAcrossPagesWithTheirDetails() {
+        webTestClient.get().uri("/api/draft/menu-items").header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[*].name").value(contains("Margherita", "Marinara", "Diavola"))
+                .jsonPath("$[0].categoryName").isEqualTo("Pizze")
+                .jsonPath("$[0].ingredients").value(containsInAnyOrder("Tomato", "Buffalo Mozzarella"))
+                .jsonPath("$[0].dietaryRestrictions").value(contains("VEGETARIAN"))
+                .jsonPath("$[2].ingredients").isEmpty();
+
+        webTestClient.get().uri("/api/draft/menu-items/" + margherita).header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.price").isEqualTo(8.5)
+                .jsonPath("$.available").isEqualTo(true);
+
+        webTestClient.get().uri("/api/draft/categories/" + pizze).header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.schedule[0].start").isEqualTo("12:00:00")
+                .jsonPath("$.schedule[0].timeZone").isEqualTo("Europe/Rome")
+                .jsonPath("$.schedule[0].days.length()").isEqualTo(5);
+    }
+
+    @Test
+    void streamsNewlineDelimitedJsonOnDemand() {
+        Flux<MenuItemDto> menuItems = webTestClient.get().uri("/api/draft/menu-items").header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(MenuItemDto.class)
+                .getResponseBody();
+
+        StepVerifier.create(menuItems, 1)
+                .assertNext(menuItem -> assertThat(menuItem.getName()).isEqualTo("Margherita"))
+                .thenRequest(2)
+                .assertNext(menuItem -> assertThat(menuItem.getDietaryRestrictions()).hasSize(2))
+                .assertNext(menuItem -> assertThat(menuItem.getName()).isEqualTo("Diavola"))
+                .verifyComplete();
+    }
+
+    @Test
+    void filtersMenuItemsLikeTheServletService() {
+        webTestClient.get().uri("/api/draft/menu-items/by-ingredient?ingredient= MOZZ").header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[*].name").value(contains("Margherita"));
+
+        webTestClient.get().uri("/api/draft/menu-items/by-dietary-restriction?restriction=VEGETARIAN").header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[*].name").value(contains("Margherita", "Marinara"));
+
+        webTestClient.get().uri("/api/draft/menu-items/by-price-range?minPrice=8&maxPrice=10").header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[*].name").value(contains("Margherita", "Diavola"));
+
+        webTestClient.get().uri("/api/draft/menu-items/by-category/" + pizze).header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(3);
+
+        webTestClient.get().uri("/api/draft/menu-items/by-category/" + dolci).header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$").isEmpty();
+
+        webTestClient.get().uri("/api/draft/menu-items/by-category/999999").header(TenantWebFilter.HEADER, String.valueOf(RESTAURANT))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Category not found with id: '999999'");
+    }
+
+    @Test
+    void keepsRestaurantsApart() {
+        webTestClient.get().uri("/api/draft/menu-items").header(TenantWebFilter.HEADER, String.valueOf(OTHER_RESTAURANT))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[*].name").value(contains("Carbonara"));
+
+        webTestClient.get().uri("/api/draft/menu-items/" + margherita).header(TenantWebFilter.HEADER, String.valueOf(OTHER_RESTAURANT))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo("/api/draft/menu-items/" + margherita);
+
+        webTestClient.get().uri("/api/draft/categories").header(TenantWebFilter.HEADER, "-1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo(TenantWebFilter.HEADER + " must be positive");
+    }
+
+    private Mono<Long> sql(String sql) {
+        return databaseClient.sql(sql).fetch().rowsUpdated();
+    }
+
+    private long insert(String sql) {
+        return databaseClient.sql(sql).filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    private long menuItem(long restaurantId, Long categoryId, String name, String price) {
+        return insert("INSERT INTO menu_items (restaurant_id, category_id, name, price, available) VALUES ("
+                + restaurantId + ", " + categoryId + ", '" + name + "', " + price + ", TRUE)");
+    }
+}
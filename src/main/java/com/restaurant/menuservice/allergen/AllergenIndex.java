@@ -0,0 +1,127 @@
+package com.restaurant.menuservice.allergen;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap index from ingredient to the menu items listing it.
+ *
+ * Every menu item gets a slot; each normalized ingredient name maps to a {@link BitSet} of the
+ * slots of the items listing it. Excluding ingredients is then one OR per matching name and a
+ * single AND NOT against the occupied slots, however many items the menu has. Freed slots are
+ * reused, so the bitmaps stay as dense as the menu. Reads share a read lock; writes are rare
+ * (menu edits) and take the write lock.
+ */
+public class AllergenIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final BitSet occupied = new BitSet();
+    private final Map<String, BitSet> slotsByIngredient = new HashMap<>();
+
+    // menu item id and normalized ingredient names of each slot
+    private long[] ids = new long[MIN_CAPACITY];
+    private String[][] ingredients = new String[MIN_CAPACITY][];
+
+    /**
+     * Add or replace the ingredients of a menu item.
+     *
+     * @param id the menu item id
+     * @param normalizedNames the normalized names of its ingredients
+     */
+    public void put(long id, Collection<String> normalizedNames) {
+        String[] names = normalizedNames.stream().distinct().toArray(String[]::new);
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(id);
+            if (slot != null) {
+                clear(slot);
+            } else {
+                slot = occupied.nextClearBit(0);
+                if (slot == ids.length) {
+                    ids = Arrays.copyOf(ids, 2 * slot);
+                    ingredients = Arrays.copyOf(ingredients, 2 * slot);
+                }
+                slots.put(id, slot);
+                occupied.set(slot);
+                ids[slot] = id;
+            }
+            ingredients[slot] = names;
+            for (String name : names) {
+                slotsByIngredient.computeIfAbsent(name, key -> new BitSet()).set(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a menu item, if present.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(id);
+            if (slot != null) {
+                clear(slot);
+                occupied.clear(slot);
+                ingredients[slot] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the menu items listing none of the ingredients whose name contains any of the terms.
+     *
+     * @param terms normalized search terms, e.g. "peanut" also excludes "peanut butter"
+     * @return the ids of the remaining menu items, in no particular order
+     */
+    public long[] idsExcluding(Collection<String> terms) {
+        lock.readLock().lock();
+        try {
+            BitSet excluded = new BitSet();
+            slotsByIngredient.forEach((name, itemSlots) -> {
+                for (String term : terms) {
+                    if (name.contains(term)) {
+                        excluded.or(itemSlots);
+                        break;
+                    }
+                }
+            });
+
+            BitSet remaining = (BitSet) occupied.clone();
+            remaining.andNot(excluded);
+            return remaining.stream().mapToLong(slot -> ids[slot]).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear(int slot) {
+        for (String name : ingredients[slot]) {
+            BitSet itemSlots = slotsByIngredient.get(name);
+            itemSlots.clear(slot);
+            if (itemSlots.isEmpty()) {
+                slotsByIngredient.remove(name);
+            }
+        }
+    }
+}
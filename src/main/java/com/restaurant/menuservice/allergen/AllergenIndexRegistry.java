@@ -0,0 +1,76 @@
+package com.restaurant.menuservice.allergen;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.model.Ingredient;
+import com.restaurant.menuservice.repository.MenuItemIngredientName;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.service.ChangeLogService;
+import com.restaurant.menuservice.tenant.TenantRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds an {@link AllergenIndex} per restaurant.
+ *
+ * A restaurant's index is loaded from the database on first use and from then on kept in
+ * sync by applying committed menu item changes.
+ */
+@Component
+public class AllergenIndexRegistry {
+
+    private final TenantRegistry<AllergenIndex> indexes;
+
+    public AllergenIndexRegistry(MenuItemRepository menuItemRepository, PlatformTransactionManager transactionManager,
+                                 ChangeLogService changeLogService) {
+        this.indexes = new TenantRegistry<>(transactionManager, changeLogService,
+                restaurantId -> load(menuItemRepository, restaurantId), AllergenIndexRegistry::apply);
+    }
+
+    /**
+     * Get the allergen index of a restaurant, loading it if needed.
+     */
+    public AllergenIndex getIndex(Long restaurantId) {
+        return indexes.get(restaurantId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        if (event.change().getEntityType() == ChangeEntityType.MENU_ITEM) {
+            indexes.apply(event);
+        }
+    }
+
+    private static AllergenIndex load(MenuItemRepository menuItemRepository, Long restaurantId) {
+        Map<Long, List<String>> namesByItem = new HashMap<>();
+        for (MenuItemIngredientName row : menuItemRepository.findIngredientNamesByRestaurantId(restaurantId)) {
+            List<String> names = namesByItem.computeIfAbsent(row.getMenuItemId(), id -> new ArrayList<>());
+            if (row.getNormalizedName() != null) {
+                names.add(row.getNormalizedName());
+            }
+        }
+
+        AllergenIndex index = new AllergenIndex();
+        namesByItem.forEach(index::put);
+        return index;
+    }
+
+    private static void apply(AllergenIndex index, MenuChangeEvent event) {
+        MenuItemDto menuItem = event.change().getMenuItem();
+        if (event.change().getOperation() == ChangeOperation.DELETE) {
+            index.remove(event.change().getEntityId());
+        } else {
+            index.put(menuItem.getId(), menuItem.getIngredients() == null ? List.of()
+                    : menuItem.getIngredients().stream().map(Ingredient::normalize).toList());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.restaurant.menuservice.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds the number of connections borrowed from a data source at once with a fair semaphore.
+ *
+ * With virtual threads the number of requests in progress is no longer capped by a thread pool,
+ * so thousands of them can reach the connection pool at once. The bulkhead makes them wait their
+ * turn cheaply, in order, and gives up after a short timeout with a
+ * {@link SQLTransientConnectionException} (SQL state {@value #SQL_STATE}), which the API answers
+ * with 503, instead of piling them up inside the pool until its own, much longer, timeout.
+ *
+ * A permit is held from {@link #getConnection()} until the connection is closed. The permits
+ * available and the rejections are exposed as the {@code menu.datasource.bulkhead.available} and
+ * {@code menu.datasource.bulkhead.rejected} metrics.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    public static final String SQL_STATE = "08001";
+
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final Counter rejected;
+
+    public BulkheadDataSource(DataSource target, int permits, Duration timeout, MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.timeout = timeout;
+        this.rejected = meterRegistry.counter("menu.datasource.bulkhead.rejected");
+        Gauge.builder("menu.datasource.bulkhead.available", this.permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return borrow(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return borrow(() -> super.getConnection(username, password));
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException("No database connection available within " + timeout, SQL_STATE);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a database connection", SQL_STATE, ex);
+        }
+    }
+
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    private Connection borrow(ConnectionSource source) throws SQLException {
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException | Error ex) {
+            permits.release();
+            throw ex;
+        }
+
+        // give the permit back on the first close only
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (closed.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    if (method.getName().equals("isClosed") && method.getParameterCount() == 0 && closed.get()) {
+                        return true;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,66 @@
+package com.restaurant.menuservice.coalesce;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.replica.ReadConsistency;
+import com.restaurant.menuservice.service.MenuItemService;
+import com.restaurant.menuservice.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Coalesces concurrent identical reads of the hottest menu item endpoints, so a burst of devices
+ * asking for the same menu item or category at opening time runs one query instead of one each.
+ *
+ * Reads are coalesced in front of the {@link MenuItemService}, so waiting callers hold neither a
+ * transaction nor a connection. Keys include the restaurant and the caller's read-your-writes
+ * version, and reads in flight when a menu change commits are not joined any more, so a client
+ * never gets a result older than its own write.
+ */
+@Component
+public class MenuReadCoalescer {
+
+    private record Key(Long restaurantId, Long id, long minVersion) {
+
+        static Key of(Long id) {
+            return new Key(TenantContext.getRestaurantId(), id, ReadConsistency.getMinVersion());
+        }
+    }
+
+    private final MenuItemService menuItemService;
+    private final SingleFlight<Key, MenuItemDto> menuItems;
+    private final SingleFlight<Key, List<MenuItemDto>> categoryMenuItems;
+
+    public MenuReadCoalescer(MenuItemService menuItemService, MeterRegistry meterRegistry,
+                             @Value("${menu.coalescing.timeout:PT2S}") Duration timeout) {
+        this.menuItemService = menuItemService;
+        this.menuItems = new SingleFlight<>("menu-item", timeout, meterRegistry);
+        this.categoryMenuItems = new SingleFlight<>("category-menu-items", timeout, meterRegistry);
+    }
+
+    /**
+     * Get a menu item by its ID, sharing the read with concurrent identical requests.
+     */
+    public MenuItemDto getMenuItemById(Long id) {
+        return menuItems.execute(Key.of(id), () -> menuItemService.getMenuItemById(id));
+    }
+
+    /**
+     * Get the menu items of a category, sharing the read with concurrent identical requests.
+     */
+    public List<MenuItemDto> getMenuItemsByCategory(Long categoryId) {
+        return categoryMenuItems.execute(Key.of(categoryId), () -> menuItemService.getMenuItemsByCategory(categoryId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        menuItems.forget(key -> key.restaurantId().equals(event.restaurantId()));
+        categoryMenuItems.forget(key -> key.restaurantId().equals(event.restaurantId()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.restaurant.menuservice.coalesce;
+
+import com.restaurant.menuservice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical calls into one.
+ *
+ * The first caller for a key runs the call on its own thread; callers arriving for the same key
+ * while it runs wait for its result, or its exception, instead of running the call again. Nothing
+ * is cached: once the call finishes, the next caller runs it afresh. A waiting caller gives up
+ * after the timeout with a {@link ServiceUnavailableException}, so a stuck call cannot pile up
+ * waiting requests.
+ *
+ * Calls are counted in {@value #CALLS_METRIC}, tagged with the name and whether the caller
+ * executed the call, was coalesced into another one or timed out waiting; the number of calls
+ * in flight is the {@value #IN_FLIGHT_METRIC} gauge.
+ *
+ * @param <K> the call key, which must identify everything the result depends on
+ * @param <V> the result type; results are shared between callers and must not be changed
+ */
+public class SingleFlight<K, V> {
+
+    public static final String CALLS_METRIC = "menu.coalescing.calls";
+    public static final String IN_FLIGHT_METRIC = "menu.coalescing.in-flight";
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter timedOut;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.executed = meterRegistry.counter(CALLS_METRIC, "name", name, "result", "executed");
+        this.coalesced = meterRegistry.counter(CALLS_METRIC, "name", name, "result", "coalesced");
+        this.timedOut = meterRegistry.counter(CALLS_METRIC, "name", name, "result", "timeout");
+        Gauge.builder(IN_FLIGHT_METRIC, calls, Map::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a call, or wait for the identical call in flight.
+     *
+     * @param key the call key
+     * @param call the call, run on this thread unless an identical one is in flight
+     * @return the result of the call
+     * @throws ServiceUnavailableException if the identical call in flight did not finish in time
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+
+        executed.increment();
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            calls.remove(key, flight);
+        }
+    }
+
+    /**
+     * Stop coalescing into the calls in flight for matching keys, e.g. because a write committed
+     * after they started: callers already waiting still get their result, later callers run the
+     * call again.
+     */
+    public void forget(Predicate<K> keys) {
+        calls.keySet().removeIf(keys);
+    }
+
+    /**
+     * @return the number of calls in flight
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            timedOut.increment();
+            throw new ServiceUnavailableException("Timed out waiting for an identical request in progress", RETRY_AFTER);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted waiting for an identical request in progress", RETRY_AFTER);
+        } catch (ExecutionException ex) {
+            // the leader's exception, e.g. a 404, is the answer for everyone
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.restaurant.menuservice.config;
+
+import com.restaurant.menuservice.bulkhead.BulkheadDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts a {@link BulkheadDataSource} in front of the data source used by JPA and JDBC.
+ *
+ * Only active with {@code menu.datasource.bulkhead.enabled=true}, as in the
+ * {@code virtual-threads} profile. The permits default to the connection pool size, so requests
+ * wait in the bulkhead rather than in the pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "menu.datasource.bulkhead.enabled", havingValue = "true")
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(Environment environment,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!beanName.equals("dataSource") || !(bean instanceof DataSource dataSource)
+                        || bean instanceof BulkheadDataSource) {
+                    return bean;
+                }
+                int permits = environment.getProperty("menu.datasource.bulkhead.permits", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                Duration timeout = environment.getProperty("menu.datasource.bulkhead.timeout", Duration.class, Duration.ofSeconds(1));
+                return new BulkheadDataSource(dataSource, permits, timeout, meterRegistry.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.restaurant.menuservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.dto.compact.CompactMenuModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuration for the compact binary encodings of the API.
+ *
+ * Clients that send {@code Accept: application/cbor} or {@code Accept: application/x-jackson-smile}
+ * receive (and may send) menu payloads in the compact schema defined by {@link CompactMenuModule}.
+ * Declaring the converters as beans makes Spring Boot use them in place of its default
+ * CBOR/Smile converters, which would otherwise mirror the verbose JSON schema.
+ */
+@Configuration
+public class CompactEncodingConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(compact(builder.cbor().build()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(compact(builder.smile().build()));
+    }
+
+    private ObjectMapper compact(ObjectMapper mapper) {
+        return mapper.registerModule(new CompactMenuModule());
+    }
+}
@@ -2,23 +2,30 @@ package com.restaurant.menuservice.config;
 
 import com.restaurant.menuservice.model.Category;
 import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.model.Ingredient;
 import com.restaurant.menuservice.model.MenuItem;
 import com.restaurant.menuservice.repository.CategoryRepository;
+import com.restaurant.menuservice.repository.IngredientRepository;
 import com.restaurant.menuservice.repository.MenuItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Configuration class for initializing sample data.
  *
  * This bean is only active in the "dev" profile to avoid
- * loading sample data in production.
+ * loading sample data in production. The sample menu belongs to
+ * the default restaurant.
  */
 @Configuration
 @RequiredArgsConstructor
@@ -27,6 +34,13 @@ public class DataInitializer {
 
     private final CategoryRepository categoryRepository;
     private final MenuItemRepository menuItemRepository;
+    private final IngredientRepository ingredientRepository;
+
+    // sample ingredients by name, each added to the dictionary once
+    private final Map<String, Ingredient> ingredients = new HashMap<>();
+
+    @Value("${menu.tenancy.default-restaurant-id:1}")
+    private Long restaurantId;
 
     /**
      * Initialize sample data for development and testing.
@@ -34,6 +48,11 @@ public class DataInitializer {
     @Bean
     public CommandLineRunner initData() {
         return args -> {
+            // Keep a menu restored from a snapshot instead of adding the samples again
+            if (categoryRepository.count() > 0) {
+                return;
+            }
+
             // Create categories
             Category starters = createCategory("Starters", "Appetizers and small dishes");
             Category mainCourses = createCategory("Main Courses", "Hearty main dishes");
@@ -155,6 +174,7 @@ public class DataInitializer {
      */
     private Category createCategory(String name, String description) {
         Category category = Category.builder()
+                .restaurantId(restaurantId)
                 .name(name)
                 .description(description)
                 .build();
@@ -168,15 +188,26 @@ public class DataInitializer {
     private void createMenuItem(String name, String description, BigDecimal price, boolean available,
                                 Category category, Set<DietaryRestriction> restrictions, Set<String> ingredients) {
         MenuItem menuItem = MenuItem.builder()
+                .restaurantId(restaurantId)
                 .name(name)
                 .description(description)
                 .price(price)
                 .available(available)
                 .dietaryRestrictions(restrictions)
-                .ingredients(ingredients)
+                .ingredients(ingredients.stream().map(this::ingredient).collect(Collectors.toSet()))
                 .category(category)
                 .build();
 
         menuItemRepository.save(menuItem);
     }
+
+    /**
+     * Helper method to get a sample ingredient, adding it to the dictionary on first use.
+     */
+    private Ingredient ingredient(String name) {
+        return this.ingredients.computeIfAbsent(name, key -> ingredientRepository.save(Ingredient.builder()
+                .restaurantId(restaurantId)
+                .name(name)
+                .build()));
+    }
 }
@@ -0,0 +1,81 @@
+package com.restaurant.menuservice.config;
+
+import com.restaurant.menuservice.replica.ReplicaRoutingDataSource;
+import com.restaurant.menuservice.replica.ReplicaSynchronizer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read/write splitting between the primary database and a read replica.
+ *
+ * Only active with {@code menu.datasource.replica.enabled=true}. The primary keeps the
+ * regular {@code spring.datasource.*} settings; the replica is configured under
+ * {@code menu.datasource.replica.*} and fed from the primary's change log.
+ */
+@Configuration
+@ConditionalOnProperty(name = "menu.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("menu.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${menu.datasource.replica.url}") String url,
+            @Value("${menu.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${menu.datasource.replica.password:${spring.datasource.password}}") String password
+    ) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    public ReplicaSynchronizer replicaSynchronizer(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${menu.datasource.replica.max-lag:PT5S}") Duration maxLag,
+            @Value("${menu.datasource.replica.gap-timeout:PT1S}") Duration gapTimeout,
+            @Value("${menu.datasource.replica.batch-size:500}") int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaSynchronizer(primary, replica, maxLag, gapTimeout, batchSize, meterRegistry);
+    }
+
+    /**
+     * The data source used by JPA: the lazy proxy defers choosing a target until the first
+     * statement, when the transaction's read-only flag is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaSynchronizer replicaSynchronizer,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, replicaSynchronizer, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,12 @@
+package com.restaurant.menuservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs, such as the change log compaction.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
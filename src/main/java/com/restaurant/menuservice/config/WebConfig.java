@@ -0,0 +1,29 @@
+package com.restaurant.menuservice.config;
+
+import com.restaurant.menuservice.limit.ConcurrencyLimitInterceptor;
+import com.restaurant.menuservice.replica.ReadConsistencyInterceptor;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final TenantInterceptor tenantInterceptor;
+    private final ReadConsistencyInterceptor readConsistencyInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // first, so shed requests cost as little as possible; event streams are long-lived and not limited
+        registry.addInterceptor(concurrencyLimitInterceptor).addPathPatterns("/api/**").excludePathPatterns("/api/draft/menu-events/**");
+        registry.addInterceptor(tenantInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(readConsistencyInterceptor).addPathPatterns("/api/**");
+    }
+}
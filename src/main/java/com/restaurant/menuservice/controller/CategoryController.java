@@ -11,19 +11,19 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 /**
- * REST controller for managing categories.
+ * REST controller for managing the draft categories.
  *
  * @RestController combines @Controller and @ResponseBody, indicating that
  * the return value of methods should be written directly to the HTTP response body.
  *
- * @RequestMapping("/api/categories") sets the base path for all endpoints in this controller.
+ * @RequestMapping("/api/draft/categories") sets the base path for all endpoints in this controller.
  *
  * @RequiredArgsConstructor generates a constructor for all final fields,
  * which is used for dependency injection.
  */
 
 @RestController
-@RequestMapping("/api/categories")
+@RequestMapping("/api/draft/categories")
 @RequiredArgsConstructor
 public class CategoryController {
 
@@ -0,0 +1,43 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.dto.ChangeFeedDto;
+import com.restaurant.menuservice.exception.BadRequestException;
+import com.restaurant.menuservice.service.ChangeLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing the change feed of the draft menu for delta synchronisation.
+ */
+
+@RestController
+@RequestMapping("/api/draft/changes")
+@RequiredArgsConstructor
+public class ChangeController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ChangeLogService changeLogService;
+
+    /**
+     * Get the changes recorded after a sequence number.
+     *
+     * @param since the last sequence number the client has applied (0 for all retained changes)
+     * @param limit the maximum number of log entries to scan
+     * @return the page of changes, or a resync signal if the client is too far behind
+     */
+    @GetMapping
+    public ResponseEntity<ChangeFeedDto> getChanges(
+            @RequestParam long since,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        if (since < 0 || limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("since must be >= 0 and limit between 1 and " + MAX_LIMIT);
+        }
+        return ResponseEntity.ok(changeLogService.getChangesSince(since, limit));
+    }
+}
@@ -0,0 +1,92 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.dto.ExportJobDto;
+import com.restaurant.menuservice.export.ExportFormat;
+import com.restaurant.menuservice.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * REST controller for asynchronous menu exports.
+ */
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Start an export of all menu items.
+     *
+     * @param format CSV, NDJSON or COLUMNAR
+     * @return the queued job (202), or 503 if too many exports are in progress
+     */
+    @PostMapping
+    public ResponseEntity<ExportJobDto> startExport(@RequestParam(defaultValue = "CSV") ExportFormat format) {
+        ExportJobDto job = exportService.startExport(format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/exports/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * Get all export jobs.
+     *
+     * @return the jobs, newest first
+     */
+    @GetMapping
+    public ResponseEntity<List<ExportJobDto>> getExports() {
+        return ResponseEntity.ok(exportService.getExports());
+    }
+
+    /**
+     * Get the status and progress of an export.
+     *
+     * @param id the job ID
+     * @return the job, or 404 if not found
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobDto> getExport(@PathVariable String id) {
+        return ResponseEntity.ok(exportService.getExport(id));
+    }
+
+    /**
+     * Download the file of a completed export. Range requests are supported for resuming.
+     *
+     * @param id the job ID
+     * @return the file, or 400 if the export is not completed
+     */
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String id) {
+        ExportJobDto job = exportService.getExport(id);
+        Resource file = new FileSystemResource(exportService.getExportFile(id));
+        return ResponseEntity.ok()
+                .contentType(job.getFormat().getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("menu-" + id + "." + job.getFormat().getExtension())
+                        .build().toString())
+                .body(file);
+    }
+
+    /**
+     * Cancel an export and delete its file.
+     *
+     * @param id the job ID
+     * @return no content (204) if successful
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteExport(@PathVariable String id) {
+        exportService.deleteExport(id);
+        return ResponseEntity.noContent().build();
+    }
+}
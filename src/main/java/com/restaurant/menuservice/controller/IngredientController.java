@@ -0,0 +1,48 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.dto.IngredientDto;
+import com.restaurant.menuservice.dto.IngredientMergeRequest;
+import com.restaurant.menuservice.service.IngredientService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the ingredient dictionary of the draft menu.
+ */
+
+@RestController
+@RequestMapping("/api/draft/ingredients")
+@RequiredArgsConstructor
+public class IngredientController {
+
+    private final IngredientService ingredientService;
+
+    /**
+     * Get all ingredients.
+     *
+     * @return a list of all ingredients with the number of menu items using each
+     */
+    @GetMapping
+    public ResponseEntity<List<IngredientDto>> getAllIngredients() {
+        return ResponseEntity.ok(ingredientService.getAllIngredients());
+    }
+
+    /**
+     * Merge ingredients into another one.
+     *
+     * @param id the ID of the ingredient to keep
+     * @param request the IDs of the ingredients to merge into it
+     * @return the merged ingredient, or 404 if any ingredient is not found
+     */
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<IngredientDto> mergeIngredients(
+            @PathVariable Long id,
+            @Valid @RequestBody IngredientMergeRequest request
+    ) {
+        return ResponseEntity.ok(ingredientService.mergeIngredients(id, request.getSourceIds()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.dto.MenuVersionDto;
+import com.restaurant.menuservice.dto.PublishedMenuDto;
+import com.restaurant.menuservice.service.MenuPublicationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * REST controller for the published menu customers see, and for publishing it.
+ *
+ * The endpoints under /api/draft edit and read the draft; nothing changes here, or under
+ * /api/menu/items, until the draft is published.
+ */
+
+@RestController
+@RequestMapping("/api/menu")
+@RequiredArgsConstructor
+public class MenuController {
+
+    private final MenuPublicationService menuPublicationService;
+
+    /**
+     * Get the published menu.
+     *
+     * A published version never changes, so its number is the ETag and clients that already hold
+     * it get 304 Not Modified.
+     *
+     * @return the published menu, or 404 if none has been published
+     */
+    @GetMapping
+    public ResponseEntity<PublishedMenuDto> getPublishedMenu(WebRequest request) {
+        PublishedMenuDto menu = menuPublicationService.getPublishedMenu();
+        String eTag = "\"" + menu.getVersion() + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(menu);
+    }
+
+    /**
+     * Get the published versions.
+     *
+     * @return the versions, newest first
+     */
+    @GetMapping("/versions")
+    public ResponseEntity<List<MenuVersionDto>> getVersions() {
+        return ResponseEntity.ok(menuPublicationService.getVersions());
+    }
+
+    /**
+     * Publish the current draft as a new version.
+     *
+     * @return the new version, now served
+     */
+    @PostMapping("/versions")
+    public ResponseEntity<MenuVersionDto> publish() {
+        return new ResponseEntity<>(menuPublicationService.publish(), HttpStatus.CREATED);
+    }
+
+    /**
+     * Serve a previously published version again, e.g. to roll back a publication.
+     *
+     * @param version the version number
+     * @return the version now served, or 404 if it was never published
+     */
+    @PostMapping("/versions/{version}/activate")
+    public ResponseEntity<MenuVersionDto> activate(@PathVariable int version) {
+        return ResponseEntity.ok(menuPublicationService.activate(version));
+    }
+}
@@ -0,0 +1,41 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.event.MenuEventBroadcaster;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+/**
+ * REST controller streaming the changes of the draft menu as Server-Sent Events.
+ */
+
+@RestController
+@RequestMapping("/api/draft/menu-events")
+@RequiredArgsConstructor
+public class MenuEventController {
+
+    private final MenuEventBroadcaster menuEventBroadcaster;
+
+    /**
+     * Subscribe to menu changes.
+     *
+     * @param categoryId only receive changes of these categories (all if omitted)
+     * @param restriction only receive menu items meeting all these restrictions (all if omitted)
+     * @return the event stream
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(required = false, defaultValue = "") Set<Long> categoryId,
+            @RequestParam(required = false, defaultValue = "") Set<DietaryRestriction> restriction
+    ) {
+        return menuEventBroadcaster.subscribe(TenantContext.getRestaurantId(), categoryId, restriction);
+    }
+}
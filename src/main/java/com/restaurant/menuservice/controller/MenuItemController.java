@@ -1,27 +1,57 @@
 package com.restaurant.menuservice.controller;
 
+import com.restaurant.menuservice.coalesce.MenuReadCoalescer;
+import com.restaurant.menuservice.dto.ImportReportDto;
 import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.MenuItemLookupDto;
+import com.restaurant.menuservice.dto.MenuItemLookupRequest;
+import com.restaurant.menuservice.dto.MenuItemSearchFilter;
+import com.restaurant.menuservice.dto.SearchHitDto;
+import com.restaurant.menuservice.dto.SimilarMenuItemDto;
+import com.restaurant.menuservice.dto.SuggestionDto;
+import com.restaurant.menuservice.exception.BadRequestException;
 import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.search.SuggestionTrie;
+import com.restaurant.menuservice.service.ImportFormat;
+import com.restaurant.menuservice.service.MenuImportService;
 import com.restaurant.menuservice.service.MenuItemService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 /**
- * REST controller for managing menu items.
+ * REST controller for managing the draft menu items.
+ *
+ * Every read here sees the draft, including edits not published yet; customers read the
+ * published menu items under /api/menu/items instead.
  */
 
 @RestController
-@RequestMapping("/api/menu-items")
+@RequestMapping("/api/draft/menu-items")
 @RequiredArgsConstructor
 public class MenuItemController {
 
+    private static final int MAX_LOOKUP_IDS = 500;
+    private static final int MAX_EXCLUDED_INGREDIENTS = 50;
+    private static final int MAX_PREFIX_LENGTH = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_SIMILAR_RESULTS = 50;
+
     private final MenuItemService menuItemService;
+    private final MenuImportService menuImportService;
+    private final MenuReadCoalescer menuReadCoalescer;
 
     /**
      * Get all menu items.
@@ -41,7 +71,42 @@ public class MenuItemController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<MenuItemDto> getMenuItemById(@PathVariable Long id) {
-        return ResponseEntity.ok(menuItemService.getMenuItemById(id));
+        return ResponseEntity.ok(menuReadCoalescer.getMenuItemById(id));
+    }
+
+    /**
+     * Look up several menu items at once, e.g. to validate an order.
+     *
+     * @param request the menu item IDs
+     * @return the menu items found, in request order, and the IDs that were not found
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<MenuItemLookupDto> lookupMenuItems(@Valid @RequestBody MenuItemLookupRequest request) {
+        return ResponseEntity.ok(menuItemService.getMenuItemsByIds(request.getIds()));
+    }
+
+    /**
+     * Look up several menu items at once, given as a comma-separated query parameter.
+     *
+     * @param ids the menu item IDs
+     * @return the menu items found, in request order, and the IDs that were not found
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MenuItemLookupDto> getMenuItemsByIds(@RequestParam List<Long> ids) {
+        checkLookupIds(ids);
+        return ResponseEntity.ok(menuItemService.getMenuItemsByIds(ids));
+    }
+
+    /**
+     * Get all menu items without any of the given ingredients, e.g. "everything without peanuts, shellfish or sesame".
+     *
+     * @param excludeIngredients the ingredients to exclude, as a comma-separated query parameter
+     * @return a list of the menu items containing none of the ingredients
+     */
+    @GetMapping(params = "excludeIngredients")
+    public ResponseEntity<List<MenuItemDto>> getMenuItemsExcludingIngredients(@RequestParam List<String> excludeIngredients) {
+        checkExcludedIngredients(excludeIngredients);
+        return ResponseEntity.ok(menuItemService.getMenuItemsExcludingIngredients(excludeIngredients));
     }
 
     /**
@@ -55,6 +120,26 @@ public class MenuItemController {
         return new ResponseEntity<>(menuItemService.createMenuItem(menuItemDto), HttpStatus.CREATED);
     }
 
+    /**
+     * Bulk import menu items from a CSV file, a JSON array or newline-delimited JSON.
+     *
+     * The upload is streamed; rows that cannot be imported are listed in the report.
+     *
+     * @param contentType text/csv, application/json or application/x-ndjson
+     * @param createCategories whether to create categories referenced by an unknown name
+     * @param body the upload
+     * @return the import report
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportReportDto> importMenuItems(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(defaultValue = "true") boolean createCategories,
+            InputStream body
+    ) {
+        ImportFormat format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv")) ? ImportFormat.CSV : ImportFormat.JSON;
+        return ResponseEntity.ok(menuImportService.importMenuItems(body, format, createCategories));
+    }
+
     /**
      * Update an existing menu item.
      *
@@ -90,17 +175,20 @@ public class MenuItemController {
      */
     @GetMapping("/by-category/{categoryId}")
     public ResponseEntity<List<MenuItemDto>> getMenuItemByCategory(@PathVariable Long categoryId) {
-        return ResponseEntity.ok(menuItemService.getMenuItemsByCategory(categoryId));
+        return ResponseEntity.ok(menuReadCoalescer.getMenuItemsByCategory(categoryId));
     }
 
     /**
-     * Get all available menu items.
+     * Get all menu items served at a point in time: available, and inside their own and their category's schedule.
      *
-     * @return a list of all available menu items
+     * @param at the point in time, e.g. 2025-06-02T12:30:00+02:00; now if not given
+     * @return a list of the menu items served at that time
      */
     @GetMapping("/available")
-    public ResponseEntity<List<MenuItemDto>> getAvailableMenuItems() {
-        return ResponseEntity.ok(menuItemService.getAvailableMenuItems());
+    public ResponseEntity<List<MenuItemDto>> getAvailableMenuItems(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime at
+    ) {
+        return ResponseEntity.ok(menuItemService.getAvailableMenuItems(at != null ? at.toInstant() : Instant.now()));
     }
 
     /**
@@ -131,6 +219,65 @@ public class MenuItemController {
         return ResponseEntity.ok(menuItemService.getMenuItemsByPriceRange(minPrice, maxPrice));
     }
 
+    /**
+     * Search menu items by name, description, category name and ingredients, best matches first.
+     *
+     * @param q the words to search for; a menu item matches any of them
+     * @param fuzzy whether to tolerate typos in names and ingredients, e.g. "carbonnara"
+     * @param available only menu items with this availability, if given
+     * @param minPrice the minimum price (inclusive), if given
+     * @param maxPrice the maximum price (inclusive), if given
+     * @param restriction only menu items meeting this dietary restriction, if given
+     * @param limit the maximum number of results
+     * @return the matching menu items with their relevance
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<SearchHitDto>> searchMenuItems(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) DietaryRestriction restriction,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        MenuItemSearchFilter filter = searchFilter(q, limit, available, minPrice, maxPrice, restriction);
+        return ResponseEntity.ok(menuItemService.searchMenuItems(q, fuzzy, filter, limit));
+    }
+
+    /**
+     * Get typeahead suggestions for a search box: menu item names and ingredients with a word starting with a prefix.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, most popular first
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> getSuggestions(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "" + SuggestionTrie.MAX_SUGGESTIONS) int limit
+    ) {
+        checkSuggestion(prefix, limit);
+        return ResponseEntity.ok(menuItemService.getSuggestions(prefix, limit));
+    }
+
+    /**
+     * Get substitutes for a menu item, e.g. when it runs out: available menu items with similar
+     * ingredients that meet at least its dietary restrictions.
+     *
+     * @param id the menu item ID
+     * @param limit the maximum number of results
+     * @return the similar menu items with their similarity, most similar first, or 404 if the menu item is not found
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarMenuItemDto>> getSimilarMenuItems(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        checkSimilarLimit(limit);
+        return ResponseEntity.ok(menuItemService.getSimilarMenuItems(id, limit));
+    }
+
     /**
      * Get all menu items that contain a specific ingredient.
      *
@@ -143,4 +290,49 @@ public class MenuItemController {
     ) {
         return ResponseEntity.ok(menuItemService.getMenuItemsByIngredient(ingredient));
     }
-}
\ No newline at end of file
+
+    // the checks below are shared with the published menu items
+
+    static void checkLookupIds(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_LOOKUP_IDS || ids.contains(null)) {
+            throw new BadRequestException("ids must list between 1 and " + MAX_LOOKUP_IDS + " menu item ids");
+        }
+    }
+
+    static void checkExcludedIngredients(List<String> excludeIngredients) {
+        if (excludeIngredients.isEmpty() || excludeIngredients.size() > MAX_EXCLUDED_INGREDIENTS
+                || excludeIngredients.stream().anyMatch(ingredient -> ingredient == null || ingredient.isBlank())) {
+            throw new BadRequestException("excludeIngredients must list between 1 and " + MAX_EXCLUDED_INGREDIENTS + " ingredients");
+        }
+    }
+
+    static MenuItemSearchFilter searchFilter(String q, int limit, Boolean available, BigDecimal minPrice, BigDecimal maxPrice,
+                                             DietaryRestriction restriction) {
+        if (q.isBlank() || q.length() > MAX_QUERY_LENGTH || limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new BadRequestException("q must have between 1 and " + MAX_QUERY_LENGTH
+                    + " characters and limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new BadRequestException("minPrice must not be greater than maxPrice");
+        }
+        return MenuItemSearchFilter.builder()
+                .available(available)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .restriction(restriction)
+                .build();
+    }
+
+    static void checkSuggestion(String prefix, int limit) {
+        if (prefix.isBlank() || prefix.length() > MAX_PREFIX_LENGTH || limit < 1 || limit > SuggestionTrie.MAX_SUGGESTIONS) {
+            throw new BadRequestException("prefix must have between 1 and " + MAX_PREFIX_LENGTH
+                    + " characters and limit must be between 1 and " + SuggestionTrie.MAX_SUGGESTIONS);
+        }
+    }
+
+    static void checkSimilarLimit(int limit) {
+        if (limit < 1 || limit > MAX_SIMILAR_RESULTS) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_SIMILAR_RESULTS);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.MenuItemLookupDto;
+import com.restaurant.menuservice.dto.SearchHitDto;
+import com.restaurant.menuservice.dto.SimilarMenuItemDto;
+import com.restaurant.menuservice.dto.SuggestionDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.search.SuggestionTrie;
+import com.restaurant.menuservice.service.PublishedMenuItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * REST controller for the menu items customers see.
+ *
+ * Every endpoint reads the published menu, so edits of the draft menu items show up here only
+ * once they are published; each answers 404 while no menu has been published.
+ */
+
+@RestController
+@RequestMapping("/api/menu/items")
+@RequiredArgsConstructor
+public class PublishedMenuItemController {
+
+    private final PublishedMenuItemService publishedMenuItemService;
+
+    /**
+     * Get all published menu items.
+     *
+     * @return a list of the menu items, in id order
+     */
+    @GetMapping
+    public ResponseEntity<List<MenuItemDto>> getAllMenuItems() {
+        return ResponseEntity.ok(publishedMenuItemService.getAllMenuItems());
+    }
+
+    /**
+     * Get a published menu item by its ID.
+     *
+     * @param id the menu item ID
+     * @return the menu item, or 404 if it is not on the published menu
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<MenuItemDto> getMenuItemById(@PathVariable Long id) {
+        return ResponseEntity.ok(publishedMenuItemService.getMenuItemById(id));
+    }
+
+    /**
+     * Look up several published menu items at once, given as a comma-separated query parameter.
+     *
+     * @param ids the menu item IDs
+     * @return the menu items found, in request order, and the IDs that are not on the published menu
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MenuItemLookupDto> getMenuItemsByIds(@RequestParam List<Long> ids) {
+        MenuItemController.checkLookupIds(ids);
+        return ResponseEntity.ok(publishedMenuItemService.getMenuItemsByIds(ids));
+    }
+
+    /**
+     * Get all published menu items without any of the given ingredients.
+     *
+     * @param excludeIngredients the ingredients to exclude, as a comma-separated query parameter
+     * @return a list of the menu items containing none of the ingredients
+     */
+    @GetMapping(params = "excludeIngredients")
+    public ResponseEntity<List<MenuItemDto>> getMenuItemsExcludingIngredients(@RequestParam List<String> excludeIngredients) {
+        MenuItemController.checkExcludedIngredients(excludeIngredients);
+        return ResponseEntity.ok(publishedMenuItemService.getMenuItemsExcludingIngredients(excludeIngredients));
+    }
+
+    /**
+     * Get all published menu items in a specific category.
+     *
+     * @param categoryId the category ID
+     * @return a list of menu items in the category, or 404 if it is not on the published menu
+     */
+    @GetMapping("/by-category/{categoryId}")
+    public ResponseEntity<List<MenuItemDto>> getMenuItemsByCategory(@PathVariable Long categoryId) {
+        return ResponseEntity.ok(publishedMenuItemService.getMenuItemsByCategory(categoryId));
+    }
+
+    /**
+     * Get all published menu items served at a point in time.
+     *
+     * @param at the point in time, e.g. 2025-06-02T12:30:00+02:00; now if not given
+     * @return a list of the menu items served at that time
+     */
+    @GetMapping("/available")
+    public ResponseEntity<List<MenuItemDto>> getAvailableMenuItems(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime at
+    ) {
+        return ResponseEntity.ok(publishedMenuItemService.getAvailableMenuItems(at != null ? at.toInstant() : Instant.now()));
+    }
+
+    /**
+     * Get all published menu items with a specific dietary restriction.
+     *
+     * @param restriction the dietary restriction to filter by
+     * @return a list of menu items that meet the dietary restriction
+     */
+    @GetMapping("/by-dietary-restriction")
+    public ResponseEntity<List<MenuItemDto>> getMenuItemsByDietaryRestriction(@RequestParam DietaryRestriction restriction) {
+        return ResponseEntity.ok(publishedMenuItemService.getMenuItemsByDietaryRestriction(restriction));
+    }
+
+    /**
+     * Get all published menu items within a price range.
+     *
+     * @param minPrice the minimum price (inclusive)
+     * @param maxPrice the maximum price (inclusive)
+     * @return a list of menu items within the price range
+     */
+    @GetMapping("/by-price-range")
+    public ResponseEntity<List<MenuItemDto>> getMenuItemsByPriceRange(
+            @RequestParam BigDecimal minPrice,
+            @RequestParam BigDecimal maxPrice
+    ) {
+        return ResponseEntity.ok(publishedMenuItemService.getMenuItemsByPriceRange(minPrice, maxPrice));
+    }
+
+    /**
+     * Search the published menu items by name, description, category name and ingredients, best matches first.
+     *
+     * @param q the words to search for; a menu item matches any of them
+     * @param fuzzy whether to tolerate typos in names and ingredients
+     * @param available only menu items with this availability, if given
+     * @param minPrice the minimum price (inclusive), if given
+     * @param maxPrice the maximum price (inclusive), if given
+     * @param restriction only menu items meeting this dietary restriction, if given
+     * @param limit the maximum number of results
+     * @return the matching menu items with their relevance
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<SearchHitDto>> searchMenuItems(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) DietaryRestriction restriction,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(publishedMenuItemService.searchMenuItems(q, fuzzy,
+                MenuItemController.searchFilter(q, limit, available, minPrice, maxPrice, restriction), limit));
+    }
+
+    /**
+     * Get typeahead suggestions from the published menu items.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, most popular first
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> getSuggestions(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "" + SuggestionTrie.MAX_SUGGESTIONS) int limit
+    ) {
+        MenuItemController.checkSuggestion(prefix, limit);
+        return ResponseEntity.ok(publishedMenuItemService.getSuggestions(prefix, limit));
+    }
+
+    /**
+     * Get available substitutes for a published menu item.
+     *
+     * @param id the menu item ID
+     * @param limit the maximum number of results
+     * @return the similar menu items with their similarity, or 404 if the menu item is not on the published menu
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarMenuItemDto>> getSimilarMenuItems(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        MenuItemController.checkSimilarLimit(limit);
+        return ResponseEntity.ok(publishedMenuItemService.getSimilarMenuItems(id, limit));
+    }
+
+    /**
+     * Get all published menu items that contain a specific ingredient.
+     *
+     * @param ingredient the ingredient to search for
+     * @return a list of menu items that contain the ingredient
+     */
+    @GetMapping("/by-ingredient")
+    public ResponseEntity<List<MenuItemDto>> getMenuItemsByIngredient(@RequestParam String ingredient) {
+        return ResponseEntity.ok(publishedMenuItemService.getMenuItemsByIngredient(ingredient));
+    }
+}
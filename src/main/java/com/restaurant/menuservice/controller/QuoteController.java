@@ -0,0 +1,35 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.dto.QuoteDto;
+import com.restaurant.menuservice.dto.QuoteRequest;
+import com.restaurant.menuservice.service.QuoteService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for pricing carts.
+ */
+
+@RestController
+@RequestMapping("/api/quotes")
+@RequiredArgsConstructor
+public class QuoteController {
+
+    private final QuoteService quoteService;
+
+    /**
+     * Price a cart with the published menu.
+     *
+     * @param request the cart lines (menu item ID and quantity)
+     * @return the line totals and the cart total, or 404 if no menu has been published
+     */
+    @PostMapping
+    public ResponseEntity<QuoteDto> quote(@Valid @RequestBody QuoteRequest request) {
+        return ResponseEntity.ok(quoteService.quote(request));
+    }
+}
@@ -1,5 +1,6 @@
 package com.restaurant.menuservice.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * DTO (Data Transfer Object) for Category.
  *
@@ -28,4 +32,8 @@ public class CategoryDto {
 
     @Size(max = 255, message = "Description cannot exceed 255 characters")
     private String description;
+
+    @Valid
+    @Builder.Default
+    private List<ScheduleWindowDto> schedule = new ArrayList<>();
 }
@@ -0,0 +1,36 @@
+package com.restaurant.menuservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a single entry of the change feed.
+ *
+ * Upserts carry the current state of the entity in {@code category} or {@code menuItem},
+ * deletes only carry the entity id.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeDto {
+
+    private Long seq;
+
+    private ChangeEntityType entityType;
+
+    private ChangeOperation operation;
+
+    private Long entityId;
+
+    private CategoryDto category;
+
+    private MenuItemDto menuItem;
+}
@@ -0,0 +1,37 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a page of the change feed.
+ *
+ * Clients store {@code nextSince} and pass it as {@code since} on their next call.
+ * When {@code resyncRequired} is true the changes the client missed have been
+ * compacted away, so it must reload the full menu and resume from {@code nextSince}.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedDto {
+
+    private long since;
+
+    private long nextSince;
+
+    private long latestSeq;
+
+    private boolean resyncRequired;
+
+    private boolean hasMore;
+
+    @Builder.Default
+    private List<ChangeDto> changes = new ArrayList<>();
+}
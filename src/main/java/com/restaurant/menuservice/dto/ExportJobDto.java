@@ -0,0 +1,45 @@
+package com.restaurant.menuservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.restaurant.menuservice.export.ExportFormat;
+import com.restaurant.menuservice.export.ExportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the status and progress of an export job.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExportJobDto {
+
+    private String id;
+
+    private ExportFormat format;
+
+    private ExportStatus status;
+
+    // number of menu items to export, known once the job has started
+    private long totalRows;
+
+    private long rowsWritten;
+
+    private long sizeBytes;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    private String error;
+
+    // where to download the file once the export is completed
+    private String downloadUrl;
+}
@@ -0,0 +1,46 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a menu import.
+ *
+ * Rows are numbered from 1 in upload order, not counting the CSV header line. Only the first
+ * errors are listed, see {@code errorsTruncated}.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDto {
+
+    private long rowsRead;
+
+    private long imported;
+
+    private long failed;
+
+    private int categoriesCreated;
+
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        private long row;
+
+        private String message;
+    }
+}
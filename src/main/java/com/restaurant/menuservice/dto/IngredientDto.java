@@ -0,0 +1,23 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an entry of the ingredient dictionary.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngredientDto {
+
+    private Long id;
+    private String name;
+
+    // number of menu items listing this ingredient
+    private long menuItemCount;
+}
@@ -0,0 +1,26 @@
+package com.restaurant.menuservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for merging ingredients into another one, e.g. "Mozzarella di bufala" and "Buffalo mozzarella".
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngredientMergeRequest {
+
+    @NotEmpty(message = "At least one source ingredient is required")
+    @Size(max = 100, message = "At most 100 ingredients can be merged at once")
+    private List<@NotNull(message = "Ids must not be null") Long> sourceIds;
+}
@@ -1,6 +1,7 @@
 package com.restaurant.menuservice.dto;
 
 import com.restaurant.menuservice.model.DietaryRestriction;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +9,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -37,6 +40,7 @@ public class MenuItemDto {
     @Digits(integer = 8, fraction = 2, message = "Price must have max 8 integer digits and 2 decimal digits")
     private BigDecimal price;
 
+    @Builder.Default
     private boolean available = true;
 
     @NotNull(message = "Category ID is required")
@@ -44,7 +48,13 @@ public class MenuItemDto {
 
     private String categoryName;
 
+    @Builder.Default
     private Set<DietaryRestriction> dietaryRestrictions = new HashSet<>();
 
+    @Builder.Default
     private Set<String> ingredients = new HashSet<>();
+
+    @Valid
+    @Builder.Default
+    private List<ScheduleWindowDto> schedule = new ArrayList<>();
 }
\ No newline at end of file
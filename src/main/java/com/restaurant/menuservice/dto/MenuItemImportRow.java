@@ -0,0 +1,39 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One row of a menu import, as read from a CSV line or a JSON object.
+ *
+ * Values are kept as text so that a malformed value is reported against its row instead of
+ * aborting the whole upload. The category is given either by id or by name; categories given
+ * by name are created when they don't exist yet.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemImportRow {
+
+    private String name;
+
+    private String description;
+
+    private String price;
+
+    private String available;
+
+    private String categoryId;
+
+    private String category;
+
+    private List<String> dietaryRestrictions;
+
+    private List<String> ingredients;
+}
@@ -0,0 +1,27 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the result of a batch lookup: the menu items found, in request order,
+ * and the requested ids that don't exist in the restaurant.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemLookupDto {
+
+    @Builder.Default
+    private List<MenuItemDto> items = new ArrayList<>();
+
+    @Builder.Default
+    private List<Long> missing = new ArrayList<>();
+}
@@ -0,0 +1,26 @@
+package com.restaurant.menuservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for looking up several menu items at once.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemLookupRequest {
+
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 500, message = "At most 500 ids can be looked up at once")
+    private List<@NotNull(message = "Ids must not be null") Long> ids;
+}
@@ -0,0 +1,35 @@
+package com.restaurant.menuservice.dto;
+
+import com.restaurant.menuservice.model.DietaryRestriction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Filters narrowing a full-text search; a null field does not filter.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemSearchFilter {
+
+    private Boolean available;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private DietaryRestriction restriction;
+
+    /**
+     * Check whether a menu item passes all filters.
+     */
+    public boolean matches(MenuItemDto menuItem) {
+        return (available == null || menuItem.isAvailable() == available)
+                && (minPrice == null || menuItem.getPrice().compareTo(minPrice) >= 0)
+                && (maxPrice == null || menuItem.getPrice().compareTo(maxPrice) <= 0)
+                && (restriction == null || menuItem.getDietaryRestrictions().contains(restriction));
+    }
+}
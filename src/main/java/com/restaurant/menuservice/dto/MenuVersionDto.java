@@ -0,0 +1,30 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO summarizing a published menu version.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuVersionDto {
+
+    private int version;
+
+    private LocalDateTime publishedAt;
+
+    private int categoryCount;
+
+    private int menuItemCount;
+
+    // Whether the public menu currently serves this version
+    private boolean active;
+}
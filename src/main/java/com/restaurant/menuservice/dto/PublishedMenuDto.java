@@ -0,0 +1,31 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a published version of a restaurant's menu, as served to customers.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublishedMenuDto {
+
+    private int version;
+
+    private LocalDateTime publishedAt;
+
+    @Builder.Default
+    private List<CategoryDto> categories = new ArrayList<>();
+
+    @Builder.Default
+    private List<MenuItemDto> menuItems = new ArrayList<>();
+}
@@ -0,0 +1,54 @@
+package com.restaurant.menuservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for a priced cart.
+ *
+ * The total only includes lines that can be ordered; {@code complete} is false when any line
+ * refers to a missing or unavailable menu item.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteDto {
+
+    private List<Line> lines;
+
+    private BigDecimal total;
+
+    private boolean complete;
+
+    public enum LineStatus {
+        OK,
+        UNAVAILABLE,
+        NOT_FOUND
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Line {
+
+        private Long itemId;
+
+        private int quantity;
+
+        private LineStatus status;
+
+        private BigDecimal unitPrice;
+
+        private BigDecimal lineTotal;
+    }
+}
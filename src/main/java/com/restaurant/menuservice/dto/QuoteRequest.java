@@ -0,0 +1,44 @@
+package com.restaurant.menuservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a cart to be priced.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequest {
+
+    @NotEmpty(message = "At least one line is required")
+    @Size(max = 10000, message = "A cart can have at most 10000 lines")
+    private List<@Valid @NotNull Line> lines;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+
+        @NotNull(message = "Item ID is required")
+        @Positive(message = "Item ID must be positive")
+        private Long itemId;
+
+        @Min(value = 1, message = "Quantity must be at least 1")
+        @Max(value = 1000, message = "Quantity must not exceed 1000")
+        private int quantity;
+    }
+}
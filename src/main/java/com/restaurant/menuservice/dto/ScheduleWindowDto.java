@@ -0,0 +1,44 @@
+package com.restaurant.menuservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * DTO for a recurring time window in which a category or menu item is served.
+ *
+ * A window ending at or before its start runs past midnight, e.g. 22:00 to 02:00.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleWindowDto {
+
+    // days the window starts on; empty means every day
+    @Builder.Default
+    private Set<DayOfWeek> days = new HashSet<>();
+
+    @NotNull(message = "Start time is required")
+    private LocalTime start;
+
+    @NotNull(message = "End time is required")
+    private LocalTime end;
+
+    // first and last day of the window, both optional and inclusive
+    private LocalDate from;
+
+    private LocalDate until;
+
+    // zone of the times and dates, e.g. Europe/Rome; UTC if not given
+    private String timeZone;
+}
@@ -0,0 +1,22 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a menu item matching a full-text search.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDto {
+
+    private MenuItemDto menuItem;
+
+    // BM25 relevance; only comparable within the same search
+    private double score;
+}
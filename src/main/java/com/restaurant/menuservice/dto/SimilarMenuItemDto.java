@@ -0,0 +1,22 @@
+package com.restaurant.menuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a menu item that could replace another one.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarMenuItemDto {
+
+    private MenuItemDto menuItem;
+
+    // Jaccard similarity of the ingredients, from 0 to 1
+    private double similarity;
+}
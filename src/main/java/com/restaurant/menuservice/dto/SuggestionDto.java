@@ -0,0 +1,24 @@
+package com.restaurant.menuservice.dto;
+
+import com.restaurant.menuservice.search.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a typeahead suggestion.
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+
+    private String text;
+    private SuggestionType type;
+
+    // number of menu items with this name or ingredient
+    private long score;
+}
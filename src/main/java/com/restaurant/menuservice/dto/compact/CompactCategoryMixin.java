@@ -0,0 +1,24 @@
+package com.restaurant.menuservice.dto.compact;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.restaurant.menuservice.dto.ScheduleWindowDto;
+
+import java.util.List;
+
+/**
+ * Jackson mix-in describing the compact wire schema of {@link com.restaurant.menuservice.dto.CategoryDto}.
+ */
+public abstract class CompactCategoryMixin {
+
+    @JsonProperty("i")
+    private Long id;
+
+    @JsonProperty("n")
+    private String name;
+
+    @JsonProperty("d")
+    private String description;
+
+    @JsonProperty("s")
+    private List<ScheduleWindowDto> schedule;
+}
@@ -0,0 +1,55 @@
+package com.restaurant.menuservice.dto.compact;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.restaurant.menuservice.dto.ScheduleWindowDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Jackson mix-in describing the compact wire schema of {@link com.restaurant.menuservice.dto.MenuItemDto}.
+ *
+ * Only registered on the binary (CBOR/Smile) mappers, so the JSON contract is unchanged.
+ * Field names are shortened, the price travels as integer cents and the dietary
+ * restrictions as a bitmask.
+ */
+public abstract class CompactMenuItemMixin {
+
+    @JsonProperty("i")
+    private Long id;
+
+    @JsonProperty("n")
+    private String name;
+
+    @JsonProperty("d")
+    private String description;
+
+    @JsonProperty("p")
+    @JsonSerialize(using = PriceCentsSerializer.class)
+    @JsonDeserialize(using = PriceCentsDeserializer.class)
+    private BigDecimal price;
+
+    @JsonProperty("a")
+    private boolean available;
+
+    @JsonProperty("c")
+    private Long categoryId;
+
+    @JsonProperty("cn")
+    private String categoryName;
+
+    @JsonProperty("r")
+    @JsonSerialize(using = DietaryRestrictionMaskSerializer.class)
+    @JsonDeserialize(using = DietaryRestrictionMaskDeserializer.class)
+    private Set<DietaryRestriction> dietaryRestrictions;
+
+    @JsonProperty("g")
+    private Set<String> ingredients;
+
+    @JsonProperty("s")
+    private List<ScheduleWindowDto> schedule;
+}
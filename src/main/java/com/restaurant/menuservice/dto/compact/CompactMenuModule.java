@@ -0,0 +1,20 @@
+package com.restaurant.menuservice.dto.compact;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+
+/**
+ * Jackson module applying the compact menu schema to the DTOs.
+ *
+ * Registered only on the binary mappers built in
+ * {@link com.restaurant.menuservice.config.CompactEncodingConfig}.
+ */
+public class CompactMenuModule extends SimpleModule {
+
+    public CompactMenuModule() {
+        super("CompactMenuModule");
+        setMixInAnnotation(MenuItemDto.class, CompactMenuItemMixin.class);
+        setMixInAnnotation(CategoryDto.class, CompactCategoryMixin.class);
+    }
+}
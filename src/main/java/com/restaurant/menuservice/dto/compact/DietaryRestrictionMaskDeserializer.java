@@ -0,0 +1,24 @@
+package com.restaurant.menuservice.dto.compact;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.restaurant.menuservice.model.DietaryRestriction;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Reads a bitmask written by {@link DietaryRestrictionMaskSerializer} back into a set of restrictions.
+ */
+public class DietaryRestrictionMaskDeserializer extends StdDeserializer<Set<DietaryRestriction>> {
+
+    public DietaryRestrictionMaskDeserializer() {
+        super(Set.class);
+    }
+
+    @Override
+    public Set<DietaryRestriction> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return DietaryRestriction.fromMask(parser.getIntValue());
+    }
+}
@@ -0,0 +1,25 @@
+package com.restaurant.menuservice.dto.compact;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.restaurant.menuservice.model.DietaryRestriction;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Writes a set of dietary restrictions as a single int bitmask.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class DietaryRestrictionMaskSerializer extends StdSerializer<Set<DietaryRestriction>> {
+
+    public DietaryRestrictionMaskSerializer() {
+        super((Class<Set<DietaryRestriction>>) (Class) Set.class);
+    }
+
+    @Override
+    public void serialize(Set<DietaryRestriction> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(DietaryRestriction.toMask(value));
+    }
+}
@@ -0,0 +1,23 @@
+package com.restaurant.menuservice.dto.compact;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads a price written by {@link PriceCentsSerializer} back into a two-decimal BigDecimal.
+ */
+public class PriceCentsDeserializer extends StdDeserializer<BigDecimal> {
+
+    public PriceCentsDeserializer() {
+        super(BigDecimal.class);
+    }
+
+    @Override
+    public BigDecimal deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return BigDecimal.valueOf(parser.getLongValue(), 2);
+    }
+}
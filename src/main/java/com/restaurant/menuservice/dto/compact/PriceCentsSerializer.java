@@ -0,0 +1,23 @@
+package com.restaurant.menuservice.dto.compact;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Writes a price as a whole number of cents (e.g. 8.95 becomes 895).
+ */
+public class PriceCentsSerializer extends StdSerializer<BigDecimal> {
+
+    public PriceCentsSerializer() {
+        super(BigDecimal.class);
+    }
+
+    @Override
+    public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(value.movePointRight(2).longValueExact());
+    }
+}
@@ -0,0 +1,18 @@
+package com.restaurant.menuservice.event;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Application event published when entries are added to or removed from a restaurant's
+ * ingredient dictionary.
+ *
+ * Published inside the mutating transaction; listeners use {@code @TransactionalEventListener}
+ * so they only see committed entries.
+ *
+ * @param restaurantId the restaurant whose dictionary changed
+ * @param added the normalized names of the added ingredients, by id
+ * @param removed the ids of the removed ingredients
+ */
+public record IngredientChangeEvent(Long restaurantId, Map<Long, String> added, Collection<Long> removed) {
+}
@@ -0,0 +1,26 @@
+package com.restaurant.menuservice.event;
+
+import com.restaurant.menuservice.dto.ChangeDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+
+/**
+ * Application event published for every recorded menu change.
+ *
+ * Published inside the mutating transaction; listeners that push changes to clients
+ * should use {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param restaurantId the restaurant whose menu changed
+ * @param change the recorded change, carrying the entity state (the last known state for deletes)
+ * @param type whether the entity was created, updated or deleted
+ * @param previousMenuItem the menu item state before an update, or null when unknown
+ */
+public record MenuChangeEvent(Long restaurantId, ChangeDto change, MenuEventType type, MenuItemDto previousMenuItem) {
+
+    /**
+     * Whether this event flipped the availability of a menu item (e.g. an item being 86'd).
+     */
+    public boolean isAvailabilityChange() {
+        return previousMenuItem != null && change.getMenuItem() != null
+                && previousMenuItem.isAvailable() != change.getMenuItem().isAvailable();
+    }
+}
@@ -0,0 +1,174 @@
+package com.restaurant.menuservice.event;
+
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed menu changes to Server-Sent Events subscribers.
+ *
+ * Subscribers hold an async servlet response rather than a thread, so idle connections
+ * only cost their buffer; a small dispatcher pool writes the buffered events. A subscriber
+ * whose send outlasts {@code menu.events.write-timeout} is disconnected, and its thread is
+ * handed off: the pool grows by one until the stalled send returns, so slow clients never
+ * take the dispatcher threads away from the others.
+ * Event names are {@code category-created|updated|deleted}, {@code menu-item-created|updated|deleted}
+ * and {@code menu-item-availability}; the event id is the change log sequence number, so a
+ * reconnecting client can catch up with {@code GET /api/draft/changes?since=<last event id>}.
+ */
+@Component
+public class MenuEventBroadcaster {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final Set<MenuSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    // aborted subscribers whose send has not returned yet, each holding a dispatcher thread
+    private final Set<MenuSubscription> stalled = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor dispatcher;
+    private final int dispatchThreads;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Duration writeTimeout;
+
+    public MenuEventBroadcaster(
+            @Value("${menu.events.buffer-size:256}") int bufferSize,
+            @Value("${menu.events.timeout:PT30M}") Duration timeout,
+            @Value("${menu.events.dispatch-threads:4}") int dispatchThreads,
+            @Value("${menu.events.write-timeout:PT10S}") Duration writeTimeout
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.dispatchThreads = dispatchThreads;
+        this.writeTimeout = writeTimeout;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "menu-events-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Register a new subscriber.
+     *
+     * @param restaurantId the restaurant whose changes are pushed
+     * @param categoryIds only push changes of these categories (empty for all)
+     * @param restrictions only push menu items meeting all these restrictions (empty for all)
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(Long restaurantId, Set<Long> categoryIds, Set<DietaryRestriction> restrictions) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        MenuSubscription subscription = new MenuSubscription(emitter, restaurantId, categoryIds, restrictions, bufferSize);
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(ex -> remove(subscription));
+
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    /**
+     * Get the number of connected subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Fan a committed change out to the matching subscribers.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+
+        // built once and shared: the builder itself must not be sent concurrently
+        Set<ResponseBodyEmitter.DataWithMediaType> sseEvent = SseEmitter.event()
+                .id(String.valueOf(event.change().getSeq()))
+                .name(eventName(event))
+                .data(event.change(), MediaType.APPLICATION_JSON)
+                .build();
+
+        for (MenuSubscription subscription : subscriptions) {
+            if (subscription.matches(event)) {
+                subscription.offer(sseEvent, dispatcher);
+            }
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies and detect clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${menu.events.heartbeat-interval:PT20S}")
+    public void heartbeat() {
+        subscriptions.forEach(subscription -> subscription.offer(HEARTBEAT, dispatcher));
+    }
+
+    /**
+     * Disconnect the subscribers whose send has outlasted the write timeout, and size the
+     * dispatcher pool so the threads stuck in their sends do not count against it.
+     */
+    @Scheduled(fixedDelayString = "${menu.events.write-timeout:PT10S}")
+    public void abortStalledSends() {
+        long now = System.nanoTime();
+        for (MenuSubscription subscription : subscriptions) {
+            if (subscription.abortIfStalled(now, writeTimeout.toNanos())) {
+                stalled.add(subscription);
+            }
+        }
+        stalled.removeIf(subscription -> !subscription.isSending());
+
+        int size = dispatchThreads + stalled.size();
+        if (size > dispatcher.getMaximumPoolSize()) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else if (size < dispatcher.getMaximumPoolSize()) {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(subscription -> {
+            subscription.close();
+            subscription.getEmitter().complete();
+        });
+        dispatcher.shutdownNow();
+    }
+
+    private void remove(MenuSubscription subscription) {
+        subscription.close();
+        subscriptions.remove(subscription);
+    }
+
+    private static String eventName(MenuChangeEvent event) {
+        if (event.change().getEntityType() == ChangeEntityType.CATEGORY) {
+            return "category-" + event.type().name().toLowerCase();
+        }
+        if (event.isAvailabilityChange()) {
+            return "menu-item-availability";
+        }
+        return "menu-item-" + event.type().name().toLowerCase();
+    }
+}
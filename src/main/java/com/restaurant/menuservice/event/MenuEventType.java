@@ -0,0 +1,10 @@
+package com.restaurant.menuservice.event;
+
+/**
+ * What happened to the entity of a {@link MenuChangeEvent}.
+ */
+public enum MenuEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,17 @@
+package com.restaurant.menuservice.event;
+
+import com.restaurant.menuservice.dto.PublishedMenuDto;
+
+/**
+ * Application event published when a restaurant's public menu switches to another version,
+ * by a publication or a rollback.
+ *
+ * Published inside the switching transaction; listeners should use
+ * {@code @TransactionalEventListener} so they only serve committed versions.
+ *
+ * @param restaurantId the restaurant whose public menu switched
+ * @param activation the switch number, increasing with every switch of the restaurant
+ * @param menu the menu now served
+ */
+public record MenuPublishedEvent(Long restaurantId, long activation, PublishedMenuDto menu) {
+}
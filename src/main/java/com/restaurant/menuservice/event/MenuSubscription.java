@@ -0,0 +1,184 @@
+package com.restaurant.menuservice.event;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A single Server-Sent Events subscriber with its filters and bounded event buffer.
+ *
+ * Events are offered by the committing thread and written by a shared dispatcher pool,
+ * at most one drain task per subscriber at a time. A subscriber that lets its buffer
+ * fill up is sent a final {@code resync} event and disconnected: it must reload
+ * through {@code GET /api/draft/changes} instead of receiving a partial stream.
+ *
+ * A send blocks while the client does not read. A send running longer than the write timeout
+ * is aborted: the subscriber is closed, its emitter completed with an error and the sending
+ * thread interrupted, so a slow client cannot hold a dispatcher thread for long.
+ */
+class MenuSubscription {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> RESYNC =
+            SseEmitter.event().name("resync").data("buffer overflow").build();
+
+    private final SseEmitter emitter;
+    private final Long restaurantId;
+    private final Set<Long> categoryIds;
+    private final int restrictionMask;
+    private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile boolean overflowed;
+    private volatile boolean closed;
+
+    // the thread sending an event and since when, guarded by sendLock
+    private final Object sendLock = new Object();
+    private Thread sender;
+    private long sendStarted;
+
+    MenuSubscription(SseEmitter emitter, Long restaurantId, Set<Long> categoryIds, Set<DietaryRestriction> restrictions, int bufferSize) {
+        this.emitter = emitter;
+        this.restaurantId = restaurantId;
+        this.categoryIds = categoryIds;
+        this.restrictionMask = DietaryRestriction.toMask(restrictions);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    /**
+     * Whether the event is relevant to this subscriber's restaurant, category and restriction filters.
+     * Menu item updates also match when the previous state matched, so subscribers
+     * learn about items leaving their view.
+     */
+    boolean matches(MenuChangeEvent event) {
+        if (!restaurantId.equals(event.restaurantId())) {
+            return false;
+        }
+        if (event.change().getEntityType() == ChangeEntityType.CATEGORY) {
+            return categoryIds.isEmpty() || categoryIds.contains(event.change().getEntityId());
+        }
+        return matches(event.change().getMenuItem()) || matches(event.previousMenuItem());
+    }
+
+    private boolean matches(MenuItemDto menuItem) {
+        if (menuItem == null) {
+            return false;
+        }
+        boolean categoryMatches = categoryIds.isEmpty() || categoryIds.contains(menuItem.getCategoryId());
+        int mask = DietaryRestriction.toMask(menuItem.getDietaryRestrictions());
+        return categoryMatches && (mask & restrictionMask) == restrictionMask;
+    }
+
+    /**
+     * Buffer an already built event and make sure a drain task is scheduled.
+     * Never blocks: when the buffer is full the subscriber is switched to resync.
+     */
+    void offer(Set<ResponseBodyEmitter.DataWithMediaType> event, Executor dispatcher) {
+        if (closed || overflowed) {
+            return;
+        }
+        if (!buffer.offer(event)) {
+            overflowed = true;
+            buffer.clear();
+        }
+        scheduleDrain(dispatcher);
+    }
+
+    private void scheduleDrain(Executor dispatcher) {
+        if (draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(dispatcher));
+        }
+    }
+
+    private void drain(Executor dispatcher) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while (!closed && (event = buffer.poll()) != null) {
+                send(event);
+            }
+            if (overflowed && !closed) {
+                send(RESYNC);
+                close();
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // the client went away, or the send was aborted; the emitter callbacks remove the subscription
+            if (!closed) {
+                close();
+                emitter.completeWithError(ex);
+            }
+        } finally {
+            draining.set(false);
+        }
+
+        // an event, or an overflow, may have been offered after the last poll but before the flag was reset
+        if (!closed && (overflowed || !buffer.isEmpty())) {
+            scheduleDrain(dispatcher);
+        }
+    }
+
+    private void send(Set<ResponseBodyEmitter.DataWithMediaType> event) throws IOException {
+        synchronized (sendLock) {
+            sender = Thread.currentThread();
+            sendStarted = System.nanoTime();
+        }
+        try {
+            emitter.send(event);
+        } finally {
+            synchronized (sendLock) {
+                sender = null;
+                // an abort racing the end of the send must not reach the thread's next task
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * Whether an event is being sent to this subscriber right now.
+     */
+    boolean isSending() {
+        synchronized (sendLock) {
+            return sender != null;
+        }
+    }
+
+    /**
+     * Abort the send in progress if it has been running for longer than the write timeout.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @param writeTimeoutNanos the write timeout
+     * @return whether the subscriber was aborted
+     */
+    boolean abortIfStalled(long now, long writeTimeoutNanos) {
+        synchronized (sendLock) {
+            if (closed || sender == null || now - sendStarted < writeTimeoutNanos) {
+                return false;
+            }
+            close();
+            sender.interrupt();
+        }
+        emitter.completeWithError(new IOException("write timed out"));
+        return true;
+    }
+}
@@ -5,12 +5,13 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 /**
  * Exception thrown when the request is malformed or contains invalid data.
+ * It reports a client error, so no stack trace is captured.
  */
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class BadRequestException extends RuntimeException {
 
     public BadRequestException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
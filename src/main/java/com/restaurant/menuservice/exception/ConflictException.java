@@ -0,0 +1,17 @@
+package com.restaurant.menuservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a request lost a race with a concurrent one and can simply be retried.
+ * The client did nothing wrong, so no stack trace is captured.
+ */
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -9,16 +9,18 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  *
  * The @ResponseStatus annotation causes Spring to respond with the specified HTTP status code
  * whenever this exception is thrown from a controller.
+ *
+ * Misses are an expected outcome (e.g. clients probing random ids), so no stack trace is captured.
  */
 
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public ResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
-        super(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue));
+        this(resourceName + " not found with " + fieldName + ": '" + fieldValue + "'");
     }
 }
@@ -0,0 +1,178 @@
+package com.restaurant.menuservice.export;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column-oriented binary export, laid out like a much simplified Parquet file.
+ *
+ * Rows are grouped into row groups of {@value #ROW_GROUP_SIZE} rows; within a group each
+ * column is stored contiguously so readers can load only the columns they need. All values
+ * are big-endian:
+ * <pre>
+ *   file      = magic "MCOL", int version, int column count, column names, row group*, footer
+ *   row group = int row count, then per column: int byte length, column bytes
+ *   footer    = long offset of each row group, int row group count, long row count,
+ *               int footer length (up to and including this field), magic "MCOL"
+ * </pre>
+ * Column encodings: id and categoryId as longs (0 for none), name, description and
+ * categoryName as strings, price as long cents, available as a bitmap, dietaryRestrictions
+ * as an int bit mask of {@link DietaryRestriction#mask()} and ingredients as an int count
+ * followed by strings. Strings are an int UTF-8 byte length (-1 for null) and the bytes.
+ */
+class ColumnarExportWriter implements ExportWriter {
+
+    static final int MAGIC = 0x4D434F4C;
+    static final int VERSION = 1;
+    static final int ROW_GROUP_SIZE = 4096;
+
+    private static final String[] COLUMNS = {
+            "id", "name", "description", "price", "available", "categoryId", "categoryName",
+            "dietaryRestrictions", "ingredients"
+    };
+
+    private final DataOutputStream out;
+    private final List<MenuItemDto> rowGroup = new ArrayList<>(ROW_GROUP_SIZE);
+    private final List<Long> rowGroupOffsets = new ArrayList<>();
+    private final ByteArrayOutputStream columnBytes = new ByteArrayOutputStream();
+    private final DataOutputStream column = new DataOutputStream(columnBytes);
+    private long position;
+    private long rowCount;
+
+    ColumnarExportWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        writeInt(MAGIC);
+        writeInt(VERSION);
+        writeInt(COLUMNS.length);
+        for (String name : COLUMNS) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            writeBytes(bytes);
+        }
+    }
+
+    @Override
+    public void write(MenuItemDto menuItem) throws IOException {
+        rowGroup.add(menuItem);
+        if (rowGroup.size() == ROW_GROUP_SIZE) {
+            flushRowGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        flushRowGroup();
+
+        long footerStart = position;
+        for (long offset : rowGroupOffsets) {
+            writeLong(offset);
+        }
+        writeInt(rowGroupOffsets.size());
+        writeLong(rowCount);
+        writeInt((int) (position - footerStart) + Integer.BYTES);
+        writeInt(MAGIC);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (rowGroup.isEmpty()) {
+            return;
+        }
+        rowGroupOffsets.add(position);
+        writeInt(rowGroup.size());
+
+        for (MenuItemDto row : rowGroup) {
+            column.writeLong(row.getId() != null ? row.getId() : 0);
+        }
+        writeColumn();
+        for (MenuItemDto row : rowGroup) {
+            writeString(row.getName());
+        }
+        writeColumn();
+        for (MenuItemDto row : rowGroup) {
+            writeString(row.getDescription());
+        }
+        writeColumn();
+        for (MenuItemDto row : rowGroup) {
+            column.writeLong(row.getPrice().movePointRight(2).longValueExact());
+        }
+        writeColumn();
+        for (int i = 0; i < rowGroup.size(); i += 8) {
+            int bits = 0;
+            for (int bit = 0; bit < 8 && i + bit < rowGroup.size(); bit++) {
+                if (rowGroup.get(i + bit).isAvailable()) {
+                    bits |= 1 << bit;
+                }
+            }
+            column.writeByte(bits);
+        }
+        writeColumn();
+        for (MenuItemDto row : rowGroup) {
+            column.writeLong(row.getCategoryId() != null ? row.getCategoryId() : 0);
+        }
+        writeColumn();
+        for (MenuItemDto row : rowGroup) {
+            writeString(row.getCategoryName());
+        }
+        writeColumn();
+        for (MenuItemDto row : rowGroup) {
+            column.writeInt(DietaryRestriction.toMask(row.getDietaryRestrictions()));
+        }
+        writeColumn();
+        for (MenuItemDto row : rowGroup) {
+            column.writeInt(row.getIngredients().size());
+            for (String ingredient : row.getIngredients()) {
+                writeString(ingredient);
+            }
+        }
+        writeColumn();
+
+        rowCount += rowGroup.size();
+        rowGroup.clear();
+    }
+
+    private void writeColumn() throws IOException {
+        writeInt(columnBytes.size());
+        columnBytes.writeTo(out);
+        position += columnBytes.size();
+        columnBytes.reset();
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            column.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        column.writeInt(bytes.length);
+        column.write(bytes);
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.writeInt(value);
+        position += Integer.BYTES;
+    }
+
+    private void writeLong(long value) throws IOException {
+        out.writeLong(value);
+        position += Long.BYTES;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        out.write(bytes);
+        position += bytes.length;
+    }
+}
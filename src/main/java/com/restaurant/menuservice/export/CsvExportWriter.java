@@ -0,0 +1,58 @@
+package com.restaurant.menuservice.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.restaurant.menuservice.dto.MenuItemDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * CSV export. Multi-valued columns separate their values with '|', as the import expects.
+ * Schedules do not fit a flat row and are left out, as they are from the import.
+ */
+class CsvExportWriter implements ExportWriter {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+            .build();
+
+    private static final CsvSchema SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("name")
+            .addColumn("description")
+            .addColumn("price")
+            .addColumn("available")
+            .addColumn("categoryId")
+            .addColumn("categoryName")
+            .addArrayColumn("dietaryRestrictions", "|")
+            .addArrayColumn("ingredients", "|")
+            .setUseHeader(true)
+            .build();
+
+    private final SequenceWriter rows;
+
+    CsvExportWriter(OutputStream out) throws IOException {
+        this.rows = CSV_MAPPER.writer(SCHEMA)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .writeValues(out);
+    }
+
+    @Override
+    public void write(MenuItemDto menuItem) throws IOException {
+        rows.write(menuItem);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        rows.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
@@ -0,0 +1,50 @@
+package com.restaurant.menuservice.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Supported menu export formats.
+ */
+public enum ExportFormat {
+
+    // comma-separated values with a header line, in the same layout the import accepts
+    CSV("text/csv", "csv"),
+    // one JSON menu item per line
+    NDJSON("application/x-ndjson", "ndjson"),
+    // column-oriented binary row groups for analytics tools, see ColumnarExportWriter
+    COLUMNAR("application/octet-stream", "mcol");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Open a writer of this format.
+     *
+     * @param out the stream to write to, closed with the writer
+     * @param objectMapper the mapper used for JSON output
+     */
+    public ExportWriter open(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvExportWriter(out);
+            case NDJSON -> new NdjsonExportWriter(out, objectMapper);
+            case COLUMNAR -> new ColumnarExportWriter(out);
+        };
+    }
+}
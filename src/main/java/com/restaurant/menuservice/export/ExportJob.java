@@ -0,0 +1,46 @@
+package com.restaurant.menuservice.export;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.Future;
+
+/**
+ * State of an export, shared between the worker writing it and the requests polling it.
+ */
+@Getter
+@Setter
+public class ExportJob {
+
+    private final String id;
+    private final Long restaurantId;
+    private final ExportFormat format;
+    private final Path file;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile ExportStatus status = ExportStatus.QUEUED;
+    private volatile long totalRows;
+    private volatile long rowsWritten;
+    private volatile long sizeBytes;
+    private volatile LocalDateTime completedAt;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    public ExportJob(String id, Long restaurantId, ExportFormat format, Path file) {
+        this.id = id;
+        this.restaurantId = restaurantId;
+        this.format = format;
+        this.file = file;
+    }
+
+    /**
+     * Move to a final status.
+     */
+    public void finish(ExportStatus status, String error) {
+        this.error = error;
+        this.completedAt = LocalDateTime.now();
+        this.status = status;
+    }
+}
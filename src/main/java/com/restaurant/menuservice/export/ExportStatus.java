@@ -0,0 +1,16 @@
+package com.restaurant.menuservice.export;
+
+/**
+ * Lifecycle of an export job.
+ */
+public enum ExportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
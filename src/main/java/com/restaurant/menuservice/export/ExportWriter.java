@@ -0,0 +1,19 @@
+package com.restaurant.menuservice.export;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes exported menu items to a stream in one of the {@link ExportFormat}s.
+ */
+public interface ExportWriter extends Closeable {
+
+    void write(MenuItemDto menuItem) throws IOException;
+
+    /**
+     * Write any buffered rows and trailing data. Must be called before closing a complete export.
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,42 @@
+package com.restaurant.menuservice.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.restaurant.menuservice.dto.MenuItemDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Newline-delimited JSON export, one menu item per line.
+ */
+class NdjsonExportWriter implements ExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    NdjsonExportWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        // each line ends with its own newline instead of separating root values with a space
+        this.generator = objectMapper.getFactory().createGenerator(out).setRootValueSeparator(null);
+        this.writer = objectMapper.writerFor(MenuItemDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(MenuItemDto menuItem) throws IOException {
+        writer.writeValue(generator, menuItem);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
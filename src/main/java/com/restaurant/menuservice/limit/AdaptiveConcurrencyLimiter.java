@@ -0,0 +1,118 @@
+package com.restaurant.menuservice.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of requests in progress to what the service can handle without queueing,
+ * adapting the limit to the observed latency.
+ *
+ * Follows the gradient algorithm: a short-term average of the request latency is compared with a
+ * long-term one. While they agree, the service is not queueing and the limit grows by about its
+ * square root per sample; when the short-term latency rises above the long-term one (beyond a
+ * tolerance), the limit shrinks in proportion, down to half per sample. Samples taken while less
+ * than half the limit is in use say nothing about capacity and are ignored. The limit is smoothed
+ * and kept between a minimum and a maximum.
+ *
+ * {@link RequestPriority#BULK} requests only get a share of the limit, so under pressure they are
+ * rejected first and the rest of the limit stays available to {@link RequestPriority#CRITICAL}
+ * ones.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 600;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double bulkShare;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    /**
+     * @param initialLimit the limit to start from
+     * @param minLimit the limit never goes below this
+     * @param maxLimit the limit never goes above this
+     * @param bulkShare the share of the limit bulk requests may use, from 0 to 1
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double bulkShare) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (bulkShare <= 0 || bulkShare > 1) {
+            throw new IllegalArgumentException("Bulk share must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.bulkShare = bulkShare;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Start a request if the limit allows it.
+     *
+     * @return true if the request may proceed and must be {@linkplain #release released}
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = priority == RequestPriority.CRITICAL ? limit : Math.max(1, (int) (limit * bulkShare));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Finish a request started by {@link #tryAcquire}.
+     *
+     * @param rttNanos how long the request took, or a negative value to not sample it
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        if (rttNanos >= 0) {
+            sample(rttNanos, current);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightAtRelease) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+        longRtt += (rttNanos - longRtt) / LONG_WINDOW;
+        // after an overload the long-term average is inflated; bring it down faster once latency recovers
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+        limit = (int) estimatedLimit;
+    }
+}
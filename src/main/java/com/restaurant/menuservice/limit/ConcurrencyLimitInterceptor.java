@@ -0,0 +1,97 @@
+package com.restaurant.menuservice.limit;
+
+import com.restaurant.menuservice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sheds API requests beyond the {@link AdaptiveConcurrencyLimiter}'s limit with 503 and a
+ * Retry-After header, before they reach a controller, so an overload is answered at once instead
+ * of queueing for threads and connections.
+ *
+ * Reads, menu item lookups and quotes are {@link RequestPriority#CRITICAL}; writes, imports and
+ * exports are {@link RequestPriority#BULK}. Only critical requests are sampled for latency, so slow
+ * bulk work does not shrink the limit. The limit, the requests in progress and the rejections are
+ * exposed as the {@code menu.concurrency.limit}, {@code menu.concurrency.in-flight} and
+ * {@code menu.concurrency.rejected} metrics.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = ConcurrencyLimitInterceptor.class.getName() + ".startedAt";
+    private static final String PRIORITY = ConcurrencyLimitInterceptor.class.getName() + ".priority";
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+
+    public ConcurrencyLimitInterceptor(@Value("${menu.concurrency.enabled:true}") boolean enabled,
+                                       @Value("${menu.concurrency.initial-limit:20}") int initialLimit,
+                                       @Value("${menu.concurrency.min-limit:4}") int minLimit,
+                                       @Value("${menu.concurrency.max-limit:200}") int maxLimit,
+                                       @Value("${menu.concurrency.bulk-share:0.5}") double bulkShare,
+                                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, bulkShare);
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, meterRegistry.counter("menu.concurrency.rejected", "priority", priority.name().toLowerCase()));
+        }
+        Gauge.builder("menu.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("menu.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+        RequestPriority priority = priority(request);
+        if (!limiter.tryAcquire(priority)) {
+            rejected.get(priority).increment();
+            throw new ServiceUnavailableException("Too many requests in progress, try again later", RETRY_AFTER);
+        }
+        request.setAttribute(PRIORITY, priority);
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            request.removeAttribute(STARTED_AT);
+            // failed requests end early and would make the latency look better than it is
+            boolean sampled = request.getAttribute(PRIORITY) == RequestPriority.CRITICAL
+                    && ex == null && response.getStatus() < 500;
+            limiter.release(sampled ? System.nanoTime() - startedAt : -1);
+        }
+    }
+
+    static RequestPriority priority(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/exports") || path.startsWith("/api/draft/menu-items/import")) {
+            return RequestPriority.BULK;
+        }
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || path.equals("/api/draft/menu-items/lookup") || path.equals("/api/quotes")) {
+            return RequestPriority.CRITICAL;
+        }
+        return RequestPriority.BULK;
+    }
+
+    AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+}
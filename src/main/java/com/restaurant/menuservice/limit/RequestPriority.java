@@ -0,0 +1,18 @@
+package com.restaurant.menuservice.limit;
+
+/**
+ * How important a request is when the service is overloaded.
+ */
+public enum RequestPriority {
+
+    /**
+     * Reads that orders depend on, such as menu item lookups and quotes: may use the whole limit.
+     */
+    CRITICAL,
+
+    /**
+     * Menu edits, imports, exports and other back-office work: only get a share of the limit,
+     * so they are shed first.
+     */
+    BULK
+}
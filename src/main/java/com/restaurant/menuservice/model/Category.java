@@ -2,8 +2,12 @@ package com.restaurant.menuservice.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 /**
@@ -15,28 +19,64 @@ import java.util.Set;
  */
 
 @Entity
-@Table(name = "categories")
+@Table(name = "categories",
+        uniqueConstraints = @UniqueConstraint(name = Category.UNIQUE_NAME_CONSTRAINT, columnNames = {"restaurant_id", "normalized_name"}))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Category {
 
+    // Name of the constraint that enforces case-insensitive name uniqueness within a restaurant
+    public static final String UNIQUE_NAME_CONSTRAINT = "uk_categories_restaurant_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String name; // must be defined for nullable=false, and unique=true
+    // Restaurant (tenant) owning this category; every query is scoped by it
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(nullable = false)
+    private String name; // must be defined for nullable=false, unique per restaurant
+
+    // Lowercase copy of the name backing the unique constraint, maintained on every write
+    @Column(name = "normalized_name", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private String normalizedName;
 
     private String description;
 
+    // Time windows in which the category's items are served, e.g. breakfast; none means always
+    @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "category_schedules", joinColumns = @JoinColumn(name = "category_id"))
+    @Builder.Default
+    private List<ScheduleWindow> schedule = new ArrayList<>();
+
     // We use mappedBy to indicate that the Category is not the owner of the relationship
     // CascadeType.ALL means all operations (PERSIST, MERGE, REMOVE, REFRESH, DETACH) will be cascaded
     // orphanRemoval = true means that if a MenuItem is removed from the collection, it will be deleted
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<MenuItem> menuItems = new HashSet<>();
 
+    /**
+     * Normalize a category name for case-insensitive comparison.
+     */
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateNormalizedName() {
+        normalizedName = normalize(name);
+    }
+
     // Helper method to add a menu item to this category
     // This ensures both sides of the relationship are properly maintained
     public void addMenuItem(MenuItem menuItem) {
@@ -0,0 +1,9 @@
+package com.restaurant.menuservice.model;
+
+/**
+ * Kind of entity a {@link MenuChange} refers to.
+ */
+public enum ChangeEntityType {
+    CATEGORY,
+    MENU_ITEM
+}
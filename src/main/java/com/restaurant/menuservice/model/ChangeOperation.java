@@ -0,0 +1,12 @@
+package com.restaurant.menuservice.model;
+
+/**
+ * Operation recorded by a {@link MenuChange}.
+ *
+ * Creates and updates are both recorded as UPSERT, since a syncing client
+ * only needs to know the latest state of the entity.
+ */
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
@@ -2,9 +2,15 @@ package com.restaurant.menuservice.model;
 
 import lombok.Getter;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Enum representing different dietary restrictions that may apply to menu items.
  * Using an enum ensures type safety and provides a predefined set of valid values.
+ *
+ * Each value also owns one bit of an int mask (by ordinal), used by the compact binary
+ * encodings, so new values must always be appended at the end.
  */
 
 @Getter
@@ -22,4 +28,43 @@ public enum DietaryRestriction {
     DietaryRestriction(String description) {
         this.description = description;
     }
+
+    /**
+     * The bit representing this restriction inside a restriction mask.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Pack a set of restrictions into an int mask.
+     *
+     * @param restrictions the restrictions to pack, may be null
+     * @return the mask with one bit set per restriction
+     */
+    public static int toMask(Set<DietaryRestriction> restrictions) {
+        int mask = 0;
+        if (restrictions != null) {
+            for (DietaryRestriction restriction : restrictions) {
+                mask |= restriction.mask();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Unpack an int mask into a set of restrictions.
+     *
+     * @param mask the mask produced by {@link #toMask(Set)}
+     * @return a mutable set containing the restrictions whose bit is set
+     */
+    public static Set<DietaryRestriction> fromMask(int mask) {
+        Set<DietaryRestriction> restrictions = EnumSet.noneOf(DietaryRestriction.class);
+        for (DietaryRestriction restriction : values()) {
+            if ((mask & restriction.mask()) != 0) {
+                restrictions.add(restriction);
+            }
+        }
+        return restrictions;
+    }
 }
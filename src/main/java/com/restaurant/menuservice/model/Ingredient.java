@@ -0,0 +1,59 @@
+package com.restaurant.menuservice.model;
+
+import com.restaurant.menuservice.service.IngredientDictionary;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Locale;
+
+/**
+ * Entry of a restaurant's ingredient dictionary.
+ *
+ * Menu items link to entries by id, so each ingredient name is stored once per restaurant.
+ * Loaded names are interned through the {@link IngredientDictionary}, so every menu item
+ * DTO listing an ingredient shares the same String instance.
+ */
+
+@Entity
+@Table(name = "ingredients",
+        uniqueConstraints = @UniqueConstraint(name = Ingredient.UNIQUE_NAME_CONSTRAINT, columnNames = {"restaurant_id", "normalized_name"}))
+@EntityListeners(IngredientDictionary.Interning.class)
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Ingredient {
+
+    // Name of the constraint that enforces case-insensitive name uniqueness within a restaurant
+    public static final String UNIQUE_NAME_CONSTRAINT = "uk_ingredients_restaurant_name";
+
+    @Id
+    @EqualsAndHashCode.Include
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(nullable = false)
+    private String name;
+
+    // Lowercase copy of the name backing the unique constraint, maintained on every write
+    @Column(name = "normalized_name", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private String normalizedName;
+
+    /**
+     * Normalize an ingredient name for case-insensitive comparison.
+     */
+    public static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateNormalizedName() {
+        normalizedName = normalize(name);
+    }
+}
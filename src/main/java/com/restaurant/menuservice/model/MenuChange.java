@@ -0,0 +1,45 @@
+package com.restaurant.menuservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of the append-only menu change log.
+ *
+ * Every mutation of a Category or MenuItem appends one entry in the same transaction,
+ * so the sequence number gives clients a cursor they can resume from with
+ * {@code GET /api/draft/changes?since=<seq>}.
+ */
+
+@Entity
+@Table(name = "menu_changes", indexes = @Index(name = "idx_menu_changes_restaurant_seq", columnList = "restaurant_id, seq"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuChange {
+
+    // Monotonically increasing sequence number, used as the sync cursor
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeOperation operation;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,30 @@
+package com.restaurant.menuservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Resync horizon of a restaurant's change log: the highest sequence number removed by retention.
+ *
+ * It is moved in the same transaction that deletes the entries, so a client behind it is told to
+ * reload the menu even after a restart, instead of receiving a delta with holes in it.
+ */
+
+@Entity
+@Table(name = "menu_change_horizons")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuChangeHorizon {
+
+    // The horizon of this restaurant id applies to every restaurant, e.g. after a snapshot restore
+    public static final long ALL_RESTAURANTS = 0;
+
+    @Id
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Column(nullable = false)
+    private long seq;
+}
@@ -2,13 +2,20 @@ package com.restaurant.menuservice.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "menu_items")
+@Table(name = "menu_items", indexes = {
+        @Index(name = "idx_menu_items_restaurant_category", columnList = "restaurant_id, category_id"),
+        @Index(name = "idx_menu_items_restaurant_available", columnList = "restaurant_id, available"),
+        @Index(name = "idx_menu_items_restaurant_price", columnList = "restaurant_id, price")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,6 +26,10 @@ public class MenuItem {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Restaurant (tenant) owning this menu item, always the same as its category's
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
     @Column(nullable = false)
     private String name;
 
@@ -28,28 +39,47 @@ public class MenuItem {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
 
+    @Builder.Default
     private boolean available = true;
 
     // Many-to-One relationship with Category
     // FetchType.LAZY means the category will only be loaded when explicitly accessed
+    // It is excluded from equals/hashCode/toString to avoid recursing back through Category.menuItems
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Category category;
 
     // Store dietary restrictions as a collection of enum values
     // @ElementCollection is used for simple collections of basic or embeddable types
     // @Enumerated(EnumType.STRING) stores the enum values as strings in the database
+    // @BatchSize loads the collections of up to 100 menu items with one query when listing many items
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "menu_item_dietary_restrictions", joinColumns = @JoinColumn(name = "menu_item_id"))
     @Column(name = "restriction")
     @Enumerated(EnumType.STRING)
+    @Builder.Default
     private Set<DietaryRestriction> dietaryRestrictions = new HashSet<>();
 
-    // Store ingredients as a simple collection of strings
+    // Ingredients are entries of the restaurant's ingredient dictionary, shared between menu items
+    @ManyToMany
+    @BatchSize(size = 100)
+    @JoinTable(name = "menu_item_ingredients",
+            joinColumns = @JoinColumn(name = "menu_item_id"),
+            inverseJoinColumns = @JoinColumn(name = "ingredient_id"))
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Set<Ingredient> ingredients = new HashSet<>();
+
+    // Time windows in which the item is served, on top of its category's; none means always
     @ElementCollection
-    @CollectionTable(name = "menu_item_ingredients", joinColumns = @JoinColumn(name = "menu_item_id"))
-    @Column(name = "ingredient")
-    private Set<String> ingredients = new HashSet<>();
+    @BatchSize(size = 100)
+    @CollectionTable(name = "menu_item_schedules", joinColumns = @JoinColumn(name = "menu_item_id"))
+    @Builder.Default
+    private List<ScheduleWindow> schedule = new ArrayList<>();
 
     // Helper methods to manage dietary restrictions
     public void addDietaryRestriction(DietaryRestriction restriction) {
@@ -61,11 +91,11 @@ public class MenuItem {
     }
 
     // Helper methods to manage ingredients
-    public void addIngredient(String ingredient) {
+    public void addIngredient(Ingredient ingredient) {
         ingredients.add(ingredient);
     }
 
-    public void removeIngredient(String ingredient) {
+    public void removeIngredient(Ingredient ingredient) {
         ingredients.remove(ingredient);
     }
 }
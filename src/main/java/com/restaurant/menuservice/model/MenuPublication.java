@@ -0,0 +1,36 @@
+package com.restaurant.menuservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Points to the menu version a restaurant's public menu serves.
+ *
+ * Publishing and rolling back both update this single row, so switching versions is one write
+ * regardless of the size of the menu.
+ */
+
+@Entity
+@Table(name = "menu_publications")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuPublication {
+
+    @Id
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Column(nullable = false)
+    private int version;
+
+    // Incremented on every switch, so a late notification never replaces a newer version
+    @Column(nullable = false)
+    private long activation;
+
+    @Column(nullable = false)
+    private LocalDateTime activatedAt;
+}
@@ -0,0 +1,49 @@
+package com.restaurant.menuservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An immutable, published version of a restaurant's menu.
+ *
+ * The content is the serialized menu as served to customers; versions are never updated, so
+ * rolling back only moves the restaurant's {@link MenuPublication} pointer.
+ */
+
+@Entity
+@Table(name = "menu_versions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_menu_versions_restaurant_version", columnNames = {"restaurant_id", "version"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    // Numbered from 1 per restaurant
+    @Column(nullable = false)
+    private int version;
+
+    @Column(nullable = false)
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int categoryCount;
+
+    @Column(nullable = false)
+    private int menuItemCount;
+
+    // The published menu as JSON
+    @Lob
+    @Column(nullable = false)
+    @ToString.Exclude
+    private byte[] content;
+}
@@ -0,0 +1,75 @@
+package com.restaurant.menuservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A recurring time window in which a category or menu item is served, e.g. "weekdays from
+ * 11:00 to 15:00 in Europe/Rome".
+ *
+ * A window ending at or before its start time runs past midnight into the next day. The days of
+ * the week and the optional date range refer to the day the window starts.
+ */
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleWindow {
+
+    // Bit (day.getValue() - 1) is set for every day of the week the window starts on
+    @Column(name = "days_of_week", nullable = false)
+    private int daysOfWeek;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    // First and last day of the window, both optional and inclusive
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // Zone the times and dates are expressed in, e.g. Europe/Rome
+    @Column(name = "time_zone", nullable = false, length = 64)
+    private String timeZone;
+
+    /**
+     * Encode days of the week as a bitmask.
+     */
+    public static int mask(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    /**
+     * Decode a bitmask of days of the week.
+     */
+    public static Set<DayOfWeek> days(int mask) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+}
@@ -0,0 +1,223 @@
+package com.restaurant.menuservice.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Map from menu item id to price in cents and availability, without boxing.
+ *
+ * Entries live in a single {@code long[]} as interleaved (id, value) pairs, using open
+ * addressing with linear probing and backward-shift deletion, so lookups touch one or two
+ * cache lines and no objects. A value packs the price in cents with the availability flag in
+ * its lowest bit. Readers use optimistic {@link StampedLock} reads and only fall back to a
+ * read lock when a writer got in the way; writes are rare (menu edits) and take the write lock.
+ */
+public class PriceTable {
+
+    /** Returned by lookups for an id that is not in the table. */
+    public static final long MISSING = -1;
+
+    private static final long EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+
+    // interleaved ids and values; ids are positive, EMPTY marks a free slot
+    private long[] entries;
+    private int size;
+
+    public PriceTable() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of entries to size the table for
+     */
+    public PriceTable(int expectedSize) {
+        this.entries = new long[2 * capacityFor(expectedSize)];
+    }
+
+    /**
+     * Convert a price to whole cents, rounding half up.
+     */
+    public static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static long cents(long value) {
+        return value >>> 1;
+    }
+
+    public static boolean available(long value) {
+        return (value & 1) != 0;
+    }
+
+    /**
+     * Add or replace the price of a menu item.
+     */
+    public void put(long id, long cents, boolean available) {
+        if (id <= 0 || cents < 0) {
+            throw new IllegalArgumentException("id must be positive and cents non-negative");
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (2 * (size + 1) > capacity(entries)) {
+                entries = rehash(entries, 2 * capacity(entries));
+            }
+            int slot = probe(entries, id);
+            if (entries[2 * slot] == EMPTY) {
+                size++;
+            }
+            entries[2 * slot] = id;
+            entries[2 * slot + 1] = cents << 1 | (available ? 1 : 0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove a menu item, if present.
+     */
+    public void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            long[] table = entries;
+            int mask = capacity(table) - 1;
+            int hole = probe(table, id);
+            if (table[2 * hole] == EMPTY) {
+                return;
+            }
+            // shift later entries of the probe sequence back so lookups need no tombstones
+            for (int next = (hole + 1) & mask; table[2 * next] != EMPTY; next = (next + 1) & mask) {
+                int home = home(table[2 * next], mask);
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    table[2 * hole] = table[2 * next];
+                    table[2 * hole + 1] = table[2 * next + 1];
+                    hole = next;
+                }
+            }
+            table[2 * hole] = EMPTY;
+            table[2 * hole + 1] = 0;
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Get the packed value of a menu item.
+     *
+     * @return the value, to be decoded with {@link #cents(long)} and {@link #available(long)}, or {@link #MISSING}
+     */
+    public long get(long id) {
+        long stamp = lock.tryOptimisticRead();
+        long value = find(entries, id);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = find(entries, id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get the packed values of several menu items as of the same moment.
+     *
+     * @param ids the menu item ids
+     * @param values receives the value of each id, or {@link #MISSING}
+     */
+    public void getAll(long[] ids, long[] values) {
+        long stamp = lock.tryOptimisticRead();
+        long[] table = entries;
+        for (int i = 0; i < ids.length; i++) {
+            values[i] = find(table, ids[i]);
+        }
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                for (int i = 0; i < ids.length; i++) {
+                    values[i] = find(entries, ids[i]);
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Find the value of an id. Bounded by the capacity so that a table being modified
+     * under an optimistic read cannot loop forever; the caller validates the result.
+     */
+    private static long find(long[] table, long id) {
+        if (id <= 0) {
+            // never stored, and 0 would match a free slot
+            return MISSING;
+        }
+        int capacity = capacity(table);
+        int mask = capacity - 1;
+        int slot = home(id, mask);
+        for (int probes = 0; probes < capacity; probes++) {
+            long key = table[2 * slot];
+            if (key == id) {
+                return table[2 * slot + 1];
+            }
+            if (key == EMPTY) {
+                return MISSING;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    /**
+     * Find the slot holding an id, or the empty slot where it would be inserted.
+     */
+    private static int probe(long[] table, long id) {
+        int mask = capacity(table) - 1;
+        int slot = home(id, mask);
+        while (table[2 * slot] != EMPTY && table[2 * slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long[] rehash(long[] table, int capacity) {
+        long[] resized = new long[2 * capacity];
+        for (int slot = 0; slot < capacity(table); slot++) {
+            long id = table[2 * slot];
+            if (id != EMPTY) {
+                int target = probe(resized, id);
+                resized[2 * target] = id;
+                resized[2 * target + 1] = table[2 * slot + 1];
+            }
+        }
+        return resized;
+    }
+
+    private static int home(long id, int mask) {
+        // Fibonacci hashing spreads sequential ids over the table
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static int capacity(long[] table) {
+        return table.length / 2;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // keep the load factor at or below one half
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, 2 * expectedSize - 1)) << 1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.restaurant.menuservice.publish;
+
+import com.restaurant.menuservice.allergen.AllergenIndex;
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.PublishedMenuDto;
+import com.restaurant.menuservice.model.Ingredient;
+import com.restaurant.menuservice.pricing.PriceTable;
+import com.restaurant.menuservice.schedule.ScheduleIndex;
+import com.restaurant.menuservice.search.SearchIndex;
+import com.restaurant.menuservice.search.SimilarityIndex;
+import com.restaurant.menuservice.search.SuggestionRegistry;
+import com.restaurant.menuservice.search.SuggestionTrie;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A published menu ready to serve: immutable once built, so it is shared by every reader without
+ * locking and replaced as a whole.
+ *
+ * The indexes behind the public reads are built here, from the published items only, and never
+ * changed afterwards; edits of the draft reach them with the next publication.
+ *
+ * @param activation the switch that made this menu the served one
+ * @param menu the menu, which must not be changed
+ * @param menuItems the menu's items by id
+ * @param categoryIds the ids of the menu's categories
+ * @param prices the menu's prices, for quotes
+ * @param schedule the menu's schedules, for the items served at a point in time
+ * @param search the full-text index of the menu's items
+ * @param similarity the ingredient similarity index of the menu's items
+ * @param suggestions the typeahead suggestions of the menu's items
+ * @param allergens the ingredient index of the menu's items, for exclusions
+ */
+public record PublishedMenu(long activation, PublishedMenuDto menu, Map<Long, MenuItemDto> menuItems, Set<Long> categoryIds,
+                            PriceTable prices, ScheduleIndex schedule, SearchIndex search, SimilarityIndex similarity,
+                            SuggestionTrie suggestions, AllergenIndex allergens) {
+
+    /**
+     * Index a published menu for serving.
+     */
+    public static PublishedMenu of(long activation, PublishedMenuDto menu) {
+        Map<Long, MenuItemDto> menuItems = new HashMap<>(menu.getMenuItems().size() * 2);
+        PriceTable prices = new PriceTable(menu.getMenuItems().size());
+        ScheduleIndex schedule = new ScheduleIndex();
+        SearchIndex search = new SearchIndex();
+        SimilarityIndex similarity = new SimilarityIndex();
+        AllergenIndex allergens = new AllergenIndex();
+
+        menu.getCategories().forEach(category -> schedule.putCategory(category.getId(), category.getSchedule()));
+        for (MenuItemDto menuItem : menu.getMenuItems()) {
+            menuItems.put(menuItem.getId(), menuItem);
+            prices.put(menuItem.getId(), PriceTable.toCents(menuItem.getPrice()), menuItem.isAvailable());
+            schedule.put(menuItem);
+            search.put(menuItem);
+            similarity.put(menuItem);
+            allergens.put(menuItem.getId(), menuItem.getIngredients() == null ? List.of()
+                    : menuItem.getIngredients().stream().map(Ingredient::normalize).toList());
+        }
+
+        return new PublishedMenu(activation, menu, Map.copyOf(menuItems),
+                menu.getCategories().stream().map(CategoryDto::getId).collect(Collectors.toUnmodifiableSet()),
+                prices, schedule, search, similarity, SuggestionRegistry.build(menu.getMenuItems()), allergens);
+    }
+
+    public int version() {
+        return menu.getVersion();
+    }
+}
@@ -0,0 +1,110 @@
+package com.restaurant.menuservice.publish;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.dto.PublishedMenuDto;
+import com.restaurant.menuservice.event.MenuPublishedEvent;
+import com.restaurant.menuservice.exception.ResourceNotFoundException;
+import com.restaurant.menuservice.model.MenuPublication;
+import com.restaurant.menuservice.repository.MenuPublicationRepository;
+import com.restaurant.menuservice.repository.MenuVersionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the published menu each restaurant serves.
+ *
+ * A restaurant's menu is loaded from its publication pointer on first use. From then on every
+ * committed publication or rollback replaces it with a menu built before the switch, so the
+ * switch itself is a single volatile write and readers never wait on a rebuild or see a mix of
+ * two versions. Switches are ordered by their activation number, so a notification arriving late
+ * never brings back an older version.
+ */
+@Component
+public class PublishedMenuRegistry {
+
+    private final Map<Long, TenantMenu> tenants = new ConcurrentHashMap<>();
+    private final MenuPublicationRepository menuPublicationRepository;
+    private final MenuVersionRepository menuVersionRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public PublishedMenuRegistry(MenuPublicationRepository menuPublicationRepository, MenuVersionRepository menuVersionRepository,
+                                 ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.menuPublicationRepository = menuPublicationRepository;
+        this.menuVersionRepository = menuVersionRepository;
+        this.objectMapper = objectMapper;
+        // deliberately not read-only, and not joining a caller's transaction:
+        // the menu must come from the primary, not a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private static final class TenantMenu {
+        private volatile PublishedMenu menu;
+        private volatile boolean loaded;
+    }
+
+    /**
+     * Get the menu a restaurant serves, loading it if needed.
+     *
+     * @return the menu
+     * @throws ResourceNotFoundException if the restaurant has never published one
+     */
+    public PublishedMenu getMenu(Long restaurantId) {
+        TenantMenu tenant = tenants.computeIfAbsent(restaurantId, id -> new TenantMenu());
+        if (!tenant.loaded) {
+            synchronized (tenant) {
+                if (!tenant.loaded) {
+                    tenant.menu = load(restaurantId);
+                    tenant.loaded = true;
+                }
+            }
+        }
+        if (tenant.menu == null) {
+            throw new ResourceNotFoundException("No menu has been published yet");
+        }
+        return tenant.menu;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuPublished(MenuPublishedEvent event) {
+        TenantMenu tenant = tenants.get(event.restaurantId());
+        if (tenant == null) {
+            return;
+        }
+        PublishedMenu menu = PublishedMenu.of(event.activation(), event.menu());
+        synchronized (tenant) {
+            // a menu still loading reads the committed pointer by itself
+            if (tenant.loaded && (tenant.menu == null || tenant.menu.activation() < menu.activation())) {
+                tenant.menu = menu;
+            }
+        }
+    }
+
+    private PublishedMenu load(Long restaurantId) {
+        return transactionTemplate.execute(status -> {
+            MenuPublication publication = menuPublicationRepository.findById(restaurantId).orElse(null);
+            if (publication == null) {
+                return null;
+            }
+            byte[] content = menuVersionRepository.findByRestaurantIdAndVersion(restaurantId, publication.getVersion())
+                    .orElseThrow(() -> new IllegalStateException("Published menu version " + publication.getVersion()
+                            + " of restaurant " + restaurantId + " is missing"))
+                    .getContent();
+            try {
+                return PublishedMenu.of(publication.getActivation(), objectMapper.readValue(content, PublishedMenuDto.class));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+}
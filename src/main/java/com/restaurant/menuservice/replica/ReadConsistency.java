@@ -0,0 +1,69 @@
+package com.restaurant.menuservice.replica;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-request read-your-writes state.
+ *
+ * A client that wrote a change receives its change log sequence number in the
+ * {@value #VERSION_HEADER} response header and sends it back on later reads; read-only
+ * transactions of that request are only routed to the replica once the replica has
+ * applied that version, otherwise they fall back to the primary.
+ */
+public final class ReadConsistency {
+
+    public static final String VERSION_HEADER = "X-Menu-Version";
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    private static final class State {
+        private long minVersion;
+        private HttpServletResponse response;
+    }
+
+    /**
+     * Bind the state of a request.
+     *
+     * @param minVersion the version the client has already seen (0 if none)
+     * @param response the response to return write versions on, may be null
+     */
+    static void bind(long minVersion, HttpServletResponse response) {
+        State state = new State();
+        state.minVersion = minVersion;
+        state.response = response;
+        CURRENT.set(state);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Get the minimum version a read on this thread must observe.
+     *
+     * @return the version, or 0 if the thread has no consistency requirement
+     */
+    public static long getMinVersion() {
+        State state = CURRENT.get();
+        return state != null ? state.minVersion : 0;
+    }
+
+    /**
+     * Remember a version written by this request and report it to the client.
+     *
+     * @param version the change log sequence number of the write
+     */
+    static void recordWrite(long version) {
+        State state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        state.minVersion = Math.max(state.minVersion, version);
+        if (state.response != null && !state.response.isCommitted()) {
+            state.response.setHeader(VERSION_HEADER, String.valueOf(state.minVersion));
+        }
+    }
+}
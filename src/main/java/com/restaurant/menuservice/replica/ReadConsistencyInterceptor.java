@@ -0,0 +1,43 @@
+package com.restaurant.menuservice.replica;
+
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Binds {@link ReadConsistency} for each API request and records the versions it writes.
+ */
+@Component
+public class ReadConsistencyInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long minVersion = 0;
+        String header = request.getHeader(ReadConsistency.VERSION_HEADER);
+        if (header != null) {
+            try {
+                minVersion = Long.parseLong(header.trim());
+            } catch (NumberFormatException ex) {
+                // an unusable token only costs freshness guarantees, not the request
+            }
+        }
+        ReadConsistency.bind(minVersion, response);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadConsistency.clear();
+    }
+
+    /**
+     * Runs synchronously inside the writing transaction, on the request thread.
+     */
+    @EventListener
+    public void onMenuChange(MenuChangeEvent event) {
+        ReadConsistency.recordWrite(event.change().getSeq());
+    }
+}
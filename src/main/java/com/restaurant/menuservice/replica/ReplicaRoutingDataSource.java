@@ -0,0 +1,50 @@
+package com.restaurant.menuservice.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to the replica and everything else to the primary.
+ *
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * so the physical connection is only chosen once the transaction's read-only flag is known.
+ * Reads fall back to the primary whenever the replica is behind the request's
+ * {@link ReadConsistency} version or lags more than the configured maximum.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaSynchronizer synchronizer;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaSynchronizer synchronizer,
+                                    MeterRegistry meterRegistry) {
+        this.synchronizer = synchronizer;
+        this.primaryRoutes = meterRegistry.counter("menu.datasource.routes", "target", "primary");
+        this.replicaRoutes = meterRegistry.counter("menu.datasource.routes", "target", "replica");
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && synchronizer.canServe(ReadConsistency.getMinVersion())) {
+            replicaRoutes.increment();
+            return Target.REPLICA;
+        }
+        primaryRoutes.increment();
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,211 @@
+package com.restaurant.menuservice.replica;
+
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds the read replica from the primary's change log.
+ *
+ * On startup the replica receives a full copy of the primary (schema and data); from then on
+ * every change log entry is replayed by copying the current rows of the changed entity.
+ * Replays are idempotent, so entries overlapping the initial copy are harmless.
+ *
+ * Sequence numbers are assigned at insert time but become visible at commit time, so a gap
+ * may be a transaction that has not committed yet. The replica waits for a gap to fill for up
+ * to {@code gapTimeout} before treating it as a rollback or a compacted entry.
+ */
+public class ReplicaSynchronizer {
+
+    // Tables holding the rows of each entity type, parent table first
+    private static final Map<ChangeEntityType, List<String[]>> TABLES = Map.of(
+            ChangeEntityType.CATEGORY, List.of(
+                    new String[]{"categories", "id"},
+                    new String[]{"category_schedules", "category_id"}),
+            ChangeEntityType.MENU_ITEM, List.of(
+                    new String[]{"menu_items", "id"},
+                    new String[]{"menu_item_dietary_restrictions", "menu_item_id"},
+                    new String[]{"menu_item_ingredients", "menu_item_id"},
+                    new String[]{"menu_item_schedules", "menu_item_id"}));
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final TransactionTemplate replicaTransaction;
+    private final Duration maxLag;
+    private final Duration gapTimeout;
+    private final int batchSize;
+
+    private volatile boolean initialized;
+    private volatile long appliedSeq;
+    private volatile long primarySeq;
+    private volatile Instant oldestUnappliedAt;
+
+    public ReplicaSynchronizer(DataSource primary, DataSource replica, Duration maxLag, Duration gapTimeout,
+                               int batchSize, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.replicaTransaction = new TransactionTemplate(new DataSourceTransactionManager(replica));
+        this.maxLag = maxLag;
+        this.gapTimeout = gapTimeout;
+        this.batchSize = batchSize;
+
+        Gauge.builder("menu.replica.lag.changes", this, ReplicaSynchronizer::getLagChanges)
+                .description("Change log entries committed on the primary but not yet applied to the replica")
+                .register(meterRegistry);
+        Gauge.builder("menu.replica.lag.seconds", this, synchronizer -> synchronizer.getLag().toMillis() / 1000.0)
+                .description("Age of the oldest change not yet applied to the replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a read requiring the given version may be served by the replica.
+     *
+     * @param minVersion the change log sequence number the read must observe
+     * @return true if the replica is initialized, has applied that version and is within the maximum lag
+     */
+    public boolean canServe(long minVersion) {
+        return initialized && appliedSeq >= minVersion && getLag().compareTo(maxLag) <= 0;
+    }
+
+    public long getLagChanges() {
+        return Math.max(0, primarySeq - appliedSeq);
+    }
+
+    public Duration getLag() {
+        Instant oldest = oldestUnappliedAt;
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, Instant.now());
+    }
+
+    /**
+     * Copy the whole primary database to the replica once the schema exists.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long seq = latestPrimarySeq();
+        List<String> script = primary.queryForList("SCRIPT", String.class);
+
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+
+        // rows arrive in change order, not constraint order, and the primary already enforces them
+        replica.execute("SET REFERENTIAL_INTEGRITY FALSE");
+
+        appliedSeq = seq;
+        primarySeq = seq;
+        initialized = true;
+    }
+
+    /**
+     * Apply the next batch of changes from the primary's change log.
+     */
+    @Scheduled(fixedDelayString = "${menu.datasource.replica.poll-interval:PT0.1S}")
+    public void apply() {
+        if (!initialized) {
+            return;
+        }
+
+        primarySeq = latestPrimarySeq();
+        List<Map<String, Object>> changes = primary.queryForList(
+                "SELECT seq, entity_type, entity_id, operation, changed_at FROM menu_changes " +
+                        "WHERE seq > ? ORDER BY seq LIMIT ?", appliedSeq, batchSize);
+
+        List<Map<String, Object>> ready = takeUntilGap(changes);
+        if (!ready.isEmpty()) {
+            long minRetainedSeq = primary.queryForObject("SELECT COALESCE(MIN(seq), 0) FROM menu_changes", Long.class);
+            // read after the cut-off, so the horizons cover every entry the replica drops below
+            List<Map<String, Object>> horizons = primary.queryForList("SELECT restaurant_id, seq FROM menu_change_horizons");
+
+            replicaTransaction.executeWithoutResult(status -> {
+                ready.forEach(this::applyChange);
+                replica.update("DELETE FROM menu_changes WHERE seq < ?", minRetainedSeq);
+                horizons.forEach(horizon -> replica.update("MERGE INTO menu_change_horizons (restaurant_id, seq) KEY (restaurant_id) VALUES (?, ?)",
+                        horizon.get("restaurant_id"), horizon.get("seq")));
+            });
+            appliedSeq = seqOf(ready.get(ready.size() - 1));
+        }
+
+        oldestUnappliedAt = ready.size() < changes.size()
+                ? changedAt(changes.get(ready.size()))
+                : (primarySeq > appliedSeq ? Instant.now() : null);
+    }
+
+    /**
+     * Keep the changes up to the first gap that may still be filled by an in-flight transaction.
+     */
+    private List<Map<String, Object>> takeUntilGap(List<Map<String, Object>> changes) {
+        long expected = appliedSeq + 1;
+        for (int i = 0; i < changes.size(); i++) {
+            Map<String, Object> change = changes.get(i);
+            if (seqOf(change) != expected
+                    && Duration.between(changedAt(change), Instant.now()).compareTo(gapTimeout) < 0) {
+                return changes.subList(0, i);
+            }
+            expected = seqOf(change) + 1;
+        }
+        return changes;
+    }
+
+    private void applyChange(Map<String, Object> change) {
+        ChangeEntityType entityType = ChangeEntityType.valueOf((String) change.get("entity_type"));
+        ChangeOperation operation = ChangeOperation.valueOf((String) change.get("operation"));
+        Object entityId = change.get("entity_id");
+
+        for (String[] table : TABLES.get(entityType)) {
+            replica.update("DELETE FROM " + table[0] + " WHERE " + table[1] + " = ?", entityId);
+            if (operation == ChangeOperation.UPSERT) {
+                copyRows(table[0], table[1], entityId);
+            }
+        }
+
+        // dictionary entries are not change-logged themselves; bring along the ones the item links to
+        if (entityType == ChangeEntityType.MENU_ITEM && operation == ChangeOperation.UPSERT) {
+            for (Long ingredientId : primary.queryForList(
+                    "SELECT ingredient_id FROM menu_item_ingredients WHERE menu_item_id = ?", Long.class, entityId)) {
+                copyRows("ingredients", "id", ingredientId);
+            }
+        }
+        copyRows("menu_changes", "seq", change.get("seq"));
+    }
+
+    private void copyRows(String table, String keyColumn, Object key) {
+        replica.update("DELETE FROM " + table + " WHERE " + keyColumn + " = ?", key);
+        for (Map<String, Object> row : primary.queryForList("SELECT * FROM " + table + " WHERE " + keyColumn + " = ?", key)) {
+            String columns = String.join(", ", row.keySet());
+            String placeholders = row.keySet().stream().map(column -> "?").collect(Collectors.joining(", "));
+            replica.update("INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")", row.values().toArray());
+        }
+    }
+
+    private long latestPrimarySeq() {
+        return primary.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM menu_changes", Long.class);
+    }
+
+    private static long seqOf(Map<String, Object> change) {
+        return ((Number) change.get("seq")).longValue();
+    }
+
+    private static Instant changedAt(Map<String, Object> change) {
+        Object changedAt = change.get("changed_at");
+        if (changedAt instanceof LocalDateTime localDateTime) {
+            return localDateTime.atZone(ZoneId.systemDefault()).toInstant();
+        }
+        return ((Timestamp) changedAt).toInstant();
+    }
+}
@@ -0,0 +1,11 @@
+package com.restaurant.menuservice.repository;
+
+/**
+ * Projection of a category onto its id and normalized name.
+ */
+public interface CategoryName {
+
+    Long getId();
+
+    String getNormalizedName();
+}
@@ -2,8 +2,12 @@ package com.restaurant.menuservice.repository;
 
 import com.restaurant.menuservice.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,24 +15,58 @@ import java.util.Optional;
  *
  * Spring Data JPA will automatically implement this interface at runtime,
  * providing standard CRUD operations with the database.
+ *
+ * Every query is scoped by restaurant (tenant) id, which leads the
+ * indexes of the categories table.
  */
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     /**
-     * Find a category by its name (case-insensitive).
+     * Find all categories of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return a list of the restaurant's categories
+     */
+    List<Category> findByRestaurantId(Long restaurantId);
+
+    /**
+     * Find a category of a restaurant by its ID.
+     *
+     * @param id the category ID
+     * @param restaurantId the restaurant id
+     * @return an Optional containing the category if found in that restaurant, or empty otherwise
+     */
+    Optional<Category> findByIdAndRestaurantId(Long id, Long restaurantId);
+
+    /**
+     * Check if a category exists in a restaurant.
+     *
+     * @param id the category ID
+     * @param restaurantId the restaurant id
+     * @return true if the category exists in that restaurant, false otherwise
+     */
+    boolean existsByIdAndRestaurantId(Long id, Long restaurantId);
+
+    /**
+     * Get the ids and normalized names of all categories of a restaurant.
      *
-     * @param name the category name to search for
-     * @return an Optional containing the category if found, or empty if not found
+     * @param restaurantId the restaurant id
+     * @return one name projection per category
      */
-    Optional<Category> findByNameIgnoreCase(String name);
+    @Query("SELECT c.id AS id, c.normalizedName AS normalizedName FROM Category c WHERE c.restaurantId = :restaurantId")
+    List<CategoryName> findNamesByRestaurantId(@Param("restaurantId") Long restaurantId);
 
     /**
-     * Check if a category exists with the given name (case-insensitive).
+     * Delete a category of a restaurant with a single statement.
+     * Its menu items must have been deleted first.
      *
-     * @param name the category name to check
-     * @return true if a category with the given name exists, false otherwise
+     * @param id the category ID
+     * @param restaurantId the restaurant id
+     * @return the number of categories deleted, 0 if it does not exist in that restaurant
      */
-    boolean existsByNameIgnoreCase(String name);
+    @Modifying
+    @Query("DELETE FROM Category c WHERE c.id = :id AND c.restaurantId = :restaurantId")
+    int deleteByIdAndRestaurantId(@Param("id") Long id, @Param("restaurantId") Long restaurantId);
 }
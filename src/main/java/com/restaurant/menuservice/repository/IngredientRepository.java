@@ -0,0 +1,77 @@
+package com.restaurant.menuservice.repository;
+
+import com.restaurant.menuservice.model.Ingredient;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the Ingredient dictionary.
+ *
+ * Every query is scoped by restaurant (tenant) id, which leads the
+ * unique name index of the ingredients table.
+ */
+
+@Repository
+public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
+
+    /**
+     * Find all ingredients of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return a list of the restaurant's ingredients
+     */
+    List<Ingredient> findByRestaurantId(Long restaurantId);
+
+    /**
+     * Find the ingredients of a restaurant with the given IDs.
+     *
+     * @param restaurantId the restaurant id
+     * @param ids the ingredient IDs
+     * @return the ingredients found, in no particular order
+     */
+    List<Ingredient> findByRestaurantIdAndIdIn(Long restaurantId, Collection<Long> ids);
+
+    /**
+     * Find the ingredients of a restaurant with the given normalized names.
+     *
+     * @param restaurantId the restaurant id
+     * @param normalizedNames names normalized with {@link Ingredient#normalize(String)}
+     * @return the ingredients found, in no particular order
+     */
+    List<Ingredient> findByRestaurantIdAndNormalizedNameIn(Long restaurantId, Collection<String> normalizedNames);
+
+    /**
+     * Count the menu items using each ingredient of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return one usage projection per ingredient used at least once
+     */
+    @Query("SELECT i.id AS id, COUNT(m) AS menuItemCount FROM MenuItem m JOIN m.ingredients i " +
+            "WHERE m.restaurantId = :restaurantId GROUP BY i.id")
+    List<IngredientUsage> countMenuItemsByIngredient(@Param("restaurantId") Long restaurantId);
+
+    /**
+     * Count the menu items using an ingredient.
+     *
+     * @param id the ingredient ID
+     * @return the number of menu items listing the ingredient
+     */
+    @Query("SELECT COUNT(m) FROM MenuItem m JOIN m.ingredients i WHERE i.id = :id")
+    long countMenuItems(@Param("id") Long id);
+
+    /**
+     * Find the ingredients of a restaurant with the given normalized names that no menu item lists.
+     *
+     * @param restaurantId the restaurant id
+     * @param normalizedNames names normalized with {@link Ingredient#normalize(String)}
+     * @return the IDs of the unused ingredients
+     */
+    @Query("SELECT i.id FROM Ingredient i WHERE i.restaurantId = :restaurantId AND i.normalizedName IN :normalizedNames " +
+            "AND NOT EXISTS (SELECT m.id FROM MenuItem m JOIN m.ingredients used WHERE used.id = i.id)")
+    List<Long> findUnusedIds(@Param("restaurantId") Long restaurantId, @Param("normalizedNames") Collection<String> normalizedNames);
+}
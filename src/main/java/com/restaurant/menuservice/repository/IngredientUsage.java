@@ -0,0 +1,11 @@
+package com.restaurant.menuservice.repository;
+
+/**
+ * Projection of an ingredient onto the number of menu items using it.
+ */
+public interface IngredientUsage {
+
+    Long getId();
+
+    long getMenuItemCount();
+}
@@ -0,0 +1,25 @@
+package com.restaurant.menuservice.repository;
+
+import com.restaurant.menuservice.model.MenuChangeHorizon;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the resync horizons of the change log.
+ */
+
+@Repository
+public interface MenuChangeHorizonRepository extends JpaRepository<MenuChangeHorizon, Long> {
+
+    /**
+     * Get the resync horizon of a restaurant, including the one of all restaurants.
+     *
+     * @param restaurantId the restaurant id
+     * @return the highest sequence number its clients must have caught up with, or 0 if none
+     */
+    @Query("SELECT COALESCE(MAX(h.seq), 0) FROM MenuChangeHorizon h " +
+            "WHERE h.restaurantId = :restaurantId OR h.restaurantId = " + MenuChangeHorizon.ALL_RESTAURANTS)
+    long findHorizon(@Param("restaurantId") Long restaurantId);
+}
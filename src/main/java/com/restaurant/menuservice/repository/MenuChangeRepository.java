@@ -0,0 +1,79 @@
+package com.restaurant.menuservice.repository;
+
+import com.restaurant.menuservice.model.MenuChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the menu change log.
+ */
+
+@Repository
+public interface MenuChangeRepository extends JpaRepository<MenuChange, Long> {
+
+    /**
+     * Find the changes of a restaurant within a range of sequence numbers, oldest first.
+     *
+     * @param restaurantId the restaurant id
+     * @param from the inclusive lower bound
+     * @param to the inclusive upper bound
+     * @param pageable the maximum number of changes to return
+     * @return the changes with a sequence number from {@code from} to {@code to}
+     */
+    List<MenuChange> findByRestaurantIdAndSeqBetweenOrderBySeqAsc(Long restaurantId, Long from, Long to, Pageable pageable);
+
+    /**
+     * Get the latest sequence number recorded for a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return the highest sequence number, or 0 if the restaurant has no changes
+     */
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM MenuChange c WHERE c.restaurantId = :restaurantId")
+    long findLatestSeq(@Param("restaurantId") Long restaurantId);
+
+    /**
+     * List the restaurants that have change log entries.
+     *
+     * @return the restaurant ids
+     */
+    @Query("SELECT DISTINCT c.restaurantId FROM MenuChange c")
+    List<Long> findRestaurantIds();
+
+    /**
+     * List the sequence numbers of a restaurant from newest to oldest, used to find its retention cut-off.
+     *
+     * @param restaurantId the restaurant id
+     * @param pageable the page of sequence numbers to return
+     * @return the sequence numbers in descending order
+     */
+    @Query("SELECT c.seq FROM MenuChange c WHERE c.restaurantId = :restaurantId ORDER BY c.seq DESC")
+    List<Long> findSeqsNewestFirst(@Param("restaurantId") Long restaurantId, Pageable pageable);
+
+    /**
+     * Delete every change of a restaurant that has been superseded by a later change of the same entity.
+     *
+     * @param restaurantId the restaurant id
+     * @return the number of deleted changes
+     */
+    @Modifying
+    @Query("DELETE FROM MenuChange c WHERE c.restaurantId = :restaurantId AND c.seq < " +
+            "(SELECT MAX(l.seq) FROM MenuChange l WHERE l.entityType = c.entityType AND l.entityId = c.entityId)")
+    int deleteSuperseded(@Param("restaurantId") Long restaurantId);
+
+    /**
+     * Delete every change of a restaurant up to and including a sequence number.
+     *
+     * @param restaurantId the restaurant id
+     * @param seq the inclusive upper bound
+     * @return the number of deleted changes
+     */
+    @Modifying
+    @Query("DELETE FROM MenuChange c WHERE c.restaurantId = :restaurantId AND c.seq <= :seq")
+    int deleteUpTo(@Param("restaurantId") Long restaurantId, @Param("seq") Long seq);
+}
@@ -0,0 +1,14 @@
+package com.restaurant.menuservice.repository;
+
+/**
+ * Projection of a menu item onto one of its normalized ingredient names.
+ */
+public interface MenuItemIngredientName {
+
+    Long getMenuItemId();
+
+    /**
+     * @return the normalized ingredient name, or null for a menu item without ingredients
+     */
+    String getNormalizedName();
+}
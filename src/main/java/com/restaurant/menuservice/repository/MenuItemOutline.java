@@ -0,0 +1,34 @@
+package com.restaurant.menuservice.repository;
+
+import com.restaurant.menuservice.model.DietaryRestriction;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of a menu item onto its own columns, its category and one of its dietary
+ * restrictions and ingredient names: what a delete reports to listeners, without loading the entity.
+ */
+public interface MenuItemOutline {
+
+    Long getMenuItemId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    boolean isAvailable();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    /**
+     * @return the dietary restriction, or null for a menu item without any
+     */
+    DietaryRestriction getRestriction();
+
+    /**
+     * @return the ingredient name, or null for a menu item without ingredients
+     */
+    String getIngredientName();
+}
@@ -2,64 +2,189 @@ package com.restaurant.menuservice.repository;
 
 import com.restaurant.menuservice.model.DietaryRestriction;
 import com.restaurant.menuservice.model.MenuItem;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for MenuItem entity.
  *
  * Extends JpaRepository to inherit standard CRUD operations and
  * adds custom query methods for our specific business requirements.
+ *
+ * Every query is scoped by restaurant (tenant) id, which leads the
+ * indexes of the menu_items table.
  */
 
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
 
-    // TODO all methods/queries
+    /**
+     * Find all menu items of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return a list of the restaurant's menu items
+     */
+    List<MenuItem> findByRestaurantId(Long restaurantId);
+
+    /**
+     * Scroll through the menu items of a restaurant in id order, one window at a time.
+     *
+     * With a keyset position each window continues after the last id of the previous one,
+     * so deep windows cost the same as the first.
+     *
+     * @param restaurantId the restaurant id
+     * @param position where the previous window ended
+     * @param limit the maximum window size
+     * @return the next window of menu items
+     */
+    Window<MenuItem> findByRestaurantIdOrderByIdAsc(Long restaurantId, ScrollPosition position, Limit limit);
+
+    /**
+     * Count the menu items of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return the number of menu items
+     */
+    long countByRestaurantId(Long restaurantId);
+
+    /**
+     * Find a menu item of a restaurant by its ID, with its category.
+     *
+     * @param id the menu item ID
+     * @param restaurantId the restaurant id
+     * @return an Optional containing the menu item if found in that restaurant, or empty otherwise
+     */
+    @EntityGraph(attributePaths = "category")
+    Optional<MenuItem> findByIdAndRestaurantId(Long id, Long restaurantId);
+
+    /**
+     * Find the menu items of a restaurant with the given IDs, with their categories.
+     *
+     * @param restaurantId the restaurant id
+     * @param ids the menu item IDs
+     * @return the menu items found, in no particular order
+     */
+    @Query("SELECT m FROM MenuItem m LEFT JOIN FETCH m.category WHERE m.restaurantId = :restaurantId AND m.id IN :ids")
+    List<MenuItem> findByRestaurantIdAndIdIn(@Param("restaurantId") Long restaurantId,
+                                             @Param("ids") Collection<Long> ids);
+
+    /**
+     * Get the normalized ingredient names of all menu items of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return one row per menu item and ingredient, and one row with a null name per menu item without ingredients
+     */
+    @Query("SELECT m.id AS menuItemId, i.normalizedName AS normalizedName FROM MenuItem m LEFT JOIN m.ingredients i " +
+            "WHERE m.restaurantId = :restaurantId")
+    List<MenuItemIngredientName> findIngredientNamesByRestaurantId(@Param("restaurantId") Long restaurantId);
+
+    /**
+     * Get the names and ingredient names of all menu items of a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return one row per menu item and ingredient, and one row with a null ingredient per menu item without ingredients
+     */
+    @Query("SELECT m.id AS menuItemId, m.name AS name, i.name AS ingredientName FROM MenuItem m LEFT JOIN m.ingredients i " +
+            "WHERE m.restaurantId = :restaurantId")
+    List<MenuItemTerm> findTermsByRestaurantId(@Param("restaurantId") Long restaurantId);
+
     /**
      * Find all menu items by category ID.
      *
+     * @param restaurantId the restaurant id
      * @param categoryId the ID of the category
      * @return a list of menu items in the specified category
      */
-    List<MenuItem> findByCategoryId(Long categoryId);
+    List<MenuItem> findByRestaurantIdAndCategoryId(Long restaurantId, Long categoryId);
+
+    /**
+     * Outline a menu item, one row per combination of its dietary restrictions and ingredients.
+     *
+     * @param id the menu item id
+     * @param restaurantId the restaurant id
+     * @return the rows, none if the menu item does not exist in that restaurant
+     */
+    @Query("SELECT m.id AS menuItemId, m.name AS name, m.price AS price, m.available AS available, " +
+            "c.id AS categoryId, c.name AS categoryName, r AS restriction, i.name AS ingredientName " +
+            "FROM MenuItem m LEFT JOIN m.category c LEFT JOIN m.dietaryRestrictions r LEFT JOIN m.ingredients i " +
+            "WHERE m.id = :id AND m.restaurantId = :restaurantId")
+    List<MenuItemOutline> findOutlineByIdAndRestaurantId(@Param("id") Long id, @Param("restaurantId") Long restaurantId);
+
+    /**
+     * Delete a menu item with a single statement, scoped to its restaurant.
+     * Its dietary restrictions, ingredient links and schedule are removed along with it.
+     *
+     * @param id the menu item id
+     * @param restaurantId the restaurant id
+     * @return the number of menu items deleted, 0 if it does not exist in that restaurant
+     */
+    @Modifying
+    @Query("DELETE FROM MenuItem m WHERE m.id = :id AND m.restaurantId = :restaurantId")
+    int deleteByIdAndRestaurantId(@Param("id") Long id, @Param("restaurantId") Long restaurantId);
+
+    /**
+     * Delete all menu items of a category with a single statement.
+     * Their dietary restrictions and ingredient links are removed along with them.
+     *
+     * @param restaurantId the restaurant id
+     * @param categoryId the ID of the category
+     * @return the number of menu items deleted
+     */
+    @Modifying
+    @Query("DELETE FROM MenuItem m WHERE m.restaurantId = :restaurantId AND m.category.id = :categoryId")
+    int deleteByRestaurantIdAndCategoryId(@Param("restaurantId") Long restaurantId,
+                                          @Param("categoryId") Long categoryId);
 
     /**
      * Find all available menu items.
      *
+     * @param restaurantId the restaurant id
      * @return a list of all available menu items
      */
-    List<MenuItem> findByAvailableTrue();
+    List<MenuItem> findByRestaurantIdAndAvailableTrue(Long restaurantId);
 
     /**
      * Find all menu items with a specific dietary restriction.
      *
+     * @param restaurantId the restaurant id
      * @param restriction the dietary restriction to filter by
      * @return a list of menu items that meet the specified dietary restriction
      */
-    @Query("SELECT m FROM MenuItem m JOIN m.dietaryRestrictions r WHERE r = :restriction")
-    List<MenuItem> findByDietaryRestriction(@Param("restriction")DietaryRestriction restriction);
+    @Query("SELECT m FROM MenuItem m JOIN m.dietaryRestrictions r WHERE m.restaurantId = :restaurantId AND r = :restriction")
+    List<MenuItem> findByDietaryRestriction(@Param("restaurantId") Long restaurantId,
+                                            @Param("restriction") DietaryRestriction restriction);
 
     /**
      * Find all menu items within a specified price range.
      *
+     * @param restaurantId the restaurant id
      * @param minPrice the minimum price (inclusive)
      * @param maxPrice the maximum price (inclusive)
      * @return a list of menu items within the specified price range
      */
-    List<MenuItem> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
+    List<MenuItem> findByRestaurantIdAndPriceBetween(Long restaurantId, BigDecimal minPrice, BigDecimal maxPrice);
 
     /**
-     * Find all menu items that contain a specific ingredient.
+     * Find all menu items listing any of the given ingredients.
      *
-     * @param ingredient the ingredient to search for
-     * @return a list of menu items that contain the specified ingredient
+     * @param restaurantId the restaurant id
+     * @param ingredientIds the IDs of the ingredients
+     * @return a list of the menu items listing at least one of the ingredients
      */
-    @Query("SELECT m FROM MenuItem m JOIN m.ingredients i WHERE LOWER(i) LIKE LOWER(CONCAT('%', :ingredient, '%'))")
-    List<MenuItem> findByIngredientContainingIgnoreCase(@Param("ingredient") String ingredient);
+    @Query("SELECT DISTINCT m FROM MenuItem m JOIN m.ingredients i " +
+            "WHERE m.restaurantId = :restaurantId AND i.id IN :ingredientIds")
+    List<MenuItem> findByRestaurantIdAndIngredientIdIn(@Param("restaurantId") Long restaurantId,
+                                                       @Param("ingredientIds") Collection<Long> ingredientIds);
 }
@@ -0,0 +1,16 @@
+package com.restaurant.menuservice.repository;
+
+/**
+ * Projection of a menu item onto its name and one of its ingredient names.
+ */
+public interface MenuItemTerm {
+
+    Long getMenuItemId();
+
+    String getName();
+
+    /**
+     * @return the ingredient name, or null for a menu item without ingredients
+     */
+    String getIngredientName();
+}
@@ -0,0 +1,29 @@
+package com.restaurant.menuservice.repository;
+
+import com.restaurant.menuservice.model.MenuPublication;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for the published version pointer of each restaurant.
+ */
+
+@Repository
+public interface MenuPublicationRepository extends JpaRepository<MenuPublication, Long> {
+
+    /**
+     * Find and lock a restaurant's pointer, so concurrent publications and rollbacks take turns.
+     *
+     * @param restaurantId the restaurant id
+     * @return the pointer, or empty if the restaurant has never published
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM MenuPublication p WHERE p.restaurantId = :restaurantId")
+    Optional<MenuPublication> findForUpdate(@Param("restaurantId") Long restaurantId);
+}
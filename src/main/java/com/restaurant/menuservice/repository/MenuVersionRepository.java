@@ -0,0 +1,46 @@
+package com.restaurant.menuservice.repository;
+
+import com.restaurant.menuservice.model.MenuVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for published menu versions.
+ */
+
+@Repository
+public interface MenuVersionRepository extends JpaRepository<MenuVersion, Long> {
+
+    /**
+     * Find a published version of a restaurant's menu, including its content.
+     *
+     * @param restaurantId the restaurant id
+     * @param version the version number
+     * @return the version, if published
+     */
+    Optional<MenuVersion> findByRestaurantIdAndVersion(Long restaurantId, int version);
+
+    /**
+     * List the versions of a restaurant's menu without their content, newest first.
+     *
+     * @param restaurantId the restaurant id
+     * @return the version summaries
+     */
+    @Query("SELECT v.version AS version, v.publishedAt AS publishedAt, v.categoryCount AS categoryCount, " +
+            "v.menuItemCount AS menuItemCount FROM MenuVersion v WHERE v.restaurantId = :restaurantId ORDER BY v.version DESC")
+    List<MenuVersionSummary> findSummariesByRestaurantId(@Param("restaurantId") Long restaurantId);
+
+    /**
+     * Get the latest version number published for a restaurant.
+     *
+     * @param restaurantId the restaurant id
+     * @return the highest version number, or 0 if the restaurant has never published
+     */
+    @Query("SELECT COALESCE(MAX(v.version), 0) FROM MenuVersion v WHERE v.restaurantId = :restaurantId")
+    int findLatestVersion(@Param("restaurantId") Long restaurantId);
+}
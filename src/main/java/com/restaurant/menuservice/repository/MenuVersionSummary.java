@@ -0,0 +1,17 @@
+package com.restaurant.menuservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a menu version without its content.
+ */
+public interface MenuVersionSummary {
+
+    int getVersion();
+
+    LocalDateTime getPublishedAt();
+
+    int getCategoryCount();
+
+    int getMenuItemCount();
+}
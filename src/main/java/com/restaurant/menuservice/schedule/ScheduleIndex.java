@@ -0,0 +1,303 @@
+package com.restaurant.menuservice.schedule;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.ScheduleWindowDto;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Answers which menu items are served at a given time, from memory.
+ *
+ * A menu item is served when it is available and inside one of its own schedule windows and one
+ * of its category's, where an empty schedule means always. The windows of every time zone are
+ * laid out on a week of minutes, cut at every window start and end into segments that each know
+ * the windows open during them, so a lookup is a binary search per time zone instead of a walk
+ * over every window. Only date ranges, which are rare, are checked per open window.
+ *
+ * The segments are rebuilt on the first lookup after a schedule changes; edits that leave the
+ * schedules alone, such as price changes, do not invalidate them. Reads share a read lock; writes
+ * take the write lock.
+ */
+public class ScheduleIndex {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Item> items = new HashMap<>();
+    private final Map<Long, List<Window>> categories = new HashMap<>();
+    private Map<ZoneId, Timeline> timelines;
+
+    private record Item(MenuItemDto menuItem, List<Window> windows) {
+    }
+
+    /*
+     * A schedule window of a menu item or category, in minutes from the start of its day of the week.
+     * Overnight windows run past MINUTES_PER_DAY.
+     */
+    private record Window(boolean category, long ownerId, ZoneId zone, int days, int start, int end,
+                          LocalDate from, LocalDate until) {
+
+        static Window of(boolean category, long ownerId, ScheduleWindowDto window) {
+            int start = window.getStart().toSecondOfDay() / 60;
+            int end = window.getEnd().toSecondOfDay() / 60;
+            int days = 0;
+            for (DayOfWeek day : window.getDays().isEmpty() ? Set.of(DayOfWeek.values()) : window.getDays()) {
+                days |= 1 << (day.getValue() - 1);
+            }
+            return new Window(category, ownerId, ZoneId.of(window.getTimeZone() != null ? window.getTimeZone() : "UTC"),
+                    days, start, end > start ? end : end + MINUTES_PER_DAY, window.getFrom(), window.getUntil());
+        }
+
+        // the occurrence open at a local time started today, or yesterday if it runs past midnight
+        boolean inDateRange(LocalDateTime local) {
+            if (from == null && until == null) {
+                return true;
+            }
+            LocalDate started = local.getHour() * 60 + local.getMinute() >= start ? local.toLocalDate() : local.toLocalDate().minusDays(1);
+            return (from == null || !started.isBefore(from)) && (until == null || !started.isAfter(until));
+        }
+    }
+
+    /*
+     * The windows of one time zone over a week: segment i starts at boundaries[i] and has the
+     * windows open[i] open.
+     */
+    private record Timeline(Window[] windows, int[] boundaries, BitSet[] open) {
+
+        static Timeline build(List<Window> windows) {
+            TreeSet<Integer> points = new TreeSet<>(List.of(0));
+            for (Window window : windows) {
+                forEachInterval(window, (start, end) -> {
+                    points.add(start);
+                    points.add(end);
+                });
+            }
+            points.remove(MINUTES_PER_WEEK);
+            int[] boundaries = points.stream().mapToInt(Integer::intValue).toArray();
+            BitSet[] open = new BitSet[boundaries.length];
+            for (int i = 0; i < open.length; i++) {
+                open[i] = new BitSet(windows.size());
+            }
+            for (int slot = 0; slot < windows.size(); slot++) {
+                int windowSlot = slot;
+                forEachInterval(windows.get(slot), (start, end) -> {
+                    for (int i = segment(boundaries, start); i < boundaries.length && boundaries[i] < end; i++) {
+                        open[i].set(windowSlot);
+                    }
+                });
+            }
+            return new Timeline(windows.toArray(Window[]::new), boundaries, open);
+        }
+
+        // the intervals of the week the window covers, split where it wraps past the end of the week
+        private static void forEachInterval(Window window, IntervalConsumer consumer) {
+            for (int day = 0; day < 7; day++) {
+                if ((window.days() & (1 << day)) == 0) {
+                    continue;
+                }
+                int start = day * MINUTES_PER_DAY + window.start();
+                int end = day * MINUTES_PER_DAY + window.end();
+                if (end > MINUTES_PER_WEEK) {
+                    consumer.accept(start, MINUTES_PER_WEEK);
+                    consumer.accept(0, end - MINUTES_PER_WEEK);
+                } else {
+                    consumer.accept(start, end);
+                }
+            }
+        }
+
+        private static int segment(int[] boundaries, int minute) {
+            int i = Arrays.binarySearch(boundaries, minute);
+            return i >= 0 ? i : -i - 2;
+        }
+
+        void collectOpen(Instant at, Set<Long> openItems, Set<Long> openCategories) {
+            if (windows.length == 0) {
+                return;
+            }
+            LocalDateTime local = LocalDateTime.ofInstant(at, windows[0].zone());
+            int minute = (local.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + local.getHour() * 60 + local.getMinute();
+            BitSet segment = open[segment(boundaries, minute)];
+            for (int slot = segment.nextSetBit(0); slot >= 0; slot = segment.nextSetBit(slot + 1)) {
+                Window window = windows[slot];
+                if (window.inDateRange(local)) {
+                    (window.category() ? openCategories : openItems).add(window.ownerId());
+                }
+            }
+        }
+    }
+
+    private interface IntervalConsumer {
+        void accept(int start, int end);
+    }
+
+    /**
+     * Add or replace a menu item and its schedule.
+     *
+     * @param menuItem the menu item, which is kept and must not be changed afterwards
+     */
+    public void put(MenuItemDto menuItem) {
+        List<Window> windows = windows(false, menuItem.getId(), menuItem.getSchedule());
+        lock.writeLock().lock();
+        try {
+            Item previous = items.put(menuItem.getId(), new Item(menuItem, windows));
+            if (previous == null ? !windows.isEmpty() : !previous.windows().equals(windows)) {
+                timelines = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a menu item, if present.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Item previous = items.remove(id);
+            if (previous != null && !previous.windows().isEmpty()) {
+                timelines = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Set the schedule of a category.
+     */
+    public void putCategory(long id, List<ScheduleWindowDto> schedule) {
+        List<Window> windows = windows(true, id, schedule);
+        lock.writeLock().lock();
+        try {
+            List<Window> previous = windows.isEmpty() ? categories.remove(id) : categories.put(id, windows);
+            if (!windows.equals(previous == null ? List.of() : previous)) {
+                timelines = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a category's schedule, if any.
+     */
+    public void removeCategory(long id) {
+        putCategory(id, List.of());
+    }
+
+    /**
+     * Get the menu items served at a point in time.
+     *
+     * @return the available menu items inside their own and their category's schedule, by id
+     */
+    public List<MenuItemDto> availableAt(Instant at) {
+        lockTimelines();
+        try {
+            Set<Long> openItems = new HashSet<>();
+            Set<Long> openCategories = new HashSet<>();
+            timelines.values().forEach(timeline -> timeline.collectOpen(at, openItems, openCategories));
+            List<MenuItemDto> available = new ArrayList<>();
+            for (Item item : items.values()) {
+                if (served(item, openItems, openCategories)) {
+                    available.add(item.menuItem());
+                }
+            }
+            available.sort(Comparator.comparing(MenuItemDto::getId));
+            return available;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tell which of the given menu items are served at a point in time, as {@link #availableAt} would.
+     *
+     * @param ids the menu item ids
+     * @param at the point in time
+     * @param served filled with whether each menu item is served; {@code false} for an unknown id
+     */
+    public void getServed(long[] ids, Instant at, boolean[] served) {
+        lockTimelines();
+        try {
+            Set<Long> openItems = new HashSet<>();
+            Set<Long> openCategories = new HashSet<>();
+            timelines.values().forEach(timeline -> timeline.collectOpen(at, openItems, openCategories));
+            for (int i = 0; i < ids.length; i++) {
+                Item item = items.get(ids[i]);
+                served[i] = item != null && served(item, openItems, openCategories);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // takes the read lock, with the segments built; the caller releases it
+    private void lockTimelines() {
+        lock.readLock().lock();
+        if (timelines == null) {
+            // upgrade to rebuild the segments, then downgrade to keep reading them
+            lock.readLock().unlock();
+            lock.writeLock().lock();
+            try {
+                if (timelines == null) {
+                    timelines = buildTimelines();
+                }
+                lock.readLock().lock();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private boolean served(Item item, Set<Long> openItems, Set<Long> openCategories) {
+        MenuItemDto menuItem = item.menuItem();
+        Long categoryId = menuItem.getCategoryId();
+        return menuItem.isAvailable()
+                && (item.windows().isEmpty() || openItems.contains(menuItem.getId()))
+                && (categoryId == null || !categories.containsKey(categoryId) || openCategories.contains(categoryId));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return items.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<ZoneId, Timeline> buildTimelines() {
+        Map<ZoneId, List<Window>> byZone = new HashMap<>();
+        items.values().forEach(item -> item.windows().forEach(window -> byZone.computeIfAbsent(window.zone(), zone -> new ArrayList<>()).add(window)));
+        categories.values().forEach(windows -> windows.forEach(window -> byZone.computeIfAbsent(window.zone(), zone -> new ArrayList<>()).add(window)));
+        Map<ZoneId, Timeline> built = new HashMap<>();
+        byZone.forEach((zone, windows) -> built.put(zone, Timeline.build(windows)));
+        return built;
+    }
+
+    private static List<Window> windows(boolean category, long ownerId, List<ScheduleWindowDto> schedule) {
+        if (schedule == null || schedule.isEmpty()) {
+            return List.of();
+        }
+        return schedule.stream().map(window -> Window.of(category, ownerId, window)).toList();
+    }
+}
@@ -0,0 +1,217 @@
+package com.restaurant.menuservice.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * BK-tree of terms under the Levenshtein distance, for typo-tolerant lookups.
+ *
+ * Every child hangs off its parent at its distance to the parent's term. By the triangle
+ * inequality, the terms within distance k of a query below a node at distance d from it can only
+ * be in the children at distances d-k to d+k, so a lookup only descends into a narrow band of the
+ * tree instead of comparing the query with every term.
+ *
+ * Terms are reference counted, since the same term comes from several menu items. A term whose
+ * count drops to zero stays in the tree as a tombstone, as removing a node would orphan its
+ * subtree; the tree is rebuilt from the live terms once tombstones outnumber them. Not thread
+ * safe: callers synchronize.
+ */
+public class BkTree {
+
+    private Node root;
+    private int live;
+    private int dead;
+
+    /**
+     * A term within the requested distance of a query.
+     */
+    public record Match(String term, int distance) {
+    }
+
+    private static final class Node {
+        private final String term;
+        private int count;
+        private int maxChildDistance;
+        private int[] distances = new int[0];
+        private Node[] children = new Node[0];
+
+        private Node(String term) {
+            this.term = term;
+        }
+
+        private Node child(int distance) {
+            for (int i = 0; i < distances.length; i++) {
+                if (distances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(int distance, Node child) {
+            distances = Arrays.copyOf(distances, distances.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            distances[distances.length - 1] = distance;
+            children[children.length - 1] = child;
+            maxChildDistance = Math.max(maxChildDistance, distance);
+        }
+    }
+
+    /**
+     * Add a reference to a term.
+     */
+    public void add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            root.count = 1;
+            live++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                if (node.count++ == 0) {
+                    // a tombstone comes back to life
+                    live++;
+                    dead--;
+                }
+                return;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                child = new Node(term);
+                child.count = 1;
+                node.addChild(distance, child);
+                live++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Remove a reference to a term, if present.
+     */
+    public void remove(String term) {
+        Node node = root;
+        while (node != null) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                if (node.count > 0 && --node.count == 0) {
+                    live--;
+                    dead++;
+                    if (dead > live) {
+                        rebuild();
+                    }
+                }
+                return;
+            }
+            node = node.child(distance);
+        }
+    }
+
+    /**
+     * Find the live terms within a distance of a query.
+     *
+     * @param query the query term
+     * @param maxDistance the maximum Levenshtein distance
+     * @return the matching terms, in no particular order
+     */
+    public List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        int[] row = new int[query.length() + 1];
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            // beyond the farthest child's band nothing below matches, so the exact distance is not needed
+            int distance = distance(node.term, query, row, node.maxChildDistance + maxDistance);
+            if (distance <= maxDistance && node.count > 0) {
+                matches.add(new Match(node.term, distance));
+            }
+            for (int i = 0; i < node.distances.length; i++) {
+                if (Math.abs(node.distances[i] - distance) <= maxDistance) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return the number of live terms
+     */
+    public int size() {
+        return live;
+    }
+
+    private void rebuild() {
+        List<Node> nodes = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (node.count > 0) {
+                nodes.add(node);
+            }
+            for (Node child : node.children) {
+                pending.push(child);
+            }
+        }
+
+        root = null;
+        live = 0;
+        dead = 0;
+        for (Node node : nodes) {
+            for (int i = 0; i < node.count; i++) {
+                add(node.term);
+            }
+        }
+    }
+
+    /**
+     * Levenshtein distance between two strings, with a single row of memory.
+     */
+    public static int distance(String a, String b) {
+        return a.length() < b.length()
+                ? distance(b, a, new int[a.length() + 1], Integer.MAX_VALUE)
+                : distance(a, b, new int[b.length() + 1], Integer.MAX_VALUE);
+    }
+
+    /*
+     * The distance, or any value above the limit once it is known to exceed it: the row minimum
+     * never decreases. The row holds b.length() + 1 entries and is overwritten, so a lookup
+     * allocates it only once.
+     */
+    private static int distance(String a, String b, int[] row, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int diagonal = row[0];
+            row[0] = i;
+            int minimum = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int above = row[j];
+                row[j] = Math.min(Math.min(above + 1, row[j - 1] + 1), diagonal + (c == b.charAt(j - 1) ? 0 : 1));
+                minimum = Math.min(minimum, row[j]);
+                diagonal = above;
+            }
+            if (minimum > limit) {
+                return limit + 1;
+            }
+        }
+        return row[b.length()];
+    }
+}
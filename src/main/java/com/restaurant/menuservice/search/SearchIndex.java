@@ -0,0 +1,198 @@
+package com.restaurant.menuservice.search;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index of menu items, ranked with BM25.
+ *
+ * A menu item's name, category name, ingredients and description are analyzed with the
+ * {@link TextAnalyzer}; each term occurrence counts with the weight of its field, so a match in
+ * the name outranks one in the description. Each term maps to the weighted frequency of the term
+ * in every menu item listing it. Reads share a read lock; writes are rare (menu edits) and take
+ * the write lock.
+ *
+ * For typo-tolerant searches the terms of names and ingredients are also kept in a {@link BkTree}:
+ * each query term is expanded to the terms within a few edits of it, which score less the more
+ * edits they are away.
+ */
+public class SearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    static final int CATEGORY_WEIGHT = 2;
+    static final int INGREDIENT_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    // BM25 term frequency saturation and length normalization
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final BkTree nameTerms = new BkTree();
+    private long totalLength;
+
+    private record Document(MenuItemDto menuItem, Map<String, Integer> frequencies, Set<String> nameTerms, int length) {
+    }
+
+    /**
+     * A menu item matching a query.
+     */
+    public record Hit(MenuItemDto menuItem, double score) {
+    }
+
+    /**
+     * Add or replace a menu item.
+     *
+     * @param menuItem the menu item, which is kept and must not be changed afterwards
+     */
+    public void put(MenuItemDto menuItem) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, menuItem.getName(), NAME_WEIGHT);
+        if (menuItem.getIngredients() != null) {
+            menuItem.getIngredients().forEach(ingredient -> addTerms(frequencies, ingredient, INGREDIENT_WEIGHT));
+        }
+        Set<String> names = new HashSet<>(frequencies.keySet());
+        addTerms(frequencies, menuItem.getCategoryName(), CATEGORY_WEIGHT);
+        addTerms(frequencies, menuItem.getDescription(), DESCRIPTION_WEIGHT);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(menuItem.getId());
+            documents.put(menuItem.getId(), new Document(menuItem, frequencies, names, length));
+            names.forEach(nameTerms::add);
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(menuItem.getId(), frequency));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a menu item, if present.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the menu items best matching a query.
+     *
+     * A menu item matches when it has any of the query terms; terms that are rare in the menu and
+     * frequent in the menu item weigh most.
+     *
+     * @param query the query text
+     * @param fuzzy whether to also match names and ingredients a few typos away from the query terms
+     * @param filter the menu items to consider
+     * @param limit the maximum number of hits
+     * @return the hits, best first
+     */
+    public List<Hit> search(String query, boolean fuzzy, Predicate<MenuItemDto> filter, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            // each term to score, with the weight of its best match among the query terms
+            Map<String, Double> terms = new HashMap<>();
+            for (String queryTerm : queryTerms) {
+                terms.put(queryTerm, 1.0);
+                if (fuzzy) {
+                    for (BkTree.Match match : nameTerms.search(queryTerm, maxEdits(queryTerm))) {
+                        terms.merge(match.term(), 1.0 / (1 + match.distance()), Math::max);
+                    }
+                }
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / documents.size());
+            Map<Long, Boolean> accepted = new HashMap<>();
+            Map<Long, Double> scores = new HashMap<>();
+            for (Map.Entry<String, Double> term : terms.entrySet()) {
+                Map<Long, Integer> termPostings = postings.get(term.getKey());
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = term.getValue() * Math.log(1 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                termPostings.forEach((id, frequency) -> {
+                    Document document = documents.get(id);
+                    if (accepted.computeIfAbsent(id, key -> filter.test(document.menuItem()))) {
+                        double norm = K1 * (1 - B + B * document.length() / averageLength);
+                        scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                    }
+                });
+            }
+
+            // keep the best hits in a bounded min-heap
+            Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score)
+                    .thenComparing(hit -> -hit.menuItem().getId());
+            PriorityQueue<Hit> best = new PriorityQueue<>(ranking);
+            scores.forEach((id, score) -> {
+                best.add(new Hit(documents.get(id).menuItem(), score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            });
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(ranking.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // short words tolerate no typo: "tea" is not "pea"
+    static int maxEdits(String term) {
+        return term.length() < 4 ? 0 : term.length() < 7 ? 1 : 2;
+    }
+
+    private void removeDocument(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        document.frequencies().keySet().forEach(term -> {
+            Map<Long, Integer> termPostings = postings.get(term);
+            termPostings.remove(id);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        document.nameTerms().forEach(nameTerms::remove);
+        totalLength -= document.length();
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : TextAnalyzer.analyze(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.restaurant.menuservice.search;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.model.Ingredient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Finds menu items with similar ingredients, using MinHash signatures and locality-sensitive hashing.
+ *
+ * Each menu item's ingredient set gets a signature of {@value #HASHES} minimum hashes; two sets
+ * agree on any one of them with a probability equal to their Jaccard similarity. The signature is
+ * cut into {@value #BANDS} bands of {@value #ROWS} rows and every band is hashed into a bucket, so
+ * items sharing a bucket are likely similar: pairs at similarity 0.5 share a bucket with a
+ * probability of about 99%, pairs at 1/3 (a dish sharing two of four ingredients) with about 70%,
+ * pairs at 0.1 with about 3%. A lookup only ranks the items sharing a bucket with the menu item,
+ * by their exact Jaccard similarity, instead of comparing it with the whole menu. Reads share a
+ * read lock; writes take the write lock.
+ */
+public class SimilarityIndex {
+
+    static final int BANDS = 32;
+    static final int ROWS = 3;
+    static final int HASHES = BANDS * ROWS;
+
+    private static final long[] SEEDS = new SplittableRandom(0x5eed).longs(HASHES).toArray();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    // bucket key to the menu items in it, per band
+    private final List<Map<Long, Set<Long>>> buckets = new ArrayList<>(BANDS);
+
+    private record Document(MenuItemDto menuItem, Set<String> ingredients, long[] bucketKeys) {
+    }
+
+    /**
+     * A menu item similar to another one.
+     *
+     * @param similarity the Jaccard similarity of their ingredients, from 0 to 1
+     */
+    public record Hit(MenuItemDto menuItem, double similarity) {
+    }
+
+    public SimilarityIndex() {
+        for (int band = 0; band < BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Add or replace a menu item.
+     *
+     * @param menuItem the menu item, which is kept and must not be changed afterwards
+     */
+    public void put(MenuItemDto menuItem) {
+        Set<String> ingredients = new HashSet<>();
+        if (menuItem.getIngredients() != null) {
+            menuItem.getIngredients().forEach(ingredient -> ingredients.add(Ingredient.normalize(ingredient)));
+        }
+        // a menu item without ingredients is similar to nothing, so it is not bucketed
+        long[] bucketKeys = ingredients.isEmpty() ? new long[0] : bucketKeys(signature(ingredients));
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(menuItem.getId());
+            documents.put(menuItem.getId(), new Document(menuItem, ingredients, bucketKeys));
+            for (int band = 0; band < bucketKeys.length; band++) {
+                buckets.get(band).computeIfAbsent(bucketKeys[band], key -> new HashSet<>()).add(menuItem.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a menu item, if present.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the menu items most similar to a menu item.
+     *
+     * Only menu items meeting at least the dietary restrictions of the menu item qualify, so a
+     * vegan dish is only ever replaced by another vegan dish.
+     *
+     * @param id the menu item
+     * @param filter the menu items to consider
+     * @param limit the maximum number of hits
+     * @return the hits, most similar first, or null if the menu item is unknown
+     */
+    public List<Hit> similar(long id, Predicate<MenuItemDto> filter, int limit) {
+        lock.readLock().lock();
+        try {
+            Document document = documents.get(id);
+            if (document == null) {
+                return null;
+            }
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < document.bucketKeys().length; band++) {
+                candidates.addAll(buckets.get(band).get(document.bucketKeys()[band]));
+            }
+            candidates.remove(id);
+
+            List<Hit> hits = new ArrayList<>();
+            for (Long candidateId : candidates) {
+                MenuItemDto candidate = documents.get(candidateId).menuItem();
+                if (candidate.getDietaryRestrictions().containsAll(document.menuItem().getDietaryRestrictions())
+                        && filter.test(candidate)) {
+                    hits.add(new Hit(candidate, jaccard(document.ingredients(), documents.get(candidateId).ingredients())));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::similarity).reversed()
+                    .thenComparing(hit -> hit.menuItem().getId()));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static int[] signature(Set<String> ingredients) {
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String ingredient : ingredients) {
+            long hash = ingredient.hashCode();
+            for (int i = 0; i < HASHES; i++) {
+                signature[i] = Math.min(signature[i], (int) mix(hash ^ SEEDS[i]));
+            }
+        }
+        return signature;
+    }
+
+    static double jaccard(Set<String> a, Set<String> b) {
+        int common = 0;
+        for (String ingredient : a) {
+            if (b.contains(ingredient)) {
+                common++;
+            }
+        }
+        int union = a.size() + b.size() - common;
+        return union == 0 ? 0 : (double) common / union;
+    }
+
+    private static long[] bucketKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = 0;
+            for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                key = mix(key ^ signature[row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    private void removeDocument(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (int band = 0; band < document.bucketKeys().length; band++) {
+            Set<Long> bucket = buckets.get(band).get(document.bucketKeys()[band]);
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                buckets.get(band).remove(document.bucketKeys()[band]);
+            }
+        }
+    }
+
+    // the MurmurHash3 finalizer: every input bit affects every output bit
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
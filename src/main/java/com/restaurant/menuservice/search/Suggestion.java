@@ -0,0 +1,24 @@
+package com.restaurant.menuservice.search;
+
+import java.util.Comparator;
+
+/**
+ * A typeahead completion.
+ *
+ * @param term the normalized text, which identifies the suggestion together with its type
+ * @param text the text to display
+ * @param type what the suggestion completes to
+ * @param score the popularity: the number of menu items with this name or ingredient
+ */
+public record Suggestion(String term, String text, SuggestionType type, long score) {
+
+    /** Most popular first, then shortest, then alphabetical. */
+    public static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::score).reversed()
+            .thenComparingInt(suggestion -> suggestion.text().length())
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::type);
+
+    boolean sameAs(Suggestion other) {
+        return type == other.type && term.equals(other.term);
+    }
+}
@@ -0,0 +1,178 @@
+package com.restaurant.menuservice.search;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.repository.MenuItemTerm;
+import com.restaurant.menuservice.service.ChangeLogService;
+import com.restaurant.menuservice.tenant.TenantRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds a {@link SuggestionTrie} per restaurant.
+ *
+ * A restaurant's trie is built from the database on first use and from then on updated with
+ * committed menu item changes: only the terms whose menu item count changed are put back into
+ * the trie. Updates are serialized per restaurant; completions read the current trie without
+ * locking.
+ */
+@Component
+public class SuggestionRegistry {
+
+    private final TenantRegistry<TenantSuggestions> tenants;
+
+    public SuggestionRegistry(MenuItemRepository menuItemRepository, PlatformTransactionManager transactionManager,
+                              ChangeLogService changeLogService) {
+        this.tenants = new TenantRegistry<>(transactionManager, changeLogService,
+                restaurantId -> load(menuItemRepository, restaurantId), SuggestionRegistry::apply);
+    }
+
+    private record Term(SuggestionType type, String term) {
+    }
+
+    private static final class TermCount {
+        private final String text;
+        private long count;
+
+        private TermCount(String text) {
+            this.text = text;
+        }
+    }
+
+    private static final class TenantSuggestions {
+        private volatile SuggestionTrie trie = SuggestionTrie.EMPTY;
+
+        // changed by one applied change at a time
+        private final Map<Long, Map<Term, String>> termsByItem = new HashMap<>();
+        private final Map<Term, TermCount> counts = new HashMap<>();
+    }
+
+    /**
+     * Get the best suggestions of a restaurant with a word starting with a prefix.
+     *
+     * @param restaurantId the restaurant id
+     * @param prefix the prefix, normalized or not
+     * @param limit the maximum number of suggestions, at most {@link SuggestionTrie#MAX_SUGGESTIONS}
+     * @return the suggestions, best first
+     */
+    public List<Suggestion> suggest(Long restaurantId, String prefix, int limit) {
+        return tenants.get(restaurantId).trie.complete(SuggestionTrie.normalize(prefix), limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        if (event.change().getEntityType() == ChangeEntityType.MENU_ITEM) {
+            tenants.apply(event);
+        }
+    }
+
+    private static TenantSuggestions load(MenuItemRepository menuItemRepository, Long restaurantId) {
+        TenantSuggestions tenant = new TenantSuggestions();
+        Map<Long, Map<Term, String>> termsByItem = new HashMap<>();
+        for (MenuItemTerm row : menuItemRepository.findTermsByRestaurantId(restaurantId)) {
+            Map<Term, String> terms = termsByItem.computeIfAbsent(row.getMenuItemId(), id -> terms(row.getName(), List.of()));
+            if (row.getIngredientName() != null) {
+                terms.putAll(terms(null, List.of(row.getIngredientName())));
+            }
+        }
+        termsByItem.forEach((menuItemId, terms) -> update(tenant, menuItemId, terms));
+        tenant.trie = trie(tenant);
+        return tenant;
+    }
+
+    /**
+     * Build the trie of a fixed set of menu items, such as a published menu.
+     */
+    public static SuggestionTrie build(Collection<MenuItemDto> menuItems) {
+        TenantSuggestions tenant = new TenantSuggestions();
+        menuItems.forEach(menuItem -> update(tenant, menuItem.getId(),
+                terms(menuItem.getName(), menuItem.getIngredients() == null ? List.of() : menuItem.getIngredients())));
+        return trie(tenant);
+    }
+
+    private static SuggestionTrie trie(TenantSuggestions tenant) {
+        SuggestionTrie trie = SuggestionTrie.EMPTY;
+        for (Map.Entry<Term, TermCount> entry : tenant.counts.entrySet()) {
+            trie = put(trie, entry.getKey(), entry.getValue());
+        }
+        return trie;
+    }
+
+    private static void apply(TenantSuggestions tenant, MenuChangeEvent event) {
+        MenuItemDto menuItem = event.change().getMenuItem();
+        Map<Term, String> terms = event.change().getOperation() == ChangeOperation.DELETE
+                ? Map.of()
+                : terms(menuItem.getName(), menuItem.getIngredients() == null ? List.of() : menuItem.getIngredients());
+
+        Set<Term> changed = update(tenant, event.change().getEntityId(), terms);
+        SuggestionTrie trie = tenant.trie;
+        for (Term term : changed) {
+            trie = put(trie, term, tenant.counts.get(term));
+        }
+        tenant.trie = trie;
+    }
+
+    /**
+     * Replace the terms of a menu item and adjust the term counts.
+     *
+     * @return the terms whose count changed
+     */
+    private static Set<Term> update(TenantSuggestions tenant, Long menuItemId, Map<Term, String> terms) {
+        Map<Term, String> previous = terms.isEmpty()
+                ? tenant.termsByItem.remove(menuItemId)
+                : tenant.termsByItem.put(menuItemId, terms);
+        Set<Term> changed = new HashSet<>();
+        if (previous != null) {
+            for (Term term : previous.keySet()) {
+                if (!terms.containsKey(term)) {
+                    TermCount count = tenant.counts.get(term);
+                    if (--count.count == 0) {
+                        tenant.counts.remove(term);
+                    }
+                    changed.add(term);
+                }
+            }
+        }
+        terms.forEach((term, text) -> {
+            if (previous == null || !previous.containsKey(term)) {
+                tenant.counts.computeIfAbsent(term, key -> new TermCount(text)).count++;
+                changed.add(term);
+            }
+        });
+        return changed;
+    }
+
+    private static SuggestionTrie put(SuggestionTrie trie, Term term, TermCount count) {
+        return count == null
+                ? trie.without(term.term(), term.type())
+                : trie.with(new Suggestion(term.term(), count.text, term.type(), count.count));
+    }
+
+    private static Map<Term, String> terms(String name, Collection<String> ingredients) {
+        Map<Term, String> terms = new HashMap<>();
+        if (name != null) {
+            add(terms, SuggestionType.MENU_ITEM, name);
+        }
+        ingredients.forEach(ingredient -> add(terms, SuggestionType.INGREDIENT, ingredient));
+        return terms;
+    }
+
+    private static void add(Map<Term, String> terms, SuggestionType type, String text) {
+        String term = SuggestionTrie.normalize(text);
+        if (!term.isEmpty()) {
+            terms.putIfAbsent(new Term(type, term), text.trim());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.restaurant.menuservice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable compressed (radix) trie of typeahead suggestions.
+ *
+ * A suggestion is reachable from the start of every word of its term, so "carb" completes to
+ * "Spaghetti alla Carbonara". Every node keeps the best {@link #MAX_SUGGESTIONS} suggestions of
+ * its subtree, so a completion walks the prefix and returns a ready-made list, whatever the
+ * size of the menu. Updates copy the nodes on the changed paths and return a new trie, so
+ * readers never lock: they complete against whichever version they were handed.
+ */
+public final class SuggestionTrie {
+
+    /** The maximum number of suggestions a completion returns. */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    public static final SuggestionTrie EMPTY = new SuggestionTrie(new Node("", NO_CHILDREN, NO_SUGGESTIONS));
+
+    private final Node root;
+
+    private SuggestionTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Normalize a text for matching: lower case, without accents, with single spaces between words.
+     */
+    public static String normalize(String text) {
+        return WHITESPACE.matcher(TextAnalyzer.fold(text).trim()).replaceAll(" ");
+    }
+
+    /**
+     * Add a suggestion, replacing the one with the same term and type.
+     *
+     * @return the updated trie
+     */
+    public SuggestionTrie with(Suggestion suggestion) {
+        Node updated = root;
+        for (String key : keys(suggestion.term())) {
+            updated = put(updated, key, 0, suggestion);
+        }
+        return new SuggestionTrie(updated);
+    }
+
+    /**
+     * Remove the suggestion with a term and type, if present.
+     *
+     * @return the updated trie
+     */
+    public SuggestionTrie without(String term, SuggestionType type) {
+        Suggestion removed = new Suggestion(term, term, type, 0);
+        Node updated = root;
+        for (String key : keys(term)) {
+            updated = remove(updated, key, 0, removed);
+        }
+        return updated == root ? this : new SuggestionTrie(updated);
+    }
+
+    /**
+     * Get the best suggestions with a word starting with a prefix.
+     *
+     * @param prefix the normalized prefix
+     * @param limit the maximum number of suggestions, at most {@link #MAX_SUGGESTIONS}
+     * @return the suggestions, best first
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            int index = indexOf(node.children, prefix.charAt(offset));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int remaining = prefix.length() - offset;
+            if (remaining < child.label.length()) {
+                // the prefix ends inside the label of this child
+                if (!child.label.startsWith(prefix.substring(offset))) {
+                    return List.of();
+                }
+                node = child;
+                break;
+            }
+            if (!prefix.startsWith(child.label, offset)) {
+                return List.of();
+            }
+            offset += child.label.length();
+            node = child;
+        }
+        return List.of(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    private static List<String> keys(String term) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < term.length(); i++) {
+            if (i == 0 || term.charAt(i - 1) == ' ') {
+                keys.add(term.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private static Node put(Node node, String key, int offset, Suggestion suggestion) {
+        if (offset == key.length()) {
+            return new Node(node.label, node.children, replace(node.suggestions, suggestion));
+        }
+
+        int index = indexOf(node.children, key.charAt(offset));
+        if (index < 0) {
+            Node leaf = new Node(key.substring(offset), NO_CHILDREN, new Suggestion[]{suggestion});
+            Node[] children = new Node[node.children.length + 1];
+            int at = -index - 1;
+            System.arraycopy(node.children, 0, children, 0, at);
+            children[at] = leaf;
+            System.arraycopy(node.children, at, children, at + 1, node.children.length - at);
+            return new Node(node.label, children, node.suggestions);
+        }
+
+        Node child = node.children[index];
+        int common = commonPrefix(child.label, key, offset);
+        Node replaced;
+        if (common == child.label.length()) {
+            replaced = put(child, key, offset + common, suggestion);
+        } else {
+            // split the edge where the key leaves it
+            Node tail = child.withLabel(child.label.substring(common));
+            Node split = new Node(child.label.substring(0, common), new Node[]{tail}, NO_SUGGESTIONS);
+            replaced = put(split, key, offset + common, suggestion);
+        }
+        Node[] children = node.children.clone();
+        children[index] = replaced;
+        return new Node(node.label, children, node.suggestions);
+    }
+
+    /**
+     * Remove a suggestion below a node.
+     *
+     * @return the updated node, which may have become removable, or the same node if nothing changed
+     */
+    private static Node remove(Node node, String key, int offset, Suggestion removed) {
+        if (offset == key.length()) {
+            Suggestion[] remaining = Arrays.stream(node.suggestions)
+                    .filter(suggestion -> !suggestion.sameAs(removed))
+                    .toArray(Suggestion[]::new);
+            return remaining.length == node.suggestions.length ? node : new Node(node.label, node.children, remaining);
+        }
+
+        int index = indexOf(node.children, key.charAt(offset));
+        if (index < 0 || !key.startsWith(node.children[index].label, offset)) {
+            return node;
+        }
+        Node child = node.children[index];
+        Node replaced = remove(child, key, offset + child.label.length(), removed);
+        if (replaced == child) {
+            return node;
+        }
+
+        Node[] children;
+        if (replaced.suggestions.length == 0 && replaced.children.length == 0) {
+            children = new Node[node.children.length - 1];
+            System.arraycopy(node.children, 0, children, 0, index);
+            System.arraycopy(node.children, index + 1, children, index, children.length - index);
+        } else {
+            // a node left with one child and nothing of its own is merged into that child
+            if (replaced.suggestions.length == 0 && replaced.children.length == 1) {
+                replaced = replaced.children[0].withLabel(replaced.label + replaced.children[0].label);
+            }
+            children = node.children.clone();
+            children[index] = replaced;
+        }
+        return new Node(node.label, children, node.suggestions);
+    }
+
+    private static Suggestion[] replace(Suggestion[] suggestions, Suggestion suggestion) {
+        Suggestion[] replaced = Arrays.copyOf(suggestions, suggestions.length + 1);
+        for (int i = 0; i < suggestions.length; i++) {
+            if (suggestions[i].sameAs(suggestion)) {
+                replaced = suggestions.clone();
+                replaced[i] = suggestion;
+                return replaced;
+            }
+        }
+        replaced[suggestions.length] = suggestion;
+        return replaced;
+    }
+
+    // binary search on the first character of the labels, which are unique among siblings
+    private static int indexOf(Node[] children, char c) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = children[mid].label.charAt(0);
+            if (first < c) {
+                low = mid + 1;
+            } else if (first > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+
+        private final String label;
+        private final Node[] children;
+        private final Suggestion[] suggestions;
+        private final Suggestion[] top;
+
+        private Node(String label, Node[] children, Suggestion[] suggestions) {
+            this(label, children, suggestions, best(children, suggestions));
+        }
+
+        private Node(String label, Node[] children, Suggestion[] suggestions, Suggestion[] top) {
+            this.label = label;
+            this.children = children;
+            this.suggestions = suggestions;
+            this.top = top;
+        }
+
+        private Node withLabel(String label) {
+            return new Node(label, children, suggestions, top);
+        }
+
+        // a suggestion reachable through several words of its term is only counted once
+        private static Suggestion[] best(Node[] children, Suggestion[] suggestions) {
+            List<Suggestion> candidates = new ArrayList<>(Arrays.asList(suggestions));
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(Suggestion.RANKING);
+
+            List<Suggestion> best = new ArrayList<>(MAX_SUGGESTIONS);
+            for (Suggestion candidate : candidates) {
+                if (best.size() == MAX_SUGGESTIONS) {
+                    break;
+                }
+                if (best.stream().noneMatch(candidate::sameAs)) {
+                    best.add(candidate);
+                }
+            }
+            return best.toArray(NO_SUGGESTIONS);
+        }
+    }
+}
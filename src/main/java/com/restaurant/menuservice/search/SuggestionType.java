@@ -0,0 +1,9 @@
+package com.restaurant.menuservice.search;
+
+/**
+ * What a typeahead suggestion completes to.
+ */
+public enum SuggestionType {
+    MENU_ITEM,
+    INGREDIENT
+}
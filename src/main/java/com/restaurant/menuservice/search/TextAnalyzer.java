@@ -0,0 +1,103 @@
+package com.restaurant.menuservice.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns menu text into search terms.
+ *
+ * Text is lower-cased and stripped of accents, split into words, stop words are dropped and
+ * the remaining words are stemmed. Menus freely mix English and Italian ("Pizza with fresh
+ * pomodori"), so every word goes through a light English stemmer and then a light Italian one:
+ * "tomatoes" and "tomato", "pomodori" and "pomodoro", "funghi" and "fungo" end up as the same
+ * term. The stemmers only strip suffixes; documents and queries are analyzed the same way, so
+ * a stem does not have to be a word.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            // English
+            "a", "an", "and", "are", "as", "at", "by", "for", "from", "in", "is", "of", "on", "or", "the", "to", "with",
+            // Italian
+            "ai", "al", "alla", "alle", "agli", "all", "allo", "con", "da", "dal", "dalla", "dei", "del", "della",
+            "delle", "degli", "dello", "di", "e", "ed", "gli", "i", "il", "la", "le", "lo", "nel", "nella", "o",
+            "per", "su", "sul", "sulla", "un", "una", "uno");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Lower-case a text and strip its accents.
+     */
+    public static String fold(String text) {
+        return COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Get the search terms of a text, in order, with repetitions.
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String word : NON_WORD.split(fold(text))) {
+            if (!word.isEmpty() && !STOP_WORDS.contains(word)) {
+                terms.add(stem(word));
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isDigit(word.charAt(i))) {
+                return word;
+            }
+        }
+        return stemItalian(stemEnglish(word));
+    }
+
+    // plurals and the most common verb endings
+    private static String stemEnglish(String word) {
+        if (word.endsWith("ies") && word.length() > 4) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("es") && word.length() > 4
+                && (word.endsWith("oes") || word.endsWith("ses") || word.endsWith("xes") || word.endsWith("ches") || word.endsWith("shes"))) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.endsWith("s") && word.length() > 3 && !word.endsWith("ss") && !word.endsWith("us")) {
+            return word.substring(0, word.length() - 1);
+        }
+        if (word.endsWith("ing") && word.length() > 5) {
+            return word.substring(0, word.length() - 3);
+        }
+        if (word.endsWith("ed") && word.length() > 4) {
+            return word.substring(0, word.length() - 2);
+        }
+        return word;
+    }
+
+    // Italian nouns and adjectives inflect in their final vowels: pomodoro/pomodori, pizza/pizze
+    private static String stemItalian(String word) {
+        int end = word.length();
+        while (end > MIN_STEM_LENGTH && "aeio".indexOf(word.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        // funghi/fungo, bruschette/bruschetta: the h only keeps the consonant hard before e and i
+        if (end < word.length() && end > MIN_STEM_LENGTH && word.charAt(end - 1) == 'h'
+                && (word.charAt(end - 2) == 'c' || word.charAt(end - 2) == 'g')) {
+            end--;
+        }
+        return word.substring(0, end);
+    }
+}
@@ -0,0 +1,98 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.model.Category;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.repository.CategoryName;
+import com.restaurant.menuservice.repository.CategoryRepository;
+import com.restaurant.menuservice.tenant.TenantRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of category names to ids, per restaurant.
+ *
+ * A restaurant's names are loaded from the database on first use and from then on kept in
+ * sync by applying committed category changes, through a {@link TenantRegistry}, so resolving
+ * a name does not hit the database. Lookups only see committed categories; the unique name
+ * constraint stays the authority on writes.
+ */
+@Component
+public class CategoryNameRegistry {
+
+    private final TenantRegistry<TenantNames> tenants;
+
+    public CategoryNameRegistry(CategoryRepository categoryRepository, PlatformTransactionManager transactionManager,
+                                ChangeLogService changeLogService) {
+        this.tenants = new TenantRegistry<>(transactionManager, changeLogService,
+                restaurantId -> load(categoryRepository, restaurantId), CategoryNameRegistry::apply);
+    }
+
+    private static final class TenantNames {
+        private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+        private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+
+        // writers are serialized by the registry, so that both maps change together
+        void put(Long id, String normalizedName) {
+            String previous = namesById.put(id, normalizedName);
+            if (previous != null && !previous.equals(normalizedName)) {
+                idsByName.remove(previous, id);
+            }
+            idsByName.put(normalizedName, id);
+        }
+
+        void remove(Long id) {
+            String previous = namesById.remove(id);
+            if (previous != null) {
+                idsByName.remove(previous, id);
+            }
+        }
+    }
+
+    /**
+     * Find the id of a restaurant's category by name, ignoring case.
+     *
+     * @return the category id, or null if the restaurant has no such category
+     */
+    public Long findId(Long restaurantId, String name) {
+        return tenants.get(restaurantId).idsByName.get(Category.normalize(name));
+    }
+
+    /**
+     * Check whether a category exists in a restaurant.
+     */
+    public boolean contains(Long restaurantId, Long categoryId) {
+        return tenants.get(restaurantId).namesById.containsKey(categoryId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        if (event.change().getEntityType() == ChangeEntityType.CATEGORY) {
+            tenants.apply(event);
+        }
+    }
+
+    private static TenantNames load(CategoryRepository categoryRepository, Long restaurantId) {
+        TenantNames names = new TenantNames();
+        for (CategoryName row : categoryRepository.findNamesByRestaurantId(restaurantId)) {
+            names.put(row.getId(), row.getNormalizedName());
+        }
+        return names;
+    }
+
+    private static void apply(TenantNames names, MenuChangeEvent event) {
+        if (event.change().getOperation() == ChangeOperation.DELETE) {
+            names.remove(event.change().getEntityId());
+        } else {
+            CategoryDto category = event.change().getCategory();
+            names.put(category.getId(), Category.normalize(category.getName()));
+        }
+    }
+}
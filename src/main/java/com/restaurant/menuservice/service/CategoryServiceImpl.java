@@ -4,12 +4,17 @@ import com.restaurant.menuservice.dto.CategoryDto;
 import com.restaurant.menuservice.exception.BadRequestException;
 import com.restaurant.menuservice.exception.ResourceNotFoundException;
 import com.restaurant.menuservice.model.Category;
+import com.restaurant.menuservice.model.MenuItem;
 import com.restaurant.menuservice.repository.CategoryRepository;
+import com.restaurant.menuservice.tenant.TenantContext;
+import com.restaurant.menuservice.repository.MenuItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +23,11 @@ import java.util.stream.Collectors;
  * @Service marks this as a Spring service bean
  * @RequiredArgsConstructor generates a constructor for all final fields
  * @Transactional ensures database operations occur within a transaction
+ *
+ * All operations act on the restaurant bound to the current {@link TenantContext}.
+ *
+ * Name uniqueness is enforced by the {@link Category#UNIQUE_NAME_CONSTRAINT} constraint rather
+ * than by checking first, so writes take a single statement and concurrent creates cannot race.
  */
 
 @Service
@@ -26,13 +36,16 @@ import java.util.stream.Collectors;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final ChangeLogService changeLogService;
 
     // Map the repo to the dto
-    private CategoryDto mapToDto(Category category) {
+    static CategoryDto mapToDto(Category category) {
         return CategoryDto.builder()
                 .id(category.getId())
                 .name(category.getName())
                 .description(category.getDescription())
+                .schedule(ScheduleWindows.mapToDto(category.getSchedule()))
                 .build();
     }
 
@@ -43,6 +56,7 @@ public class CategoryServiceImpl implements CategoryService {
         return Category.builder()
                 .name(categoryDto.getName())
                 .description(categoryDto.getDescription())
+                .schedule(ScheduleWindows.mapToEntity(categoryDto.getSchedule()))
                 .build();
     }
 
@@ -50,15 +64,15 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     @Transactional(readOnly = true)
     public List<CategoryDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(this::mapToDto)
+        return categoryRepository.findByRestaurantId(TenantContext.getRestaurantId()).stream()
+                .map(CategoryServiceImpl::mapToDto)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public CategoryDto getCategoryById(Long id) {
-        Category category = categoryRepository.findById(id)
+        Category category = categoryRepository.findByIdAndRestaurantId(id, TenantContext.getRestaurantId())
                 .orElseThrow(() -> new ResourceNotFoundException("category not found for id = " + id));
 
         return mapToDto(category);
@@ -67,47 +81,85 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public CategoryDto createCategory(CategoryDto categoryDto) {
 
-        // check if category with same name already exists
-        if(categoryRepository.existsByNameIgnoreCase(categoryDto.getName())) {
-            throw new BadRequestException("a category with the same name already exists");
-        }
-
         Category category = mapToEntity(categoryDto);
-        Category savedCategory = categoryRepository.save(category);
+        category.setRestaurantId(TenantContext.getRestaurantId());
+        Category savedCategory = saveUniqueName(category);
 
-        return mapToDto(category);
+        CategoryDto savedCategoryDto = mapToDto(savedCategory);
+        changeLogService.recordCreate(savedCategoryDto);
+
+        return savedCategoryDto;
     }
 
     @Override
     public CategoryDto updateCategory(Long id, CategoryDto categoryDto) {
 
+        Long restaurantId = TenantContext.getRestaurantId();
+
         // check if category exists
-        Category category = categoryRepository.findById(id)
+        Category category = categoryRepository.findByIdAndRestaurantId(id, restaurantId)
                 .orElseThrow(() -> new ResourceNotFoundException("category not found for id = " + id));
 
-        // check if the new name is already taken by another category
-        if(!category.getName().equalsIgnoreCase(categoryDto.getName()) &&
-            categoryRepository.existsByNameIgnoreCase(categoryDto.getName())) {
-            throw new BadRequestException("A category with the same name: " + categoryDto.getName() + " already exists");
-        }
+        boolean renamed = !category.getName().equals(categoryDto.getName());
 
         // update the category
         category.setName(categoryDto.getName());
         category.setDescription(categoryDto.getDescription());
+        category.getSchedule().clear();
+        category.getSchedule().addAll(ScheduleWindows.mapToEntity(categoryDto.getSchedule()));
 
-        Category updatedCategory = categoryRepository.save(category);
+        Category updatedCategory = saveUniqueName(category);
 
-        return mapToDto(category);
+        CategoryDto updatedCategoryDto = mapToDto(updatedCategory);
+        changeLogService.recordUpdate(updatedCategoryDto);
+
+        // menu items carry the category name, so a rename changes them too
+        if(renamed) {
+            category.getMenuItems().forEach(menuItem ->
+                    changeLogService.recordUpdate(MenuItemServiceImpl.mapToDto(menuItem), null));
+        }
+
+        return updatedCategoryDto;
     }
 
     @Override
     public void deleteCategory(Long id) {
 
+        Long restaurantId = TenantContext.getRestaurantId();
+
         // check exists category
-        if(!categoryRepository.existsById(id)) {
+        Category category = categoryRepository.findByIdAndRestaurantId(id, restaurantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
+
+        // the category's menu items are removed with it
+        for (MenuItem menuItem : menuItemRepository.findByRestaurantIdAndCategoryId(restaurantId, id)) {
+            changeLogService.recordDelete(MenuItemServiceImpl.mapToDto(menuItem));
+        }
+        changeLogService.recordDelete(mapToDto(category));
+
+        // one statement for all of the items instead of a cascaded delete per item
+        menuItemRepository.deleteByRestaurantIdAndCategoryId(restaurantId, id);
+        if (categoryRepository.deleteByIdAndRestaurantId(id, restaurantId) == 0) {
             throw new ResourceNotFoundException("Category", "id", id);
         }
+    }
+
+    /**
+     * Insert or update a category, turning a violation of the unique name constraint into a bad request.
+     */
+    private Category saveUniqueName(Category category) {
+        try {
+            return categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateName(ex)) {
+                throw new BadRequestException("A category with the same name: " + category.getName() + " already exists");
+            }
+            throw ex;
+        }
+    }
 
-        categoryRepository.deleteById(id);
+    static boolean isDuplicateName(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Category.UNIQUE_NAME_CONSTRAINT);
     }
 }
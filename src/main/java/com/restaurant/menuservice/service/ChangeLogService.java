@@ -0,0 +1,89 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.dto.ChangeFeedDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+
+/**
+ * Service interface for the append-only menu change log.
+ */
+public interface ChangeLogService {
+
+    /**
+     * Record the creation of a category.
+     *
+     * All record methods must be called inside the transaction that performs the mutation,
+     * so the change is only visible (and only pushed to subscribers) once the mutation commits.
+     *
+     * @param category the created category
+     */
+    void recordCreate(CategoryDto category);
+
+    /**
+     * Record the update of a category.
+     *
+     * @param category the updated category
+     */
+    void recordUpdate(CategoryDto category);
+
+    /**
+     * Record the deletion of a category.
+     *
+     * @param category the last known state of the deleted category
+     */
+    void recordDelete(CategoryDto category);
+
+    /**
+     * Record the creation of a menu item.
+     *
+     * @param menuItem the created menu item
+     */
+    void recordCreate(MenuItemDto menuItem);
+
+    /**
+     * Record the update of a menu item.
+     *
+     * @param menuItem the updated menu item
+     * @param previous the menu item before the update, or null when unknown
+     */
+    void recordUpdate(MenuItemDto menuItem, MenuItemDto previous);
+
+    /**
+     * Record the deletion of a menu item.
+     *
+     * @param menuItem the last known state of the deleted menu item
+     */
+    void recordDelete(MenuItemDto menuItem);
+
+    /**
+     * Get the changes recorded after a sequence number.
+     *
+     * Multiple changes of the same entity are collapsed into the latest one.
+     *
+     * @param since the last sequence number the client has applied
+     * @param limit the maximum number of log entries to scan
+     * @return the page of changes, or a resync signal if the client is too far behind
+     */
+    ChangeFeedDto getChangesSince(long since, int limit);
+
+    /**
+     * Get the sequence number up to which every change of a restaurant has committed or rolled back,
+     * and has been delivered to after-commit listeners.
+     *
+     * @param restaurantId the restaurant id
+     * @return the committed sequence number
+     */
+    long getCommittedSeq(Long restaurantId);
+
+    /**
+     * Compact the change log: drop superseded entries and enforce the retention limit.
+     */
+    void compact();
+
+    /**
+     * Move the resync horizon of every restaurant forward, e.g. after restoring a snapshot that carries no change history.
+     *
+     * @param seq the sequence number the restored state corresponds to; clients behind it must resync
+     */
+    void advanceHorizon(long seq);
+}
@@ -0,0 +1,285 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.dto.ChangeDto;
+import com.restaurant.menuservice.dto.ChangeFeedDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.event.MenuEventType;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.model.MenuChange;
+import com.restaurant.menuservice.model.MenuChangeHorizon;
+import com.restaurant.menuservice.repository.CategoryRepository;
+import com.restaurant.menuservice.repository.MenuChangeHorizonRepository;
+import com.restaurant.menuservice.repository.MenuChangeRepository;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ChangeLogService interface.
+ *
+ * Each recorded change is also published as a {@link MenuChangeEvent}.
+ *
+ * Compaction runs on a fixed delay: entries superseded by a later change of the same
+ * entity are always safe to drop, while entries beyond a restaurant's retention limit move
+ * that restaurant's resync horizon forward so that its clients older than it are told to
+ * reload the menu. Retention is per restaurant, so a busy restaurant never pushes a quiet
+ * one's history out of the log. Horizons are stored with the log, in the transaction that
+ * deletes the entries, so they survive restarts.
+ *
+ * Sequence numbers are assigned at insert time but become visible at commit time, so a later
+ * change may be visible before an earlier one. Each restaurant has a committed watermark
+ * instead: every transaction recording a change holds its restaurant's watermark below the
+ * sequence numbers it is about to take until it completes, and a feed page stops there. The
+ * feed of a restaurant therefore only reads, and only waits for, that restaurant's changes.
+ * The watermark is kept in memory, as this instance records every change.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ChangeLogServiceImpl implements ChangeLogService {
+
+    private final MenuChangeRepository menuChangeRepository;
+    private final CategoryRepository categoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final MenuChangeHorizonRepository menuChangeHorizonRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${menu.changes.retention:10000}")
+    private int retention;
+
+    // per restaurant and recording transaction, a sequence number below every change it records
+    private final Map<Long, Map<Object, Long>> uncommitted = new ConcurrentHashMap<>();
+
+    // the highest sequence number assigned so far
+    private final AtomicLong lastSeq = new AtomicLong();
+
+    @Override
+    public void recordCreate(CategoryDto category) {
+        publish(record(ChangeEntityType.CATEGORY, category.getId(), ChangeOperation.UPSERT)
+                .category(category), MenuEventType.CREATED, null);
+    }
+
+    @Override
+    public void recordUpdate(CategoryDto category) {
+        publish(record(ChangeEntityType.CATEGORY, category.getId(), ChangeOperation.UPSERT)
+                .category(category), MenuEventType.UPDATED, null);
+    }
+
+    @Override
+    public void recordDelete(CategoryDto category) {
+        publish(record(ChangeEntityType.CATEGORY, category.getId(), ChangeOperation.DELETE)
+                .category(category), MenuEventType.DELETED, null);
+    }
+
+    @Override
+    public void recordCreate(MenuItemDto menuItem) {
+        publish(record(ChangeEntityType.MENU_ITEM, menuItem.getId(), ChangeOperation.UPSERT)
+                .menuItem(menuItem), MenuEventType.CREATED, null);
+    }
+
+    @Override
+    public void recordUpdate(MenuItemDto menuItem, MenuItemDto previous) {
+        publish(record(ChangeEntityType.MENU_ITEM, menuItem.getId(), ChangeOperation.UPSERT)
+                .menuItem(menuItem), MenuEventType.UPDATED, previous);
+    }
+
+    @Override
+    public void recordDelete(MenuItemDto menuItem) {
+        publish(record(ChangeEntityType.MENU_ITEM, menuItem.getId(), ChangeOperation.DELETE)
+                .menuItem(menuItem), MenuEventType.DELETED, null);
+    }
+
+    /**
+     * Append an entry to the change log.
+     *
+     * @return a ChangeDto builder pre-filled with the assigned sequence number
+     */
+    private ChangeDto.ChangeDtoBuilder record(ChangeEntityType entityType, Long entityId, ChangeOperation operation) {
+        Long restaurantId = TenantContext.getRestaurantId();
+        holdWatermark(restaurantId);
+        MenuChange change = menuChangeRepository.save(MenuChange.builder()
+                .restaurantId(restaurantId)
+                .entityType(entityType)
+                .entityId(entityId)
+                .operation(operation)
+                .changedAt(LocalDateTime.now())
+                .build());
+        lastSeq.accumulateAndGet(change.getSeq(), Math::max);
+
+        return ChangeDto.builder()
+                .seq(change.getSeq())
+                .entityType(entityType)
+                .entityId(entityId)
+                .operation(operation);
+    }
+
+    /**
+     * Keep a restaurant's committed watermark below the changes the current transaction is about
+     * to record, until it commits or rolls back. A sequence number assigned from now on is higher
+     * than every one assigned so far. The hold is released after the after-commit listeners ran.
+     */
+    private void holdWatermark(Long restaurantId) {
+        Map<Object, Long> floors = uncommitted.computeIfAbsent(restaurantId, id -> new ConcurrentHashMap<>());
+        Object hold = new Object();
+        floors.put(hold, lastSeq.get());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                floors.remove(hold);
+            }
+        });
+    }
+
+    /**
+     * The highest sequence number up to which every change of a restaurant has committed or rolled back.
+     */
+    private long committedWatermark(Long restaurantId) {
+        Map<Object, Long> floors = uncommitted.get(restaurantId);
+        return floors == null ? Long.MAX_VALUE
+                : floors.values().stream().mapToLong(Long::longValue).min().orElse(Long.MAX_VALUE);
+    }
+
+    private void publish(ChangeDto.ChangeDtoBuilder change, MenuEventType type, MenuItemDto previousMenuItem) {
+        eventPublisher.publishEvent(new MenuChangeEvent(TenantContext.getRestaurantId(), change.build(), type, previousMenuItem));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeedDto getChangesSince(long since, int limit) {
+        Long restaurantId = TenantContext.getRestaurantId();
+        long latestSeq = menuChangeRepository.findLatestSeq(restaurantId);
+        // read after the latest change, so a transaction completing in between is visible to the page
+        long safeSeq = Math.min(latestSeq, committedWatermark(restaurantId));
+        List<MenuChange> page = safeSeq > since
+                ? menuChangeRepository.findByRestaurantIdAndSeqBetweenOrderBySeqAsc(restaurantId, since + 1, safeSeq, PageRequest.of(0, limit))
+                : List.of();
+
+        // the horizon moves in the transaction that deletes the entries, so reading it after the page is safe
+        long horizon = menuChangeHorizonRepository.findHorizon(restaurantId);
+        if (since < horizon) {
+            return ChangeFeedDto.builder()
+                    .since(since)
+                    .nextSince(Math.max(horizon, safeSeq))
+                    .latestSeq(latestSeq)
+                    .resyncRequired(true)
+                    .build();
+        }
+
+        // keep only the latest change of each entity, ordered by its sequence number
+        Map<String, MenuChange> latestByEntity = new LinkedHashMap<>();
+        for (MenuChange change : page) {
+            String key = change.getEntityType() + ":" + change.getEntityId();
+            latestByEntity.remove(key);
+            latestByEntity.put(key, change);
+        }
+
+        Map<Long, CategoryDto> categories = categoryRepository.findAllById(upsertedIds(latestByEntity.values(), ChangeEntityType.CATEGORY)).stream()
+                .map(CategoryServiceImpl::mapToDto)
+                .collect(Collectors.toMap(CategoryDto::getId, Function.identity()));
+        Map<Long, MenuItemDto> menuItems = menuItemRepository.findAllById(upsertedIds(latestByEntity.values(), ChangeEntityType.MENU_ITEM)).stream()
+                .map(MenuItemServiceImpl::mapToDto)
+                .collect(Collectors.toMap(MenuItemDto::getId, Function.identity()));
+
+        List<ChangeDto> changes = latestByEntity.values().stream()
+                .map(change -> mapToDto(change, categories, menuItems))
+                .collect(Collectors.toList());
+
+        // a full page may stop short of the safe point
+        boolean full = page.size() == limit;
+        return ChangeFeedDto.builder()
+                .since(since)
+                .nextSince(full ? page.get(page.size() - 1).getSeq() : Math.max(since, safeSeq))
+                .latestSeq(latestSeq)
+                .hasMore(full)
+                .changes(changes)
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getCommittedSeq(Long restaurantId) {
+        // read first: a transaction that holds the watermark after it takes a higher number
+        long assigned = lastSeq.get();
+        return Math.min(assigned, committedWatermark(restaurantId));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${menu.changes.compaction-interval:PT1M}")
+    public void compact() {
+        for (Long restaurantId : menuChangeRepository.findRestaurantIds()) {
+            menuChangeRepository.deleteSuperseded(restaurantId);
+            List<Long> cutoff = menuChangeRepository.findSeqsNewestFirst(restaurantId, PageRequest.of(retention, 1));
+            if (!cutoff.isEmpty()) {
+                advanceHorizon(restaurantId, cutoff.get(0));
+                menuChangeRepository.deleteUpTo(restaurantId, cutoff.get(0));
+            }
+        }
+    }
+
+    @Override
+    public void advanceHorizon(long seq) {
+        advanceHorizon(MenuChangeHorizon.ALL_RESTAURANTS, seq);
+    }
+
+    private void advanceHorizon(Long restaurantId, long seq) {
+        MenuChangeHorizon horizon = menuChangeHorizonRepository.findById(restaurantId)
+                .orElseGet(() -> MenuChangeHorizon.builder().restaurantId(restaurantId).build());
+        if (horizon.getSeq() < seq) {
+            horizon.setSeq(seq);
+            menuChangeHorizonRepository.save(horizon);
+        }
+    }
+
+    private List<Long> upsertedIds(Collection<MenuChange> changes, ChangeEntityType entityType) {
+        return changes.stream()
+                .filter(change -> change.getEntityType() == entityType && change.getOperation() == ChangeOperation.UPSERT)
+                .map(MenuChange::getEntityId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert a MenuChange to a ChangeDto, attaching the current state of upserted entities.
+     * An upsert whose entity is already gone is reported as a delete.
+     */
+    private ChangeDto mapToDto(MenuChange change, Map<Long, CategoryDto> categories, Map<Long, MenuItemDto> menuItems) {
+        ChangeDto dto = ChangeDto.builder()
+                .seq(change.getSeq())
+                .entityType(change.getEntityType())
+                .entityId(change.getEntityId())
+                .operation(change.getOperation())
+                .build();
+
+        if (change.getOperation() == ChangeOperation.UPSERT) {
+            if (change.getEntityType() == ChangeEntityType.CATEGORY) {
+                dto.setCategory(categories.get(change.getEntityId()));
+            } else {
+                dto.setMenuItem(menuItems.get(change.getEntityId()));
+            }
+
+            if (dto.getCategory() == null && dto.getMenuItem() == null) {
+                dto.setOperation(ChangeOperation.DELETE);
+            }
+        }
+
+        return dto;
+    }
+}
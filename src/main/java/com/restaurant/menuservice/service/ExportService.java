@@ -0,0 +1,51 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.ExportJobDto;
+import com.restaurant.menuservice.export.ExportFormat;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Service interface for asynchronous menu exports.
+ */
+public interface ExportService {
+
+    /**
+     * Queue an export of all menu items of the current restaurant.
+     *
+     * @param format the file format
+     * @return the queued job
+     */
+    ExportJobDto startExport(ExportFormat format);
+
+    /**
+     * Get the export jobs of the current restaurant.
+     *
+     * @return the jobs, newest first
+     */
+    List<ExportJobDto> getExports();
+
+    /**
+     * Get an export job by its ID.
+     *
+     * @param id the job ID
+     * @return the job with its progress
+     */
+    ExportJobDto getExport(String id);
+
+    /**
+     * Get the file of a completed export.
+     *
+     * @param id the job ID
+     * @return the path of the exported file
+     */
+    Path getExportFile(String id);
+
+    /**
+     * Cancel an export if it is still running and delete its file.
+     *
+     * @param id the job ID
+     */
+    void deleteExport(String id);
+}
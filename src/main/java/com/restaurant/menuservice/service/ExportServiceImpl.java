@@ -0,0 +1,270 @@
+package com.restaurant.menuservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.dto.ExportJobDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.exception.BadRequestException;
+import com.restaurant.menuservice.exception.ResourceNotFoundException;
+import com.restaurant.menuservice.exception.ServiceUnavailableException;
+import com.restaurant.menuservice.export.ExportFormat;
+import com.restaurant.menuservice.export.ExportJob;
+import com.restaurant.menuservice.export.ExportStatus;
+import com.restaurant.menuservice.export.ExportWriter;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ExportService interface.
+ *
+ * Exports run on a bounded worker pool; when all workers are busy and the queue is full new
+ * exports are refused with a 503. A worker scrolls through the restaurant's menu items with a
+ * keyset cursor, one short read-only transaction per window, and writes them through a
+ * buffered file channel to {@code menu.export.directory}. The file only gets its final name
+ * once it is complete. Finished jobs and their files are removed after {@code menu.export.retention}.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private final MenuItemRepository menuItemRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int windowSize;
+    private final Duration retention;
+    private final ThreadPoolExecutor workers;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportServiceImpl(
+            MenuItemRepository menuItemRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${menu.export.directory:data/exports}") Path directory,
+            @Value("${menu.export.window-size:1000}") int windowSize,
+            @Value("${menu.export.retention:PT24H}") Duration retention,
+            @Value("${menu.export.threads:2}") int threads,
+            @Value("${menu.export.queue-capacity:16}") int queueCapacity
+    ) throws IOException {
+        this.menuItemRepository = menuItemRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.directory = Files.createDirectories(directory);
+        this.windowSize = windowSize;
+        this.retention = retention;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "menu-export-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public ExportJobDto startExport(ExportFormat format) {
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, TenantContext.getRestaurantId(), format,
+                directory.resolve(id + "." + format.getExtension()));
+
+        jobs.put(id, job);
+        try {
+            job.setFuture(workers.submit(() -> TenantContext.callAs(job.getRestaurantId(), () -> run(job))));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(id);
+            throw new ServiceUnavailableException("Too many exports in progress, try again later", RETRY_AFTER);
+        }
+        return mapToDto(job);
+    }
+
+    @Override
+    public List<ExportJobDto> getExports() {
+        Long restaurantId = TenantContext.getRestaurantId();
+        return jobs.values().stream()
+                .filter(job -> job.getRestaurantId().equals(restaurantId))
+                .sorted(Comparator.comparing(ExportJob::getCreatedAt).reversed())
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ExportJobDto getExport(String id) {
+        return mapToDto(findJob(id));
+    }
+
+    @Override
+    public Path getExportFile(String id) {
+        ExportJob job = findJob(id);
+        if (job.getStatus() != ExportStatus.COMPLETED) {
+            throw new BadRequestException("Export " + id + " is not completed, its status is " + job.getStatus());
+        }
+        return job.getFile();
+    }
+
+    @Override
+    public void deleteExport(String id) {
+        ExportJob job = findJob(id);
+        jobs.remove(id);
+        if (!job.getStatus().isFinished()) {
+            job.finish(ExportStatus.CANCELLED, null);
+            job.getFuture().cancel(true);
+        }
+        deleteFiles(job);
+    }
+
+    /**
+     * Remove finished jobs past their retention, and files left behind by earlier runs.
+     */
+    @Scheduled(fixedDelayString = "${menu.export.cleanup-interval:PT10M}")
+    public void cleanUp() throws IOException {
+        LocalDateTime expiry = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            boolean expired = job.getStatus().isFinished() && job.getCompletedAt().isBefore(expiry);
+            if (expired) {
+                deleteFiles(job);
+            }
+            return expired;
+        });
+
+        Instant fileExpiry = Instant.now().minus(retention);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String id = file.getFileName().toString().split("\\.")[0];
+                if (!jobs.containsKey(id) && Files.getLastModifiedTime(file).toInstant().isBefore(fileExpiry)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private Void run(ExportJob job) {
+        if (job.getStatus() != ExportStatus.QUEUED) {
+            return null;
+        }
+        job.setStatus(ExportStatus.RUNNING);
+        job.setTotalRows(menuItemRepository.countByRestaurantId(job.getRestaurantId()));
+
+        Path partial = partialFile(job);
+        try {
+            try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 ExportWriter writer = job.getFormat().open(
+                         new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), objectMapper)) {
+                writeMenuItems(job, writer);
+                writer.finish();
+            }
+            Files.move(partial, job.getFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.setSizeBytes(Files.size(job.getFile()));
+            job.finish(ExportStatus.COMPLETED, null);
+        } catch (ClosedByInterruptException | InterruptedIOException ex) {
+            job.finish(ExportStatus.CANCELLED, null);
+            deleteFiles(job);
+        } catch (IOException | RuntimeException ex) {
+            job.finish(ExportStatus.FAILED, ex.getMessage());
+            deleteFiles(job);
+        }
+        return null;
+    }
+
+    private void writeMenuItems(ExportJob job, ExportWriter writer) throws IOException {
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<MenuItemDto> window;
+        do {
+            if (Thread.currentThread().isInterrupted() || job.getStatus() != ExportStatus.RUNNING) {
+                throw new InterruptedIOException("Export cancelled");
+            }
+
+            ScrollPosition from = position;
+            window = readOnlyTransaction.execute(status -> menuItemRepository
+                    .findByRestaurantIdOrderByIdAsc(job.getRestaurantId(), from, Limit.of(windowSize))
+                    .map(MenuItemServiceImpl::mapToDto));
+
+            for (MenuItemDto menuItem : window) {
+                writer.write(menuItem);
+            }
+            job.setRowsWritten(job.getRowsWritten() + window.size());
+            if (!window.isEmpty()) {
+                position = window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+    }
+
+    private ExportJob findJob(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null || !job.getRestaurantId().equals(TenantContext.getRestaurantId())) {
+            throw new ResourceNotFoundException("Export", "id", id);
+        }
+        return job;
+    }
+
+    private Path partialFile(ExportJob job) {
+        return job.getFile().resolveSibling(job.getFile().getFileName() + PARTIAL_SUFFIX);
+    }
+
+    private void deleteFiles(ExportJob job) {
+        try {
+            Files.deleteIfExists(partialFile(job));
+            Files.deleteIfExists(job.getFile());
+        } catch (IOException ex) {
+            // left for the periodic clean-up
+        }
+    }
+
+    private ExportJobDto mapToDto(ExportJob job) {
+        return ExportJobDto.builder()
+                .id(job.getId())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .totalRows(job.getTotalRows())
+                .rowsWritten(job.getRowsWritten())
+                .sizeBytes(job.getSizeBytes())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .error(job.getError())
+                .downloadUrl(job.getStatus() == ExportStatus.COMPLETED ? "/api/exports/" + job.getId() + "/file" : null)
+                .build();
+    }
+}
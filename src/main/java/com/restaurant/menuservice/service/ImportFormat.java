@@ -0,0 +1,11 @@
+package com.restaurant.menuservice.service;
+
+/**
+ * Supported upload formats of the menu import.
+ */
+public enum ImportFormat {
+    // comma-separated values with a header line naming the columns
+    CSV,
+    // a JSON array of objects, or newline-delimited JSON objects
+    JSON
+}
@@ -0,0 +1,148 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.event.IngredientChangeEvent;
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.model.Ingredient;
+import com.restaurant.menuservice.repository.IngredientRepository;
+import com.restaurant.menuservice.tenant.TenantRegistry;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory view of the ingredient dictionaries.
+ *
+ * Ingredient names are interned per restaurant: every loaded {@link Ingredient} gets the one
+ * shared instance of its name, so menu item DTOs do not each hold a copy. An interned name is
+ * dropped when its ingredient is merged away or its last menu item stops listing it, and is
+ * interned again if the ingredient is loaded later. Each restaurant's normalized names
+ * are loaded on first use, through a {@link TenantRegistry}, and kept in sync with committed
+ * {@link IngredientChangeEvent}s, so ingredient searches match names in memory instead of
+ * scanning the link table.
+ */
+@Component
+public class IngredientDictionary {
+
+    // normalized names by ingredient id
+    private final TenantRegistry<Map<Long, String>> normalizedNames;
+    // shared name instances by ingredient id, filled as ingredients are loaded, whether or not the names are
+    private final Map<Long, Map<Long, String>> internedNames = new ConcurrentHashMap<>();
+    private final IngredientRepository ingredientRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public IngredientDictionary(IngredientRepository ingredientRepository, PlatformTransactionManager transactionManager,
+                                ChangeLogService changeLogService) {
+        this.ingredientRepository = ingredientRepository;
+        // menu changes never rename an ingredient, only dictionary changes do
+        this.normalizedNames = new TenantRegistry<>(transactionManager, changeLogService,
+                restaurantId -> load(ingredientRepository, restaurantId), (names, event) -> { });
+        // listeners run after the commit, so their queries need a transaction of their own
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Get the shared instance of an ingredient's name.
+     */
+    public String intern(Ingredient ingredient) {
+        return interned(ingredient.getRestaurantId()).merge(ingredient.getId(), ingredient.getName(),
+                (interned, name) -> interned.equals(name) ? interned : name);
+    }
+
+    /**
+     * Find the ingredients of a restaurant whose name contains a text, ignoring case.
+     *
+     * @return the ids of the matching ingredients
+     */
+    public Set<Long> findIdsContaining(Long restaurantId, String text) {
+        String needle = Ingredient.normalize(text);
+        Set<Long> ids = new HashSet<>();
+        normalizedNames.get(restaurantId).forEach((id, normalizedName) -> {
+            if (normalizedName.contains(needle)) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onIngredientChange(IngredientChangeEvent event) {
+        normalizedNames.update(event.restaurantId(), names -> {
+            names.putAll(event.added());
+            event.removed().forEach(names::remove);
+        });
+        event.removed().forEach(interned(event.restaurantId())::remove);
+    }
+
+    /**
+     * Drop the interned names of the ingredients a menu item stopped listing, unless another menu item still lists them.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        Map<Long, String> interned = internedNames.get(event.restaurantId());
+        if (interned == null || event.change().getEntityType() != ChangeEntityType.MENU_ITEM) {
+            return;
+        }
+        boolean deleted = event.change().getOperation() == ChangeOperation.DELETE;
+        Set<String> dropped = normalizedNames(deleted ? event.change().getMenuItem() : event.previousMenuItem());
+        if (!deleted) {
+            dropped.removeAll(normalizedNames(event.change().getMenuItem()));
+        }
+        if (!dropped.isEmpty()) {
+            transactionTemplate.execute(status -> ingredientRepository.findUnusedIds(event.restaurantId(), dropped))
+                    .forEach(interned::remove);
+        }
+    }
+
+    private static Set<String> normalizedNames(MenuItemDto menuItem) {
+        if (menuItem == null || menuItem.getIngredients() == null) {
+            return new HashSet<>();
+        }
+        return menuItem.getIngredients().stream().map(Ingredient::normalize).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Map<Long, String> interned(Long restaurantId) {
+        return internedNames.computeIfAbsent(restaurantId, id -> new ConcurrentHashMap<>());
+    }
+
+    private static Map<Long, String> load(IngredientRepository ingredientRepository, Long restaurantId) {
+        Map<Long, String> names = new ConcurrentHashMap<>();
+        ingredientRepository.findByRestaurantId(restaurantId)
+                .forEach(ingredient -> names.put(ingredient.getId(), ingredient.getNormalizedName()));
+        return names;
+    }
+
+    /**
+     * Entity listener interning the name of every ingredient read or written through JPA.
+     */
+    public static class Interning {
+
+        private final IngredientDictionary dictionary;
+
+        // lazy, since the dictionary depends on the entity manager factory that creates this listener
+        public Interning(@Lazy IngredientDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @PostLoad
+        @PostPersist
+        void intern(Ingredient ingredient) {
+            ingredient.setName(dictionary.intern(ingredient));
+        }
+    }
+}
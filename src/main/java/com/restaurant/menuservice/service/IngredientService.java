@@ -0,0 +1,43 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.IngredientDto;
+import com.restaurant.menuservice.model.Ingredient;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service interface for the ingredient dictionary.
+ */
+public interface IngredientService {
+
+    /**
+     * Get all ingredients, with the number of menu items using each.
+     *
+     * @return a list of all ingredient DTOs, ordered by name
+     */
+    List<IngredientDto> getAllIngredients();
+
+    /**
+     * Merge ingredients into another one.
+     *
+     * The menu items listing a source ingredient list the target instead, and the source
+     * ingredients are removed from the dictionary.
+     *
+     * @param targetId the ID of the ingredient to keep
+     * @param sourceIds the IDs of the ingredients to merge into it
+     * @return the target ingredient
+     */
+    IngredientDto mergeIngredients(Long targetId, List<Long> sourceIds);
+
+    /**
+     * Look up dictionary entries by name, adding the names that are not in the dictionary yet.
+     *
+     * Used by the services writing menu items; names are matched ignoring case and surrounding blanks.
+     *
+     * @param names the ingredient names
+     * @return the ingredients, one per distinct name
+     */
+    Set<Ingredient> resolveIngredients(Collection<String> names);
+}
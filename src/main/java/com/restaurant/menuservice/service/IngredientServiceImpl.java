@@ -0,0 +1,167 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.IngredientDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.event.IngredientChangeEvent;
+import com.restaurant.menuservice.exception.BadRequestException;
+import com.restaurant.menuservice.exception.ResourceNotFoundException;
+import com.restaurant.menuservice.model.Ingredient;
+import com.restaurant.menuservice.model.MenuItem;
+import com.restaurant.menuservice.repository.IngredientRepository;
+import com.restaurant.menuservice.repository.IngredientUsage;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the IngredientService interface.
+ *
+ * All operations act on the restaurant bound to the current {@link TenantContext}.
+ * Additions and removals are published as {@link IngredientChangeEvent}s for the {@link IngredientDictionary}.
+ *
+ * New names are added in a transaction of their own, so that when a concurrent request adds the
+ * same name first the violated unique constraint only fails that insert, and the caller takes the
+ * other request's entry instead. An entry added for a request that then rolls back stays in the
+ * dictionary, unused.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class IngredientServiceImpl implements IngredientService {
+
+    private final IngredientRepository ingredientRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final ChangeLogService changeLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    // Deliberately not read-only: merges are not change-logged per ingredient, so the
+    // replica only receives the dictionary entries its menu items reference
+    @Override
+    public List<IngredientDto> getAllIngredients() {
+        Long restaurantId = TenantContext.getRestaurantId();
+        Map<Long, Long> counts = ingredientRepository.countMenuItemsByIngredient(restaurantId).stream()
+                .collect(Collectors.toMap(IngredientUsage::getId, IngredientUsage::getMenuItemCount));
+
+        return ingredientRepository.findByRestaurantId(restaurantId).stream()
+                .map(ingredient -> mapToDto(ingredient, counts.getOrDefault(ingredient.getId(), 0L)))
+                .sorted(Comparator.comparing(IngredientDto::getName, String.CASE_INSENSITIVE_ORDER))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public IngredientDto mergeIngredients(Long targetId, List<Long> sourceIds) {
+
+        Long restaurantId = TenantContext.getRestaurantId();
+        Set<Long> ids = new HashSet<>(sourceIds);
+        if (ids.contains(targetId)) {
+            throw new BadRequestException("An ingredient cannot be merged into itself");
+        }
+
+        // check that the target and all sources exist
+        ids.add(targetId);
+        Map<Long, Ingredient> found = ingredientRepository.findByRestaurantIdAndIdIn(restaurantId, ids).stream()
+                .collect(Collectors.toMap(Ingredient::getId, ingredient -> ingredient));
+        for (Long id : ids) {
+            if (!found.containsKey(id)) {
+                throw new ResourceNotFoundException("Ingredient", "id", id);
+            }
+        }
+        Ingredient target = found.remove(targetId);
+        Collection<Ingredient> sources = found.values();
+
+        // relink the menu items, which changes them for change feed subscribers too
+        List<MenuItem> menuItems = menuItemRepository.findByRestaurantIdAndIngredientIdIn(restaurantId, found.keySet());
+        for (MenuItem menuItem : menuItems) {
+            MenuItemDto previous = MenuItemServiceImpl.mapToDto(menuItem);
+            menuItem.getIngredients().removeAll(sources);
+            menuItem.addIngredient(target);
+            changeLogService.recordUpdate(MenuItemServiceImpl.mapToDto(menuItem), previous);
+        }
+
+        // the links must be gone before the sources can be deleted
+        menuItemRepository.flush();
+        ingredientRepository.deleteAllInBatch(sources);
+        eventPublisher.publishEvent(new IngredientChangeEvent(restaurantId, Map.of(), List.copyOf(found.keySet())));
+
+        return mapToDto(target, ingredientRepository.countMenuItems(targetId));
+    }
+
+    @Override
+    public Set<Ingredient> resolveIngredients(Collection<String> names) {
+        Set<Ingredient> ingredients = new HashSet<>();
+        if (names == null || names.isEmpty()) {
+            return ingredients;
+        }
+
+        // the first spelling of a name is the one added to the dictionary
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                missing.putIfAbsent(Ingredient.normalize(name), name.trim());
+            }
+        }
+        if (missing.isEmpty()) {
+            return ingredients;
+        }
+
+        Long restaurantId = TenantContext.getRestaurantId();
+        while (true) {
+            for (Ingredient ingredient : ingredientRepository.findByRestaurantIdAndNormalizedNameIn(restaurantId, missing.keySet())) {
+                ingredients.add(ingredient);
+                missing.remove(ingredient.getNormalizedName());
+            }
+            if (missing.isEmpty()) {
+                return ingredients;
+            }
+
+            // the added entries are read back above, in this transaction
+            try {
+                addIngredients(restaurantId, missing.values());
+            } catch (DataIntegrityViolationException ex) {
+                if (!isDuplicateName(ex)) {
+                    throw ex;
+                }
+                // a concurrent request added one of the names first: take its entry and add the others
+            }
+        }
+    }
+
+    /**
+     * Add names to the dictionary and commit them, all or none.
+     */
+    private void addIngredients(Long restaurantId, Collection<String> names) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Ingredient> saved = ingredientRepository.saveAllAndFlush(names.stream()
+                    .map(name -> Ingredient.builder().restaurantId(restaurantId).name(name).build())
+                    .toList());
+            eventPublisher.publishEvent(new IngredientChangeEvent(restaurantId,
+                    saved.stream().collect(Collectors.toMap(Ingredient::getId, Ingredient::getNormalizedName)), List.of()));
+        });
+    }
+
+    private static boolean isDuplicateName(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Ingredient.UNIQUE_NAME_CONSTRAINT);
+    }
+
+    private static IngredientDto mapToDto(Ingredient ingredient, long menuItemCount) {
+        return IngredientDto.builder()
+                .id(ingredient.getId())
+                .name(ingredient.getName())
+                .menuItemCount(menuItemCount)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.ImportReportDto;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk menu imports.
+ */
+public interface MenuImportService {
+
+    /**
+     * Import menu items from an upload, reading it incrementally.
+     *
+     * Rows are committed in batches; a row that fails to parse, validate or save is reported
+     * and skipped without affecting the other rows.
+     *
+     * @param input the upload
+     * @param format the format of the upload
+     * @param createCategories whether categories referenced by an unknown name are created
+     * @return the import report
+     */
+    ImportReportDto importMenuItems(InputStream input, ImportFormat format, boolean createCategories);
+}
@@ -0,0 +1,324 @@
+package com.restaurant.menuservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.dto.ImportReportDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.MenuItemImportRow;
+import com.restaurant.menuservice.model.Category;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.model.MenuItem;
+import com.restaurant.menuservice.repository.CategoryRepository;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.tenant.TenantContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the MenuImportService interface.
+ *
+ * The upload is read one row at a time and rows are saved in transactions of
+ * {@code menu.import.batch-size} rows, so memory use does not grow with the size of the upload.
+ * Categories are resolved through the {@link CategoryNameRegistry}, plus the categories created
+ * by this import that have not been committed yet. When a batch fails to
+ * commit, its rows are retried one by one to find the offending ones.
+ */
+@Service
+@RequiredArgsConstructor
+public class MenuImportServiceImpl implements MenuImportService {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    // multi-valued columns (dietaryRestrictions, ingredients) separate their values with '|'
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema()
+            .withHeader()
+            .withArrayElementSeparator("|");
+
+    private final ObjectMapper objectMapper;
+    private final CategoryRepository categoryRepository;
+    private final CategoryNameRegistry categoryNames;
+    private final IngredientService ingredientService;
+    private final MenuItemRepository menuItemRepository;
+    private final ChangeLogService changeLogService;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${menu.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${menu.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Override
+    public ImportReportDto importMenuItems(InputStream input, ImportFormat format, boolean createCategories) {
+        ImportRun run = new ImportRun(TenantContext.getRestaurantId(), createCategories);
+        List<NumberedRow> batch = new ArrayList<>(batchSize);
+        long rowNumber = 0;
+        String unreadable = null;
+
+        try (MappingIterator<MenuItemImportRow> rows = reader(format).readValues(input)) {
+            while (rows.hasNextValue()) {
+                MenuItemImportRow row = rows.nextValue();
+                batch.add(new NumberedRow(++rowNumber, row));
+                if (batch.size() == batchSize) {
+                    run.commit(batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException ex) {
+            // after a syntax error the following rows cannot be located reliably, so the import stops there
+            unreadable = ex instanceof JsonProcessingException jsonEx ? jsonEx.getOriginalMessage() : ex.getMessage();
+        }
+        run.commit(batch);
+        if (unreadable != null) {
+            run.fail(rowNumber + 1, "Unreadable input: " + unreadable);
+        }
+
+        run.report.setRowsRead(rowNumber);
+        return run.report;
+    }
+
+    private ObjectReader reader(ImportFormat format) {
+        return switch (format) {
+            case CSV -> CSV_MAPPER.readerFor(MenuItemImportRow.class).with(CSV_SCHEMA);
+            case JSON -> objectMapper.readerFor(MenuItemImportRow.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        };
+    }
+
+    private record NumberedRow(long number, MenuItemImportRow row) {
+    }
+
+    /**
+     * State of one import: the report and the categories it created.
+     */
+    private class ImportRun {
+
+        private final Long restaurantId;
+        private final boolean createCategories;
+        private final ImportReportDto report = new ImportReportDto();
+
+        // ids of the categories created by this import, by normalized name
+        private final Map<String, Long> categoryIds = new HashMap<>();
+
+        // categories created by the batch in progress, forgotten again if it rolls back
+        private final List<String> createdNames = new ArrayList<>();
+
+        ImportRun(Long restaurantId, boolean createCategories) {
+            this.restaurantId = restaurantId;
+            this.createCategories = createCategories;
+        }
+
+        void commit(List<NumberedRow> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                complete(rows.size(), importInTransaction(rows));
+            } catch (DataAccessException | TransactionException ex) {
+                forgetCreatedCategories();
+                for (NumberedRow row : rows) {
+                    try {
+                        complete(1, importInTransaction(List.of(row)));
+                    } catch (DataAccessException | TransactionException rowEx) {
+                        forgetCreatedCategories();
+                        fail(row.number(), "Could not save: " + NestedExceptionUtils.getMostSpecificCause(rowEx).getMessage());
+                    }
+                }
+            }
+        }
+
+        void fail(long row, String message) {
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < maxErrors) {
+                report.getErrors().add(new ImportReportDto.RowError(row, message));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+
+        private void complete(int rows, List<ImportReportDto.RowError> errors) {
+            report.setImported(report.getImported() + rows - errors.size());
+            report.setCategoriesCreated(report.getCategoriesCreated() + createdNames.size());
+            createdNames.clear();
+            errors.forEach(error -> fail(error.getRow(), error.getMessage()));
+        }
+
+        private void forgetCreatedCategories() {
+            createdNames.forEach(categoryIds::remove);
+            createdNames.clear();
+        }
+
+        /**
+         * Save a batch of rows, returning the rows rejected by validation.
+         */
+        private List<ImportReportDto.RowError> importInTransaction(List<NumberedRow> rows) {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                List<ImportReportDto.RowError> errors = new ArrayList<>();
+                for (NumberedRow row : rows) {
+                    try {
+                        importRow(row.row());
+                    } catch (IllegalArgumentException ex) {
+                        errors.add(new ImportReportDto.RowError(row.number(), ex.getMessage()));
+                    }
+                }
+                return errors;
+            });
+        }
+
+        private void importRow(MenuItemImportRow row) {
+            MenuItemDto menuItemDto = toDto(row);
+            Long existingCategoryId = resolveCategory(row);
+            menuItemDto.setCategoryId(existingCategoryId);
+
+            // a category about to be created has no id yet
+            validate(menuItemDto, violation -> existingCategoryId != null
+                    || !violation.getPropertyPath().toString().equals("categoryId"));
+            Long categoryId = existingCategoryId != null ? existingCategoryId : createCategory(row.getCategory().trim());
+
+            MenuItem menuItem = MenuItem.builder()
+                    .restaurantId(restaurantId)
+                    .name(menuItemDto.getName())
+                    .description(menuItemDto.getDescription())
+                    .price(menuItemDto.getPrice())
+                    .available(menuItemDto.isAvailable())
+                    .category(categoryRepository.getReferenceById(categoryId))
+                    .dietaryRestrictions(menuItemDto.getDietaryRestrictions())
+                    .ingredients(ingredientService.resolveIngredients(menuItemDto.getIngredients()))
+                    .build();
+            MenuItem savedMenuItem = menuItemRepository.save(menuItem);
+            changeLogService.recordCreate(MenuItemServiceImpl.mapToDto(savedMenuItem));
+        }
+
+        /**
+         * Look up the row's category.
+         *
+         * @return the category id, or null if the category has to be created
+         */
+        private Long resolveCategory(MenuItemImportRow row) {
+            if (row.getCategoryId() != null && !row.getCategoryId().isBlank()) {
+                long id = parse(row.getCategoryId(), Long::parseLong, "category id");
+                if (!categoryNames.contains(restaurantId, id) && !categoryIds.containsValue(id)) {
+                    throw new IllegalArgumentException("Category not found for id = " + id);
+                }
+                return id;
+            }
+
+            if (row.getCategory() == null || row.getCategory().isBlank()) {
+                throw new IllegalArgumentException("Category is required");
+            }
+            String name = row.getCategory().trim();
+            Long id = categoryNames.findId(restaurantId, name);
+            if (id == null) {
+                id = categoryIds.get(Category.normalize(name));
+            }
+            if (id == null && !createCategories) {
+                throw new IllegalArgumentException("Category not found: " + name);
+            }
+            return id;
+        }
+
+        private Long createCategory(String name) {
+            CategoryDto categoryDto = CategoryDto.builder().name(name).build();
+            validate(categoryDto, violation -> true);
+
+            Category savedCategory = categoryRepository.save(Category.builder()
+                    .restaurantId(restaurantId)
+                    .name(name)
+                    .build());
+            changeLogService.recordCreate(CategoryServiceImpl.mapToDto(savedCategory));
+
+            String key = Category.normalize(name);
+            categoryIds.put(key, savedCategory.getId());
+            createdNames.add(key);
+            return savedCategory.getId();
+        }
+    }
+
+    /**
+     * Convert an import row to a MenuItemDto, without its category.
+     */
+    private static MenuItemDto toDto(MenuItemImportRow row) {
+        MenuItemDto.MenuItemDtoBuilder builder = MenuItemDto.builder()
+                .name(row.getName())
+                .description(row.getDescription());
+
+        if (row.getPrice() != null && !row.getPrice().isBlank()) {
+            builder.price(parse(row.getPrice(), BigDecimal::new, "price"));
+        }
+
+        if (row.getAvailable() != null && !row.getAvailable().isBlank()) {
+            String available = row.getAvailable().trim();
+            if (!available.equalsIgnoreCase("true") && !available.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("Invalid available: " + available);
+            }
+            builder.available(Boolean.parseBoolean(available));
+        }
+
+        Set<DietaryRestriction> restrictions = EnumSet.noneOf(DietaryRestriction.class);
+        for (String restriction : values(row.getDietaryRestrictions())) {
+            restrictions.add(parse(restriction.toUpperCase(Locale.ROOT), DietaryRestriction::valueOf, "dietary restriction"));
+        }
+        builder.dietaryRestrictions(new HashSet<>(restrictions));
+        builder.ingredients(new HashSet<>(values(row.getIngredients())));
+
+        return builder.build();
+    }
+
+    private static List<String> values(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toList());
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser, String field) {
+        try {
+            return parser.apply(value.trim());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private <T> void validate(T dto, Predicate<ConstraintViolation<T>> filter) {
+        String violations = validator.validate(dto).stream()
+                .filter(filter)
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.restaurant.menuservice.service;
 
 import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.MenuItemLookupDto;
+import com.restaurant.menuservice.dto.MenuItemSearchFilter;
+import com.restaurant.menuservice.dto.SearchHitDto;
+import com.restaurant.menuservice.dto.SimilarMenuItemDto;
+import com.restaurant.menuservice.dto.SuggestionDto;
 import com.restaurant.menuservice.model.DietaryRestriction;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -26,6 +32,14 @@ public interface MenuItemService {
      */
     MenuItemDto getMenuItemById(Long id);
 
+    /**
+     * Get several menu items by their IDs at once.
+     *
+     * @param ids the menu item IDs; duplicates are returned once
+     * @return the menu items found, in request order, and the IDs that were not found
+     */
+    MenuItemLookupDto getMenuItemsByIds(List<Long> ids);
+
     /**
      * Create a new menu item.
      *
@@ -59,11 +73,13 @@ public interface MenuItemService {
     List<MenuItemDto> getMenuItemsByCategory(Long categoryId);
 
     /**
-     * Get all available menu items.
+     * Get all menu items served at a point in time: available, and inside their own and their
+     * category's schedule.
      *
-     * @return a list of all available menu item DTOs
+     * @param at the point in time
+     * @return a list of the menu item DTOs served at that time
      */
-    List<MenuItemDto> getAvailableMenuItems();
+    List<MenuItemDto> getAvailableMenuItems(Instant at);
 
     /**
      * Get all menu items with a specific dietary restriction.
@@ -89,4 +105,46 @@ public interface MenuItemService {
      * @return a list of menu item DTOs that contain the specified ingredient
      */
     List<MenuItemDto> getMenuItemsByIngredient(String ingredient);
-}
\ No newline at end of file
+
+    /**
+     * Get all menu items that contain none of the given ingredients, e.g. for guests with allergies.
+     *
+     * An ingredient is excluded when its name contains any of the given names, ignoring case,
+     * so "peanut" also excludes "Peanut butter".
+     *
+     * @param ingredients the ingredients to exclude
+     * @return a list of menu item DTOs without any of the ingredients, in id order
+     */
+    List<MenuItemDto> getMenuItemsExcludingIngredients(List<String> ingredients);
+
+    /**
+     * Get typeahead suggestions: menu item names and ingredients with a word starting with a prefix.
+     *
+     * @param prefix the prefix typed so far
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, most popular first
+     */
+    List<SuggestionDto> getSuggestions(String prefix, int limit);
+
+    /**
+     * Search menu items by name, description, category name and ingredients, best matches first.
+     *
+     * @param query the words to search for; a menu item matches any of them
+     * @param fuzzy whether to tolerate typos in names and ingredients
+     * @param filter the availability, price and dietary filters to apply
+     * @param limit the maximum number of results
+     * @return the matching menu items with their relevance
+     */
+    List<SearchHitDto> searchMenuItems(String query, boolean fuzzy, MenuItemSearchFilter filter, int limit);
+
+    /**
+     * Get available substitutes for a menu item: the menu items with the most similar ingredients
+     * that meet at least its dietary restrictions, most similar first.
+     *
+     * @param id the menu item to replace
+     * @param limit the maximum number of results
+     * @return the similar menu items with their similarity
+     * @throws com.restaurant.menuservice.exception.ResourceNotFoundException if the menu item does not exist
+     */
+    List<SimilarMenuItemDto> getSimilarMenuItems(Long id, int limit);
+}
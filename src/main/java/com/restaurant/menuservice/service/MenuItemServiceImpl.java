@@ -1,22 +1,47 @@
 package com.restaurant.menuservice.service;
 
+import com.restaurant.menuservice.allergen.AllergenIndexRegistry;
 import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.MenuItemLookupDto;
+import com.restaurant.menuservice.dto.MenuItemSearchFilter;
+import com.restaurant.menuservice.dto.SearchHitDto;
+import com.restaurant.menuservice.dto.SimilarMenuItemDto;
+import com.restaurant.menuservice.dto.SuggestionDto;
 import com.restaurant.menuservice.exception.ResourceNotFoundException;
 import com.restaurant.menuservice.model.Category;
 import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.model.Ingredient;
 import com.restaurant.menuservice.model.MenuItem;
 import com.restaurant.menuservice.repository.CategoryRepository;
+import com.restaurant.menuservice.repository.MenuItemOutline;
 import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.search.SearchIndex;
+import com.restaurant.menuservice.search.SimilarityIndex;
+import com.restaurant.menuservice.search.Suggestion;
+import com.restaurant.menuservice.search.SuggestionRegistry;
+import com.restaurant.menuservice.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of the MenuItemService interface.
+ *
+ * All operations act on the restaurant bound to the current {@link TenantContext}.
  */
 @Service
 @RequiredArgsConstructor
@@ -25,11 +50,21 @@ public class MenuItemServiceImpl implements MenuItemService {
 
     private final MenuItemRepository menuItemRepository;
     private final CategoryRepository categoryRepository;
+    private final ChangeLogService changeLogService;
+    private final IngredientService ingredientService;
+    private final IngredientDictionary ingredientDictionary;
+    private final AllergenIndexRegistry allergenIndexRegistry;
+    private final SuggestionRegistry suggestionRegistry;
+    private final SearchIndexRegistry searchIndexRegistry;
+    private final SimilarityIndexRegistry similarityIndexRegistry;
+    private final ScheduleIndexRegistry scheduleIndexRegistry;
 
     /**
      * Convert a MenuItem entity to a MenuItemDto.
+     * The collections are copied so the DTO stays valid after the entity changes;
+     * ingredient names are the interned instances of the dictionary.
      */
-    private MenuItemDto mapToDto(MenuItem menuItem) {
+    static MenuItemDto mapToDto(MenuItem menuItem) {
         return MenuItemDto.builder()
                 .id(menuItem.getId())
                 .name(menuItem.getName())
@@ -38,8 +73,54 @@ public class MenuItemServiceImpl implements MenuItemService {
                 .available(menuItem.isAvailable())
                 .categoryId(menuItem.getCategory() != null ? menuItem.getCategory().getId() : null)
                 .categoryName(menuItem.getCategory() != null ? menuItem.getCategory().getName() : null)
-                .dietaryRestrictions(menuItem.getDietaryRestrictions())
-                .ingredients(menuItem.getIngredients())
+                .dietaryRestrictions(new HashSet<>(menuItem.getDietaryRestrictions()))
+                .ingredients(menuItem.getIngredients().stream()
+                        .map(Ingredient::getName)
+                        .collect(Collectors.toCollection(HashSet::new)))
+                .schedule(ScheduleWindows.mapToDto(menuItem.getSchedule()))
+                .build();
+    }
+
+    /**
+     * Convert the outline rows of a deleted menu item to a MenuItemDto, without description and schedule.
+     */
+    static MenuItemDto mapToDto(Long id, List<MenuItemOutline> outline) {
+        MenuItemDto menuItem = MenuItemDto.builder().id(id).build();
+        for (MenuItemOutline row : outline) {
+            menuItem.setName(row.getName());
+            menuItem.setPrice(row.getPrice());
+            menuItem.setAvailable(row.isAvailable());
+            menuItem.setCategoryId(row.getCategoryId());
+            menuItem.setCategoryName(row.getCategoryName());
+            if (row.getRestriction() != null) {
+                menuItem.getDietaryRestrictions().add(row.getRestriction());
+            }
+            if (row.getIngredientName() != null) {
+                menuItem.getIngredients().add(row.getIngredientName());
+            }
+        }
+        return menuItem;
+    }
+
+    static SuggestionDto mapToDto(Suggestion suggestion) {
+        return SuggestionDto.builder()
+                .text(suggestion.text())
+                .type(suggestion.type())
+                .score(suggestion.score())
+                .build();
+    }
+
+    static SearchHitDto mapToDto(SearchIndex.Hit hit) {
+        return SearchHitDto.builder()
+                .menuItem(hit.menuItem())
+                .score(hit.score())
+                .build();
+    }
+
+    static SimilarMenuItemDto mapToDto(SimilarityIndex.Hit hit) {
+        return SimilarMenuItemDto.builder()
+                .menuItem(hit.menuItem())
+                .similarity(hit.similarity())
                 .build();
     }
 
@@ -59,10 +140,10 @@ public class MenuItemServiceImpl implements MenuItemService {
             menuItemDto.getDietaryRestrictions().forEach(menuItem::addDietaryRestriction);
         }
 
-        // set ingredients
-        if(menuItemDto.getIngredients() != null) {
-            menuItemDto.getIngredients().forEach(menuItem::addIngredient);
-        }
+        // set ingredients from the dictionary
+        menuItem.getIngredients().addAll(ingredientService.resolveIngredients(menuItemDto.getIngredients()));
+
+        menuItem.getSchedule().addAll(ScheduleWindows.mapToEntity(menuItemDto.getSchedule()));
 
         return menuItem;
     }
@@ -71,25 +152,44 @@ public class MenuItemServiceImpl implements MenuItemService {
     @Override
     @Transactional(readOnly = true)
     public List<MenuItemDto> getAllMenuItems() {
-        return menuItemRepository.findAll().stream()
-                .map(this::mapToDto)
+        return menuItemRepository.findByRestaurantId(TenantContext.getRestaurantId()).stream()
+                .map(MenuItemServiceImpl::mapToDto)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public MenuItemDto getMenuItemById(Long id) {
-        MenuItem menuItem = menuItemRepository.findById(id)
+        MenuItem menuItem = menuItemRepository.findByIdAndRestaurantId(id, TenantContext.getRestaurantId())
                 .orElseThrow(() -> new ResourceNotFoundException("MenuItem", "id", id));
 
         return mapToDto(menuItem);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MenuItemLookupDto getMenuItemsByIds(List<Long> ids) {
+        // one IN query for the items and their categories; the collections are batch loaded
+        Map<Long, MenuItem> found = menuItemRepository.findByRestaurantIdAndIdIn(TenantContext.getRestaurantId(), new HashSet<>(ids)).stream()
+                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
+
+        MenuItemLookupDto lookup = new MenuItemLookupDto();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            MenuItem menuItem = found.get(id);
+            if (menuItem != null) {
+                lookup.getItems().add(mapToDto(menuItem));
+            } else {
+                lookup.getMissing().add(id);
+            }
+        }
+        return lookup;
+    }
+
     @Override
     public MenuItemDto createMenuItem(MenuItemDto menuItemDto) {
 
         // verify category exists
-        Category category = categoryRepository.findById(menuItemDto.getCategoryId())
+        Category category = categoryRepository.findByIdAndRestaurantId(menuItemDto.getCategoryId(), TenantContext.getRestaurantId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", menuItemDto.getCategoryId()));
 
         // map dto to entity
@@ -97,24 +197,33 @@ public class MenuItemServiceImpl implements MenuItemService {
 
         // set category
         menuItem.setCategory(category);
+        menuItem.setRestaurantId(category.getRestaurantId());
 
         // save menu item
         MenuItem savedMenuItem = menuItemRepository.save(menuItem);
 
-        return mapToDto(savedMenuItem);
+        MenuItemDto savedMenuItemDto = mapToDto(savedMenuItem);
+        changeLogService.recordCreate(savedMenuItemDto);
+
+        return savedMenuItemDto;
     }
 
     @Override
     public MenuItemDto updateMenuItem(Long id, MenuItemDto menuItemDto) {
 
+        Long restaurantId = TenantContext.getRestaurantId();
+
         // check if the menu item exists
-        MenuItem menuItem = menuItemRepository.findById(id)
+        MenuItem menuItem = menuItemRepository.findByIdAndRestaurantId(id, restaurantId)
                 .orElseThrow(() -> new ResourceNotFoundException("MenuItem", "id", id));
 
         // verify category exists
-        Category category = categoryRepository.findById(menuItemDto.getCategoryId())
+        Category category = categoryRepository.findByIdAndRestaurantId(menuItemDto.getCategoryId(), restaurantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", menuItemDto.getCategoryId()));
 
+        // keep the previous state for change subscribers (e.g. availability flips)
+        MenuItemDto previous = mapToDto(menuItem);
+
         // update menu item
         menuItem.setName(menuItemDto.getName());
         menuItem.setDescription(menuItemDto.getDescription());
@@ -130,71 +239,148 @@ public class MenuItemServiceImpl implements MenuItemService {
 
         // update ingredients
         menuItem.getIngredients().clear();
-        if(menuItemDto.getIngredients() != null) {
-            menuItemDto.getIngredients().forEach(menuItem::addIngredient);
-        }
+        menuItem.getIngredients().addAll(ingredientService.resolveIngredients(menuItemDto.getIngredients()));
+
+        // update the schedule
+        menuItem.getSchedule().clear();
+        menuItem.getSchedule().addAll(ScheduleWindows.mapToEntity(menuItemDto.getSchedule()));
 
         // save the updated menu item
         MenuItem updatedMenuItem = menuItemRepository.save(menuItem);
 
-        return mapToDto(updatedMenuItem);
+        MenuItemDto updatedMenuItemDto = mapToDto(updatedMenuItem);
+        changeLogService.recordUpdate(updatedMenuItemDto, previous);
+
+        return updatedMenuItemDto;
 
     }
 
     @Override
     public void deleteMenuItem(Long id) {
 
-        // check if menu item exists
-        if(!menuItemRepository.existsById(id)) {
+        Long restaurantId = TenantContext.getRestaurantId();
+
+        // what listeners learn about the deleted item, read as plain columns rather than loading the entity
+        List<MenuItemOutline> outline = menuItemRepository.findOutlineByIdAndRestaurantId(id, restaurantId);
+
+        // one statement, and the row count tells whether the item existed
+        if (menuItemRepository.deleteByIdAndRestaurantId(id, restaurantId) == 0) {
             throw new ResourceNotFoundException("MenuItem", "id", id);
         }
-
-        menuItemRepository.deleteById(id);
+        changeLogService.recordDelete(mapToDto(id, outline));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MenuItemDto> getMenuItemsByCategory(Long categoryId) {
 
-        // verify category exists
-        if(!categoryRepository.existsById(categoryId)) {
+        Long restaurantId = TenantContext.getRestaurantId();
+
+        List<MenuItem> menuItems = menuItemRepository.findByRestaurantIdAndCategoryId(restaurantId, categoryId);
+
+        // an empty category and a missing one look the same, so only then check that it exists
+        if(menuItems.isEmpty() && !categoryRepository.existsByIdAndRestaurantId(categoryId, restaurantId)) {
             throw new ResourceNotFoundException("Category", "id", categoryId);
         }
 
-        return menuItemRepository.findByCategoryId(categoryId).stream()
-                .map(this::mapToDto)
+        return menuItems.stream()
+                .map(MenuItemServiceImpl::mapToDto)
                 .collect(Collectors.toList());
     }
 
+    // served from the in-memory schedule index, so no transaction (and no connection) is needed
     @Override
-    @Transactional(readOnly = true)
-    public List<MenuItemDto> getAvailableMenuItems() {
-        return menuItemRepository.findByAvailableTrue().stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MenuItemDto> getAvailableMenuItems(Instant at) {
+        return scheduleIndexRegistry.getIndex(TenantContext.getRestaurantId()).availableAt(at);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MenuItemDto> getMenuItemsByDietaryRestriction(DietaryRestriction restriction) {
-        return menuItemRepository.findByDietaryRestriction(restriction).stream()
-                .map(this::mapToDto)
+        return menuItemRepository.findByDietaryRestriction(TenantContext.getRestaurantId(), restriction).stream()
+                .map(MenuItemServiceImpl::mapToDto)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MenuItemDto> getMenuItemsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
-        return menuItemRepository.findByPriceBetween(minPrice, maxPrice).stream()
-                .map(this::mapToDto)
+        return menuItemRepository.findByRestaurantIdAndPriceBetween(TenantContext.getRestaurantId(), minPrice, maxPrice).stream()
+                .map(MenuItemServiceImpl::mapToDto)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MenuItemDto> getMenuItemsByIngredient(String ingredient) {
-        return menuItemRepository.findByIngredientContainingIgnoreCase(ingredient).stream()
-                .map(this::mapToDto)
+        Long restaurantId = TenantContext.getRestaurantId();
+
+        // match the names in the dictionary, then fetch the items by ingredient id
+        Set<Long> ingredientIds = ingredientDictionary.findIdsContaining(restaurantId, ingredient);
+        if(ingredientIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return menuItemRepository.findByRestaurantIdAndIngredientIdIn(restaurantId, ingredientIds).stream()
+                .map(MenuItemServiceImpl::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MenuItemDto> getMenuItemsExcludingIngredients(List<String> ingredients) {
+        Long restaurantId = TenantContext.getRestaurantId();
+        List<String> terms = ingredients.stream()
+                .map(Ingredient::normalize)
+                .distinct()
+                .toList();
+
+        // evaluate the exclusion on the bitmaps, then fetch only the remaining items
+        long[] ids = allergenIndexRegistry.getIndex(restaurantId).idsExcluding(terms);
+        if(ids.length == 0) {
+            return new ArrayList<>();
+        }
+
+        // the items are checked again, as a replica may still hold an older version of them
+        return menuItemRepository.findByRestaurantIdAndIdIn(restaurantId, Arrays.stream(ids).boxed().toList()).stream()
+                .map(MenuItemServiceImpl::mapToDto)
+                .filter(menuItem -> menuItem.getIngredients().stream()
+                        .map(Ingredient::normalize)
+                        .noneMatch(name -> terms.stream().anyMatch(name::contains)))
+                .sorted(Comparator.comparing(MenuItemDto::getId))
+                .collect(Collectors.toList());
+    }
+
+    // served from memory on every keystroke, so no transaction (and no connection) is needed
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SuggestionDto> getSuggestions(String prefix, int limit) {
+        return suggestionRegistry.suggest(TenantContext.getRestaurantId(), prefix, limit).stream()
+                .map(MenuItemServiceImpl::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    // served from the in-memory index, so no transaction (and no connection) is needed
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SearchHitDto> searchMenuItems(String query, boolean fuzzy, MenuItemSearchFilter filter, int limit) {
+        return searchIndexRegistry.getIndex(TenantContext.getRestaurantId()).search(query, fuzzy, filter::matches, limit).stream()
+                .map(MenuItemServiceImpl::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    // served from the in-memory index, so no transaction (and no connection) is needed
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SimilarMenuItemDto> getSimilarMenuItems(Long id, int limit) {
+        List<SimilarityIndex.Hit> hits = similarityIndexRegistry.getIndex(TenantContext.getRestaurantId())
+                .similar(id, MenuItemDto::isAvailable, limit);
+        if(hits == null) {
+            throw new ResourceNotFoundException("MenuItem", "id", id);
+        }
+        return hits.stream()
+                .map(MenuItemServiceImpl::mapToDto)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.MenuVersionDto;
+import com.restaurant.menuservice.dto.PublishedMenuDto;
+
+import java.util.List;
+
+/**
+ * Service interface for publishing menus.
+ *
+ * Categories and menu items are edited as a draft; customers see the published version, an
+ * immutable copy of the draft taken at publication.
+ */
+public interface MenuPublicationService {
+
+    /**
+     * Publish the current categories and menu items as a new version and serve it.
+     *
+     * @return the new version
+     */
+    MenuVersionDto publish();
+
+    /**
+     * Serve an earlier (or later) published version again, e.g. to roll back a publication.
+     *
+     * @param version the version number
+     * @return the version now served
+     */
+    MenuVersionDto activate(int version);
+
+    /**
+     * Get the published versions.
+     *
+     * @return the versions, newest first
+     */
+    List<MenuVersionDto> getVersions();
+
+    /**
+     * Get the menu currently served.
+     *
+     * @return the published menu
+     */
+    PublishedMenuDto getPublishedMenu();
+}
@@ -0,0 +1,170 @@
+package com.restaurant.menuservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.MenuVersionDto;
+import com.restaurant.menuservice.dto.PublishedMenuDto;
+import com.restaurant.menuservice.event.MenuPublishedEvent;
+import com.restaurant.menuservice.exception.ConflictException;
+import com.restaurant.menuservice.exception.ResourceNotFoundException;
+import com.restaurant.menuservice.model.MenuPublication;
+import com.restaurant.menuservice.model.MenuVersion;
+import com.restaurant.menuservice.publish.PublishedMenuRegistry;
+import com.restaurant.menuservice.repository.CategoryRepository;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.repository.MenuPublicationRepository;
+import com.restaurant.menuservice.repository.MenuVersionRepository;
+import com.restaurant.menuservice.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the MenuPublicationService interface.
+ *
+ * A publication serializes the draft into a new {@link MenuVersion} row and moves the
+ * restaurant's {@link MenuPublication} pointer to it; a rollback only moves the pointer. Both lock
+ * the pointer first, so they take turns per restaurant. The public menu is served from the
+ * {@link PublishedMenuRegistry}, which switches to the new version once the transaction commits.
+ */
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MenuPublicationServiceImpl implements MenuPublicationService {
+
+    private final CategoryRepository categoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final MenuVersionRepository menuVersionRepository;
+    private final MenuPublicationRepository menuPublicationRepository;
+    private final PublishedMenuRegistry publishedMenuRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public MenuVersionDto publish() {
+        Long restaurantId = TenantContext.getRestaurantId();
+        MenuPublication publication = menuPublicationRepository.findForUpdate(restaurantId).orElse(null);
+        int version = menuVersionRepository.findLatestVersion(restaurantId) + 1;
+
+        PublishedMenuDto menu = PublishedMenuDto.builder()
+                .version(version)
+                .publishedAt(LocalDateTime.now())
+                .categories(categoryRepository.findByRestaurantId(restaurantId).stream()
+                        .map(CategoryServiceImpl::mapToDto)
+                        .sorted(Comparator.comparing(CategoryDto::getId))
+                        .collect(Collectors.toList()))
+                .menuItems(menuItemRepository.findByRestaurantId(restaurantId).stream()
+                        .map(MenuItemServiceImpl::mapToDto)
+                        .sorted(Comparator.comparing(MenuItemDto::getId))
+                        .collect(Collectors.toList()))
+                .build();
+
+        MenuVersion menuVersion = MenuVersion.builder()
+                .restaurantId(restaurantId)
+                .version(version)
+                .publishedAt(menu.getPublishedAt())
+                .categoryCount(menu.getCategories().size())
+                .menuItemCount(menu.getMenuItems().size())
+                .content(serialize(menu))
+                .build();
+        try {
+            menuVersionRepository.saveAndFlush(menuVersion);
+        } catch (DataIntegrityViolationException ex) {
+            // only the first publication of a restaurant has no pointer to lock
+            throw new ConflictException("Menu version " + version + " was published concurrently, publish again");
+        }
+
+        switchTo(restaurantId, publication, menu);
+        return mapToActiveDto(menuVersion);
+    }
+
+    @Override
+    public MenuVersionDto activate(int version) {
+        Long restaurantId = TenantContext.getRestaurantId();
+        MenuPublication publication = menuPublicationRepository.findForUpdate(restaurantId).orElse(null);
+        MenuVersion menuVersion = menuVersionRepository.findByRestaurantIdAndVersion(restaurantId, version)
+                .orElseThrow(() -> new ResourceNotFoundException("MenuVersion", "version", version));
+
+        if (publication == null || publication.getVersion() != version) {
+            switchTo(restaurantId, publication, deserialize(menuVersion.getContent()));
+        }
+        return mapToActiveDto(menuVersion);
+    }
+
+    // not read-only: versions are not replicated, so they are read from the primary, not the replica
+    @Override
+    public List<MenuVersionDto> getVersions() {
+        Long restaurantId = TenantContext.getRestaurantId();
+        int active = menuPublicationRepository.findById(restaurantId)
+                .map(MenuPublication::getVersion)
+                .orElse(0);
+        return menuVersionRepository.findSummariesByRestaurantId(restaurantId).stream()
+                .map(summary -> MenuVersionDto.builder()
+                        .version(summary.getVersion())
+                        .publishedAt(summary.getPublishedAt())
+                        .categoryCount(summary.getCategoryCount())
+                        .menuItemCount(summary.getMenuItemCount())
+                        .active(summary.getVersion() == active)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // served from the published menu in memory, so no transaction (and no connection) is needed
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PublishedMenuDto getPublishedMenu() {
+        return publishedMenuRegistry.getMenu(TenantContext.getRestaurantId()).menu();
+    }
+
+    private void switchTo(Long restaurantId, MenuPublication publication, PublishedMenuDto menu) {
+        if (publication == null) {
+            publication = MenuPublication.builder()
+                    .restaurantId(restaurantId)
+                    .build();
+        }
+        publication.setVersion(menu.getVersion());
+        publication.setActivation(publication.getActivation() + 1);
+        publication.setActivatedAt(LocalDateTime.now());
+        menuPublicationRepository.save(publication);
+        eventPublisher.publishEvent(new MenuPublishedEvent(restaurantId, publication.getActivation(), menu));
+    }
+
+    private byte[] serialize(PublishedMenuDto menu) {
+        try {
+            return objectMapper.writeValueAsBytes(menu);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private PublishedMenuDto deserialize(byte[] content) {
+        try {
+            return objectMapper.readValue(content, PublishedMenuDto.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static MenuVersionDto mapToActiveDto(MenuVersion menuVersion) {
+        return MenuVersionDto.builder()
+                .version(menuVersion.getVersion())
+                .publishedAt(menuVersion.getPublishedAt())
+                .categoryCount(menuVersion.getCategoryCount())
+                .menuItemCount(menuVersion.getMenuItemCount())
+                .active(true)
+                .build();
+    }
+}
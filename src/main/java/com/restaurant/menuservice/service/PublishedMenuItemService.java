@@ -0,0 +1,127 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.MenuItemLookupDto;
+import com.restaurant.menuservice.dto.MenuItemSearchFilter;
+import com.restaurant.menuservice.dto.SearchHitDto;
+import com.restaurant.menuservice.dto.SimilarMenuItemDto;
+import com.restaurant.menuservice.dto.SuggestionDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service interface for reading the menu items customers see.
+ *
+ * Unlike {@link MenuItemService}, which works on the draft, every read here is answered from the
+ * menu the restaurant has published, and throws
+ * {@link com.restaurant.menuservice.exception.ResourceNotFoundException} if there is none yet.
+ */
+public interface PublishedMenuItemService {
+
+    /**
+     * Get all published menu items.
+     *
+     * @return a list of the menu item DTOs, in id order
+     */
+    List<MenuItemDto> getAllMenuItems();
+
+    /**
+     * Get a published menu item by its ID.
+     *
+     * @param id the menu item ID
+     * @return the menu item DTO
+     */
+    MenuItemDto getMenuItemById(Long id);
+
+    /**
+     * Get several published menu items by their IDs at once.
+     *
+     * @param ids the menu item IDs; duplicates are returned once
+     * @return the menu items found, in request order, and the IDs that were not found
+     */
+    MenuItemLookupDto getMenuItemsByIds(List<Long> ids);
+
+    /**
+     * Get all published menu items in a specific category.
+     *
+     * @param categoryId the category ID
+     * @return a list of menu item DTOs in the specified category
+     */
+    List<MenuItemDto> getMenuItemsByCategory(Long categoryId);
+
+    /**
+     * Get all published menu items served at a point in time: available, and inside their own and
+     * their category's schedule.
+     *
+     * @param at the point in time
+     * @return a list of the menu item DTOs served at that time
+     */
+    List<MenuItemDto> getAvailableMenuItems(Instant at);
+
+    /**
+     * Get all published menu items with a specific dietary restriction.
+     *
+     * @param restriction the dietary restriction to filter by
+     * @return a list of menu item DTOs that meet the specified dietary restriction
+     */
+    List<MenuItemDto> getMenuItemsByDietaryRestriction(DietaryRestriction restriction);
+
+    /**
+     * Get all published menu items within a specified price range.
+     *
+     * @param minPrice the minimum price (inclusive)
+     * @param maxPrice the maximum price (inclusive)
+     * @return a list of menu item DTOs within the specified price range
+     */
+    List<MenuItemDto> getMenuItemsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
+
+    /**
+     * Get all published menu items that contain a specific ingredient.
+     *
+     * @param ingredient the ingredient to search for
+     * @return a list of menu item DTOs that contain the specified ingredient
+     */
+    List<MenuItemDto> getMenuItemsByIngredient(String ingredient);
+
+    /**
+     * Get all published menu items that contain none of the given ingredients, matched as by
+     * {@link MenuItemService#getMenuItemsExcludingIngredients(List)}.
+     *
+     * @param ingredients the ingredients to exclude
+     * @return a list of menu item DTOs without any of the ingredients, in id order
+     */
+    List<MenuItemDto> getMenuItemsExcludingIngredients(List<String> ingredients);
+
+    /**
+     * Get typeahead suggestions from the published menu items.
+     *
+     * @param prefix the prefix typed so far
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, most popular first
+     */
+    List<SuggestionDto> getSuggestions(String prefix, int limit);
+
+    /**
+     * Search the published menu items, best matches first.
+     *
+     * @param query the words to search for; a menu item matches any of them
+     * @param fuzzy whether to tolerate typos in names and ingredients
+     * @param filter the availability, price and dietary filters to apply
+     * @param limit the maximum number of results
+     * @return the matching menu items with their relevance
+     */
+    List<SearchHitDto> searchMenuItems(String query, boolean fuzzy, MenuItemSearchFilter filter, int limit);
+
+    /**
+     * Get available substitutes for a published menu item.
+     *
+     * @param id the menu item to replace
+     * @param limit the maximum number of results
+     * @return the similar menu items with their similarity
+     * @throws com.restaurant.menuservice.exception.ResourceNotFoundException if the menu item is not published
+     */
+    List<SimilarMenuItemDto> getSimilarMenuItems(Long id, int limit);
+}
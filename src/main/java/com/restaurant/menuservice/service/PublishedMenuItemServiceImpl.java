@@ -0,0 +1,153 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.MenuItemLookupDto;
+import com.restaurant.menuservice.dto.MenuItemSearchFilter;
+import com.restaurant.menuservice.dto.SearchHitDto;
+import com.restaurant.menuservice.dto.SimilarMenuItemDto;
+import com.restaurant.menuservice.dto.SuggestionDto;
+import com.restaurant.menuservice.exception.ResourceNotFoundException;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.model.Ingredient;
+import com.restaurant.menuservice.publish.PublishedMenu;
+import com.restaurant.menuservice.publish.PublishedMenuRegistry;
+import com.restaurant.menuservice.search.SimilarityIndex;
+import com.restaurant.menuservice.search.SuggestionTrie;
+import com.restaurant.menuservice.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the PublishedMenuItemService interface.
+ *
+ * Every read is answered from the {@link PublishedMenu} the {@link PublishedMenuRegistry} serves
+ * and its indexes, so no transaction (and no connection) is needed, and a read never sees a mix of
+ * two versions or a draft edit.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PublishedMenuItemServiceImpl implements PublishedMenuItemService {
+
+    private final PublishedMenuRegistry publishedMenuRegistry;
+
+    @Override
+    public List<MenuItemDto> getAllMenuItems() {
+        return servedMenu().menu().getMenuItems();
+    }
+
+    @Override
+    public MenuItemDto getMenuItemById(Long id) {
+        MenuItemDto menuItem = servedMenu().menuItems().get(id);
+        if (menuItem == null) {
+            throw new ResourceNotFoundException("MenuItem", "id", id);
+        }
+        return menuItem;
+    }
+
+    @Override
+    public MenuItemLookupDto getMenuItemsByIds(List<Long> ids) {
+        PublishedMenu menu = servedMenu();
+        MenuItemLookupDto lookup = new MenuItemLookupDto();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            MenuItemDto menuItem = menu.menuItems().get(id);
+            if (menuItem != null) {
+                lookup.getItems().add(menuItem);
+            } else {
+                lookup.getMissing().add(id);
+            }
+        }
+        return lookup;
+    }
+
+    @Override
+    public List<MenuItemDto> getMenuItemsByCategory(Long categoryId) {
+        PublishedMenu menu = servedMenu();
+        if (!menu.categoryIds().contains(categoryId)) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
+        return filter(menu, menuItem -> categoryId.equals(menuItem.getCategoryId()));
+    }
+
+    @Override
+    public List<MenuItemDto> getAvailableMenuItems(Instant at) {
+        return servedMenu().schedule().availableAt(at);
+    }
+
+    @Override
+    public List<MenuItemDto> getMenuItemsByDietaryRestriction(DietaryRestriction restriction) {
+        return filter(servedMenu(), menuItem -> menuItem.getDietaryRestrictions().contains(restriction));
+    }
+
+    @Override
+    public List<MenuItemDto> getMenuItemsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return filter(servedMenu(), menuItem -> menuItem.getPrice().compareTo(minPrice) >= 0
+                && menuItem.getPrice().compareTo(maxPrice) <= 0);
+    }
+
+    @Override
+    public List<MenuItemDto> getMenuItemsByIngredient(String ingredient) {
+        String needle = Ingredient.normalize(ingredient);
+        return filter(servedMenu(), menuItem -> menuItem.getIngredients().stream()
+                .anyMatch(name -> Ingredient.normalize(name).contains(needle)));
+    }
+
+    @Override
+    public List<MenuItemDto> getMenuItemsExcludingIngredients(List<String> ingredients) {
+        PublishedMenu menu = servedMenu();
+        List<String> terms = ingredients.stream()
+                .map(Ingredient::normalize)
+                .distinct()
+                .toList();
+        return Arrays.stream(menu.allergens().idsExcluding(terms))
+                .sorted()
+                .mapToObj(menu.menuItems()::get)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SuggestionDto> getSuggestions(String prefix, int limit) {
+        return servedMenu().suggestions().complete(SuggestionTrie.normalize(prefix), limit).stream()
+                .map(MenuItemServiceImpl::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SearchHitDto> searchMenuItems(String query, boolean fuzzy, MenuItemSearchFilter filter, int limit) {
+        return servedMenu().search().search(query, fuzzy, filter::matches, limit).stream()
+                .map(MenuItemServiceImpl::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SimilarMenuItemDto> getSimilarMenuItems(Long id, int limit) {
+        List<SimilarityIndex.Hit> hits = servedMenu().similarity().similar(id, MenuItemDto::isAvailable, limit);
+        if (hits == null) {
+            throw new ResourceNotFoundException("MenuItem", "id", id);
+        }
+        return hits.stream()
+                .map(MenuItemServiceImpl::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    private PublishedMenu servedMenu() {
+        return publishedMenuRegistry.getMenu(TenantContext.getRestaurantId());
+    }
+
+    // the published items are already in id order
+    private static List<MenuItemDto> filter(PublishedMenu menu, Predicate<MenuItemDto> predicate) {
+        return menu.menu().getMenuItems().stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,18 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.QuoteDto;
+import com.restaurant.menuservice.dto.QuoteRequest;
+
+/**
+ * Service interface for pricing carts.
+ */
+public interface QuoteService {
+
+    /**
+     * Price a cart with the prices of the menu the current restaurant has published.
+     *
+     * @param request the cart lines
+     * @return the line totals and the cart total
+     */
+    QuoteDto quote(QuoteRequest request);
+}
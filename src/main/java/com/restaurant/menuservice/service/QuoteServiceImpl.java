@@ -0,0 +1,78 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.QuoteDto;
+import com.restaurant.menuservice.dto.QuoteRequest;
+import com.restaurant.menuservice.pricing.PriceTable;
+import com.restaurant.menuservice.publish.PublishedMenu;
+import com.restaurant.menuservice.publish.PublishedMenuRegistry;
+import com.restaurant.menuservice.schedule.ScheduleIndex;
+import com.restaurant.menuservice.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the QuoteService interface.
+ *
+ * Quotes price the published menu customers see, not the draft: prices come from the
+ * {@link PriceTable} of the menu served by the {@link PublishedMenuRegistry} rather than the
+ * database, and are summed as long cents; BigDecimals are only created for the response. A line
+ * is only quoted when its item is served right now, as the menu's {@link ScheduleIndex} tells,
+ * so a quote never charges for what {@code /api/menu/items/available} leaves out.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuoteServiceImpl implements QuoteService {
+
+    private final PublishedMenuRegistry publishedMenuRegistry;
+
+    @Override
+    public QuoteDto quote(QuoteRequest request) {
+        List<QuoteRequest.Line> lines = request.getLines();
+        long[] ids = new long[lines.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = lines.get(i).getItemId();
+        }
+        long[] values = new long[ids.length];
+        boolean[] served = new boolean[ids.length];
+        PublishedMenu menu = publishedMenuRegistry.getMenu(TenantContext.getRestaurantId());
+        menu.prices().getAll(ids, values);
+        menu.schedule().getServed(ids, Instant.now(), served);
+
+        List<QuoteDto.Line> quoted = new ArrayList<>(ids.length);
+        long totalCents = 0;
+        boolean complete = true;
+        for (int i = 0; i < ids.length; i++) {
+            QuoteDto.Line.LineBuilder line = QuoteDto.Line.builder()
+                    .itemId(ids[i])
+                    .quantity(lines.get(i).getQuantity());
+            long value = values[i];
+            if (value == PriceTable.MISSING) {
+                line.status(QuoteDto.LineStatus.NOT_FOUND);
+                complete = false;
+            } else {
+                long unitCents = PriceTable.cents(value);
+                line.unitPrice(BigDecimal.valueOf(unitCents, 2));
+                if (served[i]) {
+                    long lineCents = Math.multiplyExact(unitCents, lines.get(i).getQuantity());
+                    totalCents = Math.addExact(totalCents, lineCents);
+                    line.status(QuoteDto.LineStatus.OK).lineTotal(BigDecimal.valueOf(lineCents, 2));
+                } else {
+                    line.status(QuoteDto.LineStatus.UNAVAILABLE);
+                    complete = false;
+                }
+            }
+            quoted.add(line.build());
+        }
+
+        return QuoteDto.builder()
+                .lines(quoted)
+                .total(BigDecimal.valueOf(totalCents, 2))
+                .complete(complete)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.repository.CategoryRepository;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.schedule.ScheduleIndex;
+import com.restaurant.menuservice.tenant.TenantRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Holds a {@link ScheduleIndex} per restaurant.
+ *
+ * A restaurant's index is built from the repositories on first use and from then on kept in
+ * sync by applying committed category and menu item changes, so schedules take effect by
+ * themselves at shift changes instead of through availability writes.
+ */
+@Component
+public class ScheduleIndexRegistry {
+
+    private final TenantRegistry<ScheduleIndex> indexes;
+
+    public ScheduleIndexRegistry(CategoryRepository categoryRepository, MenuItemRepository menuItemRepository,
+                                 PlatformTransactionManager transactionManager, ChangeLogService changeLogService) {
+        this.indexes = new TenantRegistry<>(transactionManager, changeLogService,
+                restaurantId -> load(categoryRepository, menuItemRepository, restaurantId), ScheduleIndexRegistry::apply);
+    }
+
+    /**
+     * Get the schedule index of a restaurant, building it if needed.
+     */
+    public ScheduleIndex getIndex(Long restaurantId) {
+        return indexes.get(restaurantId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        indexes.apply(event);
+    }
+
+    private static ScheduleIndex load(CategoryRepository categoryRepository, MenuItemRepository menuItemRepository,
+                                      Long restaurantId) {
+        ScheduleIndex index = new ScheduleIndex();
+        categoryRepository.findByRestaurantId(restaurantId)
+                .forEach(category -> index.putCategory(category.getId(), ScheduleWindows.mapToDto(category.getSchedule())));
+        menuItemRepository.findByRestaurantId(restaurantId)
+                .forEach(menuItem -> index.put(MenuItemServiceImpl.mapToDto(menuItem)));
+        return index;
+    }
+
+    private static void apply(ScheduleIndex index, MenuChangeEvent event) {
+        boolean deleted = event.change().getOperation() == ChangeOperation.DELETE;
+        if (event.change().getEntityType() == ChangeEntityType.CATEGORY) {
+            if (deleted) {
+                index.removeCategory(event.change().getEntityId());
+            } else {
+                index.putCategory(event.change().getEntityId(), event.change().getCategory().getSchedule());
+            }
+        } else if (deleted) {
+            index.remove(event.change().getEntityId());
+        } else {
+            index.put(event.change().getMenuItem());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.dto.ScheduleWindowDto;
+import com.restaurant.menuservice.exception.BadRequestException;
+import com.restaurant.menuservice.model.ScheduleWindow;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps the schedules of categories and menu items between entities and DTOs.
+ */
+final class ScheduleWindows {
+
+    private static final int ALL_DAYS = 0b111_1111;
+    private static final String DEFAULT_TIME_ZONE = "UTC";
+
+    private ScheduleWindows() {
+    }
+
+    static List<ScheduleWindowDto> mapToDto(List<ScheduleWindow> schedule) {
+        List<ScheduleWindowDto> windows = new ArrayList<>(schedule.size());
+        for (ScheduleWindow window : schedule) {
+            windows.add(ScheduleWindowDto.builder()
+                    .days(ScheduleWindow.days(window.getDaysOfWeek()))
+                    .start(window.getStartTime())
+                    .end(window.getEndTime())
+                    .from(window.getStartDate())
+                    .until(window.getEndDate())
+                    .timeZone(window.getTimeZone())
+                    .build());
+        }
+        return windows;
+    }
+
+    /**
+     * Convert schedule DTOs to windows, defaulting to every day and UTC.
+     *
+     * @throws BadRequestException if a time zone is unknown or a date range ends before it starts
+     */
+    static List<ScheduleWindow> mapToEntity(List<ScheduleWindowDto> schedule) {
+        List<ScheduleWindow> windows = new ArrayList<>();
+        if (schedule == null) {
+            return windows;
+        }
+        for (ScheduleWindowDto window : schedule) {
+            if (window.getFrom() != null && window.getUntil() != null && window.getUntil().isBefore(window.getFrom())) {
+                throw new BadRequestException("Schedule window ends on " + window.getUntil() + ", before it starts on " + window.getFrom());
+            }
+            windows.add(ScheduleWindow.builder()
+                    .daysOfWeek(window.getDays() == null || window.getDays().isEmpty() ? ALL_DAYS : ScheduleWindow.mask(window.getDays()))
+                    .startTime(window.getStart())
+                    .endTime(window.getEnd())
+                    .startDate(window.getFrom())
+                    .endDate(window.getUntil())
+                    .timeZone(zone(window.getTimeZone()))
+                    .build());
+        }
+        return windows;
+    }
+
+    private static String zone(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return DEFAULT_TIME_ZONE;
+        }
+        try {
+            return ZoneId.of(timeZone).getId();
+        } catch (DateTimeException ex) {
+            throw new BadRequestException("Unknown time zone: " + timeZone);
+        }
+    }
+}
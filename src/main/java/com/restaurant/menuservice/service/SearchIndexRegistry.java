@@ -0,0 +1,60 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.search.SearchIndex;
+import com.restaurant.menuservice.tenant.TenantRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Holds a full-text {@link SearchIndex} per restaurant.
+ *
+ * A restaurant's index is built from the repository on first use and from then on kept in
+ * sync by applying committed menu item changes, which carry the full menu item. Category
+ * renames reach the index as updates of the category's menu items.
+ */
+@Component
+public class SearchIndexRegistry {
+
+    private final TenantRegistry<SearchIndex> indexes;
+
+    public SearchIndexRegistry(MenuItemRepository menuItemRepository, PlatformTransactionManager transactionManager,
+                               ChangeLogService changeLogService) {
+        this.indexes = new TenantRegistry<>(transactionManager, changeLogService,
+                restaurantId -> load(menuItemRepository, restaurantId), SearchIndexRegistry::apply);
+    }
+
+    /**
+     * Get the search index of a restaurant, building it if needed.
+     */
+    public SearchIndex getIndex(Long restaurantId) {
+        return indexes.get(restaurantId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        if (event.change().getEntityType() == ChangeEntityType.MENU_ITEM) {
+            indexes.apply(event);
+        }
+    }
+
+    private static SearchIndex load(MenuItemRepository menuItemRepository, Long restaurantId) {
+        SearchIndex index = new SearchIndex();
+        menuItemRepository.findByRestaurantId(restaurantId)
+                .forEach(menuItem -> index.put(MenuItemServiceImpl.mapToDto(menuItem)));
+        return index;
+    }
+
+    private static void apply(SearchIndex index, MenuChangeEvent event) {
+        if (event.change().getOperation() == ChangeOperation.DELETE) {
+            index.remove(event.change().getEntityId());
+        } else {
+            index.put(event.change().getMenuItem());
+        }
+    }
+}
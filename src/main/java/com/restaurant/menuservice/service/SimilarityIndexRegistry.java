@@ -0,0 +1,60 @@
+package com.restaurant.menuservice.service;
+
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.repository.MenuItemRepository;
+import com.restaurant.menuservice.search.SimilarityIndex;
+import com.restaurant.menuservice.tenant.TenantRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Holds a {@link SimilarityIndex} per restaurant.
+ *
+ * A restaurant's index is built from the repository on first use and from then on kept in
+ * sync by applying committed menu item changes, so an item marked unavailable stops being
+ * suggested as a substitute as soon as the change commits.
+ */
+@Component
+public class SimilarityIndexRegistry {
+
+    private final TenantRegistry<SimilarityIndex> indexes;
+
+    public SimilarityIndexRegistry(MenuItemRepository menuItemRepository, PlatformTransactionManager transactionManager,
+                                   ChangeLogService changeLogService) {
+        this.indexes = new TenantRegistry<>(transactionManager, changeLogService,
+                restaurantId -> load(menuItemRepository, restaurantId), SimilarityIndexRegistry::apply);
+    }
+
+    /**
+     * Get the similarity index of a restaurant, building it if needed.
+     */
+    public SimilarityIndex getIndex(Long restaurantId) {
+        return indexes.get(restaurantId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuChange(MenuChangeEvent event) {
+        if (event.change().getEntityType() == ChangeEntityType.MENU_ITEM) {
+            indexes.apply(event);
+        }
+    }
+
+    private static SimilarityIndex load(MenuItemRepository menuItemRepository, Long restaurantId) {
+        SimilarityIndex index = new SimilarityIndex();
+        menuItemRepository.findByRestaurantId(restaurantId)
+                .forEach(menuItem -> index.put(MenuItemServiceImpl.mapToDto(menuItem)));
+        return index;
+    }
+
+    private static void apply(SimilarityIndex index, MenuChangeEvent event) {
+        if (event.change().getOperation() == ChangeOperation.DELETE) {
+            index.remove(event.change().getEntityId());
+        } else {
+            index.put(event.change().getMenuItem());
+        }
+    }
+}
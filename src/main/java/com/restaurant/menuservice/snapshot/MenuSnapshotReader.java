@@ -0,0 +1,160 @@
+package com.restaurant.menuservice.snapshot;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.zip.CRC32;
+
+import static com.restaurant.menuservice.snapshot.SnapshotFormat.*;
+
+/**
+ * Reads a menu snapshot through a memory-mapped view of the file.
+ *
+ * The header and checksum are verified when the snapshot is opened, so records are only
+ * handed out from a complete snapshot written by a compatible version.
+ */
+public class MenuSnapshotReader {
+
+    /**
+     * Receives the records of a snapshot, section by section.
+     */
+    public interface Handler {
+
+        void category(long id, long restaurantId, String name, String description);
+
+        void menuItem(long id, long restaurantId, Long categoryId, String name, String description,
+                      BigDecimal price, boolean available);
+
+        void dietaryRestriction(long menuItemId, String restriction);
+
+        void ingredient(long menuItemId, String ingredient);
+
+        void categorySchedule(long categoryId, int daysOfWeek, LocalTime startTime, LocalTime endTime,
+                              LocalDate startDate, LocalDate endDate, String timeZone);
+
+        void menuItemSchedule(long menuItemId, int daysOfWeek, LocalTime startTime, LocalTime endTime,
+                              LocalDate startDate, LocalDate endDate, String timeZone);
+    }
+
+    private final MappedByteBuffer buffer;
+    private final Instant createdAt;
+    private final long changeSeq;
+    private final int[] counts = new int[SECTIONS];
+    private byte[] scratch = new byte[256];
+
+    private MenuSnapshotReader(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a menu snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION && version != 1) {
+            throw new IOException("Unsupported menu snapshot version " + version);
+        }
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong());
+        this.changeSeq = buffer.getLong();
+        for (int i = 0; i < (version == 1 ? VERSION_1_SECTIONS : SECTIONS); i++) {
+            counts[i] = buffer.getInt();
+        }
+        long bodyLength = buffer.getLong();
+        long expectedChecksum = buffer.getLong();
+        if (bodyLength != buffer.limit() - HEADER_SIZE) {
+            throw new IOException("Menu snapshot is truncated");
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(HEADER_SIZE, (int) bodyLength));
+        if (checksum.getValue() != expectedChecksum) {
+            throw new IOException("Menu snapshot checksum mismatch");
+        }
+        buffer.position(HEADER_SIZE);
+    }
+
+    /**
+     * Map and verify a snapshot file.
+     *
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static MenuSnapshotReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Menu snapshot is too large to map: " + channel.size() + " bytes");
+            }
+            return new MenuSnapshotReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public int getCategoryCount() {
+        return counts[CATEGORIES];
+    }
+
+    public int getMenuItemCount() {
+        return counts[MENU_ITEMS];
+    }
+
+    /**
+     * Pass every record of the snapshot to the handler.
+     */
+    public void read(Handler handler) {
+        buffer.position(HEADER_SIZE);
+        for (int i = 0; i < counts[CATEGORIES]; i++) {
+            handler.category(buffer.getLong(), buffer.getLong(), readString(), readString());
+        }
+        for (int i = 0; i < counts[MENU_ITEMS]; i++) {
+            long id = buffer.getLong();
+            long restaurantId = buffer.getLong();
+            long categoryId = buffer.getLong();
+            String name = readString();
+            String description = readString();
+            BigDecimal price = BigDecimal.valueOf(buffer.getLong(), buffer.get());
+            boolean available = buffer.get() != 0;
+            handler.menuItem(id, restaurantId, categoryId != NO_ID ? categoryId : null, name, description, price, available);
+        }
+        for (int i = 0; i < counts[DIETARY_RESTRICTIONS]; i++) {
+            handler.dietaryRestriction(buffer.getLong(), readString());
+        }
+        for (int i = 0; i < counts[INGREDIENTS]; i++) {
+            handler.ingredient(buffer.getLong(), readString());
+        }
+        for (int i = 0; i < counts[CATEGORY_SCHEDULES]; i++) {
+            handler.categorySchedule(buffer.getLong(), buffer.get(), LocalTime.ofSecondOfDay(buffer.getInt()),
+                    LocalTime.ofSecondOfDay(buffer.getInt()), readDate(), readDate(), readString());
+        }
+        for (int i = 0; i < counts[MENU_ITEM_SCHEDULES]; i++) {
+            handler.menuItemSchedule(buffer.getLong(), buffer.get(), LocalTime.ofSecondOfDay(buffer.getInt()),
+                    LocalTime.ofSecondOfDay(buffer.getInt()), readDate(), readDate(), readString());
+        }
+    }
+
+    private LocalDate readDate() {
+        long epochDay = buffer.getLong();
+        return epochDay != NO_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
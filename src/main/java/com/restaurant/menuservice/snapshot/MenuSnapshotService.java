@@ -0,0 +1,306 @@
+package com.restaurant.menuservice.snapshot;
+
+import com.restaurant.menuservice.model.Category;
+import com.restaurant.menuservice.service.ChangeLogService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persists the whole menu database as a binary snapshot file and restores it on startup.
+ *
+ * The snapshot is restored by an {@link ApplicationRunner}, which runs before the application
+ * reports itself ready to accept traffic. It is only restored into an empty database, and an
+ * unreadable snapshot is skipped so the service starts empty as it would without one.
+ *
+ * A new snapshot is written periodically when the change log has moved on, and on shutdown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "menu.snapshot.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MenuSnapshotService implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ChangeLogService changeLogService;
+
+    @Value("${menu.snapshot.path}")
+    private Path path;
+
+    @Value("${menu.snapshot.batch-size:1000}")
+    private int batchSize;
+
+    // Change log sequence number of the last snapshot written or restored
+    private volatile long snapshotSeq = -1;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (Files.exists(path)) {
+            restore();
+        }
+    }
+
+    /**
+     * Load the snapshot file into the database if the database is still empty.
+     *
+     * @return true if the snapshot was restored
+     */
+    public boolean restore() throws IOException {
+        Long categories = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories", Long.class);
+        if (categories != null && categories > 0) {
+            log.info("Menu database is not empty, skipping snapshot {}", path);
+            return false;
+        }
+
+        MenuSnapshotReader reader;
+        try {
+            reader = MenuSnapshotReader.open(path);
+        } catch (IOException ex) {
+            log.error("Ignoring unreadable menu snapshot {}: {}", path, ex.getMessage());
+            return false;
+        }
+
+        long start = System.nanoTime();
+        transactionTemplate().executeWithoutResult(status -> {
+            // ingredient names are staged, then linked to the dictionaries in bulk
+            jdbcTemplate.execute("CREATE LOCAL TEMPORARY TABLE snapshot_ingredients (menu_item_id BIGINT NOT NULL, name VARCHAR(255) NOT NULL) " +
+                    "ON COMMIT DROP TRANSACTIONAL");
+            BatchInserter inserter = new BatchInserter();
+            reader.read(inserter);
+            inserter.flush();
+            linkIngredients();
+
+            restartIdentity("categories", "id", maxId("categories", "id") + 1);
+            restartIdentity("menu_items", "id", maxId("menu_items", "id") + 1);
+            restartIdentity("menu_changes", "seq", reader.getChangeSeq() + 1);
+        });
+        changeLogService.advanceHorizon(reader.getChangeSeq());
+        snapshotSeq = reader.getChangeSeq();
+
+        log.info("Restored {} categories and {} menu items from snapshot {} (created {}) in {} ms",
+                reader.getCategoryCount(), reader.getMenuItemCount(), path, reader.getCreatedAt(),
+                (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Write a new snapshot if anything changed since the last one.
+     */
+    @Scheduled(initialDelayString = "${menu.snapshot.interval:PT5M}", fixedDelayString = "${menu.snapshot.interval:PT5M}")
+    public void snapshotIfChanged() throws IOException {
+        if (latestSeq() != snapshotSeq) {
+            snapshot();
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() throws IOException {
+        snapshotIfChanged();
+    }
+
+    /**
+     * Write a consistent snapshot of all categories and menu items.
+     */
+    public void snapshot() throws IOException {
+        TransactionTemplate transaction = transactionTemplate();
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        try {
+            long seq = transaction.execute(status -> {
+                long latestSeq = latestSeq();
+                try (MenuSnapshotWriter writer = new MenuSnapshotWriter(path, latestSeq)) {
+                    writeRecords(writer);
+                    writer.commit();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return latestSeq;
+            });
+            snapshotSeq = seq;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void writeRecords(MenuSnapshotWriter writer) {
+        jdbcTemplate.query("SELECT id, restaurant_id, name, description FROM categories ORDER BY id", rs -> {
+            write(() -> writer.category(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4)));
+        });
+        jdbcTemplate.query("SELECT id, restaurant_id, category_id, name, description, price, available FROM menu_items ORDER BY id", rs -> {
+            write(() -> writer.menuItem(rs.getLong(1), rs.getLong(2), rs.getObject(3, Long.class),
+                    rs.getString(4), rs.getString(5), rs.getBigDecimal(6), rs.getBoolean(7)));
+        });
+        jdbcTemplate.query("SELECT menu_item_id, restriction FROM menu_item_dietary_restrictions", rs -> {
+            write(() -> writer.dietaryRestriction(rs.getLong(1), rs.getString(2)));
+        });
+        jdbcTemplate.query("SELECT l.menu_item_id, i.name FROM menu_item_ingredients l JOIN ingredients i ON i.id = l.ingredient_id", rs -> {
+            write(() -> writer.ingredient(rs.getLong(1), rs.getString(2)));
+        });
+        jdbcTemplate.query("SELECT category_id, days_of_week, start_time, end_time, start_date, end_date, time_zone FROM category_schedules", rs -> {
+            write(() -> writer.categorySchedule(rs.getLong(1), rs.getInt(2), rs.getObject(3, LocalTime.class), rs.getObject(4, LocalTime.class),
+                    rs.getObject(5, LocalDate.class), rs.getObject(6, LocalDate.class), rs.getString(7)));
+        });
+        jdbcTemplate.query("SELECT menu_item_id, days_of_week, start_time, end_time, start_date, end_date, time_zone FROM menu_item_schedules", rs -> {
+            write(() -> writer.menuItemSchedule(rs.getLong(1), rs.getInt(2), rs.getObject(3, LocalTime.class), rs.getObject(4, LocalTime.class),
+                    rs.getObject(5, LocalDate.class), rs.getObject(6, LocalDate.class), rs.getString(7)));
+        });
+    }
+
+    /**
+     * Rebuild the ingredient dictionaries from the restored ingredient names, as the V3 migration does.
+     * Snapshots store names only, so dictionary ids are reassigned on restore.
+     */
+    private void linkIngredients() {
+        jdbcTemplate.update("INSERT INTO ingredients (restaurant_id, name, normalized_name) " +
+                "SELECT m.restaurant_id, MIN(TRIM(s.name)), LOWER(TRIM(s.name)) FROM snapshot_ingredients s " +
+                "JOIN menu_items m ON m.id = s.menu_item_id GROUP BY m.restaurant_id, LOWER(TRIM(s.name))");
+        jdbcTemplate.update("INSERT INTO menu_item_ingredients (menu_item_id, ingredient_id) " +
+                "SELECT DISTINCT s.menu_item_id, i.id FROM snapshot_ingredients s " +
+                "JOIN menu_items m ON m.id = s.menu_item_id " +
+                "JOIN ingredients i ON i.restaurant_id = m.restaurant_id AND i.normalized_name = LOWER(TRIM(s.name))");
+    }
+
+    private long latestSeq() {
+        long logged = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM menu_changes", Long.class);
+        return Math.max(logged, snapshotSeq);
+    }
+
+    private long maxId(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table, Long.class);
+    }
+
+    private void restartIdentity(String table, String column, long next) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private interface RecordWrite {
+        void run() throws IOException, SQLException;
+    }
+
+    private static void write(RecordWrite action) throws SQLException {
+        try {
+            action.run();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Inserts snapshot records in JDBC batches, keeping their original ids.
+     */
+    private class BatchInserter implements MenuSnapshotReader.Handler {
+
+        private final Batch categories = new Batch(
+                "INSERT INTO categories (id, restaurant_id, name, normalized_name, description) VALUES (?, ?, ?, ?, ?)");
+        private final Batch menuItems = new Batch(
+                "INSERT INTO menu_items (id, restaurant_id, category_id, name, description, price, available) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        private final Batch dietaryRestrictions = new Batch(
+                "INSERT INTO menu_item_dietary_restrictions (menu_item_id, restriction) VALUES (?, ?)");
+        private final Batch ingredients = new Batch(
+                "INSERT INTO snapshot_ingredients (menu_item_id, name) VALUES (?, ?)");
+        private final Batch categorySchedules = new Batch(
+                "INSERT INTO category_schedules (category_id, days_of_week, start_time, end_time, start_date, end_date, time_zone) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        private final Batch menuItemSchedules = new Batch(
+                "INSERT INTO menu_item_schedules (menu_item_id, days_of_week, start_time, end_time, start_date, end_date, time_zone) VALUES (?, ?, ?, ?, ?, ?, ?)");
+
+        @Override
+        public void category(long id, long restaurantId, String name, String description) {
+            categories.add(id, restaurantId, name, Category.normalize(name), description);
+        }
+
+        @Override
+        public void menuItem(long id, long restaurantId, Long categoryId, String name, String description,
+                             BigDecimal price, boolean available) {
+            // sections arrive in order, so every category is inserted before the first item
+            categories.flush();
+            menuItems.add(id, restaurantId, categoryId, name, description, price, available);
+        }
+
+        @Override
+        public void dietaryRestriction(long menuItemId, String restriction) {
+            menuItems.flush();
+            dietaryRestrictions.add(menuItemId, restriction);
+        }
+
+        @Override
+        public void ingredient(long menuItemId, String ingredient) {
+            menuItems.flush();
+            ingredients.add(menuItemId, ingredient);
+        }
+
+        @Override
+        public void categorySchedule(long categoryId, int daysOfWeek, LocalTime startTime, LocalTime endTime,
+                                     LocalDate startDate, LocalDate endDate, String timeZone) {
+            categories.flush();
+            categorySchedules.add(categoryId, daysOfWeek, startTime, endTime, startDate, endDate, timeZone);
+        }
+
+        @Override
+        public void menuItemSchedule(long menuItemId, int daysOfWeek, LocalTime startTime, LocalTime endTime,
+                                     LocalDate startDate, LocalDate endDate, String timeZone) {
+            menuItems.flush();
+            menuItemSchedules.add(menuItemId, daysOfWeek, startTime, endTime, startDate, endDate, timeZone);
+        }
+
+        void flush() {
+            categories.flush();
+            menuItems.flush();
+            dietaryRestrictions.flush();
+            ingredients.flush();
+            categorySchedules.flush();
+            menuItemSchedules.flush();
+        }
+    }
+
+    private class Batch {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(batchSize);
+
+        Batch(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.restaurant.menuservice.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import static com.restaurant.menuservice.snapshot.SnapshotFormat.*;
+
+/**
+ * Streams a menu snapshot to disk.
+ *
+ * Records must be written section by section (all categories, then menu items, dietary
+ * restrictions, ingredients, category schedules and menu item schedules). The snapshot is written to a temporary file next to the
+ * target and only replaces the target on {@link #commit()}, so a crash while writing never
+ * leaves a truncated snapshot behind; closing an uncommitted writer discards it.
+ */
+public class MenuSnapshotWriter implements Closeable {
+
+    private final Path target;
+    private final Path temp;
+    private final long changeSeq;
+    private final FileChannel channel;
+    private final CRC32 checksum = new CRC32();
+    private final DataOutputStream out;
+    private final int[] counts = new int[SECTIONS];
+    private int section;
+    private boolean committed;
+
+    /**
+     * @param target the snapshot file to create or replace
+     * @param changeSeq the last change log sequence number reflected in the snapshot
+     */
+    public MenuSnapshotWriter(Path target, long changeSeq) throws IOException {
+        this.target = target.toAbsolutePath();
+        this.changeSeq = changeSeq;
+        Files.createDirectories(this.target.getParent());
+        this.temp = Files.createTempFile(this.target.getParent(), this.target.getFileName().toString(), ".tmp");
+        this.channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+        channel.position(HEADER_SIZE);
+        this.out = new DataOutputStream(new BufferedOutputStream(
+                new CheckedOutputStream(Channels.newOutputStream(channel), checksum), 1 << 16));
+    }
+
+    public void category(long id, long restaurantId, String name, String description) throws IOException {
+        enter(CATEGORIES);
+        out.writeLong(id);
+        out.writeLong(restaurantId);
+        writeString(name);
+        writeString(description);
+    }
+
+    public void menuItem(long id, long restaurantId, Long categoryId, String name, String description,
+                         BigDecimal price, boolean available) throws IOException {
+        enter(MENU_ITEMS);
+        out.writeLong(id);
+        out.writeLong(restaurantId);
+        out.writeLong(categoryId != null ? categoryId : NO_ID);
+        writeString(name);
+        writeString(description);
+        out.writeLong(price.unscaledValue().longValueExact());
+        out.writeByte(price.scale());
+        out.writeBoolean(available);
+    }
+
+    public void dietaryRestriction(long menuItemId, String restriction) throws IOException {
+        enter(DIETARY_RESTRICTIONS);
+        out.writeLong(menuItemId);
+        writeString(restriction);
+    }
+
+    public void ingredient(long menuItemId, String ingredient) throws IOException {
+        enter(INGREDIENTS);
+        out.writeLong(menuItemId);
+        writeString(ingredient);
+    }
+
+    public void categorySchedule(long categoryId, int daysOfWeek, LocalTime startTime, LocalTime endTime,
+                                 LocalDate startDate, LocalDate endDate, String timeZone) throws IOException {
+        enter(CATEGORY_SCHEDULES);
+        writeSchedule(categoryId, daysOfWeek, startTime, endTime, startDate, endDate, timeZone);
+    }
+
+    public void menuItemSchedule(long menuItemId, int daysOfWeek, LocalTime startTime, LocalTime endTime,
+                                 LocalDate startDate, LocalDate endDate, String timeZone) throws IOException {
+        enter(MENU_ITEM_SCHEDULES);
+        writeSchedule(menuItemId, daysOfWeek, startTime, endTime, startDate, endDate, timeZone);
+    }
+
+    /**
+     * Finish the header and atomically move the snapshot into place.
+     */
+    public void commit() throws IOException {
+        out.flush();
+        long bodyLength = channel.position() - HEADER_SIZE;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(System.currentTimeMillis())
+                .putLong(changeSeq);
+        for (int count : counts) {
+            header.putInt(count);
+        }
+        header.putLong(bodyLength)
+                .putLong(checksum.getValue())
+                .rewind();
+        channel.write(header, 0);
+        channel.force(true);
+        channel.close();
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void enter(int next) {
+        if (next < section) {
+            throw new IllegalStateException("Snapshot sections must be written in order");
+        }
+        section = next;
+        counts[next]++;
+    }
+
+    private void writeSchedule(long ownerId, int daysOfWeek, LocalTime startTime, LocalTime endTime,
+                               LocalDate startDate, LocalDate endDate, String timeZone) throws IOException {
+        out.writeLong(ownerId);
+        out.writeByte(daysOfWeek);
+        out.writeInt(startTime.toSecondOfDay());
+        out.writeInt(endTime.toSecondOfDay());
+        out.writeLong(startDate != null ? startDate.toEpochDay() : NO_DATE);
+        out.writeLong(endDate != null ? endDate.toEpochDay() : NO_DATE);
+        writeString(timeZone);
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,44 @@
+package com.restaurant.menuservice.snapshot;
+
+/**
+ * Layout of the binary menu snapshot file.
+ *
+ * All values are big-endian. The file starts with a fixed-size header:
+ * <pre>
+ *   int   magic            "MNUS"
+ *   int   format version
+ *   long  created at       epoch milliseconds
+ *   long  change sequence  last change log entry included in the snapshot
+ *   int   record count     one per section, in section order
+ *   long  body length      bytes following the header
+ *   long  body checksum    CRC-32 of the body
+ * </pre>
+ * followed by the body, a sequence of sections each holding its records back to back:
+ * categories, menu items, dietary restrictions, ingredients, category schedules and menu item
+ * schedules. Strings are written as an int byte length (-1 for null) followed by their UTF-8
+ * bytes, times as an int second of the day and dates as a long epoch day ({@link #NO_DATE} for
+ * null). Version 1 snapshots have no schedule sections.
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x4D4E5553;
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 64;
+
+    static final int CATEGORIES = 0;
+    static final int MENU_ITEMS = 1;
+    static final int DIETARY_RESTRICTIONS = 2;
+    static final int INGREDIENTS = 3;
+    static final int CATEGORY_SCHEDULES = 4;
+    static final int MENU_ITEM_SCHEDULES = 5;
+    static final int SECTIONS = 6;
+
+    static final int VERSION_1_SECTIONS = 4;
+
+    static final int NULL_LENGTH = -1;
+    static final long NO_ID = 0;
+    static final long NO_DATE = Long.MIN_VALUE;
+
+    private SnapshotFormat() {
+    }
+}
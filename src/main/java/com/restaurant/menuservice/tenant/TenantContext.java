@@ -0,0 +1,62 @@
+package com.restaurant.menuservice.tenant;
+
+import com.restaurant.menuservice.exception.BadRequestException;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the restaurant (tenant) the current thread is working for.
+ *
+ * Set per request by {@link TenantInterceptor}; background work that acts on behalf of
+ * a restaurant must bind it explicitly with {@link #callAs(Long, Supplier)}.
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * Get the restaurant id bound to the current thread.
+     *
+     * @return the restaurant id
+     * @throws BadRequestException if no restaurant is bound
+     */
+    public static Long getRestaurantId() {
+        Long restaurantId = CURRENT.get();
+        if (restaurantId == null) {
+            throw new BadRequestException("No restaurant selected, send the " + TenantInterceptor.HEADER + " header");
+        }
+        return restaurantId;
+    }
+
+    static void set(Long restaurantId) {
+        CURRENT.set(restaurantId);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run a task with the given restaurant bound, restoring the previous binding afterwards.
+     *
+     * @param restaurantId the restaurant to act for
+     * @param task the task to run
+     * @return the task result
+     */
+    public static <T> T callAs(Long restaurantId, Supplier<T> task) {
+        Long previous = CURRENT.get();
+        CURRENT.set(restaurantId);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.restaurant.menuservice.tenant;
+
+import com.restaurant.menuservice.exception.BadRequestException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Resolves the restaurant of each API request from the {@value #HEADER} header.
+ *
+ * When the header is absent the configured default restaurant is used, so single-location
+ * deployments and existing clients keep working; without a default the header is mandatory.
+ */
+@Component
+public class TenantInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Restaurant-Id";
+
+    private final Long defaultRestaurantId;
+
+    public TenantInterceptor(@Value("${menu.tenancy.default-restaurant-id:#{null}}") Long defaultRestaurantId) {
+        this.defaultRestaurantId = defaultRestaurantId;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String header = request.getHeader(HEADER);
+        Long restaurantId = defaultRestaurantId;
+
+        if (header != null) {
+            try {
+                restaurantId = Long.valueOf(header.trim());
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException(HEADER + " must be a number");
+            }
+            if (restaurantId <= 0) {
+                throw new BadRequestException(HEADER + " must be positive");
+            }
+        }
+
+        if (restaurantId != null) {
+            TenantContext.set(restaurantId);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TenantContext.clear();
+    }
+}
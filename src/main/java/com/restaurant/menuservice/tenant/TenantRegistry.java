@@ -0,0 +1,160 @@
+package com.restaurant.menuservice.tenant;
+
+import com.restaurant.menuservice.dto.ChangeDto;
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.service.ChangeLogService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds in-memory state per restaurant, such as an index, kept in sync with the menu.
+ *
+ * A restaurant's state is loaded from the database on first use and from then on kept in sync
+ * by applying committed menu changes to it. Changes are applied one at a time per restaurant:
+ * a change arriving while the state is being loaded waits for the load and is applied on top
+ * of it, while a change committed before the load started is already part of it. Reads of
+ * loaded state take no lock.
+ *
+ * After-commit listeners of two transactions can run concurrently, so a change may arrive
+ * late. A load records the sequence number up to which the change log had committed when it
+ * started, and a change at or below it, which the load already read, is ignored. Above it, the
+ * sequence number of the last change applied to each entity is kept, and a change older than it
+ * is ignored instead of undoing the newer one. Those entries are pruned once the change log has
+ * committed past them, as no older change of their entity can arrive any more.
+ *
+ * @param <T> the type of the state
+ */
+public class TenantRegistry<T> {
+
+    private final Map<Long, Tenant<T>> tenants = new ConcurrentHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeLogService changeLogService;
+    private final Function<Long, T> loader;
+    private final BiConsumer<T, MenuChangeEvent> applier;
+
+    /**
+     * @param changeLogService tells up to which change the log has committed, for loads and pruning
+     * @param loader builds the state of a restaurant, given its id, from the database
+     * @param applier applies a committed change to the state of the change's restaurant
+     */
+    public TenantRegistry(PlatformTransactionManager transactionManager, ChangeLogService changeLogService,
+                          Function<Long, T> loader, BiConsumer<T, MenuChangeEvent> applier) {
+        this.changeLogService = changeLogService;
+        this.loader = loader;
+        this.applier = applier;
+        // deliberately not read-only, and not joining a caller's transaction:
+        // the state must start from the primary, not a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private record Entity(ChangeEntityType type, Long id) {
+    }
+
+    private static final class Tenant<T> {
+        private static final int MIN_PRUNE_SIZE = 64;
+
+        private volatile T state;
+        private volatile boolean loaded;
+
+        // guarded by the Tenant lock
+        private long committedSeq;
+        private final Map<Entity, Long> appliedSeqs = new HashMap<>();
+        private int pruneSize = MIN_PRUNE_SIZE;
+
+        /**
+         * Record a change as applied, unless the load or a later change of its entity already was.
+         *
+         * @return whether the change is to be applied
+         */
+        boolean advance(ChangeDto change) {
+            if (change.getSeq() <= committedSeq) {
+                return false;
+            }
+            Entity entity = new Entity(change.getEntityType(), change.getEntityId());
+            Long applied = appliedSeqs.get(entity);
+            if (applied != null && applied >= change.getSeq()) {
+                return false;
+            }
+            appliedSeqs.put(entity, change.getSeq());
+            return true;
+        }
+
+        /**
+         * Move the committed sequence number forward and forget the entries at or below it,
+         * once there are enough of them to be worth a pass.
+         */
+        void prune(LongSupplier committed) {
+            if (appliedSeqs.size() < pruneSize) {
+                return;
+            }
+            committedSeq = Math.max(committedSeq, committed.getAsLong());
+            appliedSeqs.values().removeIf(seq -> seq <= committedSeq);
+            pruneSize = Math.max(MIN_PRUNE_SIZE, appliedSeqs.size() * 2);
+        }
+    }
+
+    /**
+     * Get the state of a restaurant, loading it if needed.
+     */
+    public T get(Long restaurantId) {
+        Tenant<T> tenant = tenants.computeIfAbsent(restaurantId, id -> new Tenant<>());
+        if (!tenant.loaded) {
+            synchronized (tenant) {
+                if (!tenant.loaded) {
+                    tenant.state = transactionTemplate.execute(status -> {
+                        tenant.committedSeq = changeLogService.getCommittedSeq(restaurantId);
+                        return loader.apply(restaurantId);
+                    });
+                    tenant.loaded = true;
+                }
+            }
+        }
+        return tenant.state;
+    }
+
+    /**
+     * Apply a committed change to the state of its restaurant, if that state is in use.
+     * To be called from an after-commit listener.
+     */
+    public void apply(MenuChangeEvent event) {
+        Tenant<T> tenant = tenants.get(event.restaurantId());
+        if (tenant == null) {
+            return;
+        }
+        synchronized (tenant) {
+            // a load that has not started yet reads the committed change by itself
+            if (tenant.loaded && tenant.advance(event.change())) {
+                applier.accept(tenant.state, event);
+                tenant.prune(() -> changeLogService.getCommittedSeq(event.restaurantId()));
+            }
+        }
+    }
+
+    /**
+     * Apply a committed change that has no change log entry to the state of a restaurant, if that
+     * state is in use. To be called from an after-commit listener. Such changes carry no sequence
+     * number, so the update must leave the state right even if the load already read the change.
+     */
+    public void update(Long restaurantId, Consumer<T> update) {
+        Tenant<T> tenant = tenants.get(restaurantId);
+        if (tenant == null) {
+            return;
+        }
+        synchronized (tenant) {
+            if (tenant.loaded) {
+                update.accept(tenant.state);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+-- Menu schema as previously generated by Hibernate from the entities
+
+CREATE TABLE categories (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    restaurant_id   BIGINT       NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    normalized_name VARCHAR(255) NOT NULL,
+    description     VARCHAR(255),
+    CONSTRAINT uk_categories_restaurant_name UNIQUE (restaurant_id, normalized_name)
+);
+
+CREATE TABLE menu_items (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    restaurant_id BIGINT         NOT NULL,
+    category_id   BIGINT,
+    name          VARCHAR(255)   NOT NULL,
+    description   VARCHAR(1000),
+    price         NUMERIC(10, 2) NOT NULL,
+    available     BOOLEAN        NOT NULL,
+    CONSTRAINT fk_menu_items_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE INDEX idx_menu_items_restaurant_category ON menu_items (restaurant_id, category_id);
+CREATE INDEX idx_menu_items_restaurant_available ON menu_items (restaurant_id, available);
+CREATE INDEX idx_menu_items_restaurant_price ON menu_items (restaurant_id, price);
+
+CREATE TABLE menu_item_dietary_restrictions (
+    menu_item_id BIGINT      NOT NULL,
+    restriction  VARCHAR(20),
+    CONSTRAINT fk_menu_item_dietary_restrictions_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
+
+CREATE TABLE menu_item_ingredients (
+    menu_item_id BIGINT       NOT NULL,
+    ingredient   VARCHAR(255),
+    CONSTRAINT fk_menu_item_ingredients_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
+
+CREATE TABLE menu_changes (
+    seq           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    restaurant_id BIGINT      NOT NULL,
+    entity_type   VARCHAR(20) NOT NULL,
+    entity_id     BIGINT      NOT NULL,
+    operation     VARCHAR(10) NOT NULL,
+    changed_at    TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX idx_menu_changes_restaurant_seq ON menu_changes (restaurant_id, seq);
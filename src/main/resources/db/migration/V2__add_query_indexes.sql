@@ -0,0 +1,12 @@
+-- Indexes for the menu item and category queries that were not backed by one.
+-- H2 already indexes every foreign key column (category_id, menu_item_id).
+-- QueryPlanTest checks that none of the repository queries scans a table.
+
+-- keyset scrolling through a restaurant's items in id order (exports)
+CREATE INDEX idx_menu_items_restaurant_id ON menu_items (restaurant_id, id);
+
+-- items by dietary restriction
+CREATE INDEX idx_menu_item_dietary_restrictions_restriction ON menu_item_dietary_restrictions (restriction, menu_item_id);
+
+-- change log compaction looks up the latest change of each entity
+CREATE INDEX idx_menu_changes_entity ON menu_changes (entity_type, entity_id, seq);
@@ -0,0 +1,39 @@
+-- Ingredients become a per-restaurant dictionary; menu items link to its entries by id
+-- instead of repeating the ingredient names.
+
+CREATE TABLE ingredients (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    restaurant_id   BIGINT       NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    normalized_name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_ingredients_restaurant_name UNIQUE (restaurant_id, normalized_name)
+);
+
+-- names differing only in case or surrounding spaces become one entry, as in Ingredient.normalize
+INSERT INTO ingredients (restaurant_id, name, normalized_name)
+SELECT m.restaurant_id, MIN(TRIM(i.ingredient)), LOWER(TRIM(i.ingredient))
+FROM menu_item_ingredients i
+JOIN menu_items m ON m.id = i.menu_item_id
+WHERE TRIM(i.ingredient) <> ''
+GROUP BY m.restaurant_id, LOWER(TRIM(i.ingredient));
+
+ALTER TABLE menu_item_ingredients RENAME TO menu_item_ingredient_names;
+
+CREATE TABLE menu_item_ingredients (
+    menu_item_id  BIGINT NOT NULL,
+    ingredient_id BIGINT NOT NULL,
+    CONSTRAINT pk_menu_item_ingredients PRIMARY KEY (menu_item_id, ingredient_id),
+    CONSTRAINT fk_menu_item_ingredients_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id),
+    CONSTRAINT fk_menu_item_ingredients_ingredient FOREIGN KEY (ingredient_id) REFERENCES ingredients (id)
+);
+
+-- items by ingredient
+CREATE INDEX idx_menu_item_ingredients_ingredient ON menu_item_ingredients (ingredient_id, menu_item_id);
+
+INSERT INTO menu_item_ingredients (menu_item_id, ingredient_id)
+SELECT DISTINCT n.menu_item_id, d.id
+FROM menu_item_ingredient_names n
+JOIN menu_items m ON m.id = n.menu_item_id
+JOIN ingredients d ON d.restaurant_id = m.restaurant_id AND d.normalized_name = LOWER(TRIM(n.ingredient));
+
+DROP TABLE menu_item_ingredient_names;
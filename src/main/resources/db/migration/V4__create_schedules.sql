@@ -0,0 +1,24 @@
+-- Time windows in which a category or menu item is served (e.g. breakfast, lunch, dinner).
+-- A category or menu item without any window is served whenever it is available.
+
+CREATE TABLE category_schedules (
+    category_id  BIGINT      NOT NULL,
+    days_of_week INT         NOT NULL,
+    start_time   TIME        NOT NULL,
+    end_time     TIME        NOT NULL,
+    start_date   DATE,
+    end_date     DATE,
+    time_zone    VARCHAR(64) NOT NULL,
+    CONSTRAINT fk_category_schedules_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE menu_item_schedules (
+    menu_item_id BIGINT      NOT NULL,
+    days_of_week INT         NOT NULL,
+    start_time   TIME        NOT NULL,
+    end_time     TIME        NOT NULL,
+    start_date   DATE,
+    end_date     DATE,
+    time_zone    VARCHAR(64) NOT NULL,
+    CONSTRAINT fk_menu_item_schedules_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
@@ -0,0 +1,20 @@
+-- Published menus: immutable, versioned copies of a restaurant's categories and menu items,
+-- and a pointer per restaurant to the version its public menu serves.
+
+CREATE TABLE menu_versions (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    restaurant_id   BIGINT    NOT NULL,
+    version         INT       NOT NULL,
+    published_at    TIMESTAMP NOT NULL,
+    category_count  INT       NOT NULL,
+    menu_item_count INT       NOT NULL,
+    content         BLOB      NOT NULL,
+    CONSTRAINT uk_menu_versions_restaurant_version UNIQUE (restaurant_id, version)
+);
+
+CREATE TABLE menu_publications (
+    restaurant_id BIGINT    PRIMARY KEY,
+    version       INT       NOT NULL,
+    activation    BIGINT    NOT NULL,
+    activated_at  TIMESTAMP NOT NULL
+);
@@ -0,0 +1,7 @@
+-- Resync horizons of the change log: per restaurant, the highest sequence number removed by
+-- retention. Clients behind it must reload the menu. Restaurant 0 stands for every restaurant.
+
+CREATE TABLE menu_change_horizons (
+    restaurant_id BIGINT PRIMARY KEY,
+    seq           BIGINT NOT NULL
+);
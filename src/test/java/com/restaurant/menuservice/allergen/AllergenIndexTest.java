@@ -0,0 +1,62 @@
+package com.restaurant.menuservice.allergen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AllergenIndexTest {
+
+    @Test
+    void excludesItemsListingAMatchingIngredient() {
+        AllergenIndex index = new AllergenIndex();
+        index.put(1, List.of("peanut butter", "bread"));
+        index.put(2, List.of("shrimp", "rice"));
+        index.put(3, List.of("rice", "sesame oil"));
+        index.put(4, List.of());
+
+        assertThat(index.idsExcluding(List.of("peanut"))).containsExactlyInAnyOrder(2, 3, 4);
+        assertThat(index.idsExcluding(List.of("peanut", "shrimp", "sesame"))).containsExactly(4);
+
+        index.put(2, List.of("rice"));
+        index.remove(4);
+        assertThat(index.idsExcluding(List.of("peanut", "shrimp", "sesame"))).containsExactly(2);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void matchesNaiveExclusionUnderRandomPutsAndRemoves() {
+        AllergenIndex index = new AllergenIndex();
+        Map<Long, List<String>> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long id = 1 + random.nextInt(2_000);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                expected.remove(id);
+            } else {
+                List<String> names = new ArrayList<>();
+                for (int n = random.nextInt(6); n > 0; n--) {
+                    names.add("ingredient " + random.nextInt(100));
+                }
+                index.put(id, names);
+                expected.put(id, names);
+            }
+        }
+
+        List<String> terms = List.of("ingredient 7", "ingredient 42");
+        List<Long> remaining = expected.entrySet().stream()
+                .filter(entry -> entry.getValue().stream().noneMatch(name -> terms.stream().anyMatch(name::contains)))
+                .map(Map.Entry::getKey)
+                .toList();
+        assertThat(index.size()).isEqualTo(expected.size());
+        assertThat(Arrays.stream(index.idsExcluding(terms)).boxed().toList()).containsExactlyInAnyOrderElementsOf(remaining);
+    }
+}
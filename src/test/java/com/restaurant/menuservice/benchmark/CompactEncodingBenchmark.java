@@ -0,0 +1,86 @@
+package com.restaurant.menuservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.compact.CompactMenuModule;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode time of a full menu payload in JSON versus the compact CBOR and Smile encodings.
+ * Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactEncodingBenchmark {
+
+    private static final TypeReference<List<MenuItemDto>> MENU = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"500"})
+    public int items;
+
+    private ObjectMapper mapper;
+    private List<MenuItemDto> menu;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = switch (format) {
+            case "cbor" -> new CBORMapper().registerModule(new CompactMenuModule());
+            case "smile" -> new SmileMapper().registerModule(new CompactMenuModule());
+            default -> new ObjectMapper();
+        };
+
+        menu = new ArrayList<>(items);
+        DietaryRestriction[] restrictions = DietaryRestriction.values();
+        for (int i = 0; i < items; i++) {
+            menu.add(MenuItemDto.builder()
+                    .id((long) i)
+                    .name("Dish " + i)
+                    .description("House speciality number " + i + " with seasonal vegetables")
+                    .price(BigDecimal.valueOf(495 + i % 2000, 2))
+                    .available(i % 7 != 0)
+                    .categoryId((long) (i % 12))
+                    .categoryName("Category " + (i % 12))
+                    .dietaryRestrictions(EnumSet.of(restrictions[i % restrictions.length], DietaryRestriction.GLUTEN_FREE))
+                    .ingredients(Set.of("Tomatoes", "Basil", "Ingredient " + (i % 50)))
+                    .build());
+        }
+
+        encoded = mapper.writeValueAsBytes(menu);
+        System.out.printf("%n%s payload for %d items: %d bytes%n", format, items, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(menu);
+    }
+
+    @Benchmark
+    public List<MenuItemDto> decode() throws Exception {
+        return mapper.readValue(encoded, MENU);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(CompactEncodingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,147 @@
+package com.restaurant.menuservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.MenuServiceApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to serve a burst of concurrent menu item reads in the thread-per-request model versus the
+ * {@code virtual-threads} profile (JDK 21+), against a database where every connection is held for
+ * the given number of milliseconds, to stand in for the network round trips of a remote database.
+ *
+ * Each invocation sends {@code clients} concurrent {@code GET /api/draft/menu-items/{id}} requests and
+ * waits for all of them; the result is the number of requests that did not succeed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g", "-Dspring.devtools.restart.enabled=false"})
+public class ExecutionModeBenchmark {
+
+    private static final int MENU_ITEMS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"50", "1000"})
+    public int clients;
+
+    @Param({"20"})
+    public int queryMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private List<URI> menuItems;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        boolean virtual = mode.equals("virtual");
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need JDK 21 or later, running on " + Runtime.version());
+        }
+
+        SpringApplication application = new SpringApplication(MenuServiceApplication.class);
+        if (virtual) {
+            application.setAdditionalProfiles("virtual-threads");
+        }
+        application.addInitializers(initializing -> initializing.getBeanFactory().addBeanPostProcessor(new SlowDatabase(queryMillis)));
+        context = application.run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:execution-" + mode + "-" + clients,
+                // measure the execution model, not load shedding or coalescing
+                "--menu.concurrency.enabled=false",
+                "--menu.coalescing.timeout=PT30S");
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < MENU_ITEMS; i++) {
+            rows.append("{\"name\": \"Dish ").append(i).append("\", \"price\": 9.50, \"category\": \"Category ").append(i % 10)
+                    .append("\", \"ingredients\": [\"Tomato\", \"Basil\"]}\n");
+        }
+        client.send(HttpRequest.newBuilder(URI.create(base + "/api/draft/menu-items/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(rows.toString()))
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        JsonNode items = new ObjectMapper().readTree(client.send(HttpRequest.newBuilder(URI.create(base + "/api/draft/menu-items")).build(),
+                HttpResponse.BodyHandlers.ofString()).body());
+        menuItems = new ArrayList<>();
+        items.forEach(item -> menuItems.add(URI.create(base + "/api/draft/menu-items/" + item.get("id").asLong())));
+    }
+
+    @Benchmark
+    public int burst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            URI menuItem = menuItems.get(next++ % menuItems.size());
+            responses.add(client.sendAsync(HttpRequest.newBuilder(menuItem).build(), HttpResponse.BodyHandlers.discarding()));
+        }
+        int failed = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() != 200) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * Holds every connection for a while after borrowing it, like a query over the network would.
+     */
+    private record SlowDatabase(int queryMillis) implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!beanName.equals("dataSource") || !(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection connection = super.getConnection();
+                    try {
+                        Thread.sleep(queryMillis);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return connection;
+                }
+            };
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(ExecutionModeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.restaurant.menuservice.benchmark;
+
+import com.restaurant.menuservice.search.BkTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average time of a typo-tolerant term lookup in the BK-tree versus comparing the query with every term.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzySearchBenchmark {
+
+    private static final String[] SYLLABLES = {"ca", "ro", "bo", "na", "ti", "ra", "mi", "su", "pe", "sto", "fu", "ghi",
+            "lia", "ta", "gna", "gli", "pa", "ne", "to", "ma", "ri", "so", "ve", "zo"};
+
+    @Param({"100000"})
+    public int terms;
+
+    @Param({"1", "2"})
+    public int maxDistance;
+
+    private BkTree tree;
+    private List<String> dictionary;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Set<String> unique = new HashSet<>();
+        while (unique.size() < terms) {
+            StringBuilder term = new StringBuilder();
+            for (int syllables = 2 + random.nextInt(4); syllables > 0; syllables--) {
+                term.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            unique.add(term.toString());
+        }
+        dictionary = new ArrayList<>(unique);
+        tree = new BkTree();
+        dictionary.forEach(tree::add);
+
+        // misspell dictionary terms by doubling a letter, as in "carbonnara"
+        queries = new String[64];
+        for (int i = 0; i < queries.length; i++) {
+            String term = dictionary.get(random.nextInt(dictionary.size()));
+            int at = random.nextInt(term.length());
+            queries[i] = term.substring(0, at + 1) + term.substring(at);
+        }
+    }
+
+    @Benchmark
+    public List<BkTree.Match> bkTree() {
+        return tree.search(queries[next++ & (queries.length - 1)], maxDistance);
+    }
+
+    @Benchmark
+    public List<BkTree.Match> scan() {
+        String query = queries[next++ & (queries.length - 1)];
+        List<BkTree.Match> matches = new ArrayList<>();
+        for (String term : dictionary) {
+            int distance = BkTree.distance(query, term);
+            if (distance <= maxDistance) {
+                matches.add(new BkTree.Match(term, distance));
+            }
+        }
+        return matches;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(FuzzySearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
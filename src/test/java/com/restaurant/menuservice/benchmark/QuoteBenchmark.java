@@ -0,0 +1,85 @@
+package com.restaurant.menuservice.benchmark;
+
+import com.restaurant.menuservice.pricing.PriceTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carts priced per second against the primitive price table versus a boxed HashMap of BigDecimal prices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteBenchmark {
+
+    @Param({"100000"})
+    public int items;
+
+    @Param({"20", "10000"})
+    public int cartSize;
+
+    private PriceTable table;
+    private Map<Long, BigDecimal> boxed;
+    private long[] cart;
+    private long[] quantities;
+    private long[] values;
+
+    @Setup
+    public void setUp() {
+        table = new PriceTable(items);
+        boxed = new HashMap<>(items * 2);
+        for (long id = 1; id <= items; id++) {
+            long cents = 495 + id % 2000;
+            table.put(id, cents, id % 7 != 0);
+            boxed.put(id, BigDecimal.valueOf(cents, 2));
+        }
+
+        Random random = new Random(42);
+        cart = new long[cartSize];
+        quantities = new long[cartSize];
+        values = new long[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            cart[i] = 1 + random.nextInt(items);
+            quantities[i] = 1 + random.nextInt(4);
+        }
+    }
+
+    @Benchmark
+    public long priceTable() {
+        table.getAll(cart, values);
+        long total = 0;
+        for (int i = 0; i < values.length; i++) {
+            long value = values[i];
+            if (value != PriceTable.MISSING && PriceTable.available(value)) {
+                total += PriceTable.cents(value) * quantities[i];
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal hashMap() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < cart.length; i++) {
+            BigDecimal price = boxed.get(cart[i]);
+            if (price != null) {
+                total = total.add(price.multiply(BigDecimal.valueOf(quantities[i])));
+            }
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(QuoteBenchmark.class.getSimpleName()).build()).run();
+    }
+}
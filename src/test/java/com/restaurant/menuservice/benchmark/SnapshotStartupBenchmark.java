@@ -0,0 +1,96 @@
+package com.restaurant.menuservice.benchmark;
+
+import com.restaurant.menuservice.MenuServiceApplication;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.snapshot.MenuSnapshotWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cold start time of the application, from launch until it is ready to serve, when restoring
+ * a binary snapshot of the given number of menu items (spread over 100 restaurants).
+ * The {@code 0} case is a start without a snapshot, for reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx4g", "-Dspring.devtools.restart.enabled=false"})
+public class SnapshotStartupBenchmark {
+
+    private static final int RESTAURANTS = 100;
+    private static final int CATEGORIES_PER_RESTAURANT = 20;
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @Param({"0", "100000", "1000000"})
+    public int items;
+
+    private Path snapshot;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void writeSnapshot() throws Exception {
+        snapshot = Files.createTempDirectory("menu-snapshot-benchmark").resolve("menu.snapshot");
+        if (items == 0) {
+            return;
+        }
+
+        DietaryRestriction[] restrictions = DietaryRestriction.values();
+        int categories = RESTAURANTS * CATEGORIES_PER_RESTAURANT;
+        try (MenuSnapshotWriter writer = new MenuSnapshotWriter(snapshot, items)) {
+            for (int c = 1; c <= categories; c++) {
+                writer.category(c, 1 + c % RESTAURANTS, "Category " + c, "Dishes of category " + c);
+            }
+            for (int i = 1; i <= items; i++) {
+                int category = 1 + i % categories;
+                writer.menuItem(i, 1 + category % RESTAURANTS, (long) category, "Dish " + i,
+                        "House speciality number " + i + " with seasonal vegetables",
+                        BigDecimal.valueOf(495 + i % 2000, 2), i % 7 != 0);
+            }
+            for (int i = 1; i <= items; i++) {
+                writer.dietaryRestriction(i, restrictions[i % restrictions.length].name());
+            }
+            for (int i = 1; i <= items; i++) {
+                writer.ingredient(i, "Tomatoes");
+                writer.ingredient(i, "Basil");
+                writer.ingredient(i, "Ingredient " + i % 50);
+            }
+            writer.commit();
+        }
+        System.out.printf("%nSnapshot of %d items: %d bytes%n", items, Files.size(snapshot));
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext coldStart() {
+        context = SpringApplication.run(MenuServiceApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:startup" + DATABASES.incrementAndGet(),
+                "--menu.snapshot.enabled=" + (items > 0),
+                "--menu.snapshot.path=" + snapshot,
+                "--menu.snapshot.interval=PT1H");
+        return context;
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        context.close();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(SnapshotStartupBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,69 @@
+package com.restaurant.menuservice.benchmark;
+
+import com.restaurant.menuservice.search.Suggestion;
+import com.restaurant.menuservice.search.SuggestionTrie;
+import com.restaurant.menuservice.search.SuggestionType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average time of a typeahead completion from the suggestion trie versus a scan of all terms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestBenchmark {
+
+    private static final String[] WORDS = {"pizza", "pasta", "pesto", "panna", "pane", "salsa", "salmone",
+            "tonno", "torta", "risotto", "ragu", "ricotta", "funghi", "fritto", "formaggio", "caffe"};
+
+    @Param({"100000"})
+    public int terms;
+
+    @Param({"p", "sal", "risotto fu"})
+    public String prefix;
+
+    private SuggestionTrie trie;
+    private List<Suggestion> suggestions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        trie = SuggestionTrie.EMPTY;
+        suggestions = new ArrayList<>(terms);
+        for (int i = 0; i < terms; i++) {
+            String text = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            Suggestion suggestion = new Suggestion(text, text, SuggestionType.MENU_ITEM, random.nextInt(1000));
+            trie = trie.with(suggestion);
+            suggestions.add(suggestion);
+        }
+    }
+
+    @Benchmark
+    public List<Suggestion> trie() {
+        return trie.complete(prefix, SuggestionTrie.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<Suggestion> scan() {
+        String wordPrefix = " " + prefix;
+        return suggestions.stream()
+                .filter(suggestion -> (" " + suggestion.term()).contains(wordPrefix))
+                .sorted(Suggestion.RANKING)
+                .limit(SuggestionTrie.MAX_SUGGESTIONS)
+                .toList();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(SuggestBenchmark.class.getSimpleName()).build()).run();
+    }
+}
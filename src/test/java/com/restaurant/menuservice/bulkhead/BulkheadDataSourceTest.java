@@ -0,0 +1,50 @@
+package com.restaurant.menuservice.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadDataSourceTest {
+
+    @Test
+    void boundsTheConnectionsBorrowedAtOnce() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:bulkhead");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BulkheadDataSource bulkhead = new BulkheadDataSource(h2, 2, Duration.ofMillis(50), meterRegistry);
+
+        Connection first = bulkhead.getConnection();
+        Connection second = bulkhead.getConnection();
+        assertThat(bulkhead.availablePermits()).isZero();
+        assertThatThrownBy(bulkhead::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .extracting(ex -> ((SQLTransientConnectionException) ex).getSQLState())
+                .isEqualTo(BulkheadDataSource.SQL_STATE);
+        assertThat(meterRegistry.counter("menu.datasource.bulkhead.rejected").count()).isEqualTo(1);
+
+        try (Statement statement = first.createStatement()) {
+            assertThat(statement.execute("SELECT 1")).isTrue();
+        }
+        first.close();
+        // closing twice gives the permit back once
+        first.close();
+        assertThat(first.isClosed()).isTrue();
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+
+        try (Connection third = bulkhead.getConnection()) {
+            assertThat(third.isValid(1)).isTrue();
+            assertThat(third).isNotEqualTo(second);
+        }
+        second.close();
+        assertThat(bulkhead.availablePermits()).isEqualTo(2);
+        assertThat(meterRegistry.get("menu.datasource.bulkhead.available").gauge().value()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,118 @@
+package com.restaurant.menuservice.coalesce;
+
+import com.restaurant.menuservice.exception.ResourceNotFoundException;
+import com.restaurant.menuservice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneExecution() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(executor.submit(() -> flight.execute("pizza", () -> {
+                executions.incrementAndGet();
+                block(release);
+                return "margherita";
+            })));
+        }
+        // wait until every caller is either running the call or waiting for it
+        await().atMost(Duration.ofSeconds(10)).until(() -> calls("executed") + calls("coalesced") == 16);
+        assertThat(flight.inFlight()).isEqualTo(1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("margherita");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(1);
+        assertThat(calls("coalesced")).isEqualTo(15);
+        assertThat(flight.inFlight()).isZero();
+
+        // nothing is cached once the call is done
+        assertThat(flight.execute("pizza", () -> "marinara")).isEqualTo("marinara");
+    }
+
+    @Test
+    void waitersShareTheExceptionAndGiveUpAfterTheTimeout() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(200), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("missing", () -> {
+            started.countDown();
+            block(release);
+            throw new ResourceNotFoundException("MenuItem", "id", 42);
+        }));
+        started.await(10, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> flight.execute("missing", () -> "unused"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(calls("timeout")).isEqualTo(1);
+
+        Future<String> follower = executor.submit(() -> flight.execute("missing", () -> "unused"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> calls("coalesced") == 2);
+        release.countDown();
+        assertThatThrownBy(() -> follower.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void forgottenCallsAreNotJoinedAnyMore() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<String> stale = executor.submit(() -> flight.execute("pizza", () -> {
+            started.countDown();
+            block(release);
+            return "before the write";
+        }));
+        started.await(10, TimeUnit.SECONDS);
+        flight.forget(key -> key.equals("pizza"));
+
+        assertThat(flight.execute("pizza", () -> "after the write")).isEqualTo("after the write");
+        release.countDown();
+        assertThat(stale.get(10, TimeUnit.SECONDS)).isEqualTo("before the write");
+        assertThat(calls("executed")).isEqualTo(2);
+    }
+
+    private double calls(String result) {
+        return meterRegistry.counter(SingleFlight.CALLS_METRIC, "name", "test", "result", result).count();
+    }
+
+    private static void block(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AllergenExclusionTest {
+
+    private static final String RESTAURANT = "901";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void excludesMenuItemsListingAnyOfTheIngredients() throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items/import").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"name": "Satay", "price": 9.50, "category": "Mains", "ingredients": ["Chicken", "Peanut Sauce"]}
+                                {"name": "Gamberi", "price": 12.00, "category": "Mains", "ingredients": ["Shrimp", "Garlic"]}
+                                {"name": "Tahini Salad", "price": 7.00, "category": "Mains", "ingredients": ["Lettuce", "Sesame"]}
+                                {"name": "Risotto", "price": 11.00, "category": "Mains", "ingredients": ["Rice", "Garlic"]}
+                                {"name": "Sorbetto", "price": 4.00, "category": "Mains"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(5));
+
+        String body = mockMvc.perform(get("/api/draft/menu-items").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("excludeIngredients", "peanut,SHRIMP,sesame"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Risotto", "Sorbetto")))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/draft/menu-items").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("excludeIngredients", "garlic,peanut,sesame"))
+                .andExpect(jsonPath("$[*].name", contains("Sorbetto")));
+
+        // the index follows menu edits
+        JsonNode risotto = objectMapper.readTree(body).get(0);
+        mockMvc.perform(put("/api/draft/menu-items/" + risotto.get("id").asLong()).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Risotto", "price": 11.00, "categoryId": %d, "ingredients": ["Rice", "Sesame Seeds"]}"""
+                                .formatted(risotto.get("categoryId").asLong())))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/draft/menu-items").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("excludeIngredients", "peanut,shrimp,sesame"))
+                .andExpect(jsonPath("$[*].name", contains("Sorbetto")));
+
+        mockMvc.perform(get("/api/draft/menu-items").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("excludeIngredients", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,112 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CategoryControllerTest {
+
+    private static final String RESTAURANT = "701";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void namesAreUniqueIgnoringCase() throws Exception {
+        long antipasti = createCategory("Antipasti");
+        long primi = createCategory("Primi");
+
+        mockMvc.perform(post("/api/draft/categories").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"ANTIPASTI\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A category with the same name: ANTIPASTI already exists"));
+        mockMvc.perform(put("/api/draft/categories/" + primi).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"antipasti\"}"))
+                .andExpect(status().isBadRequest());
+
+        // changing only the case of its own name is allowed
+        mockMvc.perform(put("/api/draft/categories/" + antipasti).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"ANTIPASTI\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("ANTIPASTI"));
+    }
+
+    @Test
+    void importResolvesCategoriesByCurrentName() throws Exception {
+        long categoryId = createCategory("Contorni");
+        mockMvc.perform(put("/api/draft/categories/" + categoryId).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"Verdure\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/draft/menu-items/import").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("createCategories", "false")
+                        .contentType("text/csv")
+                        .content("""
+                                name,price,category
+                                Patate al forno,4.50,VERDURE
+                                Cicoria,4.00,Contorni
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("Category not found: Contorni"));
+        mockMvc.perform(get("/api/draft/menu-items/by-category/" + categoryId).header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(jsonPath("$[0].name").value("Patate al forno"));
+    }
+
+    @Test
+    void deletesCategoryWithItsMenuItems() throws Exception {
+        long categoryId = createCategory("Secondi");
+        for (String name : new String[]{"Saltimbocca", "Ossobuco"}) {
+            mockMvc.perform(post("/api/draft/menu-items").header(TenantInterceptor.HEADER, RESTAURANT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"name": "%s", "price": 18.00, "categoryId": %d, "ingredients": ["Veal"], "dietaryRestrictions": ["GLUTEN_FREE"]}"""
+                                    .formatted(name, categoryId)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(delete("/api/draft/categories/" + categoryId).header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete("/api/draft/categories/" + categoryId).header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/draft/menu-items/by-category/" + categoryId).header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isNotFound());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM menu_item_ingredients i LEFT JOIN menu_items m ON m.id = i.menu_item_id WHERE m.id IS NULL",
+                Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM menu_item_dietary_restrictions r LEFT JOIN menu_items m ON m.id = r.menu_item_id WHERE m.id IS NULL",
+                Long.class)).isZero();
+    }
+
+    private long createCategory(String name) throws Exception {
+        String body = mockMvc.perform(post("/api/draft/categories").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"%s\"}".formatted(name)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
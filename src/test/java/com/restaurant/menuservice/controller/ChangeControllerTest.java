@@ -0,0 +1,177 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.dto.CategoryDto;
+import com.restaurant.menuservice.repository.MenuChangeHorizonRepository;
+import com.restaurant.menuservice.service.ChangeLogService;
+import com.restaurant.menuservice.tenant.TenantContext;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// compaction only runs when a test asks for it
+@SpringBootTest(properties = {"menu.changes.retention=2", "menu.changes.compaction-interval=PT1H"})
+@AutoConfigureMockMvc
+class ChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private MenuChangeHorizonRepository menuChangeHorizonRepository;
+
+    @Test
+    void returnsOnlyTheLatestChangeOfEachEntitySinceCursor() throws Exception {
+        long since = feed(0).get("latestSeq").asLong();
+
+        JsonNode category = create("/api/draft/categories", """
+                {"name": "Feed Starters", "description": "Small plates"}""");
+        JsonNode item = create("/api/draft/menu-items", """
+                {"name": "Arancini", "price": 6.50, "categoryId": %d, "dietaryRestrictions": ["VEGETARIAN"]}"""
+                .formatted(category.get("id").asLong()));
+        mockMvc.perform(put("/api/draft/menu-items/" + item.get("id").asLong())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Arancini", "price": 7.00, "categoryId": %d}"""
+                                .formatted(category.get("id").asLong())))
+                .andExpect(status().isOk());
+
+        JsonNode feed = feed(since);
+        JsonNode changes = feed.get("changes");
+
+        assertEquals(2, changes.size());
+        assertEquals("CATEGORY", changes.get(0).get("entityType").asText());
+        assertEquals("MENU_ITEM", changes.get(1).get("entityType").asText());
+        assertEquals(7.00, changes.get(1).get("menuItem").get("price").asDouble());
+
+        mockMvc.perform(delete("/api/draft/categories/" + category.get("id").asLong())).andExpect(status().isNoContent());
+
+        JsonNode deletes = feed(feed.get("nextSince").asLong()).get("changes");
+        assertEquals(2, deletes.size());
+        deletes.forEach(change -> assertEquals("DELETE", change.get("operation").asText()));
+    }
+
+    @Test
+    void waitsForAChangeCommittedAfterALaterOne() throws Exception {
+        long since = feed(0).get("latestSeq").asLong();
+
+        // takes the next sequence number but commits only after the category below
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Thread pending = new Thread(() -> TenantContext.callAs(1L, () ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    changeLogService.recordDelete(CategoryDto.builder().id(999999L).build());
+                    recorded.countDown();
+                    try {
+                        commit.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                })));
+        pending.start();
+        recorded.await();
+
+        JsonNode category = create("/api/draft/categories", """
+                {"name": "Feed Out Of Order"}""");
+
+        JsonNode early = feed(since);
+        assertEquals(0, early.get("changes").size());
+        assertFalse(early.get("hasMore").asBoolean());
+
+        // a transaction in progress holds up only its own restaurant's feed
+        create("/api/draft/categories", "1601", """
+                {"name": "Feed Elsewhere"}""");
+        assertEquals(1, feed(0, "1601").get("changes").size());
+
+        commit.countDown();
+        pending.join();
+
+        JsonNode late = feed(early.get("nextSince").asLong());
+        assertEquals(2, late.get("changes").size());
+        assertEquals(999999, late.get("changes").get(0).get("entityId").asLong());
+        assertEquals(category.get("id").asLong(), late.get("changes").get(1).get("entityId").asLong());
+    }
+
+    @Test
+    void retainsChangesPerRestaurant() throws Exception {
+        long since = feed(0).get("latestSeq").asLong();
+
+        create("/api/draft/categories", "1501", """
+                {"name": "Quiet Specials"}""");
+        for (int i = 0; i < 3; i++) {
+            create("/api/draft/categories", "1502", """
+                    {"name": "Busy Specials %d"}""".formatted(i));
+        }
+
+        changeLogService.compact();
+
+        // the busy restaurant's retention does not cut into the quiet one's history
+        JsonNode quiet = feed(since, "1501");
+        assertFalse(quiet.get("resyncRequired").asBoolean());
+        assertEquals(1, quiet.get("changes").size());
+
+        assertTrue(feed(since, "1502").get("resyncRequired").asBoolean());
+        // stored with the log, so a restart does not forget it
+        assertTrue(menuChangeHorizonRepository.findHorizon(1502L) > since);
+        assertEquals(0, menuChangeHorizonRepository.findHorizon(1501L));
+    }
+
+    private JsonNode feed(long since, String restaurantId) throws Exception {
+        String body = mockMvc.perform(get("/api/draft/changes").param("since", String.valueOf(since))
+                        .header(TenantInterceptor.HEADER, restaurantId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode create(String url, String restaurantId, String json) throws Exception {
+        String body = mockMvc.perform(post(url)
+                        .header(TenantInterceptor.HEADER, restaurantId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode feed(long since) throws Exception {
+        String body = mockMvc.perform(get("/api/draft/changes").param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode create(String url, String json) throws Exception {
+        String body = mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,115 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportControllerTest {
+
+    private static final String RESTAURANT = "401";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportsMenuToDownloadableFile() throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items/import")
+                        .header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType("text/csv")
+                        .content("""
+                                name,price,category,ingredients
+                                Focaccia,4.50,Pane,Flour|Rosemary
+                                Grissini,3.00,Pane,Flour
+                                Taralli,3.50,Pane,
+                                """))
+                .andExpect(status().isOk());
+
+        String started = mockMvc.perform(post("/api/exports?format=CSV").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(started).get("id").asText();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> "COMPLETED".equals(getExport(id).get("status").asText()));
+        JsonNode job = getExport(id);
+        assertThat(job.get("totalRows").asLong()).isEqualTo(3);
+        assertThat(job.get("rowsWritten").asLong()).isEqualTo(3);
+
+        String csv = mockMvc.perform(get("/api/exports/" + id + "/file").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv"))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(csv.lines()).hasSize(4);
+        assertThat(csv.lines().findFirst()).hasValue(
+                "id,name,description,price,available,categoryId,categoryName,dietaryRestrictions,ingredients");
+        assertThat(csv).contains("Focaccia");
+
+        byte[] range = mockMvc.perform(get("/api/exports/" + id + "/file")
+                        .header(TenantInterceptor.HEADER, RESTAURANT)
+                        .header(HttpHeaders.RANGE, "bytes=3-6"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(new String(range)).isEqualTo(csv.substring(3, 7));
+
+        mockMvc.perform(get("/api/exports/" + id).header(TenantInterceptor.HEADER, "402"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void exportsNdjsonAndColumnar() throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items/import")
+                        .header(TenantInterceptor.HEADER, "403")
+                        .contentType("application/x-ndjson")
+                        .content("""
+                                {"name": "Limoncello", "price": 5, "category": "Digestivi"}
+                                {"name": "Amaro", "price": 4.5, "category": "Digestivi"}
+                                """))
+                .andExpect(status().isOk());
+
+        String ndjson = new String(export("403", "NDJSON"));
+        assertThat(ndjson.lines()).hasSize(2).allMatch(line -> line.startsWith("{\"id\":"));
+        assertThat(ndjson).endsWith("\n");
+
+        byte[] columnar = export("403", "COLUMNAR");
+        assertThat(new String(columnar, 0, 4)).isEqualTo("MCOL");
+        assertThat(new String(columnar, columnar.length - 4, 4)).isEqualTo("MCOL");
+    }
+
+    private byte[] export(String restaurant, String format) throws Exception {
+        String started = mockMvc.perform(post("/api/exports?format=" + format).header(TenantInterceptor.HEADER, restaurant))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(started).get("id").asText();
+        await().atMost(Duration.ofSeconds(10)).until(() -> mockMvc.perform(get("/api/exports/" + id)
+                        .header(TenantInterceptor.HEADER, restaurant))
+                .andReturn().getResponse().getContentAsString().contains("COMPLETED"));
+        return mockMvc.perform(get("/api/exports/" + id + "/file").header(TenantInterceptor.HEADER, restaurant))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private JsonNode getExport(String id) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get("/api/exports/" + id).header(TenantInterceptor.HEADER, RESTAURANT))
+                .andReturn().getResponse().getContentAsString());
+    }
+}
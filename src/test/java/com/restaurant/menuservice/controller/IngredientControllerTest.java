@@ -0,0 +1,158 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.service.MenuItemService;
+import com.restaurant.menuservice.tenant.TenantContext;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IngredientControllerTest {
+
+    private static final String RESTAURANT = "801";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MenuItemService menuItemService;
+
+    @Test
+    void storesEachIngredientOnceAndMergesDuplicates() throws Exception {
+        long categoryId = createCategory();
+        createMenuItem("Bruschetta", categoryId, "\"Tomato\", \"Basil\"");
+        createMenuItem("Caprese", categoryId, "\"tomato\", \"Mozzarella\"");
+        createMenuItem("Insalata", categoryId, "\"Tomatoes\", \"Lettuce\"");
+
+        Map<String, JsonNode> ingredients = getIngredients();
+        assertThat(ingredients).containsOnlyKeys("Basil", "Lettuce", "Mozzarella", "Tomato", "Tomatoes");
+        assertThat(ingredients.get("Tomato").get("menuItemCount").asLong()).isEqualTo(2);
+
+        // every menu item shares the same name instance of an ingredient
+        List<MenuItemDto> menuItems = TenantContext.callAs(Long.valueOf(RESTAURANT), menuItemService::getAllMenuItems);
+        List<String> tomatoes = menuItems.stream()
+                .flatMap(menuItem -> menuItem.getIngredients().stream())
+                .filter("Tomato"::equals)
+                .toList();
+        assertThat(tomatoes).hasSize(2);
+        assertThat(tomatoes.get(0)).isSameAs(tomatoes.get(1));
+
+        long tomatoId = ingredients.get("Tomato").get("id").asLong();
+        long tomatoesId = ingredients.get("Tomatoes").get("id").asLong();
+        mockMvc.perform(post("/api/draft/ingredients/" + tomatoId + "/merge").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"sourceIds\": [%d]}".formatted(tomatoesId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Tomato"))
+                .andExpect(jsonPath("$.menuItemCount").value(3));
+
+        assertThat(getIngredients()).containsOnlyKeys("Basil", "Lettuce", "Mozzarella", "Tomato");
+        mockMvc.perform(get("/api/draft/menu-items/by-ingredient").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("ingredient", "TOMATO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("Bruschetta", "Caprese", "Insalata")));
+        mockMvc.perform(get("/api/draft/menu-items/by-ingredient").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("ingredient", "mozz"))
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("Caprese")));
+
+        mockMvc.perform(post("/api/draft/ingredients/" + tomatoId + "/merge").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"sourceIds\": [%d]}".formatted(tomatoesId)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/draft/ingredients/" + tomatoId + "/merge").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"sourceIds\": [%d]}".formatted(tomatoId)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void addsANewNameOnceWhenRequestsUseItConcurrently() throws Exception {
+        String restaurant = "804";
+        String body = mockMvc.perform(post("/api/draft/categories").header(TenantInterceptor.HEADER, restaurant)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"Risotti\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long categoryId = objectMapper.readTree(body).get("id").asLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String json = """
+                        {"name": "Risotto %d", "price": 14.00, "categoryId": %d, "ingredients": ["Zafferano", "Riso %d"]}"""
+                        .formatted(i, categoryId, i);
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/draft/menu-items").header(TenantInterceptor.HEADER, restaurant)
+                                    .contentType(MediaType.APPLICATION_JSON).content(json))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get()).isEqualTo(201);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, JsonNode> ingredients = getIngredients(restaurant);
+        assertThat(ingredients).hasSize(9);
+        assertThat(ingredients.get("Zafferano").get("menuItemCount").asLong()).isEqualTo(8);
+    }
+
+    private Map<String, JsonNode> getIngredients() throws Exception {
+        return getIngredients(RESTAURANT);
+    }
+
+    private Map<String, JsonNode> getIngredients(String restaurant) throws Exception {
+        String body = mockMvc.perform(get("/api/draft/ingredients").header(TenantInterceptor.HEADER, restaurant))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Map<String, JsonNode> ingredients = new HashMap<>();
+        objectMapper.readTree(body).forEach(ingredient -> ingredients.put(ingredient.get("name").asText(), ingredient));
+        return ingredients;
+    }
+
+    private long createCategory() throws Exception {
+        String body = mockMvc.perform(post("/api/draft/categories").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\": \"Antipasti\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private void createMenuItem(String name, long categoryId, String ingredients) throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "%s", "price": 8.00, "categoryId": %d, "ingredients": [%s]}"""
+                                .formatted(name, categoryId, ingredients)))
+                .andExpect(status().isCreated());
+    }
+}
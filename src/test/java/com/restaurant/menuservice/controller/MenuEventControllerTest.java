@@ -0,0 +1,104 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// a tiny buffer and a single dispatcher thread, so a bulk import outruns a subscriber
+@SpringBootTest(properties = {"menu.events.buffer-size=2", "menu.events.dispatch-threads=1"})
+@AutoConfigureMockMvc
+class MenuEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void streamsOnlyTheRestaurantsMatchingChanges() throws Exception {
+        MockHttpServletResponse all = subscribe("801", "").getResponse();
+        MockHttpServletResponse vegan = subscribe("801", "?restriction=VEGAN").getResponse();
+        MockHttpServletResponse otherRestaurant = subscribe("802", "").getResponse();
+
+        long categoryId = create("/api/draft/categories", "801", """
+                {"name": "Street Food"}""");
+        create("/api/draft/menu-items", "801", """
+                {"name": "Salame Panino", "price": 6.00, "categoryId": %d}""".formatted(categoryId));
+        long falafelId = create("/api/draft/menu-items", "801", """
+                {"name": "Falafel Wrap", "price": 7.00, "categoryId": %d, "dietaryRestrictions": ["VEGAN"]}"""
+                .formatted(categoryId));
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> all.getContentAsString().contains("Falafel Wrap") && vegan.getContentAsString().contains("Falafel Wrap"));
+        assertThat(all.getContentAsString())
+                .contains("event:category-created", "event:menu-item-created", "Salame Panino");
+        assertThat(vegan.getContentAsString()).doesNotContain("Salame Panino");
+        assertThat(otherRestaurant.getContentAsString()).doesNotContain("event:");
+
+        // a delete carries the item's restrictions, so filtered subscribers hear of it too
+        mockMvc.perform(delete("/api/draft/menu-items/" + falafelId).header(TenantInterceptor.HEADER, "802"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/draft/menu-items/" + falafelId).header(TenantInterceptor.HEADER, "801"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/draft/menu-items/" + falafelId).header(TenantInterceptor.HEADER, "801"))
+                .andExpect(status().isNotFound());
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> vegan.getContentAsString().contains("event:menu-item-deleted"));
+        assertThat(otherRestaurant.getContentAsString()).doesNotContain("event:");
+    }
+
+    @Test
+    void sendsResyncAndDisconnectsASubscriberThatFallsBehind() throws Exception {
+        MvcResult subscription = subscribe("803", "");
+
+        StringBuilder csv = new StringBuilder("name,price,available,category\n");
+        for (int i = 0; i < 50; i++) {
+            csv.append("Tapa ").append(i).append(",3.00,true,Tapas\n");
+        }
+        mockMvc.perform(post("/api/draft/menu-items/import")
+                        .header(TenantInterceptor.HEADER, "803")
+                        .contentType("text/csv")
+                        .content(csv.toString()))
+                .andExpect(status().isOk());
+
+        // completes the stream, or fails after the timeout
+        subscription.getAsyncResult(10_000);
+        String events = subscription.getResponse().getContentAsString();
+        assertThat(events).endsWith("event:resync\ndata:buffer overflow\n\n");
+        assertThat(events).doesNotContain("Tapa 49");
+    }
+
+    private MvcResult subscribe(String restaurantId, String query) throws Exception {
+        return mockMvc.perform(get("/api/draft/menu-events" + query).header(TenantInterceptor.HEADER, restaurantId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private long create(String url, String restaurantId, String json) throws Exception {
+        String body = mockMvc.perform(post(url)
+                        .header(TenantInterceptor.HEADER, restaurantId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,84 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "menu.import.batch-size=2")
+@AutoConfigureMockMvc
+class MenuImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void importsCsvAndReportsBadRows() throws Exception {
+        String csv = """
+                name,description,price,available,category,dietaryRestrictions,ingredients
+                Margherita,"Tomato, mozzarella",9.00,true,Pizze,VEGETARIAN,Tomatoes|Mozzarella|Basil
+                Marinara,,7.50,,pizze,vegan|vegetarian,Tomatoes|Garlic
+                Diavola,,abc,true,Pizze,,
+                Tiramisù,,6.00,true,Dolci,GLUTEN_FREE|SPICY,
+                X,,5.00,true,Dolci,,
+                """;
+
+        mockMvc.perform(post("/api/draft/menu-items/import")
+                        .header(TenantInterceptor.HEADER, "201")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(5))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.categoriesCreated").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Invalid price: abc"))
+                .andExpect(jsonPath("$.errors[1].row").value(4))
+                .andExpect(jsonPath("$.errors[1].message").value("Invalid dietary restriction: SPICY"))
+                .andExpect(jsonPath("$.errors[2].row").value(5))
+                .andExpect(jsonPath("$.errors[2].message").value("name: Menu item name must be between 2 and 100 characters"));
+
+        mockMvc.perform(get("/api/draft/categories").header(TenantInterceptor.HEADER, "201"))
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(get("/api/draft/menu-items/by-dietary-restriction?restriction=VEGAN").header(TenantInterceptor.HEADER, "201"))
+                .andExpect(jsonPath("$[0].name").value("Marinara"))
+                .andExpect(jsonPath("$[0].categoryName").value("Pizze"));
+    }
+
+    @Test
+    void importsNdjsonIntoExistingCategoriesOnly() throws Exception {
+        String ndjson = """
+                {"name": "Espresso", "price": 1.20, "category": "Caffè"}
+                {"name": "Cappuccino", "price": "1.80", "category": "Caffè", "ingredients": ["Milk"]}
+                {"name": "Spritz", "price": 6, "category": "Aperitivi"}
+                {"name": "Broken", "price":
+                """;
+
+        mockMvc.perform(post("/api/draft/categories")
+                        .header(TenantInterceptor.HEADER, "202")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Caffè"}"""))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/draft/menu-items/import?createCategories=false")
+                        .header(TenantInterceptor.HEADER, "202")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Category not found: Aperitivi"))
+                .andExpect(jsonPath("$.errors[1].row").value(4));
+    }
+}
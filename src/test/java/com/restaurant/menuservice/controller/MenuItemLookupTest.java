@@ -0,0 +1,70 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuItemLookupTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void looksUpItemsInRequestOrderAndReportsMissingIds() throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items/import")
+                        .header(TenantInterceptor.HEADER, "501")
+                        .contentType("text/csv")
+                        .content("""
+                                name,price,category,ingredients
+                                Arancino,3.00,Rosticceria,Rice|Ragù
+                                Panelle,2.50,Rosticceria,Chickpeas
+                                """))
+                .andExpect(status().isOk());
+        JsonNode items = objectMapper.readTree(mockMvc.perform(get("/api/draft/menu-items").header(TenantInterceptor.HEADER, "501"))
+                .andReturn().getResponse().getContentAsString());
+        long first = items.get(0).get("id").asLong();
+        long second = items.get(1).get("id").asLong();
+
+        mockMvc.perform(post("/api/draft/menu-items/lookup")
+                        .header(TenantInterceptor.HEADER, "501")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"ids": [%d, 999999, %d, %d]}""".formatted(second, first, second)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(second))
+                .andExpect(jsonPath("$.items[1].id").value(first))
+                .andExpect(jsonPath("$.items[1].categoryName").value("Rosticceria"))
+                .andExpect(jsonPath("$.items[1].ingredients.length()").value(2))
+                .andExpect(jsonPath("$.missing[0]").value(999999));
+
+        // items of another restaurant are reported as missing
+        mockMvc.perform(get("/api/draft/menu-items?ids=" + first + "," + second).header(TenantInterceptor.HEADER, "502"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andExpect(jsonPath("$.missing.length()").value(2));
+
+        mockMvc.perform(post("/api/draft/menu-items/lookup")
+                        .header(TenantInterceptor.HEADER, "501")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"ids": []}"""))
+                .andExpect(status().isBadRequest());
+    }
+}
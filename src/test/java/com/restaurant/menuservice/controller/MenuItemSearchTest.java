@@ -0,0 +1,90 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuItemSearchTest {
+
+    private static final String RESTAURANT = "1101";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void searchesDescriptionsWithFilters() throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items/import").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType("text/csv")
+                        .content("""
+                                name,description,price,available,category,dietaryRestrictions,ingredients
+                                Risotto ai funghi,Creamy carnaroli rice with porcini mushrooms,14.00,true,Primi,VEGETARIAN|GLUTEN_FREE,Rice|Porcini
+                                Tagliata,Sliced beef with rocket and mushrooms,22.00,true,Secondi,GLUTEN_FREE,Beef|Rocket
+                                Funghi trifolati,Sautéed mushrooms with garlic and parsley,7.00,false,Contorni,VEGAN,Mushrooms|Garlic
+                                Tiramisù,Coffee and mascarpone,6.00,true,Dolci,VEGETARIAN,Mascarpone
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(4));
+
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "mushroom"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].menuItem.name").value("Funghi trifolati"));
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "fungo"))
+                .andExpect(jsonPath("$[*].menuItem.name", contains("Funghi trifolati", "Risotto ai funghi")));
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "mushrooms").param("available", "true")
+                        .param("maxPrice", "20").param("restriction", "GLUTEN_FREE"))
+                .andExpect(jsonPath("$[*].menuItem.name", contains("Risotto ai funghi")));
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "dolci caffe"))
+                .andExpect(jsonPath("$[*].menuItem.name", contains("Tiramisù")));
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "tagliatta"))
+                .andExpect(jsonPath("$").isEmpty());
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "tagliatta porcinni").param("fuzzy", "true"))
+                .andExpect(jsonPath("$[*].menuItem.name", contains("Tagliata", "Risotto ai funghi")));
+
+        // descriptions are searchable as soon as an edit commits
+        String body = mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "tiramisu"))
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get(0).get("menuItem").get("id").asLong();
+        long categoryId = objectMapper.readTree(body).get(0).get("menuItem").get("categoryId").asLong();
+        mockMvc.perform(put("/api/draft/menu-items/" + id).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Tiramisù", "description": "Savoiardi soaked in espresso", "price": 6.00, "categoryId": %d}"""
+                                .formatted(categoryId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "espresso"))
+                .andExpect(jsonPath("$[*].menuItem.name", contains("Tiramisù")));
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "mascarpone"))
+                .andExpect(jsonPath("$").isEmpty());
+
+        mockMvc.perform(get("/api/draft/menu-items/search").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("q", "rice").param("minPrice", "10").param("maxPrice", "5"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,81 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuItemSimilarTest {
+
+    private static final String RESTAURANT = "1201";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void suggestsAvailableSubstitutesWithTheSameDietaryRestrictions() throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items/import").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"name": "Carbonara", "price": 12.00, "category": "Primi", "ingredients": ["Spaghetti", "Guanciale", "Egg", "Pecorino"]}
+                                {"name": "Gricia", "price": 11.00, "category": "Primi", "ingredients": ["Spaghetti", "Guanciale", "Pecorino"]}
+                                {"name": "Cacio e pepe", "price": 10.00, "category": "Primi", "dietaryRestrictions": ["VEGETARIAN"], "ingredients": ["Spaghetti", "Pecorino", "Pepper"]}
+                                {"name": "Pomodoro", "price": 9.00, "category": "Primi", "dietaryRestrictions": ["VEGETARIAN"], "ingredients": ["Spaghetti", "Pecorino", "Tomato"]}
+                                {"name": "Tiramisù", "price": 6.00, "category": "Dolci", "dietaryRestrictions": ["VEGETARIAN"], "ingredients": ["Mascarpone", "Coffee"]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(5));
+        Map<String, JsonNode> menuItems = new HashMap<>();
+        objectMapper.readTree(mockMvc.perform(get("/api/draft/menu-items").header(TenantInterceptor.HEADER, RESTAURANT))
+                        .andReturn().getResponse().getContentAsString())
+                .forEach(menuItem -> menuItems.put(menuItem.get("name").asText(), menuItem));
+
+        mockMvc.perform(get("/api/draft/menu-items/" + menuItems.get("Carbonara").get("id").asLong() + "/similar")
+                        .header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].menuItem.name", contains("Gricia", "Cacio e pepe", "Pomodoro")))
+                .andExpect(jsonPath("$[0].similarity").value(0.75));
+        mockMvc.perform(get("/api/draft/menu-items/" + menuItems.get("Cacio e pepe").get("id").asLong() + "/similar")
+                        .header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(jsonPath("$[*].menuItem.name", contains("Pomodoro")));
+
+        // a menu item that runs out is no longer suggested
+        JsonNode pomodoro = menuItems.get("Pomodoro");
+        mockMvc.perform(put("/api/draft/menu-items/" + pomodoro.get("id").asLong()).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Pomodoro", "price": 9.00, "available": false, "categoryId": %d,
+                                 "dietaryRestrictions": ["VEGETARIAN"], "ingredients": ["Spaghetti", "Pecorino", "Tomato"]}"""
+                                .formatted(pomodoro.get("categoryId").asLong())))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/draft/menu-items/" + menuItems.get("Cacio e pepe").get("id").asLong() + "/similar")
+                        .header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(jsonPath("$").isEmpty());
+
+        mockMvc.perform(get("/api/draft/menu-items/999999/similar").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/draft/menu-items/" + pomodoro.get("id").asLong() + "/similar")
+                        .header(TenantInterceptor.HEADER, RESTAURANT).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,73 @@
+package com.restaurant.menuservice.controller;
+
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuItemSuggestTest {
+
+    private static final String RESTAURANT = "1001";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void suggestsNamesAndIngredientsByPopularity() throws Exception {
+        importMenuItems("""
+                name,price,category,ingredients
+                Margherita,7.50,Pizze,Mozzarella|Tomato|Basil
+                Marinara,6.00,Pizze,Tomato|Garlic|Oregano
+                Bufala,9.00,Pizze,Mozzarella di bufala|Tomato
+                """);
+
+        mockMvc.perform(get("/api/draft/menu-items/suggest").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("prefix", "Mar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].text", contains("Marinara", "Margherita")))
+                .andExpect(jsonPath("$[0].type").value("MENU_ITEM"));
+        mockMvc.perform(get("/api/draft/menu-items/suggest").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("prefix", "t"))
+                .andExpect(jsonPath("$[0].text").value("Tomato"))
+                .andExpect(jsonPath("$[0].type").value("INGREDIENT"))
+                .andExpect(jsonPath("$[0].score").value(3));
+        mockMvc.perform(get("/api/draft/menu-items/suggest").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("prefix", "buf"))
+                .andExpect(jsonPath("$[*].text", contains("Bufala", "Mozzarella di bufala")));
+
+        // new menu items are suggested as soon as they are committed
+        importMenuItems("""
+                name,price,category,ingredients
+                Capricciosa,9.50,Pizze,Mozzarella|Tomato|Artichokes
+                """);
+        mockMvc.perform(get("/api/draft/menu-items/suggest").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("prefix", "MOZ").param("limit", "1"))
+                .andExpect(jsonPath("$[*].text", contains("Mozzarella")))
+                .andExpect(jsonPath("$[0].score").value(2));
+        mockMvc.perform(get("/api/draft/menu-items/suggest").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("prefix", "art"))
+                .andExpect(jsonPath("$[*].text", contains("Artichokes")));
+
+        mockMvc.perform(get("/api/draft/menu-items/suggest").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("prefix", "mar").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void importMenuItems(String csv) throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items/import").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errors").isEmpty());
+    }
+}
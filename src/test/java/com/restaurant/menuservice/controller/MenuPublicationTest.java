@@ -0,0 +1,170 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuPublicationTest {
+
+    private static final String RESTAURANT = "1401";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void servesThePublishedVersionUntilTheNextPublication() throws Exception {
+        mockMvc.perform(get("/api/menu").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isNotFound());
+
+        JsonNode category = objectMapper.readTree(mockMvc.perform(post("/api/draft/categories").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Pizze\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        JsonNode margherita = objectMapper.readTree(mockMvc.perform(post("/api/draft/menu-items").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(menuItem("Margherita", "8.50", category.get("id").asLong())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        long id = margherita.get("id").asLong();
+
+        mockMvc.perform(post("/api/menu/versions").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.categoryCount").value(1))
+                .andExpect(jsonPath("$.menuItemCount").value(1))
+                .andExpect(jsonPath("$.active").value(true));
+
+        // editing the draft leaves the published menu alone
+        mockMvc.perform(put("/api/draft/menu-items/" + id).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(menuItem("Margherita", "9.50", category.get("id").asLong())))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/menu").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.categories[*].name", contains("Pizze")))
+                .andExpect(jsonPath("$.menuItems[0].price").value(8.50));
+        mockMvc.perform(get("/api/menu").header(TenantInterceptor.HEADER, RESTAURANT).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/menu/versions").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(2));
+        mockMvc.perform(get("/api/menu/items/" + id).header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(9.50));
+        mockMvc.perform(get("/api/menu").header(TenantInterceptor.HEADER, RESTAURANT).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+        // roll back to the first version
+        mockMvc.perform(post("/api/menu/versions/1/activate").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+        mockMvc.perform(get("/api/menu/items/" + id).header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(jsonPath("$.price").value(8.50));
+        mockMvc.perform(get("/api/menu/versions").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].version", contains(2, 1)))
+                .andExpect(jsonPath("$[*].active", contains(false, true)));
+
+        mockMvc.perform(post("/api/menu/versions/3/activate").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/menu/items/999999").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isNotFound());
+        // other restaurants have nothing published
+        mockMvc.perform(get("/api/menu").header(TenantInterceptor.HEADER, "1402"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void answersTheCustomerReadsFromThePublishedMenuOnly() throws Exception {
+        long categoryId = objectMapper.readTree(mockMvc.perform(post("/api/draft/categories").header(TenantInterceptor.HEADER, "1403")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Insalate\"}"))
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+        long caprese = create(menuItem("Caprese", "7.00", categoryId, "Mozzarella", "Tomato", "Basil"));
+        create(menuItem("Nicoise", "9.00", categoryId, "Mozzarella", "Tomato", "Basil", "Tuna"));
+        mockMvc.perform(get("/api/menu/items/search?q=caprese").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/menu/versions").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(status().isCreated());
+        // a draft item and a draft edit, neither published
+        long cesare = create(menuItem("Cesare", "8.00", categoryId, "Chicken", "Tomato"));
+        mockMvc.perform(put("/api/draft/menu-items/" + caprese).header(TenantInterceptor.HEADER, "1403")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(menuItem("Caprese di bufala", "7.50", categoryId, "Mozzarella", "Tomato", "Basil")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/menu/items").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$[*].name", contains("Caprese", "Nicoise")));
+        mockMvc.perform(get("/api/menu/items/by-category/" + categoryId).header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$[*].name", contains("Caprese", "Nicoise")));
+        mockMvc.perform(get("/api/menu/items/available").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$[*].name", contains("Caprese", "Nicoise")));
+        mockMvc.perform(get("/api/menu/items/search?q=cesare bufala").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$").isEmpty());
+        mockMvc.perform(get("/api/menu/items/suggest?prefix=ce").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$").isEmpty());
+        mockMvc.perform(get("/api/menu/items/by-ingredient?ingredient=chick").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$").isEmpty());
+        mockMvc.perform(get("/api/menu/items?excludeIngredients=tuna").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$[*].name", contains("Caprese")));
+        mockMvc.perform(get("/api/menu/items?ids=" + caprese + "," + cesare).header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$.items[*].price", contains(7.00)))
+                .andExpect(jsonPath("$.missing", contains((int) cesare)));
+        mockMvc.perform(get("/api/menu/items/" + caprese + "/similar").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$[*].menuItem.name", contains("Nicoise")));
+        mockMvc.perform(get("/api/menu/items/" + cesare + "/similar").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(status().isNotFound());
+
+        // the draft reads see both
+        mockMvc.perform(get("/api/draft/menu-items/search?q=cesare bufala").header(TenantInterceptor.HEADER, "1403"))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    private long create(String json) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post("/api/draft/menu-items").header(TenantInterceptor.HEADER, "1403")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private static String menuItem(String name, String price, long categoryId, String... ingredients) {
+        if (ingredients.length > 0) {
+            return """
+                    {"name": "%s", "price": %s, "categoryId": %d, "ingredients": ["%s"]}"""
+                    .formatted(name, price, categoryId, String.join("\", \"", ingredients));
+        }
+        return menuItem(name, price, categoryId);
+    }
+
+    private static String menuItem(String name, String price, long categoryId) {
+        return """
+                {"name": "%s", "price": %s, "categoryId": %d}""".formatted(name, price, categoryId);
+    }
+}
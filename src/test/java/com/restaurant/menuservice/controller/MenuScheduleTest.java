@@ -0,0 +1,90 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuScheduleTest {
+
+    private static final String RESTAURANT = "1301";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void availableMenuItemsFollowTheSchedules() throws Exception {
+        long breakfast = create("/api/draft/categories", """
+                {"name": "Colazione", "schedule": [
+                  {"days": ["MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"], "start": "07:00", "end": "11:00", "timeZone": "Europe/Rome"},
+                  {"days": ["SATURDAY", "SUNDAY"], "start": "08:00", "end": "12:00", "timeZone": "Europe/Rome"}]}""");
+        long bar = create("/api/draft/categories", """
+                {"name": "Bar"}""");
+        create("/api/draft/menu-items", """
+                {"name": "Cornetto", "price": 1.50, "categoryId": %d}""".formatted(breakfast));
+        create("/api/draft/menu-items", """
+                {"name": "Espresso", "price": 1.20, "categoryId": %d}""".formatted(bar));
+        create("/api/draft/menu-items", """
+                {"name": "Spritz", "price": 6.00, "categoryId": %d,
+                 "schedule": [{"start": "17:00", "end": "01:00", "timeZone": "Europe/Rome"}]}""".formatted(bar));
+
+        // Monday 2 June 2025
+        mockMvc.perform(get("/api/draft/menu-items/available").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("at", "2025-06-02T08:30:00+02:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Cornetto", "Espresso")));
+        mockMvc.perform(get("/api/draft/menu-items/available").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("at", "2025-06-02T22:30:00Z"))
+                .andExpect(jsonPath("$[*].name", contains("Espresso", "Spritz")));
+        mockMvc.perform(get("/api/draft/menu-items/available").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("at", "2025-06-07T07:30:00+02:00"))
+                .andExpect(jsonPath("$[*].name", contains("Espresso")));
+
+        // a schedule change takes effect without touching the menu items
+        mockMvc.perform(put("/api/draft/categories/" + breakfast).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Colazione", "schedule": [{"start": "07:00", "end": "12:00", "timeZone": "Europe/Rome"}]}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.schedule[0].days.length()").value(7));
+        mockMvc.perform(get("/api/draft/menu-items/available").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .param("at", "2025-06-07T07:30:00+02:00"))
+                .andExpect(jsonPath("$[*].name", contains("Cornetto", "Espresso")));
+
+        mockMvc.perform(post("/api/draft/categories").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Pranzo", "schedule": [{"start": "12:00", "end": "15:00", "timeZone": "Europe/Nowhere"}]}"""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/draft/categories").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Pranzo", "schedule": [{"start": "12:00"}]}"""))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long create(String path, String json) throws Exception {
+        String body = mockMvc.perform(post(path).header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,135 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class QuoteControllerTest {
+
+    private static final String RESTAURANT = "601";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void quotesCartAndFollowsPriceUpdates() throws Exception {
+        mockMvc.perform(post("/api/draft/menu-items/import")
+                        .header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType("text/csv")
+                        .content("""
+                                name,price,available,category
+                                Cornetto,1.40,true,Colazione
+                                Spremuta,3.50,true,Colazione
+                                """))
+                .andExpect(status().isOk());
+        publish();
+        JsonNode items = objectMapper.readTree(mockMvc.perform(get("/api/menu/items").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andReturn().getResponse().getContentAsString());
+        JsonNode cornetto = items.get(0).get("name").asText().equals("Cornetto") ? items.get(0) : items.get(1);
+        JsonNode spremuta = items.get(0) == cornetto ? items.get(1) : items.get(0);
+        String cart = """
+                {"lines": [{"itemId": %d, "quantity": 3}, {"itemId": %d, "quantity": 1}, {"itemId": 999999, "quantity": 1}]}"""
+                .formatted(cornetto.get("id").asLong(), spremuta.get("id").asLong());
+
+        mockMvc.perform(post("/api/quotes").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content(cart))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines[0].lineTotal").value(4.20))
+                .andExpect(jsonPath("$.lines[2].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.total").value(7.70))
+                .andExpect(jsonPath("$.complete").value(false));
+
+        ((ObjectNode) cornetto).put("price", 1.60);
+        ((ObjectNode) spremuta).put("available", false);
+        for (JsonNode item : new JsonNode[]{cornetto, spremuta}) {
+            mockMvc.perform(put("/api/draft/menu-items/" + item.get("id").asLong())
+                            .header(TenantInterceptor.HEADER, RESTAURANT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(item.toString()))
+                    .andExpect(status().isOk());
+        }
+
+        // draft edits are quoted only once published
+        mockMvc.perform(post("/api/quotes").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content(cart))
+                .andExpect(jsonPath("$.total").value(7.70));
+        publish();
+        mockMvc.perform(post("/api/quotes").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON).content(cart))
+                .andExpect(jsonPath("$.lines[0].unitPrice").value(1.60))
+                .andExpect(jsonPath("$.lines[1].status").value("UNAVAILABLE"))
+                .andExpect(jsonPath("$.total").value(4.80));
+    }
+
+    @Test
+    void leavesOutItemsOfAClosedCategory() throws Exception {
+        String restaurant = "603";
+        JsonNode category = objectMapper.readTree(mockMvc.perform(post("/api/draft/categories")
+                        .header(TenantInterceptor.HEADER, restaurant)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Capodanno", "schedule": [{"start": "00:00", "end": "23:59", "until": "2000-01-01"}]}"""))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        JsonNode item = objectMapper.readTree(mockMvc.perform(post("/api/draft/menu-items")
+                        .header(TenantInterceptor.HEADER, restaurant)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Cotechino", "price": 9.00, "categoryId": %d}""".formatted(category.get("id").asLong())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        mockMvc.perform(post("/api/menu/versions").header(TenantInterceptor.HEADER, restaurant))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/quotes").header(TenantInterceptor.HEADER, restaurant)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lines": [{"itemId": %d, "quantity": 1}]}""".formatted(item.get("id").asLong())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines[0].status").value("UNAVAILABLE"))
+                .andExpect(jsonPath("$.lines[0].unitPrice").value(9.00))
+                .andExpect(jsonPath("$.total").value(0))
+                .andExpect(jsonPath("$.complete").value(false));
+    }
+
+    @Test
+    void answersNotFoundBeforeAnyPublication() throws Exception {
+        mockMvc.perform(post("/api/quotes").header(TenantInterceptor.HEADER, "602")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lines": [{"itemId": 1, "quantity": 1}]}"""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void rejectsNonPositiveItemIds() throws Exception {
+        mockMvc.perform(post("/api/quotes").header(TenantInterceptor.HEADER, RESTAURANT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lines": [{"itemId": 0, "quantity": 1}]}"""))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void publish() throws Exception {
+        mockMvc.perform(post("/api/menu/versions").header(TenantInterceptor.HEADER, RESTAURANT))
+                .andExpect(status().isCreated());
+    }
+}
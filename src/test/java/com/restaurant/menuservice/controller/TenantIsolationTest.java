@@ -0,0 +1,61 @@
+package com.restaurant.menuservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TenantIsolationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void restaurantsOnlySeeTheirOwnMenu() throws Exception {
+        long categoryId = createCategory("101", "Pizze");
+        createCategory("102", "Pizze");
+
+        String item = mockMvc.perform(post("/api/draft/menu-items")
+                        .header(TenantInterceptor.HEADER, "101")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Margherita", "price": 9.00, "categoryId": %d}""".formatted(categoryId)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long itemId = objectMapper.readTree(item).get("id").asLong();
+
+        mockMvc.perform(get("/api/draft/menu-items/" + itemId).header(TenantInterceptor.HEADER, "101"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/draft/menu-items/" + itemId).header(TenantInterceptor.HEADER, "102"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/draft/menu-items").header(TenantInterceptor.HEADER, "102"))
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/draft/menu-items").header(TenantInterceptor.HEADER, "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long createCategory(String restaurantId, String name) throws Exception {
+        String body = mockMvc.perform(post("/api/draft/categories")
+                        .header(TenantInterceptor.HEADER, restaurantId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "%s"}""".formatted(name)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,47 @@
+package com.restaurant.menuservice.dto.compact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactMenuModuleTest {
+
+    private final MenuItemDto tiramisu = MenuItemDto.builder()
+            .id(7L)
+            .name("Tiramisu")
+            .description("Italian coffee-flavored dessert with mascarpone")
+            .price(new BigDecimal("8.95"))
+            .available(true)
+            .categoryId(3L)
+            .categoryName("Desserts")
+            .dietaryRestrictions(Set.of(DietaryRestriction.VEGETARIAN, DietaryRestriction.GLUTEN_FREE))
+            .ingredients(Set.of("Ladyfingers", "Mascarpone", "Coffee", "Cocoa"))
+            .build();
+
+    @Test
+    void cborRoundTripsAndIsSmallerThanJson() throws Exception {
+        assertRoundTripSmallerThanJson(new CBORMapper().registerModule(new CompactMenuModule()));
+    }
+
+    @Test
+    void smileRoundTripsAndIsSmallerThanJson() throws Exception {
+        assertRoundTripSmallerThanJson(new SmileMapper().registerModule(new CompactMenuModule()));
+    }
+
+    private void assertRoundTripSmallerThanJson(ObjectMapper binary) throws Exception {
+        byte[] json = new ObjectMapper().writeValueAsBytes(tiramisu);
+        byte[] encoded = binary.writeValueAsBytes(tiramisu);
+
+        assertTrue(encoded.length < json.length, "binary " + encoded.length + " bytes vs json " + json.length);
+        assertEquals(tiramisu, binary.readValue(encoded, MenuItemDto.class));
+    }
+}
@@ -0,0 +1,86 @@
+package com.restaurant.menuservice.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class MenuSubscriptionTest {
+
+    // a single dispatcher thread, which a stalled send must give back
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdownNow();
+    }
+
+    @Test
+    void abortsASendBlockedOnAClientThatDoesNotRead() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        StalledEmitter stalledEmitter = new StalledEmitter(sending);
+        MenuSubscription stalled = new MenuSubscription(stalledEmitter, 1L, Set.of(), Set.of(), 4);
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> received = new CopyOnWriteArrayList<>();
+        MenuSubscription reading = new MenuSubscription(new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) {
+                received.add(items);
+            }
+        }, 1L, Set.of(), Set.of(), 4);
+
+        stalled.offer(event("1"), dispatcher);
+        sending.await();
+        assertThat(stalled.abortIfStalled(System.nanoTime(), Duration.ofMinutes(1).toNanos())).isFalse();
+
+        assertThat(stalled.abortIfStalled(System.nanoTime() + Duration.ofMinutes(2).toNanos(), Duration.ofMinutes(1).toNanos())).isTrue();
+        assertThat(stalled.isClosed()).isTrue();
+        assertThat(stalledEmitter.failure).isInstanceOf(IOException.class);
+
+        // the interrupted send returns the thread to the other subscribers
+        reading.offer(event("2"), dispatcher);
+        await().atMost(Duration.ofSeconds(10)).until(() -> received.size() == 1);
+        assertThat(stalled.isSending()).isFalse();
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> event(String id) {
+        return SseEmitter.event().id(id).name("menu-item-updated").data("{}").build();
+    }
+
+    private static final class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch sending;
+        private volatile Throwable failure;
+
+        StalledEmitter(CountDownLatch sending) {
+            this.sending = sending;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("write interrupted");
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failure = ex;
+        }
+    }
+}
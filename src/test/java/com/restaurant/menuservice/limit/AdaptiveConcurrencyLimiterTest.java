@@ -0,0 +1,81 @@
+package com.restaurant.menuservice.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    void growsWhileLatencyHoldsAndShrinksWhenItRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100, 0.5);
+
+        for (int round = 0; round < 20; round++) {
+            saturate(limiter, 10 * MILLIS);
+        }
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(30);
+
+        // requests start queueing: latency goes up fivefold
+        for (int round = 0; round < 5; round++) {
+            saturate(limiter, 50 * MILLIS);
+        }
+        assertThat(limiter.getLimit()).isLessThan(grown / 2);
+
+        for (int round = 0; round < 10; round++) {
+            saturate(limiter, 1000 * MILLIS);
+        }
+        assertThat(limiter.getLimit()).isBetween(2, 4);
+
+        // a latency that lasts becomes the new normal, and the limit grows again
+        for (int round = 0; round < 200; round++) {
+            saturate(limiter, 1000 * MILLIS);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(30);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void doesNotGrowWhileMostOfTheLimitIsUnused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 100, 0.5);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+            limiter.release(MILLIS);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void bulkRequestsOnlyGetTheirShare() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100, 0.5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.BULK)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.BULK)).isFalse();
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isFalse();
+
+        limiter.release(-1);
+        assertThat(limiter.tryAcquire(RequestPriority.BULK)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+    }
+
+    /**
+     * Fill the limit, then finish every request with the same latency.
+     */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire(RequestPriority.CRITICAL)) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos);
+        }
+    }
+}
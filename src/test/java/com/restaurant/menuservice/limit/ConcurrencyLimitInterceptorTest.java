@@ -0,0 +1,52 @@
+package com.restaurant.menuservice.limit;
+
+import com.restaurant.menuservice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitInterceptorTest {
+
+    @Test
+    void classifiesOrderCriticalReadsAheadOfBackOfficeWork() {
+        assertThat(priority("GET", "/api/draft/menu-items/42")).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(priority("GET", "/api/draft/menu-items/by-category/7")).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(priority("POST", "/api/draft/menu-items/lookup")).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(priority("POST", "/api/quotes")).isEqualTo(RequestPriority.CRITICAL);
+
+        assertThat(priority("PUT", "/api/draft/menu-items/42")).isEqualTo(RequestPriority.BULK);
+        assertThat(priority("POST", "/api/menu/versions")).isEqualTo(RequestPriority.BULK);
+        assertThat(priority("POST", "/api/draft/menu-items/import")).isEqualTo(RequestPriority.BULK);
+        assertThat(priority("GET", "/api/exports/abc/file")).isEqualTo(RequestPriority.BULK);
+    }
+
+    @Test
+    void rejectsRequestsBeyondTheLimitUntilOneCompletes() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(true, 2, 1, 10, 0.5, meterRegistry);
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/draft/menu-items/1");
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/api/draft/menu-items/2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(first, response, null)).isTrue();
+        assertThat(interceptor.preHandle(second, response, null)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest("GET", "/api/draft/menu-items/3"), response, null))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("menu.concurrency.rejected", "priority", "critical").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("menu.concurrency.limit").gauge().value()).isEqualTo(2);
+
+        interceptor.afterCompletion(first, response, null, null);
+        // completing twice does not release twice
+        interceptor.afterCompletion(first, response, null, null);
+        assertThat(interceptor.getLimiter().getInFlight()).isEqualTo(1);
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/draft/menu-items/3"), response, null)).isTrue();
+    }
+
+    private static RequestPriority priority(String method, String path) {
+        return ConcurrencyLimitInterceptor.priority(new MockHttpServletRequest(method, path));
+    }
+}
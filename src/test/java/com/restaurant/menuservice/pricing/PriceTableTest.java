@@ -0,0 +1,61 @@
+package com.restaurant.menuservice.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceTableTest {
+
+    @Test
+    void storesPricesAndAvailability() {
+        PriceTable table = new PriceTable();
+        table.put(7, 950, true);
+        table.put(8, 1200, false);
+
+        assertThat(PriceTable.cents(table.get(7))).isEqualTo(950);
+        assertThat(PriceTable.available(table.get(7))).isTrue();
+        assertThat(PriceTable.available(table.get(8))).isFalse();
+        assertThat(table.get(9)).isEqualTo(PriceTable.MISSING);
+        assertThat(table.get(0)).isEqualTo(PriceTable.MISSING);
+        assertThat(table.get(-7)).isEqualTo(PriceTable.MISSING);
+
+        table.put(7, 990, false);
+        assertThat(PriceTable.cents(table.get(7))).isEqualTo(990);
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemoves() {
+        PriceTable table = new PriceTable();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long id = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                table.remove(id);
+                expected.remove(id);
+            } else {
+                long cents = random.nextInt(100_000);
+                table.put(id, cents, true);
+                expected.put(id, cents);
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        long[] ids = new long[5_000];
+        long[] values = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+        }
+        table.getAll(ids, values);
+        for (int i = 0; i < ids.length; i++) {
+            Long cents = expected.get(ids[i]);
+            assertThat(values[i]).isEqualTo(cents == null ? PriceTable.MISSING : cents << 1 | 1);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.restaurant.menuservice.replica;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "menu.datasource.replica.enabled=true",
+        "menu.datasource.replica.url=jdbc:h2:mem:menudb_replica_test;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReplicaSynchronizer replicaSynchronizer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readsSeeOwnWritesAndReplicaCatchesUp() throws Exception {
+        MockHttpServletResponse created = mockMvc.perform(post("/api/draft/categories")
+                        .header(TenantInterceptor.HEADER, "301")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Antipasti"}"""))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        String version = created.getHeader(ReadConsistency.VERSION_HEADER);
+        assertThat(version).isNotNull();
+        long categoryId = objectMapper.readTree(created.getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(get("/api/draft/categories/" + categoryId)
+                        .header(TenantInterceptor.HEADER, "301")
+                        .header(ReadConsistency.VERSION_HEADER, version))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Antipasti"));
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> replicaSynchronizer.canServe(Long.parseLong(version)));
+
+        double replicaRoutes = replicaRoutes();
+        mockMvc.perform(get("/api/draft/categories").header(TenantInterceptor.HEADER, "301"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Antipasti"));
+        assertThat(replicaRoutes()).isGreaterThan(replicaRoutes);
+    }
+
+    @Test
+    void replicaFollowsScheduleEdits() throws Exception {
+        MockHttpServletResponse category = mockMvc.perform(post("/api/draft/categories")
+                        .header(TenantInterceptor.HEADER, "302")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Colazione", "schedule": [{"start": "07:00", "end": "11:00"}]}"""))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        long categoryId = objectMapper.readTree(category.getContentAsString()).get("id").asLong();
+        MockHttpServletResponse created = mockMvc.perform(post("/api/draft/menu-items")
+                        .header(TenantInterceptor.HEADER, "302")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Cornetto", "price": 1.50, "categoryId": %d,
+                                 "schedule": [{"start": "07:00", "end": "10:00"}]}""".formatted(categoryId)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        long menuItemId = objectMapper.readTree(created.getContentAsString()).get("id").asLong();
+
+        String version = mockMvc.perform(put("/api/draft/menu-items/" + menuItemId)
+                        .header(TenantInterceptor.HEADER, "302")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Cornetto", "price": 1.50, "categoryId": %d,
+                                 "schedule": [{"start": "08:00", "end": "09:30"}]}""".formatted(categoryId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(ReadConsistency.VERSION_HEADER);
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> replicaSynchronizer.canServe(Long.parseLong(version)));
+
+        double replicaRoutes = replicaRoutes();
+        mockMvc.perform(get("/api/draft/menu-items/" + menuItemId).header(TenantInterceptor.HEADER, "302"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.schedule.length()").value(1))
+                .andExpect(jsonPath("$.schedule[0].start").value("08:00:00"));
+        mockMvc.perform(get("/api/draft/categories/" + categoryId).header(TenantInterceptor.HEADER, "302"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.schedule[0].end").value("11:00:00"));
+        assertThat(replicaRoutes()).isGreaterThan(replicaRoutes);
+    }
+
+    @Test
+    void listsPublishedVersionsFromThePrimary() throws Exception {
+        mockMvc.perform(post("/api/draft/categories")
+                        .header(TenantInterceptor.HEADER, "303")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Secondi"}"""))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/menu/versions").header(TenantInterceptor.HEADER, "303"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/menu/versions").header(TenantInterceptor.HEADER, "303"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].active").value(true));
+    }
+
+    private double replicaRoutes() {
+        return meterRegistry.counter("menu.datasource.routes", "target", "replica").count();
+    }
+}
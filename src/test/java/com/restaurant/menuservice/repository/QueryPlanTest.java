@@ -0,0 +1,215 @@
+package com.restaurant.menuservice.repository;
+
+import com.restaurant.menuservice.model.Category;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import com.restaurant.menuservice.model.Ingredient;
+import com.restaurant.menuservice.model.MenuItem;
+import com.restaurant.menuservice.model.MenuPublication;
+import com.restaurant.menuservice.model.MenuVersion;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every MenuItemRepository, CategoryRepository, IngredientRepository and menu version query, then asks H2 for
+ * the plan of each SQL statement Hibernate generated and fails on any full table scan.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:menudb_plans",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.restaurant.menuservice.repository.QueryPlanTest$Recorder"
+})
+class QueryPlanTest {
+
+    private static final Long RESTAURANT = 1L;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private MenuVersionRepository menuVersionRepository;
+
+    @Autowired
+    private MenuPublicationRepository menuPublicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Collects the SQL of every statement Hibernate prepares.
+     */
+    public static class Recorder implements StatementInspector {
+
+        static final Set<String> STATEMENTS = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Test
+    void noRepositoryQueryScansATable() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        MenuItem menuItem = transaction.execute(status -> seed());
+        Long itemId = menuItem.getId();
+        Long categoryId = menuItem.getCategory().getId();
+        List<Long> ingredientIds = menuItem.getIngredients().stream().map(Ingredient::getId).toList();
+
+        Recorder.STATEMENTS.clear();
+        transaction.executeWithoutResult(status -> {
+            // touch the collections so their batch loads are recorded too
+            menuItemRepository.findByRestaurantId(RESTAURANT)
+                    .forEach(item -> item.getIngredients().size());
+            menuItemRepository.findByRestaurantIdOrderByIdAsc(RESTAURANT, ScrollPosition.keyset(), Limit.of(10));
+            menuItemRepository.findByRestaurantIdOrderByIdAsc(RESTAURANT, ScrollPosition.forward(Map.of("id", itemId)), Limit.of(10));
+            menuItemRepository.countByRestaurantId(RESTAURANT);
+            menuItemRepository.findByIdAndRestaurantId(itemId, RESTAURANT)
+                    .ifPresent(item -> item.getDietaryRestrictions().size());
+            menuItemRepository.findByRestaurantIdAndIdIn(RESTAURANT, List.of(itemId, itemId + 1));
+            menuItemRepository.findByRestaurantIdAndCategoryId(RESTAURANT, categoryId);
+            menuItemRepository.findByRestaurantIdAndAvailableTrue(RESTAURANT);
+            menuItemRepository.findByDietaryRestriction(RESTAURANT, DietaryRestriction.VEGETARIAN);
+            menuItemRepository.findByRestaurantIdAndPriceBetween(RESTAURANT, BigDecimal.ONE, BigDecimal.TEN);
+            menuItemRepository.findByRestaurantIdAndIngredientIdIn(RESTAURANT, ingredientIds);
+            menuItemRepository.findIngredientNamesByRestaurantId(RESTAURANT);
+            menuItemRepository.findTermsByRestaurantId(RESTAURANT);
+
+            categoryRepository.findByRestaurantId(RESTAURANT);
+            categoryRepository.findByIdAndRestaurantId(categoryId, RESTAURANT);
+            categoryRepository.existsByIdAndRestaurantId(categoryId, RESTAURANT);
+            categoryRepository.findNamesByRestaurantId(RESTAURANT);
+
+            ingredientRepository.findByRestaurantId(RESTAURANT);
+            ingredientRepository.findByRestaurantIdAndIdIn(RESTAURANT, ingredientIds);
+            ingredientRepository.findByRestaurantIdAndNormalizedNameIn(RESTAURANT, List.of("ingredient 1", "basil"));
+            ingredientRepository.countMenuItemsByIngredient(RESTAURANT);
+            ingredientRepository.countMenuItems(ingredientIds.get(0));
+
+            menuVersionRepository.findByRestaurantIdAndVersion(RESTAURANT, 1);
+            menuVersionRepository.findSummariesByRestaurantId(RESTAURANT);
+            menuVersionRepository.findLatestVersion(RESTAURANT);
+            menuPublicationRepository.findForUpdate(RESTAURANT);
+
+            menuItemRepository.findOutlineByIdAndRestaurantId(itemId, RESTAURANT);
+            menuItemRepository.deleteByIdAndRestaurantId(itemId, RESTAURANT);
+            menuItemRepository.deleteByRestaurantIdAndCategoryId(RESTAURANT, categoryId);
+            categoryRepository.deleteByIdAndRestaurantId(categoryId, RESTAURANT);
+            status.setRollbackOnly();
+        });
+
+        List<String> scans = new ArrayList<>();
+        for (String sql : new LinkedHashSet<>(Recorder.STATEMENTS)) {
+            String plan = explain(sql);
+            if (plan.contains(".tableScan")) {
+                scans.add(sql + "\n" + plan);
+            }
+        }
+        assertThat(explain("SELECT id FROM menu_items WHERE name = ?")).as("an unindexed query").contains(".tableScan");
+        assertThat(Recorder.STATEMENTS).hasSizeGreaterThan(15);
+        assertThat(scans).as("statements scanning a table").isEmpty();
+    }
+
+    /**
+     * Give the planner a few restaurants' worth of rows to choose from.
+     */
+    private MenuItem seed() {
+        MenuItem last = null;
+        for (long restaurantId = 1; restaurantId <= 5; restaurantId++) {
+            List<Ingredient> ingredients = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                ingredients.add(ingredientRepository.save(Ingredient.builder()
+                        .restaurantId(restaurantId)
+                        .name("Ingredient " + i)
+                        .build()));
+            }
+            for (int c = 0; c < 4; c++) {
+                Category category = categoryRepository.save(Category.builder()
+                        .restaurantId(restaurantId)
+                        .name("Category " + c)
+                        .build());
+                for (int i = 0; i < 25; i++) {
+                    MenuItem item = MenuItem.builder()
+                            .restaurantId(restaurantId)
+                            .category(category)
+                            .name("Dish " + c + "-" + i)
+                            .price(BigDecimal.valueOf(500 + i * 37, 2))
+                            .available(i % 5 != 0)
+                            .build();
+                    item.addIngredient(ingredients.get(i % ingredients.size()));
+                    item.addDietaryRestriction(DietaryRestriction.values()[i % DietaryRestriction.values().length]);
+                    menuItemRepository.save(item);
+                    if (restaurantId == RESTAURANT) {
+                        last = item;
+                    }
+                }
+            }
+            for (int version = 1; version <= 3; version++) {
+                menuVersionRepository.save(MenuVersion.builder()
+                        .restaurantId(restaurantId)
+                        .version(version)
+                        .publishedAt(LocalDateTime.now())
+                        .categoryCount(4)
+                        .menuItemCount(100)
+                        .content(new byte[]{'{', '}'})
+                        .build());
+            }
+            menuPublicationRepository.save(MenuPublication.builder()
+                    .restaurantId(restaurantId)
+                    .version(3)
+                    .activation(3)
+                    .activatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return last;
+    }
+
+    /**
+     * Get the H2 plan of a statement, binding null to its parameters: the plan does not depend on them.
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.restaurant.menuservice.schedule;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.dto.ScheduleWindowDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleIndexTest {
+
+    private static final long BREAKFAST = 10;
+    private static final long DINNER = 20;
+    private static final long DRINKS = 30;
+
+    @Test
+    void servesMenuItemsInsideTheirAndTheirCategorySchedules() {
+        ScheduleIndex index = new ScheduleIndex();
+        index.putCategory(BREAKFAST, List.of(window(Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY), "07:00", "11:00", "Europe/Rome")));
+        index.putCategory(DINNER, List.of(window(Set.of(), "18:00", "23:00", "Europe/Rome")));
+        index.put(menuItem(1, BREAKFAST, true));
+        index.put(menuItem(2, BREAKFAST, false));
+        index.put(menuItem(3, DINNER, true));
+        index.put(menuItem(4, DRINKS, true));
+        // runs past midnight, and past the end of the week on Sundays
+        index.put(menuItem(5, DRINKS, true, window(Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), "23:00", "01:00", "Europe/Rome")));
+        ScheduleWindowDto summer = window(Set.of(), "00:00", "00:00", "Europe/Rome");
+        summer.setFrom(LocalDate.of(2025, 6, 1));
+        summer.setUntil(LocalDate.of(2025, 9, 30));
+        index.put(menuItem(6, DRINKS, true, summer));
+
+        // Monday 2 June 2025
+        assertThat(ids(index, "2025-06-02T08:00:00+02:00")).containsExactly(1L, 4L, 6L);
+        assertThat(ids(index, "2025-06-02T06:30:00Z")).containsExactly(1L, 4L, 6L);
+        assertThat(ids(index, "2025-06-02T11:00:00+02:00")).containsExactly(4L, 6L);
+        assertThat(ids(index, "2025-06-02T19:00:00+02:00")).containsExactly(3L, 4L, 6L);
+        assertThat(ids(index, "2025-06-07T08:00:00+02:00")).containsExactly(4L, 6L);
+        assertThat(ids(index, "2025-06-07T23:30:00+02:00")).containsExactly(4L, 5L, 6L);
+        assertThat(ids(index, "2025-06-08T00:30:00+02:00")).containsExactly(4L, 5L, 6L);
+        assertThat(ids(index, "2025-06-09T00:30:00+02:00")).containsExactly(4L, 5L, 6L);
+        assertThat(ids(index, "2025-06-10T00:30:00+02:00")).containsExactly(4L, 6L);
+        assertThat(ids(index, "2025-10-01T12:00:00+02:00")).containsExactly(4L);
+        // the occurrence started on the last day of the range
+        assertThat(ids(index, "2025-09-30T23:59:00+02:00")).containsExactly(4L, 6L);
+
+        index.putCategory(BREAKFAST, List.of(window(Set.of(), "06:00", "12:00", "UTC")));
+        index.remove(4);
+        assertThat(ids(index, "2025-06-07T11:00:00+02:00")).containsExactly(1L, 6L);
+        index.removeCategory(DINNER);
+        assertThat(ids(index, "2025-06-07T15:00:00+02:00")).containsExactly(3L, 6L);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    private static List<Long> ids(ScheduleIndex index, String at) {
+        return index.availableAt(OffsetDateTime.parse(at).toInstant()).stream().map(MenuItemDto::getId).toList();
+    }
+
+    private static ScheduleWindowDto window(Set<DayOfWeek> days, String start, String end, String timeZone) {
+        return ScheduleWindowDto.builder()
+                .days(days)
+                .start(LocalTime.parse(start))
+                .end(LocalTime.parse(end))
+                .timeZone(timeZone)
+                .build();
+    }
+
+    private static MenuItemDto menuItem(long id, long categoryId, boolean available, ScheduleWindowDto... schedule) {
+        return MenuItemDto.builder()
+                .id(id)
+                .name("Item " + id)
+                .price(BigDecimal.TEN)
+                .available(available)
+                .categoryId(categoryId)
+                .schedule(List.of(schedule))
+                .build();
+    }
+}
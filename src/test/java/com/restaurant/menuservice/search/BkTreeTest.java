@@ -0,0 +1,68 @@
+package com.restaurant.menuservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BkTreeTest {
+
+    @Test
+    void findsTermsWithinTheDistance() {
+        BkTree tree = new BkTree();
+        for (String term : List.of("carbonara", "carciofi", "caprese", "tiramisu", "carbonera")) {
+            tree.add(term);
+        }
+
+        assertThat(tree.search("carbonnara", 1)).containsExactly(new BkTree.Match("carbonara", 1));
+        assertThat(tree.search("carbonnara", 2)).extracting(BkTree.Match::term)
+                .containsExactlyInAnyOrder("carbonara", "carbonera");
+        assertThat(tree.search("tiramisu", 0)).containsExactly(new BkTree.Match("tiramisu", 0));
+
+        tree.remove("carbonara");
+        assertThat(tree.search("carbonnara", 1)).isEmpty();
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(BkTree.distance("kitten", "sitting")).isEqualTo(3);
+    }
+
+    @Test
+    void matchesLinearScanUnderRandomAddsAndRemoves() {
+        BkTree tree = new BkTree();
+        Map<String, Integer> counts = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            String term = randomTerm(random);
+            if (random.nextInt(3) == 0) {
+                tree.remove(term);
+                counts.computeIfPresent(term, (key, count) -> count == 1 ? null : count - 1);
+            } else {
+                tree.add(term);
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+
+        assertThat(tree.size()).isEqualTo(counts.size());
+        for (int i = 0; i < 50; i++) {
+            String query = randomTerm(random);
+            List<BkTree.Match> expected = counts.keySet().stream()
+                    .filter(term -> BkTree.distance(query, term) <= 2)
+                    .map(term -> new BkTree.Match(term, BkTree.distance(query, term)))
+                    .toList();
+            assertThat(tree.search(query, 2)).as(query).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    // short terms over a small alphabet, so that many are close to each other
+    private static String randomTerm(Random random) {
+        StringBuilder term = new StringBuilder();
+        for (int length = 3 + random.nextInt(4); length > 0; length--) {
+            term.append("abcde".charAt(random.nextInt(5)));
+        }
+        return term.toString();
+    }
+}
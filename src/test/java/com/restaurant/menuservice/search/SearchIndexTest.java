@@ -0,0 +1,60 @@
+package com.restaurant.menuservice.search;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    @Test
+    void analyzesEnglishAndItalianToTheSameTerms() {
+        assertThat(TextAnalyzer.analyze("Tomatoes")).isEqualTo(TextAnalyzer.analyze("tomato"));
+        assertThat(TextAnalyzer.analyze("Pomodori")).isEqualTo(TextAnalyzer.analyze("pomodoro"));
+        assertThat(TextAnalyzer.analyze("funghi")).isEqualTo(TextAnalyzer.analyze("Fungo"));
+        assertThat(TextAnalyzer.analyze("Grilled cheeses")).isEqualTo(TextAnalyzer.analyze("grill cheese"));
+        assertThat(TextAnalyzer.analyze("Caffè con la panna")).isEqualTo(TextAnalyzer.analyze("caffe panna"));
+        assertThat(TextAnalyzer.analyze("the and di")).isEmpty();
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        SearchIndex index = new SearchIndex();
+        index.put(menuItem(1, "Margherita", "Pizza with mozzarella", "Tomato", "Mozzarella"));
+        index.put(menuItem(2, "Tomato soup", "Slow cooked", "Tomato"));
+        index.put(menuItem(3, "Tiramisu", "Coffee and mascarpone", "Mascarpone"));
+        index.put(menuItem(4, "Bruschetta", "Toasted bread with tomatoes", "Bread"));
+        index.put(menuItem(5, "Pomodori ripieni", "Stuffed with rice", "Pomodoro", "Rice"));
+
+        assertThat(ids(index.search("tomatoes", false, menuItem -> true, 10))).containsExactly(2L, 1L, 4L);
+        assertThat(ids(index.search("pomodoro", false, menuItem -> true, 10))).containsExactly(5L);
+        assertThat(ids(index.search("bread tomato", false, menuItem -> true, 10))).startsWith(4L);
+        assertThat(ids(index.search("tomato", false, menuItem -> menuItem.getId() != 2, 10))).containsExactly(1L, 4L);
+        assertThat(ids(index.search("tomato", false, menuItem -> true, 1))).containsExactly(2L);
+        assertThat(index.search("sushi", false, menuItem -> true, 10)).isEmpty();
+
+        index.remove(4);
+        index.put(menuItem(2, "Minestrone", "Vegetable soup"));
+        assertThat(ids(index.search("tomato", false, menuItem -> true, 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private static MenuItemDto menuItem(long id, String name, String description, String... ingredients) {
+        return MenuItemDto.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .price(BigDecimal.TEN)
+                .categoryName("Menu")
+                .ingredients(Set.of(ingredients))
+                .build();
+    }
+
+    private static List<Long> ids(List<SearchIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.menuItem().getId()).toList();
+    }
+}
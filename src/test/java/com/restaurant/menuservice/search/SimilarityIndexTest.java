@@ -0,0 +1,89 @@
+package com.restaurant.menuservice.search;
+
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.model.DietaryRestriction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimilarityIndexTest {
+
+    @Test
+    void ranksByIngredientSimilarityWithinTheDietaryRestrictions() {
+        SimilarityIndex index = new SimilarityIndex();
+        index.put(menuItem(1, Set.of(), "Spaghetti", "Guanciale", "Egg", "Pecorino"));
+        index.put(menuItem(2, Set.of(), "spaghetti", "guanciale", "pecorino"));
+        index.put(menuItem(3, Set.of(DietaryRestriction.VEGETARIAN), "Spaghetti", "Pecorino", "Egg"));
+        index.put(menuItem(4, Set.of(DietaryRestriction.VEGETARIAN), "Spaghetti", "Pecorino", "Pepper"));
+        index.put(menuItem(5, Set.of(), "Mascarpone", "Coffee", "Ladyfingers"));
+        index.put(menuItem(6, Set.of()));
+
+        assertThat(index.similar(1, menuItem -> true, 10)).extracting(hit -> hit.menuItem().getId()).containsExactly(2L, 3L, 4L);
+        assertThat(index.similar(1, menuItem -> true, 10).get(0).similarity()).isEqualTo(0.75);
+        assertThat(index.similar(1, menuItem -> menuItem.getId() != 2, 1)).extracting(hit -> hit.menuItem().getId()).containsExactly(3L);
+        // a vegetarian dish is only replaced by vegetarian dishes
+        assertThat(index.similar(3, menuItem -> true, 10)).extracting(hit -> hit.menuItem().getId()).containsExactly(4L);
+        assertThat(index.similar(6, menuItem -> true, 10)).isEmpty();
+        assertThat(index.similar(7, menuItem -> true, 10)).isNull();
+
+        index.remove(2);
+        index.put(menuItem(4, Set.of(DietaryRestriction.VEGETARIAN), "Mascarpone", "Coffee"));
+        assertThat(index.similar(1, menuItem -> true, 10)).extracting(hit -> hit.menuItem().getId()).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    void findsTheSimilarPairsOfABruteForceComparison() {
+        Random random = new Random(7);
+        List<String> vocabulary = random.ints(200, 0, 1_000_000).mapToObj(i -> "ingredient" + i).toList();
+        SimilarityIndex index = new SimilarityIndex();
+        List<Set<String>> ingredients = new ArrayList<>();
+        for (int id = 0; id < 2_000; id++) {
+            Set<String> set = new HashSet<>();
+            if (id % 2 == 1) {
+                // a variation of the previous dish
+                set.addAll(ingredients.get(id - 1));
+                set.remove(set.iterator().next());
+                set.add(vocabulary.get(random.nextInt(vocabulary.size())));
+            } else {
+                for (int count = 3 + random.nextInt(6); count > 0; count--) {
+                    set.add(vocabulary.get(random.nextInt(vocabulary.size())));
+                }
+            }
+            ingredients.add(set);
+            index.put(menuItem(id, Set.of(), set.toArray(String[]::new)));
+        }
+
+        for (int id = 0; id < 200; id++) {
+            List<SimilarityIndex.Hit> hits = index.similar(id, menuItem -> true, ingredients.size());
+            for (SimilarityIndex.Hit hit : hits) {
+                assertThat(hit.similarity()).isEqualTo(SimilarityIndex.jaccard(ingredients.get(id), ingredients.get(hit.menuItem().getId().intValue())));
+            }
+            Set<Long> found = new HashSet<>(hits.stream().map(hit -> hit.menuItem().getId()).toList());
+            for (int other = 0; other < ingredients.size(); other++) {
+                if (other != id && SimilarityIndex.jaccard(ingredients.get(id), ingredients.get(other)) >= 0.6) {
+                    assertThat(found).contains((long) other);
+                }
+            }
+            // far fewer candidates than menu items
+            assertThat(hits.size()).isLessThan(ingredients.size() / 10);
+        }
+    }
+
+    private static MenuItemDto menuItem(long id, Set<DietaryRestriction> restrictions, String... ingredients) {
+        return MenuItemDto.builder()
+                .id(id)
+                .name("Item " + id)
+                .price(BigDecimal.TEN)
+                .dietaryRestrictions(restrictions)
+                .ingredients(Set.of(ingredients))
+                .build();
+    }
+}
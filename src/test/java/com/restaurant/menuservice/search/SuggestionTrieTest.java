@@ -0,0 +1,71 @@
+package com.restaurant.menuservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionTrieTest {
+
+    @Test
+    void completesAnyWordRankedByScore() {
+        SuggestionTrie trie = SuggestionTrie.EMPTY
+                .with(suggestion("Spaghetti alla Carbonara", SuggestionType.MENU_ITEM, 1))
+                .with(suggestion("Carciofi", SuggestionType.MENU_ITEM, 1))
+                .with(suggestion("Caffè", SuggestionType.INGREDIENT, 4))
+                .with(suggestion("Carrot", SuggestionType.INGREDIENT, 2));
+
+        assertThat(texts(trie.complete("car", 10))).containsExactly("Carrot", "Carciofi", "Spaghetti alla Carbonara");
+        assertThat(texts(trie.complete("ca", 2))).containsExactly("Caffè", "Carrot");
+        assertThat(texts(trie.complete("caffe", 10))).containsExactly("Caffè");
+        assertThat(texts(trie.complete("alla c", 10))).containsExactly("Spaghetti alla Carbonara");
+        assertThat(trie.complete("carx", 10)).isEmpty();
+
+        SuggestionTrie updated = trie.without("carrot", SuggestionType.INGREDIENT)
+                .with(suggestion("Carciofi", SuggestionType.MENU_ITEM, 3));
+        assertThat(texts(updated.complete("car", 10))).containsExactly("Carciofi", "Spaghetti alla Carbonara");
+        // earlier versions are unaffected
+        assertThat(texts(trie.complete("car", 10))).containsExactly("Carrot", "Carciofi", "Spaghetti alla Carbonara");
+    }
+
+    @Test
+    void matchesNaiveCompletionUnderRandomUpdates() {
+        SuggestionTrie trie = SuggestionTrie.EMPTY;
+        Map<String, Suggestion> expected = new HashMap<>();
+        Random random = new Random(42);
+        String[] words = {"pizza", "pasta", "pesto", "panna", "pane", "salsa", "sale", "salmone", "tonno", "torta"};
+
+        for (int i = 0; i < 20_000; i++) {
+            String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + random.nextInt(50);
+            if (random.nextInt(3) == 0) {
+                trie = trie.without(text, SuggestionType.MENU_ITEM);
+                expected.remove(text);
+            } else {
+                Suggestion suggestion = suggestion(text, SuggestionType.MENU_ITEM, random.nextInt(20));
+                trie = trie.with(suggestion);
+                expected.put(text, suggestion);
+            }
+        }
+
+        for (String prefix : List.of("p", "pa", "pan", "sal", "salmone t", "tor", "1", "pizza pesto 4", "x")) {
+            List<Suggestion> naive = expected.values().stream()
+                    .filter(suggestion -> (" " + suggestion.term()).contains(" " + prefix))
+                    .sorted(Suggestion.RANKING)
+                    .limit(SuggestionTrie.MAX_SUGGESTIONS)
+                    .toList();
+            assertThat(trie.complete(prefix, SuggestionTrie.MAX_SUGGESTIONS)).as(prefix).isEqualTo(naive);
+        }
+    }
+
+    private static Suggestion suggestion(String text, SuggestionType type, long score) {
+        return new Suggestion(SuggestionTrie.normalize(text), text, type, score);
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.restaurant.menuservice.snapshot;
+
+import com.restaurant.menuservice.tenant.TenantInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuSnapshotServiceTest {
+
+    private static Path snapshot;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MenuSnapshotService snapshotService;
+
+    @DynamicPropertySource
+    static void snapshotProperties(DynamicPropertyRegistry registry) throws IOException {
+        snapshot = Files.createTempDirectory("menu-snapshot").resolve("menu.snapshot");
+        try (MenuSnapshotWriter writer = new MenuSnapshotWriter(snapshot, 70)) {
+            writer.category(40, 501, "Primi", "Pasta and risotto");
+            writer.menuItem(41, 501, 40L, "Trofie al pesto", null, new BigDecimal("12.50"), true);
+            writer.dietaryRestriction(41, "VEGETARIAN");
+            writer.ingredient(41, "Basil");
+            writer.menuItemSchedule(41, 0b11111, LocalTime.of(11, 30), LocalTime.of(15, 0), null, null, "Europe/Rome");
+            writer.commit();
+        }
+        registry.add("menu.snapshot.enabled", () -> "true");
+        registry.add("menu.snapshot.path", snapshot::toString);
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:snapshot_test");
+    }
+
+    @Test
+    void restoresSnapshotOnStartup() throws Exception {
+        mockMvc.perform(get("/api/draft/menu-items/41").header(TenantInterceptor.HEADER, "501"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Trofie al pesto"))
+                .andExpect(jsonPath("$.price").value(12.50))
+                .andExpect(jsonPath("$.categoryName").value("Primi"))
+                .andExpect(jsonPath("$.dietaryRestrictions[0]").value("VEGETARIAN"))
+                .andExpect(jsonPath("$.ingredients[0]").value("Basil"))
+                .andExpect(jsonPath("$.schedule[0].start").value("11:30:00"))
+                .andExpect(jsonPath("$.schedule[0].days.length()").value(5))
+                .andExpect(jsonPath("$.schedule[0].timeZone").value("Europe/Rome"));
+
+        // ids and change sequence numbers continue after the restored ones
+        mockMvc.perform(post("/api/draft/categories")
+                        .header(TenantInterceptor.HEADER, "501")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Secondi"}"""))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(41));
+        mockMvc.perform(get("/api/draft/changes?since=0").header(TenantInterceptor.HEADER, "501"))
+                .andExpect(jsonPath("$.resyncRequired").value(true))
+                .andExpect(jsonPath("$.nextSince").value(71));
+
+        snapshotService.snapshot();
+        MenuSnapshotReader reader = MenuSnapshotReader.open(snapshot);
+        assertThat(reader.getChangeSeq()).isEqualTo(71);
+        assertThat(reader.getCategoryCount()).isEqualTo(2);
+        assertThat(reader.getMenuItemCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsCorruptSnapshot() throws Exception {
+        Path corrupt = Files.createTempFile("menu", ".snapshot");
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(corrupt, bytes);
+
+        assertThatThrownBy(() -> MenuSnapshotReader.open(corrupt))
+                .hasMessageContaining("checksum");
+    }
+}
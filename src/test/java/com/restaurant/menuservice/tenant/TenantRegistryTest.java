@@ -0,0 +1,84 @@
+package com.restaurant.menuservice.tenant;
+
+import com.restaurant.menuservice.dto.ChangeDto;
+import com.restaurant.menuservice.dto.MenuItemDto;
+import com.restaurant.menuservice.event.MenuChangeEvent;
+import com.restaurant.menuservice.event.MenuEventType;
+import com.restaurant.menuservice.model.ChangeEntityType;
+import com.restaurant.menuservice.model.ChangeOperation;
+import com.restaurant.menuservice.service.ChangeLogService;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TenantRegistryTest {
+
+    private final ChangeLogService changeLogService = mock(ChangeLogService.class);
+
+    private final TenantRegistry<Map<Long, String>> names = new TenantRegistry<>(mock(PlatformTransactionManager.class),
+            changeLogService, restaurantId -> new HashMap<>(Map.of(7L, "Loaded")), TenantRegistryTest::apply);
+
+    @Test
+    void ignoresAChangeArrivingAfterALaterOneOfTheSameEntity() {
+        Map<Long, String> state = names.get(1L);
+
+        names.apply(change(1, 11, 7, "Newer"));
+        names.apply(change(1, 10, 7, "Older"));
+        assertThat(state).containsEntry(7L, "Newer");
+
+        names.apply(change(1, 9, 8, "Other item"));
+        assertThat(state).containsEntry(8L, "Other item");
+    }
+
+    @Test
+    void leavesChangesOfUnusedRestaurantsToTheLoad() {
+        names.apply(change(2, 12, 7, "Before load"));
+
+        assertThat(names.get(2L)).containsEntry(7L, "Loaded");
+    }
+
+    @Test
+    void ignoresAChangeDelayedPastALoadThatReadANewerOne() {
+        // the load read the change log up to 20, including a change of item 7 newer than the delayed one
+        when(changeLogService.getCommittedSeq(3L)).thenReturn(20L);
+        Map<Long, String> state = names.get(3L);
+
+        names.apply(change(3, 18, 7, "Delayed"));
+        assertThat(state).containsEntry(7L, "Loaded");
+
+        names.apply(change(3, 21, 7, "After load"));
+        assertThat(state).containsEntry(7L, "After load");
+    }
+
+    @Test
+    void updatesOnlyLoadedStateWithChangesOutsideTheLog() {
+        names.update(4L, state -> state.put(8L, "Before load"));
+        Map<Long, String> state = names.get(4L);
+        assertThat(state).doesNotContainKey(8L);
+
+        names.update(4L, loaded -> loaded.put(8L, "After load"));
+        assertThat(state).containsEntry(8L, "After load");
+    }
+
+    private static MenuChangeEvent change(long restaurantId, long seq, long menuItemId, String name) {
+        MenuItemDto menuItem = MenuItemDto.builder().id(menuItemId).name(name).build();
+        ChangeDto change = ChangeDto.builder()
+                .seq(seq)
+                .entityType(ChangeEntityType.MENU_ITEM)
+                .entityId(menuItemId)
+                .operation(ChangeOperation.UPSERT)
+                .menuItem(menuItem)
+                .build();
+        return new MenuChangeEvent(restaurantId, change, MenuEventType.UPDATED, null);
+    }
+
+    private static void apply(Map<Long, String> state, MenuChangeEvent event) {
+        state.put(event.change().getEntityId(), event.change().getMenuItem().getName());
+    }
+}